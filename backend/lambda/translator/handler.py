@@ -381,82 +381,141 @@ def get_gemini_client() -> GeminiTranslator:
     return GeminiTranslator(api_key=gemini_secret['api_key'])
 
 
-def fetch_pending_events(conn, limit: int = 10) -> list[dict]:
-    """
-    Fetch pending or retryable translation events.
-
-    Includes:
-    - PENDING events (not yet processed, or SQS send failed)
-    - FAILED events with retry_count < 3 (automatic retry)
-    - PROCESSING events stuck for >12 minutes (crashed Lambda recovery)
-
-    Note: 12-minute threshold chosen because:
-    - Lambda timeout: 10 minutes
-    - Add 2-minute buffer for edge cases
-    - Prevents false recovery of legitimately running Lambdas
-    - EventBridge runs every 5 minutes, so T+5min check won't interfere
-    """
-    with conn.cursor() as cur:
-        cur.execute("""
-            SELECT id, entity_type::text, entity_id, source_locale, target_locales, completed_locales, status::text, started_at
-            FROM translation_events
-            WHERE status = 'PENDING'
-               OR (status = 'FAILED' AND retry_count < 3)
-               OR (status = 'PROCESSING' AND started_at < NOW() - INTERVAL '12 minutes')
-            ORDER BY created_at ASC
-            LIMIT %s
-            FOR UPDATE SKIP LOCKED
-        """, (limit,))
-        events = cur.fetchall()
+# Translation work leases. These are the statements of TranslationWorkQueue /
+# TranslationEventRepository in the backend; keep the two in sync.
+#
+# Events are claimed with FOR UPDATE SKIP LOCKED and leased to one invocation (locked_by).
+# Every later write only applies while the invocation still holds the lease, and completed
+# locales are appended to the jsonb array in place, so overlapping invocations (EventBridge
+# batches and SQS messages) never translate the same event at once or overwrite each other's
+# completed_locales.
+
+# Longer than the 10-minute Lambda timeout, so a lease never runs out under a live invocation
+LEASE_MINUTES = int(os.environ.get('TRANSLATION_LEASE_MINUTES', '12'))
+MAX_ATTEMPTS = 3
+
+CLAIMED_COLUMNS = """
+    id, entity_type::text, entity_id, source_locale, target_locales, completed_locales,
+    status::text, created_at
+"""
 
-        # Log if we're recovering stuck PROCESSING events
-        for event in events:
-            if event.get('status') == 'PROCESSING':
-                logger.warning(f"Recovering stuck PROCESSING event {event['id']} "
-                              f"(entity_type: {event['entity_type']}, entity_id: {event['entity_id']}, "
-                              f"started_at: {event.get('started_at')}, stuck for >12 minutes)")
 
-        return events
+class LeaseLost(Exception):
+    """The invocation no longer holds the event; another one may have claimed it."""
 
 
-def mark_event_processing(conn, event_id: int):
-    """Mark event as processing."""
+def release_expired_leases(conn) -> int:
+    """
+    Put events whose lease ran out back in the queue as a failed attempt (the invocation
+    crashed or timed out), so an event that keeps killing invocations stops after its attempts.
+    PROCESSING rows from before leases existed count as expired after LEASE_MINUTES.
+    """
     with conn.cursor() as cur:
         cur.execute("""
             UPDATE translation_events
-            SET status = 'PROCESSING', started_at = NOW()
-            WHERE id = %s
-        """, (event_id,))
+            SET status = 'FAILED', last_error = 'Lease expired', retry_count = retry_count + 1,
+                locked_by = NULL, lease_expires_at = NULL
+            WHERE status = 'PROCESSING'
+              AND (lease_expires_at < NOW()
+                   OR (lease_expires_at IS NULL AND started_at < NOW() - make_interval(mins => %s)))
+        """, (LEASE_MINUTES,))
+        released = cur.rowcount
+    if released:
+        logger.warning(f"Re-queued {released} translation events whose lease expired")
+    return released
+
+
+def claim_events(conn, worker_id: str, limit: int = 10) -> list[dict]:
+    """
+    Claim up to limit events (pending, or failed with attempts left), oldest first, skipping
+    rows other invocations hold.
+    """
+    with conn.cursor() as cur:
+        cur.execute(f"""
+            WITH claimable AS (
+                SELECT id AS claimed_id FROM translation_events
+                WHERE status = 'PENDING' OR (status = 'FAILED' AND retry_count < %s)
+                ORDER BY created_at
+                LIMIT %s
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE translation_events te
+            SET status = 'PROCESSING', started_at = NOW(), locked_by = %s,
+                lease_expires_at = NOW() + make_interval(mins => %s)
+            FROM claimable
+            WHERE te.id = claimable.claimed_id
+            RETURNING {CLAIMED_COLUMNS}
+        """, (MAX_ATTEMPTS, limit, worker_id, LEASE_MINUTES))
+        return sorted(cur.fetchall(), key=lambda e: e['created_at'])
+
+
+def claim_event(conn, worker_id: str, event_id: int) -> dict | None:
+    """Claim one event named by an SQS message, or None if it isn't claimable right now."""
+    with conn.cursor() as cur:
+        cur.execute(f"""
+            UPDATE translation_events
+            SET status = 'PROCESSING', started_at = NOW(), locked_by = %s,
+                lease_expires_at = NOW() + make_interval(mins => %s)
+            WHERE id = %s AND (status = 'PENDING' OR (status = 'FAILED' AND retry_count < %s))
+            RETURNING {CLAIMED_COLUMNS}
+        """, (worker_id, LEASE_MINUTES, event_id, MAX_ATTEMPTS))
+        return cur.fetchone()
 
 
-def mark_event_completed(conn, event_id: int):
-    """Mark event as completed."""
+def add_completed_locale(conn, event_id: int, worker_id: str, locale: str) -> bool:
+    """
+    Append locale to completed_locales (once) and complete the event when that covers all
+    target locales, if the invocation still holds it. All SET expressions read the row as
+    locked by this UPDATE, so concurrent appends don't lose each other. translated_at tells
+    the backend to drop its cached copies of the entity.
+    """
     with conn.cursor() as cur:
         cur.execute("""
             UPDATE translation_events
-            SET status = 'COMPLETED', completed_at = NOW()
-            WHERE id = %s
-        """, (event_id,))
-
-
-def mark_event_failed(conn, event_id: int, error: str):
-    """Mark event as failed with error."""
+            SET completed_locales = CASE
+                    WHEN COALESCE(completed_locales, '[]'::jsonb) @> jsonb_build_array(CAST(%(locale)s AS text))
+                        THEN COALESCE(completed_locales, '[]'::jsonb)
+                    ELSE COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(%(locale)s AS text))
+                END,
+                status = CASE
+                    WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(%(locale)s AS text)))
+                        THEN 'COMPLETED' ELSE status
+                END,
+                completed_at = CASE
+                    WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(%(locale)s AS text)))
+                        THEN NOW() ELSE completed_at
+                END,
+                lease_expires_at = CASE
+                    WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(%(locale)s AS text)))
+                        THEN NULL ELSE lease_expires_at
+                END,
+                translated_at = clock_timestamp()
+            WHERE id = %(id)s AND status = 'PROCESSING' AND locked_by = %(worker)s
+        """, {'locale': locale, 'id': event_id, 'worker': worker_id})
+        return cur.rowcount == 1
+
+
+def mark_event_completed(conn, event_id: int, worker_id: str) -> bool:
+    """Mark the event completed if the invocation still holds it."""
     with conn.cursor() as cur:
         cur.execute("""
             UPDATE translation_events
-            SET status = 'FAILED', last_error = %s, retry_count = retry_count + 1
-            WHERE id = %s
-        """, (error[:500], event_id))
+            SET status = 'COMPLETED', completed_at = NOW(), locked_by = NULL, lease_expires_at = NULL
+            WHERE id = %s AND status = 'PROCESSING' AND locked_by = %s
+        """, (event_id, worker_id))
+        return cur.rowcount == 1
 
 
-def update_completed_locales(conn, event_id: int, completed_locales: list[str]):
-    """Update completed locales for an event."""
+def mark_event_failed(conn, event_id: int, worker_id: str, error: str) -> bool:
+    """Give the event back as a failed attempt if the invocation still holds it."""
     with conn.cursor() as cur:
         cur.execute("""
             UPDATE translation_events
-            SET completed_locales = %s
-            WHERE id = %s
-        """, (json.dumps(completed_locales), event_id))
+            SET status = 'FAILED', last_error = %s, retry_count = retry_count + 1,
+                locked_by = NULL, lease_expires_at = NULL
+            WHERE id = %s AND status = 'PROCESSING' AND locked_by = %s
+        """, (error[:500], event_id, worker_id))
+        return cur.rowcount == 1
 
 
 def fetch_entity_content(conn, entity_type: str, entity_id: int) -> dict | None:
@@ -891,7 +950,7 @@ def hide_comment(conn, comment_id: int, reason: str):
     logger.info(f"Comment {comment_id} hidden due to moderation failure: {reason[:100]}")
 
 
-def process_full_recipe_event(conn, translator: GeminiTranslator, event: dict,
+def process_full_recipe_event(conn, translator: GeminiTranslator, event: dict, worker_id: str,
                                entity_id: int, source_locale: str,
                                pending_locales: list, completed_locales: list,
                                target_locales: list) -> bool:
@@ -1003,18 +1062,24 @@ def process_full_recipe_event(conn, translator: GeminiTranslator, event: dict,
             )
             logger.info(f"Recipe {entity_id}: save_full_recipe_translations succeeded for {target_locale}")
 
+            # Record the locale with its translations, or drop both if the lease is gone
+            if not add_completed_locale(conn, event['id'], worker_id, target_locale):
+                conn.rollback()
+                raise LeaseLost(f"Lost lease on event {event['id']} while translating recipe {entity_id}")
+            conn.commit()
+
             new_completed.append(target_locale)
             logger.info(f"Recipe {entity_id}: Added {target_locale} to new_completed. Current count: {len(new_completed)}")
 
+        except LeaseLost:
+            raise
         except Exception as e:
             failed_locales.append(target_locale)
             logger.error(f"Recipe {entity_id}: FAILED to translate to {target_locale}: {e}", exc_info=True)
             # Continue with other locales
 
-    # Update completed locales
     logger.info(f"Recipe {entity_id}: Final new_completed ({len(new_completed)} locales): {new_completed}")
     logger.info(f"Recipe {entity_id}: Failed locales ({len(failed_locales)}): {failed_locales}")
-    update_completed_locales(conn, event['id'], new_completed)
 
     # Log summary of translation results
     if failed_locales:
@@ -1028,7 +1093,7 @@ def process_full_recipe_event(conn, translator: GeminiTranslator, event: dict,
     return set(new_completed) >= set(target_locales)
 
 
-def process_event(conn, translator: GeminiTranslator, event: dict) -> bool:
+def process_event(conn, translator: GeminiTranslator, event: dict, worker_id: str) -> bool:
     """Process a single translation event."""
     entity_type = event['entity_type']
     entity_id = event['entity_id']
@@ -1045,7 +1110,7 @@ def process_event(conn, translator: GeminiTranslator, event: dict) -> bool:
     # Special handling for RECIPE_FULL - translates entire recipe with context
     if entity_type == 'RECIPE_FULL':
         return process_full_recipe_event(
-            conn, translator, event, entity_id, source_locale,
+            conn, translator, event, worker_id, entity_id, source_locale,
             pending_locales, completed_locales, target_locales
         )
 
@@ -1219,8 +1284,11 @@ def process_event(conn, translator: GeminiTranslator, event: dict) -> bool:
     # Save all translations
     save_translations(conn, entity_type, entity_id, existing_translations)
 
-    # Update completed locales
-    update_completed_locales(conn, event['id'], new_completed)
+    # Record the new locales with the translations, or drop both if the lease is gone
+    for locale in new_completed[len(completed_locales):]:
+        if not add_completed_locale(conn, event['id'], worker_id, locale):
+            conn.rollback()
+            raise LeaseLost(f"Lost lease on event {event['id']} while translating {entity_type}:{entity_id}")
 
     # Return True if all locales are done
     return set(new_completed) >= set(target_locales)
@@ -1290,66 +1358,53 @@ def handler(event: dict, context) -> dict:
         processed = 0
         failed = 0
 
+        # One lease holder per invocation
+        worker_id = getattr(context, 'aws_request_id', None) or f"translator-{os.getpid()}"
+
         if event_ids:
-            # Process specific events from SQS
+            # Process specific events from SQS; events another invocation holds are skipped
+            translation_events = []
             for event_id in event_ids:
-                with conn.cursor() as cur:
-                    cur.execute("""
-                        SELECT id, entity_type::text, entity_id, source_locale, target_locales, completed_locales, status::text
-                        FROM translation_events
-                        WHERE id = %s
-                        FOR UPDATE
-                    """, (event_id,))
-                    translation_event = cur.fetchone()
-
-                if translation_event:
-                    mark_event_processing(conn, event_id)
-                    conn.commit()
-
-                    try:
-                        success = process_event(conn, translator, translation_event)
-                        if success:
-                            mark_event_completed(conn, event_id)
-                            processed += 1
-                        else:
-                            mark_event_failed(conn, event_id, "Partial translation failure")
-                            failed += 1
-                    except Exception as e:
-                        mark_event_failed(conn, event_id, str(e))
-                        failed += 1
-
-                    conn.commit()
+                claimed = claim_event(conn, worker_id, event_id)
+                conn.commit()
+                if claimed:
+                    translation_events.append(claimed)
+                else:
+                    logger.info(f"Event {event_id} is not claimable (done, cancelled or held elsewhere), skipping")
         else:
-            # Batch processing - fetch pending events
-            events = fetch_pending_events(conn, limit=10)
-            logger.info(f"Batch processing: found {len(events)} pending events")
+            # Batch processing - re-queue expired leases, then claim pending events
+            release_expired_leases(conn)
+            translation_events = claim_events(conn, worker_id, limit=10)
+            conn.commit()
+            logger.info(f"Batch processing: claimed {len(translation_events)} pending events")
 
-            if events:
+            if translation_events:
                 # Log summary of what we're about to process
                 event_summary = []
-                for e in events:
+                for e in translation_events:
                     event_summary.append(f"{e['entity_type']}:{e['entity_id']}")
                 logger.info(f"Processing events: {', '.join(event_summary)}")
 
-            for translation_event in events:
-                event_id = translation_event['id']
-                mark_event_processing(conn, event_id)
-                conn.commit()
-
-                try:
-                    success = process_event(conn, translator, translation_event)
-                    if success:
-                        mark_event_completed(conn, event_id)
-                        processed += 1
-                    else:
-                        mark_event_failed(conn, event_id, "Partial translation failure")
-                        failed += 1
-                except Exception as e:
-                    logger.error(f"Error processing event {event_id}: {e}")
-                    mark_event_failed(conn, event_id, str(e))
+        for translation_event in translation_events:
+            event_id = translation_event['id']
+            try:
+                success = process_event(conn, translator, translation_event, worker_id)
+                if success:
+                    # Already COMPLETED if its last locale was just recorded
+                    mark_event_completed(conn, event_id, worker_id)
+                    processed += 1
+                else:
+                    mark_event_failed(conn, event_id, worker_id, "Partial translation failure")
                     failed += 1
+            except LeaseLost as e:
+                logger.warning(str(e))
+                failed += 1
+            except Exception as e:
+                logger.error(f"Error processing event {event_id}: {e}")
+                mark_event_failed(conn, event_id, worker_id, str(e))
+                failed += 1
 
-                conn.commit()
+            conn.commit()
 
         result = {
             'statusCode': 200,
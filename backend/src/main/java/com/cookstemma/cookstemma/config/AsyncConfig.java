@@ -1,26 +1,15 @@
 package com.cookstemma.cookstemma.config;
 
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
 
+/**
+ * Enables @Async on Spring Boot's application task executor.
+ * Image variants run on ImageJobWorker threads, not here.
+ */
 @Configuration
 @EnableAsync
 @Profile("!test")
 public class AsyncConfig {
-
-    @Bean(name = "imageProcessingExecutor")
-    public Executor imageProcessingExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("image-processor-");
-        executor.initialize();
-        return executor;
-    }
 }
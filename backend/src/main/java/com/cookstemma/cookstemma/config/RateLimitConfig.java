@@ -1,10 +1,24 @@
 package com.cookstemma.cookstemma.config;
 
+import com.cookstemma.cookstemma.filter.LocalRateLimitBucketStore;
+import com.cookstemma.cookstemma.filter.RateLimitBucketStore;
+import com.cookstemma.cookstemma.filter.RedisRateLimitBucketStore;
+import com.cookstemma.cookstemma.service.PushRateLimiter;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCredentials;
+import io.lettuce.core.RedisCredentialsProvider;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
 
 import java.time.Duration;
 import java.util.Map;
@@ -13,6 +27,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Configuration for rate limiting using Bucket4j.
  * Defines rate limit configurations for different endpoints.
+ * Keys are paths of POST endpoints, or "GET " + path for read endpoints.
  */
 @Configuration
 public class RateLimitConfig {
@@ -35,6 +50,35 @@ public class RateLimitConfig {
     @Value("${app.rate-limit.upload.requests-per-minute:20}")
     private int uploadRequestsPerMinute;
 
+    @Value("${app.rate-limit.search.requests-per-minute:60}")
+    private int searchRequestsPerMinute;
+
+    @Value("${app.rate-limit.autocomplete.requests-per-minute:120}")
+    private int autocompleteRequestsPerMinute;
+
+    // Buckets kept in memory (local mode), or bucket proxies (distributed mode)
+    @Value("${app.rate-limit.max-buckets:100000}")
+    private int maxBuckets;
+
+    @Value("${app.rate-limit.distributed.enabled:false}")
+    private boolean distributed;
+
+    @Value("${app.rate-limit.distributed.max-unsynchronized-tokens:10}")
+    private long maxUnsynchronizedTokens;
+
+    @Value("${app.rate-limit.distributed.sync-interval-ms:1000}")
+    private long syncIntervalMs;
+
+    @Value("${notification.push.recipient-limit:20}")
+    private int pushRecipientLimit;
+
+    @Value("${notification.push.recipient-limit-window-ms:3600000}")
+    private long pushRecipientLimitWindowMillis;
+
+    // Recipients whose push buckets are kept, apart from the request buckets
+    @Value("${notification.push.max-buckets:100000}")
+    private int pushMaxBuckets;
+
     /**
      * Cache for storing bucket configurations per endpoint pattern.
      */
@@ -63,9 +107,83 @@ public class RateLimitConfig {
         // Rate limit for image upload: 20 requests per minute (resource intensive)
         configs.put("/api/v1/images/upload", createBucketConfig(uploadRequestsPerMinute, Duration.ofMinutes(1)));
 
+        // Rate limit for search: 60 requests per minute, autocomplete: 120 (one request per keystroke)
+        configs.put("GET /api/v1/search", createBucketConfig(searchRequestsPerMinute, Duration.ofMinutes(1)));
+        configs.put("GET /api/v1/autocomplete", createBucketConfig(autocompleteRequestsPerMinute, Duration.ofMinutes(1)));
+
         return configs;
     }
 
+    /**
+     * Buckets per instance by default; with app.rate-limit.distributed.enabled, shared by all
+     * instances through Redis.
+     */
+    @Bean
+    public RateLimitBucketStore rateLimitBucketStore(Environment environment) {
+        return bucketStore(environment, maxBuckets);
+    }
+
+    /**
+     * Per-recipient push limit, with a bucket store of its own (local or Redis, like the
+     * request buckets) so pushes and requests don't compete for room in one LRU map.
+     */
+    @Bean
+    public PushRateLimiter pushRateLimiter(Environment environment) {
+        return new PushRateLimiter(bucketStore(environment, pushMaxBuckets), pushRecipientLimit,
+                Duration.ofMillis(pushRecipientLimitWindowMillis));
+    }
+
+    private RateLimitBucketStore bucketStore(Environment environment, int maxBuckets) {
+        if (!distributed) {
+            return new LocalRateLimitBucketStore(maxBuckets);
+        }
+        return new RedisRateLimitBucketStore(redisClient(environment), maxBuckets,
+                maxUnsynchronizedTokens, Duration.ofMillis(syncIntervalMs));
+    }
+
+    /**
+     * Lettuce client for the spring.data.redis server. The properties are bound here rather than
+     * injected because the aws profile excludes RedisAutoConfiguration; only standalone servers
+     * are supported (no sentinel or cluster), and SSL uses the default trust store.
+     */
+    private RedisClient redisClient(Environment environment) {
+        RedisProperties redis = Binder.get(environment)
+                .bind("spring.data.redis", RedisProperties.class)
+                .orElseGet(RedisProperties::new);
+
+        RedisURI uri = StringUtils.hasText(redis.getUrl())
+                ? RedisURI.create(redis.getUrl())
+                : RedisURI.builder().withHost(redis.getHost()).withPort(redis.getPort()).build();
+        if (StringUtils.hasText(redis.getPassword())) {
+            if (StringUtils.hasText(redis.getUsername())) {
+                uri.setCredentialsProvider(RedisCredentialsProvider.from(
+                        () -> RedisCredentials.just(redis.getUsername(), redis.getPassword())));
+            } else {
+                uri.setPassword(redis.getPassword().toCharArray());
+            }
+        }
+        if (redis.getSsl().isEnabled()) {
+            uri.setSsl(true);
+        }
+        if (redis.getDatabase() != 0) {
+            uri.setDatabase(redis.getDatabase());
+        }
+        if (redis.getTimeout() != null) {
+            uri.setTimeout(redis.getTimeout());
+        }
+        if (StringUtils.hasText(redis.getClientName())) {
+            uri.setClientName(redis.getClientName());
+        }
+
+        RedisClient client = RedisClient.create(uri);
+        if (redis.getConnectTimeout() != null) {
+            client.setOptions(ClientOptions.builder()
+                    .socketOptions(SocketOptions.builder().connectTimeout(redis.getConnectTimeout()).build())
+                    .build());
+        }
+        return client;
+    }
+
     @Bean
     public boolean rateLimitEnabled() {
         return enabled;
@@ -2,10 +2,12 @@ package com.cookstemma.cookstemma.controller;
 
 import com.cookstemma.cookstemma.dto.recipe.*;
 import com.cookstemma.cookstemma.dto.log_post.*;
-import com.cookstemma.cookstemma.service.RecipeService;
+import com.cookstemma.cookstemma.service.HomeFeedSnapshotService;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,17 +18,24 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class HomeController {
 
-    private final RecipeService recipeService;
+    private final HomeFeedSnapshotService homeFeedSnapshotService;
 
     // --- [TAB 1: HOME] ---
     /**
      * 홈 피드: 최근 레시피 및 활발한 변형 트리 조회
      * Locale resolved from Accept-Language header for content translation.
+     * Body is a pre-serialized HomeFeedResponseDto snapshot; a matching If-None-Match gets 304.
      */
     @GetMapping
-    public ResponseEntity<HomeFeedResponseDto> getHomeFeed() {
+    public ResponseEntity<byte[]> getHomeFeed() {
         String locale = LocaleUtils.toLocaleCode(LocaleContextHolder.getLocale());
-        return ResponseEntity.ok(recipeService.getHomeFeed(locale));
+        HomeFeedSnapshotService.Snapshot snapshot = homeFeedSnapshotService.getSnapshot(locale);
+        // ResponseEntity with an ETag: Spring answers If-None-Match with 304 and no body
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
 }
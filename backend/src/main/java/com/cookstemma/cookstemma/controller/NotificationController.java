@@ -6,9 +6,11 @@ import com.cookstemma.cookstemma.service.NotificationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -61,6 +63,15 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.getUnreadCount(principal));
     }
 
+    /**
+     * Stream of unread notification counts: the current count, then one event per change
+     */
+    @GetMapping(value = "/unread-count/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUnreadCount(
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return notificationService.streamUnreadCount(principal);
+    }
+
     /**
      * Mark single notification as read
      */
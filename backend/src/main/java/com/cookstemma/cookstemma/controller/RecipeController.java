@@ -6,6 +6,7 @@ import com.cookstemma.cookstemma.dto.common.UnifiedPageResponse;
 import com.cookstemma.cookstemma.dto.recipe.*;
 import com.cookstemma.cookstemma.dto.log_post.*;
 import com.cookstemma.cookstemma.security.UserPrincipal;
+import com.cookstemma.cookstemma.service.RecipeLineageService;
 import com.cookstemma.cookstemma.service.RecipeService;
 import com.cookstemma.cookstemma.service.SavedRecipeService;
 import com.cookstemma.cookstemma.util.LocaleUtils;
@@ -25,6 +26,7 @@ import java.util.UUID;
 public class RecipeController {
     private final RecipeService recipeService;
     private final SavedRecipeService savedRecipeService;
+    private final RecipeLineageService recipeLineageService;
 
     // --- [TAB 2: RECIPES] ---
     /**
@@ -79,6 +81,24 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getRecipeDetail(publicId, userId, locale));
     }
 
+    /**
+     * 변형 트리: 레시피와 그 아래 변형들을 깊이 순(breadth-first)으로 페이지 조회
+     * GET /api/v1/recipes/{publicId}/tree?maxDepth=2&size=50
+     * GET /api/v1/recipes/{publicId}/tree?cursor=xxx : 다음 페이지
+     * Each node carries its parent, depth and child/descendant/log counts.
+     */
+    @GetMapping("/{publicId}/tree")
+    public ResponseEntity<CursorPageResponse<RecipeTreeNodeDto>> getRecipeTree(
+            @PathVariable("publicId") UUID publicId,
+            @RequestParam(name = "maxDepth", required = false) Integer maxDepth,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long userId = (principal != null) ? principal.getId() : null;
+        String locale = LocaleUtils.toLocaleCode(LocaleContextHolder.getLocale());
+        return ResponseEntity.ok(recipeLineageService.getTree(publicId, userId, maxDepth, cursor, size, locale));
+    }
+
     // --- [TAB 3: CREATE (+)] ---
     /**
      * 새 레시피 등록 (오리지널 또는 기존 레시피로부터의 변형 생성)
@@ -0,0 +1,21 @@
+package com.cookstemma.cookstemma.domain.entity.common;
+
+import java.time.Instant;
+
+/**
+ * A row of a table drained through ClaimableQueue (image_jobs, notification_outbox).
+ */
+public interface ClaimableEntry {
+
+    Long getId();
+
+    // Claims so far, including the current one once claimed
+    Integer getAttempts();
+
+    Instant getCreatedAt();
+
+    // Worker holding the claim; set on rows returned by ClaimableQueue#claim
+    String getLockedBy();
+
+    void setLockedBy(String lockedBy);
+}
@@ -11,7 +11,9 @@ import java.time.Instant;
  * Keys are scoped per user and expire after 24 hours.
  */
 @Entity
-@Table(name = "idempotency_keys")
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key",
+                columnNames = {"user_id", "idempotency_key"}))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -23,7 +25,7 @@ public class IdempotencyKey {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
+    @Column(name = "idempotency_key", nullable = false, length = 64)
     private String idempotencyKey;
 
     @Column(name = "user_id", nullable = false)
@@ -81,6 +81,14 @@ public class Image extends BaseEntity {
     private Long fileSize;
     private String format;
 
+    // Hex SHA-256 of the uploaded bytes (originals only)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // 64-bit difference hash of the upload (only with image.dedup.perceptual-hash)
+    @Column(name = "perceptual_hash")
+    private Long perceptualHash;
+
     // Soft delete fields
     @Column(name = "deleted_at")
     private Instant deletedAt;
@@ -0,0 +1,56 @@
+package com.cookstemma.cookstemma.domain.entity.image;
+
+import com.cookstemma.cookstemma.domain.entity.common.ClaimableEntry;
+import com.cookstemma.cookstemma.domain.enums.ImageJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Queued variant generation for one original image.
+ * Rows are claimed and updated by ImageJobQueue via native queries.
+ */
+@Entity
+@Table(name = "image_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ImageJob implements ClaimableEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "image_id", nullable = false)
+    private Long imageId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private ImageJobStatus status = ImageJobStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    @Builder.Default
+    private Instant availableAt = Instant.now();
+
+    @Column(name = "locked_at")
+    private Instant lockedAt;
+
+    // Worker holding the claim (see ClaimableQueue)
+    @Setter
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+}
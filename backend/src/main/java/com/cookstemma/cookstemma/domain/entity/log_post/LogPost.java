@@ -40,6 +40,12 @@ public class LogPost extends BaseEntity {
     @Builder.Default
     private Map<String, String> titleTranslations = new HashMap<>();
 
+    // 2-letter language keys this row can be listed in. Must match V24__available_languages.sql
+    @Column(name = "available_languages", insertable = false, updatable = false,
+            columnDefinition = "TEXT[] GENERATED ALWAYS AS "
+                    + "(translation_languages(title_translations, original_language)) STORED")
+    private String[] availableLanguages;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "content_translations", columnDefinition = "jsonb")
     @Builder.Default
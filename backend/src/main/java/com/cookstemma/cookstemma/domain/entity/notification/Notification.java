@@ -12,11 +12,15 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Entity
 @Table(name = "notifications")
+// Coalescing moves created_at to the latest event (see NotificationService)
+@AttributeOverride(name = "createdAt", column = @Column(name = "created_at", nullable = false))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -63,6 +67,20 @@ public class Notification extends BaseEntity {
     @Builder.Default
     private Map<String, Object> data = new HashMap<>();
 
+    // Events of this type about the same target fold into one unread notification; null = never
+    @Column(name = "group_key", length = 100)
+    private String groupKey;
+
+    @Builder.Default
+    @Column(name = "actor_count", nullable = false)
+    private Integer actorCount = 1;
+
+    // Distinct senders folded in so far; only a sender not in here adds to actorCount
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "actor_ids", nullable = false, columnDefinition = "jsonb")
+    @Builder.Default
+    private List<Long> actorIds = new ArrayList<>();
+
     public void markAsRead() {
         this.isRead = true;
         this.readAt = Instant.now();
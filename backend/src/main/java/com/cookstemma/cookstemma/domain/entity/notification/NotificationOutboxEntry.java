@@ -0,0 +1,59 @@
+package com.cookstemma.cookstemma.domain.entity.notification;
+
+import com.cookstemma.cookstemma.domain.entity.common.ClaimableEntry;
+import com.cookstemma.cookstemma.domain.enums.NotificationOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A push waiting to be sent for one notification.
+ * Rows are claimed and updated by NotificationOutbox via native queries.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationOutboxEntry implements ClaimableEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "available_at", nullable = false)
+    @Builder.Default
+    private Instant availableAt = Instant.now();
+
+    @Column(name = "locked_at")
+    private Instant lockedAt;
+
+    // Worker holding the claim (see ClaimableQueue)
+    @Setter
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private Instant createdAt = Instant.now();
+}
@@ -101,6 +101,12 @@ public class Recipe extends BaseEntity {
     @Builder.Default
     private Map<String, String> titleTranslations = new HashMap<>();
 
+    // 2-letter language keys this row can be listed in. Must match V24__available_languages.sql
+    @Column(name = "available_languages", insertable = false, updatable = false,
+            columnDefinition = "TEXT[] GENERATED ALWAYS AS "
+                    + "(translation_languages(title_translations, NULL)) STORED")
+    private String[] availableLanguages;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "description_translations", columnDefinition = "jsonb")
     @Builder.Default
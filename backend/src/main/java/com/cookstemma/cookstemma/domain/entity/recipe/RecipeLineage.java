@@ -0,0 +1,31 @@
+package com.cookstemma.cookstemma.domain.entity.recipe;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Closure table of the variant tree: one row per (ancestor, descendant) pair, the recipe itself
+ * included at depth 0. Rows are written by RecipeLineageService via native queries; this entity
+ * exists so the table is part of the mapped schema (and generated in tests).
+ */
+@Entity
+@Table(name = "recipe_lineage")
+@IdClass(RecipeLineageId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecipeLineage {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    // Edges between ancestor and descendant (0 for the recipe itself, 1 for a direct variant)
+    @Column(name = "depth", nullable = false)
+    private Integer depth;
+}
@@ -0,0 +1,15 @@
+package com.cookstemma.cookstemma.domain.entity.recipe;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeLineageId implements Serializable {
+    private Long ancestorId;
+    private Long descendantId;
+}
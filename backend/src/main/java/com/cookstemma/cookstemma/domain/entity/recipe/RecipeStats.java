@@ -0,0 +1,51 @@
+package com.cookstemma.cookstemma.domain.entity.recipe;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Incrementally maintained sort keys per recipe (popular, trending, mostForked).
+ * Rows are written by RecipeStatsService via native upserts; this entity exists
+ * so the table is part of the mapped schema (and generated in tests).
+ */
+@Entity
+@Table(name = "recipe_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RecipeStats {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(name = "variant_count", nullable = false)
+    private Integer variantCount;
+
+    @Column(name = "log_count", nullable = false)
+    private Integer logCount;
+
+    @Column(name = "saved_count", nullable = false)
+    private Integer savedCount;
+
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount;
+
+    // Must match V23__recipe_stats.sql
+    @Column(name = "popularity_score", insertable = false, updatable = false,
+            columnDefinition = "BIGINT GENERATED ALWAYS AS "
+                    + "(view_count + saved_count * 3 + variant_count * 5 + log_count * 2) STORED")
+    private Long popularityScore;
+
+    @Column(name = "trending_score", nullable = false)
+    private Double trendingScore;
+
+    @Column(name = "trending_decayed_at", nullable = false)
+    private Instant trendingDecayedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,46 @@
+package com.cookstemma.cookstemma.domain.entity.search;
+
+import com.cookstemma.cookstemma.domain.enums.SearchDocumentType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Denormalized search document: one normalized text blob per recipe, log post or hashtag.
+ * Rows are written by SearchDocumentProjector via native upserts; this entity exists
+ * so the table is part of the mapped schema (and generated in tests).
+ */
+@Entity
+@Table(name = "search_documents",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_documents_entity",
+                columnNames = {"entity_type", "entity_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SearchDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SearchDocumentType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "is_public", nullable = false)
+    private Boolean isPublic;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "indexed_at", nullable = false)
+    private Instant indexedAt;
+}
@@ -67,6 +67,17 @@ public class TranslationEvent {
     @Column(name = "completed_at")
     private Instant completedAt;
 
+    // Worker holding the claim and when it lapses (see TranslationWorkQueue)
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    // Last time a translated locale was recorded (see TranslationCompletionWatcher)
+    @Column(name = "translated_at")
+    private Instant translatedAt;
+
     public void markProcessing() {
         this.status = TranslationStatus.PROCESSING;
         this.startedAt = Instant.now();
@@ -0,0 +1,7 @@
+package com.cookstemma.cookstemma.domain.enums;
+
+public enum NotificationOutboxStatus {
+    PENDING,
+    PROCESSING,
+    FAILED
+}
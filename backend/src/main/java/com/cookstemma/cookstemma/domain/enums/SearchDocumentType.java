@@ -0,0 +1,10 @@
+package com.cookstemma.cookstemma.domain.enums;
+
+/**
+ * Entity types projected into the search_documents table.
+ */
+public enum SearchDocumentType {
+    RECIPE,
+    LOG_POST,
+    HASHTAG
+}
@@ -4,5 +4,6 @@ public enum TranslationStatus {
     PENDING,
     PROCESSING,
     COMPLETED,
-    FAILED
+    FAILED,
+    CANCELLED   // Superseded by an edit or a forced re-translation; never claimed again
 }
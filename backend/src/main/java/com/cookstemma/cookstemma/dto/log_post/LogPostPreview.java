@@ -0,0 +1,36 @@
+package com.cookstemma.cookstemma.dto.log_post;
+
+import java.util.UUID;
+
+/**
+ * Native query projection with everything a log card on the recipe detail page shows,
+ * creator and thumbnail included. Translation maps and hashtags come as JSON text.
+ */
+public interface LogPostPreview {
+
+    UUID getPublicId();
+
+    String getTitle();
+
+    String getTitleTranslations();
+
+    String getContent();
+
+    String getContentTranslations();
+
+    Integer getRating();
+
+    Boolean getIsPrivate();
+
+    Integer getCommentCount();
+
+    String getLocale();
+
+    UUID getCreatorPublicId();
+
+    String getCreatorName();
+
+    String getThumbnailFilename();
+
+    String getHashtags();
+}
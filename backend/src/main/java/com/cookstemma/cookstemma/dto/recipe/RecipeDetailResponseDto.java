@@ -14,7 +14,7 @@ import java.util.UUID;
  * All translatable string fields contain values for the requested locale,
  * resolved server-side from the translations maps.
  */
-@Builder
+@Builder(toBuilder = true)
 public record RecipeDetailResponseDto(
         UUID publicId,
         String title,                 // Localized title
@@ -44,6 +44,13 @@ public record RecipeDetailResponseDto(
         // Privacy setting
         Boolean isPrivate                    // Whether this recipe is private (only visible to creator)
 ) {
+    /**
+     * Copy with the current user's bookmark status (details are cached without it).
+     */
+    public RecipeDetailResponseDto withSavedByCurrentUser(Boolean isSavedByCurrentUser) {
+        return toBuilder().isSavedByCurrentUser(isSavedByCurrentUser).build();
+    }
+
     /**
      * Build RecipeDetailResponseDto with locale-aware field resolution.
      *
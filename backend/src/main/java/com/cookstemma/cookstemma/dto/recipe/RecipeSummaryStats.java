@@ -0,0 +1,15 @@
+package com.cookstemma.cookstemma.dto.recipe;
+
+/**
+ * Native query projection with the per-recipe aggregates a summary card needs.
+ */
+public interface RecipeSummaryStats {
+
+    Long getRecipeId();
+
+    Long getVariantCount();
+
+    Long getLogCount();
+
+    String getCoverFilename();
+}
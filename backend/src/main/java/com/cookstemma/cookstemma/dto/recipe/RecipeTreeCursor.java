@@ -0,0 +1,39 @@
+package com.cookstemma.cookstemma.dto.recipe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset cursor for variant tree pages, which are ordered by (depth, recipe id).
+ * Format: Base64("depth_id")
+ */
+public record RecipeTreeCursor(int depth, long id) {
+
+    private static final String SEPARATOR = "_";
+
+    // Sorts before the requested recipe itself (depth 0)
+    public static final RecipeTreeCursor START = new RecipeTreeCursor(-1, 0);
+
+    public String encode() {
+        String raw = depth + SEPARATOR + id;
+        return Base64.getEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor. Returns START for null, blank or invalid cursors.
+     */
+    public static RecipeTreeCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new RecipeTreeCursor(
+                    Integer.parseInt(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1)));
+        } catch (Exception e) {
+            return START;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cookstemma.cookstemma.dto.recipe;
+
+import java.util.UUID;
+
+/**
+ * One recipe in a variant tree page. Nodes come breadth-first, so a node's parent
+ * (parentPublicId) is always on the same or an earlier page.
+ *
+ * @param depth Edges below the requested recipe (0 for the recipe itself)
+ * @param childCount Live direct variants
+ */
+public record RecipeTreeNodeDto(
+        UUID publicId,
+        UUID parentPublicId,
+        int depth,
+        String title,
+        String cookingStyle,
+        String thumbnail,
+        UUID creatorPublicId,
+        String userName,
+        boolean isPrivate,
+        long childCount,
+        int logCount
+) {}
@@ -0,0 +1,36 @@
+package com.cookstemma.cookstemma.dto.recipe;
+
+import java.util.UUID;
+
+/**
+ * Native query projection of one node of a variant subtree (RecipeLineageRepository#findSubtree),
+ * with its creator, cover and counts. Title translations come as JSON text.
+ */
+public interface RecipeTreeRow {
+
+    Long getId();
+
+    Integer getDepth();
+
+    UUID getPublicId();
+
+    UUID getParentPublicId();
+
+    String getTitle();
+
+    String getTitleTranslations();
+
+    String getCookingStyle();
+
+    Boolean getIsPrivate();
+
+    UUID getCreatorPublicId();
+
+    String getCreatorName();
+
+    String getCoverFilename();
+
+    Long getChildCount();
+
+    Integer getLogCount();
+}
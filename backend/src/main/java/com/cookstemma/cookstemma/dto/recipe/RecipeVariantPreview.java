@@ -0,0 +1,52 @@
+package com.cookstemma.cookstemma.dto.recipe;
+
+import java.util.UUID;
+
+/**
+ * Native query projection with everything a variant card on the recipe detail page shows,
+ * creator, counts and cover included. Translation maps and hashtags come as JSON text.
+ */
+public interface RecipeVariantPreview {
+
+    UUID getPublicId();
+
+    String getTitle();
+
+    String getTitleTranslations();
+
+    String getDescription();
+
+    String getDescriptionTranslations();
+
+    String getCookingStyle();
+
+    Integer getServings();
+
+    String getCookingTimeRange();
+
+    Boolean getIsPrivate();
+
+    UUID getFoodMasterPublicId();
+
+    String getFoodName();
+
+    UUID getCreatorPublicId();
+
+    String getCreatorName();
+
+    UUID getParentPublicId();
+
+    UUID getRootPublicId();
+
+    String getRootTitle();
+
+    String getRootTitleTranslations();
+
+    Long getVariantCount();
+
+    Long getLogCount();
+
+    String getCoverFilename();
+
+    String getHashtags();
+}
@@ -7,18 +7,24 @@ package com.cookstemma.cookstemma.dto.search;
  * @param logs Number of matching cooking logs
  * @param hashtags Number of matching hashtags
  * @param total Total count (sum of all types)
+ * @param exact False when at least one count hit the counting cap and is a lower bound ("1000+")
  */
 public record SearchCounts(
     int recipes,
     int logs,
     int hashtags,
-    int total
+    int total,
+    boolean exact
 ) {
     public static SearchCounts of(int recipes, int logs, int hashtags) {
-        return new SearchCounts(recipes, logs, hashtags, recipes + logs + hashtags);
+        return of(recipes, logs, hashtags, true);
+    }
+
+    public static SearchCounts of(int recipes, int logs, int hashtags, boolean exact) {
+        return new SearchCounts(recipes, logs, hashtags, recipes + logs + hashtags, exact);
     }
 
     public static SearchCounts empty() {
-        return new SearchCounts(0, 0, 0, 0);
+        return new SearchCounts(0, 0, 0, 0, true);
     }
 }
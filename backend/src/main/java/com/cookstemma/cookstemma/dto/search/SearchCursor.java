@@ -0,0 +1,136 @@
+package com.cookstemma.cookstemma.dto.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-source keyset cursor for unified search.
+ *
+ * Holds the page index (reported back in the response), the counts computed for the first page
+ * (so later pages never recompute them) and, per source, the keyset position of the last item
+ * already returned from that source. Each source resumes strictly after its own position.
+ *
+ * Format: Base64("v2|page|recipes,logs,hashtags,exact|source=score,createdAtMicros,sortId;source=end")
+ */
+public record SearchCursor(
+    int page,
+    SearchCounts counts,
+    Map<String, Position> positions
+) {
+    private static final String VERSION = "v2";
+    private static final String SECTION = "\\|";
+    private static final String ENTRY = ";";
+    private static final String FIELD = ",";
+    private static final String END = "end";
+
+    /**
+     * Keyset position (relevance, created_at, id) of the last returned item, all descending.
+     */
+    public record Position(double score, long createdAtMicros, long sortId) {
+        // Sorts before every real hit, so the first page starts at the top
+        public static final Position START = new Position(Double.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+        // Marks a source whose results are fully consumed
+        public static final Position END = new Position(-Double.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE);
+
+        public static Position of(SearchHit hit) {
+            return new Position(hit.getRelevanceScore(), hit.getCreatedAtMicros(), hit.getSortId());
+        }
+
+        public boolean isEnd() {
+            return this.equals(END);
+        }
+    }
+
+    public static SearchCursor first() {
+        return new SearchCursor(0, null, Map.of());
+    }
+
+    /**
+     * Position to resume the given source from (START if the source has not been read yet).
+     */
+    public Position position(String source) {
+        return positions.getOrDefault(source, Position.START);
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder(VERSION).append('|').append(page).append('|');
+        if (counts != null) {
+            raw.append(counts.recipes()).append(FIELD)
+                .append(counts.logs()).append(FIELD)
+                .append(counts.hashtags()).append(FIELD)
+                .append(counts.exact() ? 1 : 0);
+        }
+        raw.append('|');
+
+        boolean firstEntry = true;
+        for (Map.Entry<String, Position> entry : positions.entrySet()) {
+            if (!firstEntry) {
+                raw.append(ENTRY);
+            }
+            firstEntry = false;
+
+            Position position = entry.getValue();
+            raw.append(entry.getKey()).append('=');
+            if (position.isEnd()) {
+                raw.append(END);
+            } else {
+                raw.append(position.score()).append(FIELD)
+                    .append(position.createdAtMicros()).append(FIELD)
+                    .append(position.sortId());
+            }
+        }
+        return Base64.getEncoder().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor. Returns the first-page cursor for null, blank, invalid or pre-keyset cursors.
+     */
+    public static SearchCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] sections = decoded.split(SECTION, -1);
+            if (sections.length != 4 || !VERSION.equals(sections[0])) {
+                return first();
+            }
+
+            int page = Integer.parseInt(sections[1]);
+
+            SearchCounts counts = null;
+            if (!sections[2].isEmpty()) {
+                String[] parts = sections[2].split(FIELD);
+                counts = SearchCounts.of(
+                    Integer.parseInt(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    "1".equals(parts[3]));
+            }
+
+            Map<String, Position> positions = new HashMap<>();
+            if (!sections[3].isEmpty()) {
+                for (String entry : sections[3].split(ENTRY)) {
+                    int separator = entry.indexOf('=');
+                    String source = entry.substring(0, separator);
+                    String value = entry.substring(separator + 1);
+                    if (END.equals(value)) {
+                        positions.put(source, Position.END);
+                    } else {
+                        String[] fields = value.split(FIELD);
+                        positions.put(source, new Position(
+                            Double.parseDouble(fields[0]),
+                            Long.parseLong(fields[1]),
+                            Long.parseLong(fields[2])));
+                    }
+                }
+            }
+
+            return new SearchCursor(page, counts, positions);
+        } catch (Exception e) {
+            return first();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.cookstemma.cookstemma.dto.search;
+
+/**
+ * Native query projection for per-type match counts from search_documents.
+ */
+public interface SearchDocumentCounts {
+
+    Long getRecipes();
+
+    Long getLogs();
+
+    Long getHashtags();
+}
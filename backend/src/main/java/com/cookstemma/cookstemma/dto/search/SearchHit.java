@@ -0,0 +1,23 @@
+package com.cookstemma.cookstemma.dto.search;
+
+/**
+ * Native query projection for a single unified search match, from search_documents
+ * or from the per-table keyset queries.
+ */
+public interface SearchHit {
+
+    // SQL: entity_type AS entityType ('RECIPE', 'LOG_POST', 'HASHTAG')
+    String getEntityType();
+
+    // SQL: entity id AS entityId
+    Long getEntityId();
+
+    // SQL: CAST(... AS double precision) AS relevanceScore
+    Double getRelevanceScore();
+
+    // SQL: epoch microseconds of created_at AS createdAtMicros (keyset column)
+    Long getCreatedAtMicros();
+
+    // SQL: row id AS sortId (keyset tie-breaker; search_documents.id for the document index)
+    Long getSortId();
+}
@@ -1,23 +1,32 @@
 package com.cookstemma.cookstemma.filter;
 
-import com.cookstemma.cookstemma.domain.entity.idempotency.IdempotencyKey;
-import com.cookstemma.cookstemma.repository.idempotency.IdempotencyKeyRepository;
 import com.cookstemma.cookstemma.security.UserPrincipal;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
@@ -27,11 +36,13 @@ import java.util.Optional;
  * Filter that implements idempotency key pattern for POST/PATCH requests.
  *
  * When a client sends an Idempotency-Key header:
- * 1. If the key exists with the same request hash -> return cached response
- * 2. If the key exists with different request hash -> return 422 error
- * 3. If the key doesn't exist -> execute request, cache response
+ * 1. If the key has a stored response with the same request hash -> replay it without executing
+ * 2. If the key has a stored response with a different request hash -> return 422 error
+ * 3. If another request with the key is in flight -> wait for its response (409 after idempotency.lock-wait-ms)
+ * 4. Otherwise -> take the in-flight lock, execute the request, store the response
  *
- * Keys are scoped per user and expire after 24 hours.
+ * The body is buffered and hashed before the chain runs. 5xx responses are not stored, so the
+ * key can be retried. Keys are scoped per user and expire after 24 hours (see IdempotencyStore).
  */
 @Component
 @RequiredArgsConstructor
@@ -39,8 +50,15 @@ import java.util.Optional;
 public class IdempotencyFilter extends OncePerRequestFilter {
 
     private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
 
-    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyStore idempotencyStore;
+
+    @Value("${idempotency.lock-wait-ms:10000}")
+    private long lockWaitMillis;
+
+    @Value("${idempotency.poll-interval-ms:50}")
+    private long pollIntervalMillis;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -69,82 +87,99 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Wrap request to read body multiple times
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        // Hash the body up front; the chain reads it from the buffer
+        HttpServletRequest bufferedRequest;
+        String requestHash;
+        if (isMultipart(request)) {
+            bufferedRequest = request;
+            requestHash = hashParts(request);
+        } else {
+            byte[] body = request.getInputStream().readAllBytes();
+            bufferedRequest = new BufferedBodyRequest(request, body);
+            requestHash = hashRequestBody(body);
+        }
 
         String requestPath = request.getRequestURI();
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
 
-        // Check for existing idempotency key
-        Optional<IdempotencyKey> existingKey = idempotencyKeyRepository
-                .findByIdempotencyKeyAndUserId(idempotencyKeyValue, userId);
-
-        if (existingKey.isPresent()) {
-            IdempotencyKey cached = existingKey.get();
-
-            // Check if expired
-            if (cached.isExpired()) {
-                log.debug("Idempotency key {} expired, deleting and processing as new request", idempotencyKeyValue);
-                idempotencyKeyRepository.delete(cached);
-            } else if (cached.hasCachedResponse()) {
-                // We need to verify request hash, but body not yet read
-                // Execute the filter chain to read body, then compare
-                filterChain.doFilter(wrappedRequest, wrappedResponse);
-
-                String requestHash = hashRequestBody(wrappedRequest.getContentAsByteArray());
-
-                if (!cached.getRequestHash().equals(requestHash)) {
-                    // Different request body with same key - error
-                    log.warn("Idempotency key {} reused with different request body", idempotencyKeyValue);
-                    wrappedResponse.resetBuffer();
-                    wrappedResponse.setStatus(422); // Unprocessable Entity
-                    wrappedResponse.setContentType("application/json");
-                    wrappedResponse.getWriter().write("{\"error\": \"Idempotency key already used with different request\"}");
-                    wrappedResponse.copyBodyToResponse();
-                    return;
-                }
-
-                // Same request - return cached response
-                log.info("Returning cached response for idempotency key {}", idempotencyKeyValue);
-                wrappedResponse.resetBuffer();
-                wrappedResponse.setStatus(cached.getResponseStatus());
-                wrappedResponse.setContentType("application/json");
-                if (cached.getResponseBody() != null) {
-                    wrappedResponse.getWriter().write(cached.getResponseBody());
-                }
-                wrappedResponse.copyBodyToResponse();
+        while (true) {
+            Optional<IdempotencyStore.StoredResponse> stored = idempotencyStore.find(idempotencyKeyValue, userId);
+            if (stored.isPresent()) {
+                replay(idempotencyKeyValue, requestHash, stored.get(), response);
                 return;
             }
-            // Key exists but no cached response yet (concurrent request) - proceed
-        }
 
-        // Execute the request
-        filterChain.doFilter(wrappedRequest, wrappedResponse);
+            Optional<IdempotencyStore.Lease> lease =
+                    idempotencyStore.tryLock(idempotencyKeyValue, userId, requestPath, requestHash);
+            if (lease.isPresent()) {
+                execute(bufferedRequest, response, filterChain, lease.get());
+                return;
+            }
 
-        // Get request hash after body is read
-        String requestHash = hashRequestBody(wrappedRequest.getContentAsByteArray());
+            // Another request with this key is in flight
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("Timed out waiting for in-flight request with idempotency key {}", idempotencyKeyValue);
+                writeError(response, HttpServletResponse.SC_CONFLICT, "Request with this idempotency key is still in progress");
+                return;
+            }
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, HttpServletResponse.SC_CONFLICT, "Request with this idempotency key is still in progress");
+                return;
+            }
+        }
+    }
 
-        // Cache the response
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         IdempotencyStore.Lease lease) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
         try {
-            int status = wrappedResponse.getStatus();
-            String responseBody = new String(wrappedResponse.getContentAsByteArray(), StandardCharsets.UTF_8);
-
-            // Create or update idempotency key
-            IdempotencyKey key = existingKey.orElseGet(() ->
-                    IdempotencyKey.create(idempotencyKeyValue, userId, requestPath, requestHash));
-            key.storeResponse(status, responseBody);
-            idempotencyKeyRepository.save(key);
+            filterChain.doFilter(request, wrappedResponse);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyStore.release(lease);
+            throw e;
+        }
 
-            log.debug("Stored idempotency key {} with status {}", idempotencyKeyValue, status);
-        } catch (Exception e) {
-            log.error("Failed to store idempotency key: {}", e.getMessage());
-            // Don't fail the request if caching fails
+        int status = wrappedResponse.getStatus();
+        if (status >= 500) {
+            idempotencyStore.release(lease);
+        } else {
+            String responseBody = new String(wrappedResponse.getContentAsByteArray(), StandardCharsets.UTF_8);
+            idempotencyStore.complete(lease, status, wrappedResponse.getContentType(), responseBody);
+            log.debug("Stored idempotency key {} with status {}", lease.key(), status);
         }
 
         // Copy cached content to actual response
         wrappedResponse.copyBodyToResponse();
     }
 
+    private void replay(String idempotencyKeyValue, String requestHash, IdempotencyStore.StoredResponse stored,
+                        HttpServletResponse response) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            // Different request body with same key - error
+            log.warn("Idempotency key {} reused with different request body", idempotencyKeyValue);
+            writeError(response, 422, "Idempotency key already used with different request");
+            return;
+        }
+
+        log.info("Returning cached response for idempotency key {}", idempotencyKeyValue);
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(stored.contentType() != null ? stored.contentType() : MediaType.APPLICATION_JSON_VALUE);
+        if (stored.body() != null) {
+            response.getWriter().write(stored.body());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\": \"" + message + "\"}");
+    }
+
     /**
      * Get the current user's ID from security context
      */
@@ -156,6 +191,11 @@ public class IdempotencyFilter extends OncePerRequestFilter {
         return null;
     }
 
+    private static boolean isMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.toLowerCase().startsWith("multipart/");
+    }
+
     /**
      * Generate SHA-256 hash of request body
      */
@@ -172,4 +212,88 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return "error";
         }
     }
+
+    /**
+     * SHA-256 over the names and contents of a multipart request's parts. The container keeps the
+     * parsed parts, so reading them here doesn't consume anything the controller needs.
+     */
+    private String hashParts(HttpServletRequest request) throws IOException, ServletException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Part part : request.getParts()) {
+                digest.update(part.getName().getBytes(StandardCharsets.UTF_8));
+                if (part.getSubmittedFileName() != null) {
+                    digest.update(part.getSubmittedFileName().getBytes(StandardCharsets.UTF_8));
+                }
+                try (InputStream in = new DigestInputStream(part.getInputStream(), digest)) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            log.error("SHA-256 not available", e);
+            return "error";
+        }
+    }
+
+    /**
+     * Request whose body has already been read into memory.
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory, so it is available at once
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
 }
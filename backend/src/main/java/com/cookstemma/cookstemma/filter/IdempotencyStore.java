@@ -0,0 +1,225 @@
+package com.cookstemma.cookstemma.filter;
+
+import com.cookstemma.cookstemma.domain.entity.idempotency.IdempotencyKey;
+import com.cookstemma.cookstemma.repository.idempotency.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Stored responses and in-flight locks for IdempotencyFilter.
+ *
+ * With idempotency.redis.enabled, the lock is a SET NX key holding a per-request token and the
+ * response is kept in Redis with a TTL; idempotency.durable-store.enabled additionally writes
+ * responses to idempotency_keys and reads them back when Redis has none. Without Redis the
+ * idempotency_keys row is both lock and response: it is inserted without a response before the
+ * request runs (the unique (user_id, idempotency_key) rejects concurrent duplicates) and completed
+ * afterwards.
+ *
+ * Locks expire after idempotency.lock-ttl-ms so a crashed node can't block a key for good.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String LOCK_KEY_PREFIX = "idempotency:lock:";
+    private static final String RESPONSE_KEY_PREFIX = "idempotency:response:";
+    private static final String DB_LOCK_TOKEN = "db";
+
+    // Deletes the lock only if it is still ours (it may have expired and been taken by another request)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('del', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Value("${idempotency.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${idempotency.durable-store.enabled:true}")
+    private boolean durableStoreEnabled;
+
+    @Value("${idempotency.lock-ttl-ms:30000}")
+    private long lockTtlMillis;
+
+    @Value("${idempotency.response-ttl-seconds:86400}")
+    private long responseTtlSeconds;
+
+    /**
+     * Response of a completed request.
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, String body) {
+    }
+
+    /**
+     * In-flight lock on a key, held by the request that executes it.
+     */
+    public record Lease(String key, Long userId, String requestPath, String requestHash, String token) {
+    }
+
+    public Optional<StoredResponse> find(String key, Long userId) {
+        if (useRedis()) {
+            try {
+                String json = redisTemplate.opsForValue().get(RESPONSE_KEY_PREFIX + scope(key, userId));
+                if (json != null) {
+                    return Optional.of(objectMapper.readValue(json, StoredResponse.class));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to read idempotency response for key {}: {}", key, e.getMessage());
+            }
+            return durableStoreEnabled ? findInDatabase(key, userId) : Optional.empty();
+        }
+        return findInDatabase(key, userId);
+    }
+
+    /**
+     * Takes the in-flight lock, or returns empty if another request holds it or has completed.
+     * If the lock can't be reached at all the request proceeds without one, as before single-flight.
+     */
+    public Optional<Lease> tryLock(String key, Long userId, String requestPath, String requestHash) {
+        if (useRedis()) {
+            String token = UUID.randomUUID().toString();
+            try {
+                Boolean acquired = redisTemplate.opsForValue()
+                        .setIfAbsent(LOCK_KEY_PREFIX + scope(key, userId), token, Duration.ofMillis(lockTtlMillis));
+                return Boolean.TRUE.equals(acquired)
+                        ? Optional.of(new Lease(key, userId, requestPath, requestHash, token))
+                        : Optional.empty();
+            } catch (Exception e) {
+                log.warn("Failed to lock idempotency key {}, proceeding without lock: {}", key, e.getMessage());
+                return Optional.of(new Lease(key, userId, requestPath, requestHash, null));
+            }
+        }
+
+        if (insertLockRow(key, userId, requestPath, requestHash)) {
+            return Optional.of(new Lease(key, userId, requestPath, requestHash, DB_LOCK_TOKEN));
+        }
+        // Retry once if the row left behind is expired or an abandoned lock
+        if (removeStaleRow(key, userId) && insertLockRow(key, userId, requestPath, requestHash)) {
+            return Optional.of(new Lease(key, userId, requestPath, requestHash, DB_LOCK_TOKEN));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the response and releases the lock.
+     */
+    public void complete(Lease lease, int status, String contentType, String body) {
+        if (useRedis()) {
+            StoredResponse response = new StoredResponse(lease.requestHash(), status, contentType, body);
+            try {
+                // Written before the lock is released so waiters never see neither
+                redisTemplate.opsForValue().set(RESPONSE_KEY_PREFIX + scope(lease.key(), lease.userId()),
+                        objectMapper.writeValueAsString(response), Duration.ofSeconds(responseTtlSeconds));
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialize idempotency response for key {}", lease.key(), e);
+            } catch (Exception e) {
+                log.warn("Failed to store idempotency response for key {}: {}", lease.key(), e.getMessage());
+            }
+            if (durableStoreEnabled) {
+                saveResponseRow(lease, status, body);
+            }
+            release(lease);
+            return;
+        }
+        saveResponseRow(lease, status, body);
+    }
+
+    /**
+     * Releases the lock without storing a response, so the key can be retried.
+     */
+    public void release(Lease lease) {
+        if (useRedis()) {
+            if (lease.token() == null) {
+                return;
+            }
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT,
+                        List.of(LOCK_KEY_PREFIX + scope(lease.key(), lease.userId())), lease.token());
+            } catch (Exception e) {
+                log.warn("Failed to release idempotency lock {}, it expires in {}ms: {}",
+                        lease.key(), lockTtlMillis, e.getMessage());
+            }
+            return;
+        }
+        try {
+            idempotencyKeyRepository.findByIdempotencyKeyAndUserId(lease.key(), lease.userId())
+                    .filter(row -> !row.hasCachedResponse())
+                    .ifPresent(idempotencyKeyRepository::delete);
+        } catch (Exception e) {
+            log.warn("Failed to release idempotency lock {}: {}", lease.key(), e.getMessage());
+        }
+    }
+
+    private Optional<StoredResponse> findInDatabase(String key, Long userId) {
+        return idempotencyKeyRepository.findByIdempotencyKeyAndUserId(key, userId)
+                .filter(row -> row.hasCachedResponse() && !row.isExpired())
+                .map(row -> new StoredResponse(row.getRequestHash(), row.getResponseStatus(), null, row.getResponseBody()));
+    }
+
+    private boolean insertLockRow(String key, Long userId, String requestPath, String requestHash) {
+        try {
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKey.create(key, userId, requestPath, requestHash));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private boolean removeStaleRow(String key, Long userId) {
+        Optional<IdempotencyKey> row = idempotencyKeyRepository.findByIdempotencyKeyAndUserId(key, userId);
+        if (row.isEmpty()) {
+            return true;
+        }
+        IdempotencyKey existing = row.get();
+        boolean abandoned = !existing.hasCachedResponse() && existing.getCreatedAt() != null
+                && existing.getCreatedAt().isBefore(Instant.now().minusMillis(lockTtlMillis));
+        if (existing.isExpired() || abandoned) {
+            log.debug("Removing {} idempotency key {}", abandoned ? "abandoned" : "expired", key);
+            idempotencyKeyRepository.delete(existing);
+            return true;
+        }
+        return false;
+    }
+
+    private void saveResponseRow(Lease lease, int status, String body) {
+        try {
+            IdempotencyKey row = idempotencyKeyRepository.findByIdempotencyKeyAndUserId(lease.key(), lease.userId())
+                    .orElseGet(() -> IdempotencyKey.create(lease.key(), lease.userId(), lease.requestPath(), lease.requestHash()));
+            row.storeResponse(status, body);
+            idempotencyKeyRepository.save(row);
+        } catch (Exception e) {
+            // Don't fail the request if caching fails
+            log.error("Failed to store idempotency key {}: {}", lease.key(), e.getMessage());
+        }
+    }
+
+    private boolean useRedis() {
+        return redisEnabled && redisTemplate != null;
+    }
+
+    private static String scope(String key, Long userId) {
+        return userId + ":" + key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.cookstemma.cookstemma.filter;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-instance buckets, capped at maxBuckets by evicting the least recently used one.
+ * An evicted client starts again with a full bucket, which only happens to clients idle longer
+ * than the busiest maxBuckets others.
+ */
+public class LocalRateLimitBucketStore implements RateLimitBucketStore {
+
+    private final Map<String, Bucket> buckets;
+
+    public LocalRateLimitBucketStore(int maxBuckets) {
+        this.buckets = lruMap(maxBuckets);
+    }
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration config) {
+        return buckets.computeIfAbsent(key, k -> Bucket.builder()
+                .addLimit(config.getBandwidths()[0])
+                .build());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    static <V> Map<String, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.cookstemma.cookstemma.filter;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+
+/**
+ * Where RateLimitFilter keeps its buckets: in this instance (LocalRateLimitBucketStore)
+ * or shared by all instances through Redis (RedisRateLimitBucketStore).
+ */
+public interface RateLimitBucketStore {
+
+    /**
+     * Bucket for a key (endpoint + client), created from the config on first use.
+     */
+    Bucket resolve(String key, BucketConfiguration config);
+}
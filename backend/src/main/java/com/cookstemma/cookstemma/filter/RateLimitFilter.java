@@ -18,11 +18,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rate limiting filter that applies request limits per IP address.
- * Protects authentication endpoints from brute force attacks.
+ * Protects authentication endpoints from brute force attacks, and caps search / autocomplete reads.
+ * Buckets live in a RateLimitBucketStore (per instance, or shared through Redis).
  */
 @Slf4j
 @Component
@@ -32,9 +32,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private final Map<String, BucketConfiguration> rateLimitConfigurations;
     private final boolean rateLimitEnabled;
     private final JwtTokenProvider jwtTokenProvider;
-
-    // Cache of buckets per key (IP + endpoint)
-    private final Map<String, Bucket> bucketCache = new ConcurrentHashMap<>();
+    private final RateLimitBucketStore bucketStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -47,7 +45,8 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         String path = request.getRequestURI();
-        BucketConfiguration config = findMatchingConfig(path);
+        String configKey = configKey(request);
+        BucketConfiguration config = rateLimitConfigurations.get(configKey);
 
         if (config == null) {
             // No rate limit for this endpoint
@@ -62,11 +61,9 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         String clientIp = getClientIp(request);
-        String bucketKey = buildBucketKey(path, clientIp);
-
-        Bucket bucket = bucketCache.computeIfAbsent(bucketKey, k -> createBucket(config));
+        String bucketKey = buildBucketKey(configKey, clientIp);
 
-        if (bucket.tryConsume(1)) {
+        if (tryConsume(bucketKey, config)) {
             filterChain.doFilter(request, response);
         } else {
             log.warn("Rate limit exceeded for IP: {} on endpoint: {}", clientIp, path);
@@ -74,18 +71,25 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
     }
 
-    private BucketConfiguration findMatchingConfig(String path) {
-        return rateLimitConfigurations.get(path);
+    // POST endpoints are configured by path, read endpoints by "GET " + path
+    private String configKey(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return "GET".equalsIgnoreCase(request.getMethod()) ? "GET " + path : path;
     }
 
-    private Bucket createBucket(BucketConfiguration config) {
-        return Bucket.builder()
-                .addLimit(config.getBandwidths()[0])
-                .build();
+    private boolean tryConsume(String bucketKey, BucketConfiguration config) {
+        try {
+            Bucket bucket = bucketStore.resolve(bucketKey, config);
+            return bucket.tryConsume(1);
+        } catch (RuntimeException e) {
+            // Don't fail requests when the shared bucket store is unreachable
+            log.warn("Rate limit check failed, allowing request: {}", e.getMessage());
+            return true;
+        }
     }
 
-    private String buildBucketKey(String path, String clientIp) {
-        return "rate_limit:" + path + ":" + clientIp;
+    private String buildBucketKey(String configKey, String clientIp) {
+        return "rate_limit:" + configKey + ":" + clientIp;
     }
 
     private String getClientIp(HttpServletRequest request) {
@@ -139,12 +143,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        // Only filter POST requests to auth endpoints
-        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+        // Only filter POST requests and configured GET endpoints
+        String method = request.getMethod();
+        if (!"POST".equalsIgnoreCase(method) && !"GET".equalsIgnoreCase(method)) {
             return true;
         }
 
-        String path = request.getRequestURI();
-        return !rateLimitConfigurations.containsKey(path);
+        return !rateLimitConfigurations.containsKey(configKey(request));
     }
 }
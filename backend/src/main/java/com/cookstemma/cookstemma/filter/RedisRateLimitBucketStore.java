@@ -0,0 +1,64 @@
+package com.cookstemma.cookstemma.filter;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.github.bucket4j.distributed.serialization.Mapper;
+import io.github.bucket4j.redis.lettuce.Bucket4jLettuce;
+import io.lettuce.core.RedisClient;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Buckets shared by all instances, stored in Redis with Lettuce compare-and-swap updates,
+ * so a limit holds across replicas instead of being multiplied by their number.
+ *
+ * Buckets with room for it use bucket4j's delaying optimization: tokens are taken from a local copy
+ * and written to Redis once a few have been consumed or syncInterval has passed, so most requests
+ * don't wait on Redis. A client can overshoot by the unsynchronized tokens per instance between
+ * syncs, so that allowance is capped at a tenth of the bucket; small buckets (login, reissue) sync
+ * on every request. Proxies are kept in a bounded LRU map; the state itself lives in Redis and
+ * expires once the bucket would be full again.
+ */
+public class RedisRateLimitBucketStore implements RateLimitBucketStore, AutoCloseable {
+
+    private final RedisClient redisClient;
+    private final ProxyManager<String> proxyManager;
+    private final long maxUnsynchronizedTokens;
+    private final Duration syncInterval;
+    private final Map<String, Bucket> proxies;
+
+    public RedisRateLimitBucketStore(RedisClient redisClient, int maxCachedBuckets,
+                                     long maxUnsynchronizedTokens, Duration syncInterval) {
+        this.redisClient = redisClient;
+        this.proxyManager = Bucket4jLettuce.casBasedBuilder(redisClient)
+                .keyMapper(Mapper.STRING)
+                .expirationAfterWrite(ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10)))
+                .build();
+        this.maxUnsynchronizedTokens = maxUnsynchronizedTokens;
+        this.syncInterval = syncInterval;
+        this.proxies = LocalRateLimitBucketStore.lruMap(maxCachedBuckets);
+    }
+
+    @Override
+    public Bucket resolve(String key, BucketConfiguration config) {
+        return proxies.computeIfAbsent(key, k -> {
+            long unsynchronized = Math.min(maxUnsynchronizedTokens, config.getBandwidths()[0].getCapacity() / 10);
+            if (unsynchronized <= 0) {
+                return proxyManager.builder().build(k, () -> config);
+            }
+            return proxyManager.builder()
+                    .withOptimization(Optimizations.delaying(new DelayParameters(unsynchronized, syncInterval)))
+                    .build(k, () -> config);
+        });
+    }
+
+    @Override
+    public void close() {
+        redisClient.shutdown();
+    }
+}
@@ -3,18 +3,37 @@ package com.cookstemma.cookstemma.repository.autocomplete;
 import com.cookstemma.cookstemma.domain.entity.autocomplete.AutocompleteItem;
 import com.cookstemma.cookstemma.domain.enums.AutocompleteType;
 import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteProjectionDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface AutocompleteItemRepository extends JpaRepository<AutocompleteItem, Long> {
 
     List<AutocompleteItem> findAllByType(AutocompleteType type);
 
+    /**
+     * All items, fetched from a cursor in batches (call inside a transaction and close the stream).
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AutocompleteItem a")
+    Stream<AutocompleteItem> streamAll();
+
+    /**
+     * Items changed after since, fetched from a cursor in batches.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM AutocompleteItem a WHERE a.updatedAt > :since")
+    Stream<AutocompleteItem> streamUpdatedAfter(@Param("since") Instant since);
+
     @Query(value = "SELECT public_id as publicId, " +
             "name ->> :locale as name, " +
             "type::text as type, " +
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -94,6 +95,17 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            "AND (p IS NULL OR p.isHidden = false OR p.isHidden IS NULL)")
     long countVisibleCommentsAnonymous(@Param("logPostId") Long logPostId);
 
+    /**
+     * Batch version of countVisibleCommentsAnonymous.
+     * Returns List of [logPostId, count] pairs (log posts without visible comments are omitted).
+     */
+    @Query("SELECT c.logPost.id, COUNT(c) FROM Comment c LEFT JOIN c.parent p " +
+           "WHERE c.logPost.id IN :logPostIds AND c.deletedAt IS NULL " +
+           "AND (c.isHidden = false OR c.isHidden IS NULL) " +
+           "AND (p IS NULL OR p.isHidden = false OR p.isHidden IS NULL) " +
+           "GROUP BY c.logPost.id")
+    List<Object[]> countVisibleCommentsAnonymousByLogPostIds(@Param("logPostIds") Collection<Long> logPostIds);
+
     // Count replies for a comment
     long countByParentIdAndDeletedAtIsNull(Long parentId);
 
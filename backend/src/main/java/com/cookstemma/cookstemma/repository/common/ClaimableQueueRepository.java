@@ -0,0 +1,50 @@
+package com.cookstemma.cookstemma.repository.common;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queries behind ClaimableQueue. Each table declares them as native queries over the shared columns
+ * (status PENDING/PROCESSING/FAILED, attempts, available_at, locked_at, locked_by, last_error, created_at).
+ * Writes to claimed rows only apply to the rows the worker still holds (locked_by = worker) and
+ * return how many that was.
+ */
+@NoRepositoryBean
+public interface ClaimableQueueRepository<T> extends JpaRepository<T, Long> {
+
+    /**
+     * Lock up to limit due rows, skipping rows other workers hold. Call markClaimed in the same
+     * transaction so the rows stay out of other claims once it commits.
+     */
+    List<T> lockDue(int limit);
+
+    int markClaimed(Collection<Long> ids, String worker);
+
+    /**
+     * Put claimed rows back in the queue, due at availableAt.
+     */
+    int reschedule(Collection<Long> ids, String worker, Instant availableAt, String error);
+
+    int markFailed(Collection<Long> ids, String worker, String error);
+
+    int deleteByIds(Collection<Long> ids, String worker);
+
+    /**
+     * Release claims older than lockedBefore (the worker died or was stopped mid-batch).
+     */
+    int releaseStaleClaims(Instant lockedBefore);
+
+    /**
+     * Rows per status, as [status, count] rows.
+     */
+    List<Object[]> countByStatus();
+
+    /**
+     * Age in seconds of the oldest pending row, or null if none is pending.
+     */
+    Double findOldestPendingAgeSeconds();
+}
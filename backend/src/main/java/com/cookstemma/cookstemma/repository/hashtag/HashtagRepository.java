@@ -1,6 +1,7 @@
 package com.cookstemma.cookstemma.repository.hashtag;
 
 import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.dto.search.SearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -46,15 +47,48 @@ public interface HashtagRepository extends JpaRepository<Hashtag, Long> {
     Page<Hashtag> searchHashtagsWithRelevance(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * Count hashtags matching search keyword.
+     * Seek page of hashtag hits for unified search, ordered by (relevance, id) descending.
+     * Hashtags carry no creation time in the mapped schema, so createdAtMicros is always 0.
      */
     @Query(value = """
-        SELECT COUNT(*) FROM hashtags h
+        SELECT s.entityType, s.entityId, s.relevanceScore, s.createdAtMicros, s.sortId FROM (
+            SELECT 'HASHTAG' AS entityType,
+                h.id AS entityId,
+                CAST(CASE
+                    WHEN LOWER(h.name) = LOWER(:keyword) THEN 1.0
+                    WHEN LOWER(h.name) LIKE LOWER(:keyword) || '%' THEN 0.9
+                    ELSE COALESCE(SIMILARITY(h.name, :keyword), 0) * 0.8
+                END AS double precision) AS relevanceScore,
+                CAST(0 AS BIGINT) AS createdAtMicros,
+                h.id AS sortId
+            FROM hashtags h
+            WHERE h.name % :keyword
+               OR LOWER(h.name) LIKE '%' || LOWER(:keyword) || '%'
+        ) s
+        WHERE (s.relevanceScore, s.createdAtMicros, s.sortId) < (:lastScore, :lastCreatedAtMicros, :lastId)
+        ORDER BY s.relevanceScore DESC, s.createdAtMicros DESC, s.sortId DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<SearchHit> searchHashtagHitsAfter(@Param("keyword") String keyword,
+                                           @Param("lastScore") double lastScore,
+                                           @Param("lastCreatedAtMicros") long lastCreatedAtMicros,
+                                           @Param("lastId") long lastId,
+                                           @Param("limit") int limit);
+
+    /**
+     * Count hashtags matching search keyword, stopping after :limit matches.
+     */
+    @Query(value = """
+        SELECT COUNT(*) FROM (
+        SELECT 1 FROM hashtags h
         WHERE h.name % :keyword
            OR LOWER(h.name) LIKE '%' || LOWER(:keyword) || '%'
+        LIMIT :limit
+        ) capped
         """,
         nativeQuery = true)
-    long countSearchResults(@Param("keyword") String keyword);
+    long countSearchResults(@Param("keyword") String keyword, @Param("limit") int limit);
 
     /**
      * Get recipe count for a specific hashtag.
@@ -0,0 +1,90 @@
+package com.cookstemma.cookstemma.repository.image;
+
+import com.cookstemma.cookstemma.domain.entity.image.ImageJob;
+import com.cookstemma.cookstemma.repository.common.ClaimableQueueRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageJobRepository extends ClaimableQueueRepository<ImageJob> {
+
+    /**
+     * Queue jobs for the given images. Images that already have an open job are skipped
+     * (uq_image_jobs_open), as are ids that no longer exist.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO image_jobs (image_id, status, attempts, available_at, created_at)
+        SELECT i.id, 'PENDING', 0, NOW(), NOW()
+        FROM images i
+        WHERE i.id IN (:imageIds)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int enqueue(@Param("imageIds") Collection<Long> imageIds);
+
+    @Override
+    @Query(value = """
+        SELECT * FROM image_jobs
+        WHERE status = 'PENDING' AND available_at <= NOW()
+        ORDER BY available_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<ImageJob> lockDue(@Param("limit") int limit);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE image_jobs SET status = 'PROCESSING', locked_at = NOW(), locked_by = :worker, attempts = attempts + 1
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("worker") String worker);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE image_jobs SET status = 'PENDING', locked_at = NULL, locked_by = NULL, available_at = :availableAt, last_error = :error
+        WHERE id IN (:ids) AND locked_by = :worker
+        """, nativeQuery = true)
+    int reschedule(@Param("ids") Collection<Long> ids, @Param("worker") String worker,
+                   @Param("availableAt") Instant availableAt, @Param("error") String error);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE image_jobs SET status = 'FAILED', locked_at = NULL, locked_by = NULL, last_error = :error
+        WHERE id IN (:ids) AND locked_by = :worker
+        """, nativeQuery = true)
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("worker") String worker, @Param("error") String error);
+
+    @Override
+    @Modifying
+    @Query(value = "DELETE FROM image_jobs WHERE id IN (:ids) AND locked_by = :worker", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids, @Param("worker") String worker);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE image_jobs SET status = 'PENDING', locked_at = NULL, locked_by = NULL
+        WHERE status = 'PROCESSING' AND locked_at < :lockedBefore
+        """, nativeQuery = true)
+    int releaseStaleClaims(@Param("lockedBefore") Instant lockedBefore);
+
+    @Override
+    @Query(value = "SELECT status, COUNT(*) FROM image_jobs GROUP BY status", nativeQuery = true)
+    List<Object[]> countByStatus();
+
+    @Override
+    @Query(value = """
+        SELECT CAST(EXTRACT(EPOCH FROM NOW() - MIN(created_at)) AS double precision)
+        FROM image_jobs WHERE status = 'PENDING'
+        """, nativeQuery = true)
+    Double findOldestPendingAgeSeconds();
+
+    @Query(value = "SELECT COUNT(*) FROM image_jobs WHERE status = 'PENDING'", nativeQuery = true)
+    long countPending();
+}
@@ -4,7 +4,10 @@ import com.cookstemma.cookstemma.domain.entity.image.Image;
 import com.cookstemma.cookstemma.domain.enums.ImageStatus;
 import com.cookstemma.cookstemma.domain.enums.ImageType;
 import com.cookstemma.cookstemma.domain.enums.ImageVariant;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -43,8 +46,30 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
 
     Optional<Image> findByOriginalImageIdAndVariantType(Long originalImageId, ImageVariant variantType);
 
-    @Query("SELECT i FROM Image i WHERE i.originalImage IS NULL AND i.variantType IS NULL AND i.status = :status")
-    List<Image> findOriginalImagesWithoutVariants(@Param("status") ImageStatus status);
+    // Keyset page of originals that never got variants (ImageVariantMigrationJob)
+    @Query("SELECT i.id FROM Image i WHERE i.originalImage IS NULL AND i.variantType IS NULL AND i.status = :status "
+            + "AND i.id > :afterId ORDER BY i.id")
+    List<Long> findOriginalIdsWithoutVariants(@Param("status") ImageStatus status, @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    // Deduplication: ACTIVE originals whose stored object an identical upload can share. The match is
+    // locked FOR SHARE so a concurrent delete of it waits for the upload to commit before it counts
+    // the object's references, and an already deleted match is skipped.
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT i FROM Image i WHERE i.contentHash = :contentHash AND i.status = :status "
+            + "AND i.originalImage IS NULL AND i.deletedAt IS NULL ORDER BY i.id")
+    List<Image> findOriginalsByContentHash(@Param("contentHash") String contentHash, @Param("status") ImageStatus status,
+                                           Pageable pageable);
+
+    // Another original sharing the stored object whose variants can be copied, locked as above
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT i FROM Image i WHERE i.storedFilename = :storedFilename AND i.id <> :imageId "
+            + "AND i.originalImage IS NULL AND EXISTS (SELECT v.id FROM Image v WHERE v.originalImage = i) ORDER BY i.id")
+    List<Image> findOriginalsWithVariantsSharing(@Param("storedFilename") String storedFilename, @Param("imageId") Long imageId,
+                                                 Pageable pageable);
+
+    // References to an S3 object; it may be deleted once this is 0
+    long countByStoredFilename(String storedFilename);
 
     @Query("SELECT i FROM Image i LEFT JOIN FETCH i.variants WHERE i.publicId = :publicId")
     Optional<Image> findByPublicIdWithVariants(@Param("publicId") UUID publicId);
@@ -1,6 +1,7 @@
 package com.cookstemma.cookstemma.repository.log_post;
 
 import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.dto.search.SearchHit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -107,23 +109,21 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findAllLogsWithCursorInitial(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    Slice<LogPost> findAllLogsWithCursorInitial(@Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] All logs - with cursor
     // Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findAllLogsWithCursor(@Param("langCodePattern") String langCodePattern, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<LogPost> findAllLogsWithCursor(@Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Logs by rating range - initial page (native query for JOIN)
     // Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
@@ -131,13 +131,12 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND rl.rating BETWEEN :minRating AND :maxRating
         ORDER BY lp.created_at DESC, lp.id DESC
         """,
         nativeQuery = true)
-    Slice<LogPost> findByRatingWithCursorInitial(@Param("langCodePattern") String langCodePattern, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
+    Slice<LogPost> findByRatingWithCursorInitial(@Param("langCode") String langCode, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
 
     // [Cursor] Logs by rating range - with cursor (native query for JOIN)
     // Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
@@ -145,14 +144,13 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND rl.rating BETWEEN :minRating AND :maxRating
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """,
         nativeQuery = true)
-    Slice<LogPost> findByRatingWithCursor(@Param("langCodePattern") String langCodePattern, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<LogPost> findByRatingWithCursor(@Param("langCode") String langCode, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // ==================== COOKING STYLE FILTER QUERIES ====================
 
@@ -160,51 +158,47 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findByCookingStyleWithCursorInitial(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, Pageable pageable);
+    Slice<LogPost> findByCookingStyleWithCursorInitial(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, Pageable pageable);
 
     // [Cursor] Logs by cooking style - with cursor
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findByCookingStyleWithCursor(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<LogPost> findByCookingStyleWithCursor(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Logs by cooking style + rating - initial page
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         AND rl.rating BETWEEN :minRating AND :maxRating
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findByCookingStyleAndRatingWithCursorInitial(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
+    Slice<LogPost> findByCookingStyleAndRatingWithCursorInitial(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
 
     // [Cursor] Logs by cooking style + rating - with cursor
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         AND rl.rating BETWEEN :minRating AND :maxRating
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
-    Slice<LogPost> findByCookingStyleAndRatingWithCursor(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<LogPost> findByCookingStyleAndRatingWithCursor(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] My logs - initial page
     @Query("SELECT l FROM LogPost l WHERE l.creatorId = :creatorId AND l.deletedAt IS NULL ORDER BY l.createdAt DESC, l.id DESC")
@@ -248,18 +242,16 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    Page<LogPost> findAllLogsPage(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    Page<LogPost> findAllLogsPage(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] All logs ordered by popularity score
     // Score = viewCount + savedCount * 5
@@ -267,18 +259,16 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY (COALESCE(lp.view_count, 0) + COALESCE(lp.saved_count, 0) * 5) DESC, lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    Page<LogPost> findAllLogsOrderByPopular(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    Page<LogPost> findAllLogsOrderByPopular(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] All logs ordered by trending (engagement with time decay)
     // Score = (viewCount + savedCount * 5) / (1 + days_since_creation / 7)
@@ -286,45 +276,40 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY ((COALESCE(lp.view_count, 0) + COALESCE(lp.saved_count, 0) * 5)::float / (1.0 + EXTRACT(EPOCH FROM (NOW() - lp.created_at)) / 604800.0)) DESC,
                  lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    Page<LogPost> findAllLogsOrderByTrending(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    Page<LogPost> findAllLogsOrderByTrending(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Logs by cooking style ordered by popularity
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         ORDER BY (COALESCE(lp.view_count, 0) + COALESCE(lp.saved_count, 0) * 5) DESC, lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         """,
         nativeQuery = true)
-    Page<LogPost> findByCookingStyleOrderByPopular(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, Pageable pageable);
+    Page<LogPost> findByCookingStyleOrderByPopular(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, Pageable pageable);
 
     // [Offset] Logs by cooking style ordered by trending
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         ORDER BY ((COALESCE(lp.view_count, 0) + COALESCE(lp.saved_count, 0) * 5)::float / (1.0 + EXTRACT(EPOCH FROM (NOW() - lp.created_at)) / 604800.0)) DESC,
                  lp.created_at DESC
@@ -332,12 +317,11 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         """,
         nativeQuery = true)
-    Page<LogPost> findByCookingStyleOrderByTrending(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, Pageable pageable);
+    Page<LogPost> findByCookingStyleOrderByTrending(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, Pageable pageable);
 
     // [Offset] Logs by rating range - page (native query for JOIN)
     // Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
@@ -345,47 +329,42 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND rl.rating BETWEEN :minRating AND :maxRating
         """,
         countQuery = """
         SELECT COUNT(lp.id) FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND rl.rating BETWEEN :minRating AND :maxRating
         """,
         nativeQuery = true)
-    Page<LogPost> findByRatingPage(@Param("langCodePattern") String langCodePattern, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
+    Page<LogPost> findByRatingPage(@Param("langCode") String langCode, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
 
     // [Offset] Logs by cooking style - page
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         ORDER BY lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM log_posts lp
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         """,
         nativeQuery = true)
-    Page<LogPost> findByCookingStylePage(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, Pageable pageable);
+    Page<LogPost> findByCookingStylePage(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, Pageable pageable);
 
     // [Offset] Logs by cooking style + rating - page
     @Query(value = """
         SELECT lp.* FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         AND rl.rating BETWEEN :minRating AND :maxRating
         ORDER BY lp.created_at DESC
@@ -394,13 +373,12 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT COUNT(lp.id) FROM log_posts lp
         JOIN recipe_logs rl ON rl.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND lp.locale = :cookingStyle
         AND rl.rating BETWEEN :minRating AND :maxRating
         """,
         nativeQuery = true)
-    Page<LogPost> findByCookingStyleAndRatingPage(@Param("langCodePattern") String langCodePattern, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
+    Page<LogPost> findByCookingStyleAndRatingPage(@Param("langCode") String langCode, @Param("cookingStyle") String cookingStyle, @Param("minRating") Integer minRating, @Param("maxRating") Integer maxRating, Pageable pageable);
 
     // [Offset] My logs - page
     @Query("SELECT l FROM LogPost l WHERE l.creatorId = :creatorId AND l.deletedAt IS NULL")
@@ -470,13 +448,12 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         JOIN hashtags h ON h.id = lph.hashtag_id
         WHERE h.name = :hashtagName AND lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
     Slice<LogPost> findByHashtagWithCursorInitial(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // [Cursor] LogPosts by hashtag - with cursor
@@ -486,14 +463,13 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         JOIN hashtags h ON h.id = lph.hashtag_id
         WHERE h.name = :hashtagName AND lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
     Slice<LogPost> findByHashtagWithCursor(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             @Param("cursorTime") Instant cursorTime,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
@@ -505,21 +481,19 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         JOIN hashtags h ON h.id = lph.hashtag_id
         WHERE h.name = :hashtagName AND lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         countQuery = """
         SELECT COUNT(lp.id) FROM log_posts lp
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         JOIN hashtags h ON h.id = lph.hashtag_id
         WHERE h.name = :hashtagName AND lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
     Page<LogPost> findByHashtagPage(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // Count log posts by hashtag (unfiltered - for hashtag display purposes)
@@ -536,12 +510,11 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT DISTINCT lp.* FROM log_posts lp
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
     Slice<LogPost> findWithAnyHashtagsWithCursorInitial(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // [Cursor] LogPosts with any hashtags - with cursor
@@ -549,13 +522,12 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT DISTINCT lp.* FROM log_posts lp
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (lp.created_at < :cursorTime OR (lp.created_at = :cursorTime AND lp.id < :cursorId))
         ORDER BY lp.created_at DESC, lp.id DESC
         """, nativeQuery = true)
     Slice<LogPost> findWithAnyHashtagsWithCursor(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             @Param("cursorTime") Instant cursorTime,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
@@ -565,29 +537,72 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
         SELECT DISTINCT lp.* FROM log_posts lp
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY lp.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(DISTINCT lp.id) FROM log_posts lp
         JOIN log_post_hashtag_map lph ON lph.log_post_id = lp.id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
-        AND (lp.original_language LIKE :langCodePattern
-             OR EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(lp.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern))
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
     Page<LogPost> findWithAnyHashtagsPage(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
+    // ==================== UNIFIED SEARCH (KEYSET) ====================
+
+    /**
+     * Seek page of log post hits for unified search, ordered by (relevance, created_at, id) descending.
+     * Relevance is the best similarity over the log's title, content, title translations and linked recipe title.
+     */
+    @Query(value = """
+        SELECT s.entityType, s.entityId, s.relevanceScore, s.createdAtMicros, s.sortId FROM (
+            SELECT 'LOG_POST' AS entityType,
+                lp.id AS entityId,
+                CAST(GREATEST(
+                    COALESCE(SIMILARITY(lp.title, :keyword), 0),
+                    COALESCE(SIMILARITY(lp.content, :keyword), 0),
+                    COALESCE(SIMILARITY(jsonb_values_text(lp.title_translations), :keyword), 0),
+                    COALESCE(SIMILARITY(r.title, :keyword), 0),
+                    COALESCE(SIMILARITY(jsonb_values_text(r.title_translations), :keyword), 0)
+                ) AS double precision) AS relevanceScore,
+                CAST(EXTRACT(EPOCH FROM lp.created_at) * 1000000 AS BIGINT) AS createdAtMicros,
+                lp.id AS sortId
+            FROM log_posts lp
+            LEFT JOIN recipe_logs rl ON rl.log_post_id = lp.id
+            LEFT JOIN recipes r ON r.id = rl.recipe_id
+            WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
+            AND (
+                lp.title ILIKE '%' || :keyword || '%'
+                OR lp.content ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(lp.title_translations) ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(lp.content_translations) ILIKE '%' || :keyword || '%'
+                OR r.title ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(r.title_translations) ILIKE '%' || :keyword || '%'
+            )
+        ) s
+        WHERE (s.relevanceScore, s.createdAtMicros, s.sortId) < (:lastScore, :lastCreatedAtMicros, :lastId)
+        ORDER BY s.relevanceScore DESC, s.createdAtMicros DESC, s.sortId DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<SearchHit> searchLogPostHitsAfter(@Param("keyword") String keyword,
+                                           @Param("lastScore") double lastScore,
+                                           @Param("lastCreatedAtMicros") long lastCreatedAtMicros,
+                                           @Param("lastId") long lastId,
+                                           @Param("limit") int limit);
+
     // ==================== UNIFIED SEARCH COUNT ====================
 
     /**
      * Count log posts matching search keyword (for unified search chips, multi-language).
+     * Stops after :limit matches so broad keywords don't scan the whole table.
      */
     @Query(value = """
-        SELECT COUNT(DISTINCT lp.id) FROM log_posts lp
+        SELECT COUNT(*) FROM (
+        SELECT DISTINCT lp.id FROM log_posts lp
         LEFT JOIN recipe_logs rl ON rl.log_post_id = lp.id
         LEFT JOIN recipes r ON r.id = rl.recipe_id
         WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
@@ -599,9 +614,11 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
             OR r.title ILIKE '%' || :keyword || '%'
             OR jsonb_values_text(r.title_translations) ILIKE '%' || :keyword || '%'
         )
+        LIMIT :limit
+        ) capped
         """,
         nativeQuery = true)
-    long countSearchResults(@Param("keyword") String keyword);
+    long countSearchResults(@Param("keyword") String keyword, @Param("limit") int limit);
 
     // ==================== ADMIN: UNTRANSLATED CONTENT ====================
 
@@ -729,4 +746,37 @@ public interface LogPostRepository extends JpaRepository<LogPost, Long> {
      */
     @Query("SELECT l FROM LogPost l WHERE l.publicId IN :publicIds AND l.deletedAt IS NULL")
     List<LogPost> findByPublicIdIn(@Param("publicIds") List<UUID> publicIds);
-}
\ No newline at end of file
+
+    // ==================== SUMMARY BATCH LOADING (SummaryAssembler) ====================
+
+    /**
+     * Load log posts with what a summary card needs besides hashtags (recipe log, linked recipe and
+     * its food, images). Also initializes those associations on log posts already in the persistence
+     * context. Hashtags come from findHashtagsForSummaryByIdIn: fetching both collections in one
+     * statement would multiply the rows and repeat images in the bag.
+     */
+    @Query("SELECT lp FROM LogPost lp " +
+           "LEFT JOIN FETCH lp.recipeLog rl " +
+           "LEFT JOIN FETCH rl.recipe r " +
+           "LEFT JOIN FETCH r.foodMaster " +
+           "LEFT JOIN FETCH lp.images " +
+           "WHERE lp.id IN :ids")
+    List<LogPost> findAllForSummaryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Initializes the hashtags of the given log posts, loaded by findAllForSummaryByIdIn.
+     */
+    @Query("SELECT lp FROM LogPost lp LEFT JOIN FETCH lp.hashtags WHERE lp.id IN :ids")
+    List<LogPost> findHashtagsForSummaryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // [Home feed] Ids of the latest public logs (same filter as findAllLogsPage, no count query)
+    @Query(value = """
+        SELECT lp.id FROM log_posts lp
+        WHERE lp.deleted_at IS NULL AND (lp.is_private IS NULL OR lp.is_private = false)
+        AND lp.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY lp.created_at DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<Long> findRecentLogIds(@Param("langCode") String langCode, @Param("limit") int limit);
+}
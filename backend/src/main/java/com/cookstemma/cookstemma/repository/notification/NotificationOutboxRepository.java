@@ -0,0 +1,73 @@
+package com.cookstemma.cookstemma.repository.notification;
+
+import com.cookstemma.cookstemma.domain.entity.notification.NotificationOutboxEntry;
+import com.cookstemma.cookstemma.repository.common.ClaimableQueueRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends ClaimableQueueRepository<NotificationOutboxEntry> {
+
+    @Override
+    @Query(value = """
+        SELECT * FROM notification_outbox
+        WHERE status = 'PENDING' AND available_at <= NOW()
+        ORDER BY available_at, id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<NotificationOutboxEntry> lockDue(@Param("limit") int limit);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE notification_outbox SET status = 'PROCESSING', locked_at = NOW(), locked_by = :worker, attempts = attempts + 1
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("worker") String worker);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE notification_outbox SET status = 'PENDING', locked_at = NULL, locked_by = NULL, available_at = :availableAt, last_error = :error
+        WHERE id IN (:ids) AND locked_by = :worker
+        """, nativeQuery = true)
+    int reschedule(@Param("ids") Collection<Long> ids, @Param("worker") String worker,
+                   @Param("availableAt") Instant availableAt, @Param("error") String error);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE notification_outbox SET status = 'FAILED', locked_at = NULL, locked_by = NULL, last_error = :error
+        WHERE id IN (:ids) AND locked_by = :worker
+        """, nativeQuery = true)
+    int markFailed(@Param("ids") Collection<Long> ids, @Param("worker") String worker, @Param("error") String error);
+
+    @Override
+    @Modifying
+    @Query(value = "DELETE FROM notification_outbox WHERE id IN (:ids) AND locked_by = :worker", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids, @Param("worker") String worker);
+
+    @Override
+    @Modifying
+    @Query(value = """
+        UPDATE notification_outbox SET status = 'PENDING', locked_at = NULL, locked_by = NULL
+        WHERE status = 'PROCESSING' AND locked_at < :lockedBefore
+        """, nativeQuery = true)
+    int releaseStaleClaims(@Param("lockedBefore") Instant lockedBefore);
+
+    @Override
+    @Query(value = "SELECT status, COUNT(*) FROM notification_outbox GROUP BY status", nativeQuery = true)
+    List<Object[]> countByStatus();
+
+    @Override
+    @Query(value = """
+        SELECT CAST(EXTRACT(EPOCH FROM NOW() - MIN(created_at)) AS double precision)
+        FROM notification_outbox WHERE status = 'PENDING'
+        """, nativeQuery = true)
+    Double findOldestPendingAgeSeconds();
+}
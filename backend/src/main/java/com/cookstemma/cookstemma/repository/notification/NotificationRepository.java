@@ -1,15 +1,21 @@
 package com.cookstemma.cookstemma.repository.notification;
 
 import com.cookstemma.cookstemma.domain.entity.notification.Notification;
+import com.cookstemma.cookstemma.domain.enums.NotificationType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,8 +27,34 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.id = :userId AND n.isRead = false")
     long countUnreadByRecipientId(Long userId);
 
+    /**
+     * [recipientId, unread count] for each of the users with unread notifications.
+     */
+    @Query("SELECT n.recipient.id, COUNT(n) FROM Notification n " +
+           "WHERE n.recipient.id IN :userIds AND n.isRead = false GROUP BY n.recipient.id")
+    List<Object[]> countUnreadByRecipientIdIn(@Param("userIds") Collection<Long> userIds);
+
     Optional<Notification> findByPublicId(UUID publicId);
 
+    /**
+     * The recipient's latest unread notification of this type and group touched after since,
+     * locked so concurrent events fold into it one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.recipient.id = :recipientId AND n.type = :type " +
+           "AND n.groupKey = :groupKey AND n.isRead = false AND n.createdAt > :since ORDER BY n.createdAt DESC")
+    List<Notification> findCoalescable(@Param("recipientId") Long recipientId,
+                                       @Param("type") NotificationType type,
+                                       @Param("groupKey") String groupKey,
+                                       @Param("since") Instant since,
+                                       Pageable pageable);
+
+    /**
+     * Notifications with the recipe and log post their push payload refers to.
+     */
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.recipe LEFT JOIN FETCH n.logPost WHERE n.id IN :ids")
+    List<Notification> findAllForPushByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true, n.readAt = CURRENT_TIMESTAMP WHERE n.recipient.id = :userId AND n.isRead = false")
     void markAllAsReadByRecipientId(Long userId);
@@ -4,8 +4,10 @@ import com.cookstemma.cookstemma.domain.entity.notification.UserFcmToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +16,16 @@ public interface UserFcmTokenRepository extends JpaRepository<UserFcmToken, Long
 
     List<UserFcmToken> findByUserIdAndIsActiveTrue(Long userId);
 
+    @Query("SELECT t FROM UserFcmToken t WHERE t.user.id IN :userIds AND t.isActive = true")
+    List<UserFcmToken> findActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
     Optional<UserFcmToken> findByUserIdAndFcmToken(Long userId, String fcmToken);
 
     Optional<UserFcmToken> findByFcmToken(String fcmToken);
 
     @Modifying
-    @Query("UPDATE UserFcmToken t SET t.isActive = false WHERE t.fcmToken = :token")
-    void deactivateToken(String token);
+    @Query("UPDATE UserFcmToken t SET t.isActive = false WHERE t.fcmToken IN :tokens")
+    int deactivateTokens(@Param("tokens") Collection<String> tokens);
 
     @Modifying
     @Query("DELETE FROM UserFcmToken t WHERE t.fcmToken = :token")
@@ -2,8 +2,12 @@ package com.cookstemma.cookstemma.repository.recipe;
 
 import com.cookstemma.cookstemma.domain.entity.recipe.RecipeIngredient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
 
@@ -11,4 +15,7 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
 
     // For recipe update: delete all ingredients before re-adding
     void deleteAllByRecipeId(Long recipeId);
-}
\ No newline at end of file
+
+    @Query("SELECT i.recipe.publicId FROM RecipeIngredient i WHERE i.id = :id")
+    Optional<UUID> findRecipePublicIdById(@Param("id") Long id);
+}
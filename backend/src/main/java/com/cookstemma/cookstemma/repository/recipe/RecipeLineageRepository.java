@@ -0,0 +1,105 @@
+package com.cookstemma.cookstemma.repository.recipe;
+
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLineage;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLineageId;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Access to recipe_lineage, the closure table of the variant tree.
+ */
+public interface RecipeLineageRepository extends JpaRepository<RecipeLineage, RecipeLineageId> {
+
+    /**
+     * Rows of a new recipe: itself at depth 0, plus every ancestor of its parent one level further.
+     * Pass parentId -1 for an original recipe.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO recipe_lineage (ancestor_id, descendant_id, depth)
+        SELECT :recipeId, :recipeId, 0
+        UNION ALL
+        SELECT l.ancestor_id, :recipeId, l.depth + 1
+        FROM recipe_lineage l
+        WHERE l.descendant_id = :parentId
+        ON CONFLICT DO NOTHING
+        """,
+        nativeQuery = true)
+    int insertForRecipe(@Param("recipeId") Long recipeId, @Param("parentId") long parentId);
+
+    /**
+     * Take deleted recipes out of every subtree. Variants below them keep their rows.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM recipe_lineage WHERE descendant_id IN (:recipeIds)", nativeQuery = true)
+    int deleteByDescendantIds(@Param("recipeIds") Collection<Long> recipeIds);
+
+    /**
+     * One page of the subtree below ancestorId, breadth-first by (depth, id), resuming after
+     * (afterDepth, afterId). Walks idx_recipe_lineage_subtree; child counts are counts on the same
+     * index, log counts come from recipe_stats.
+     * A private recipe is only visible to its creator (viewerId, -1 when anonymous); for anyone
+     * else it hides with everything below it, in the page and in the child counts. A node is hidden
+     * when one of its ancestors below ancestorId, or the node itself, is such a recipe (looked up
+     * through idx_recipe_lineage_descendant). There is no descendant count: applying that rule to
+     * every descendant of every node would cost tree size times depth per row.
+     */
+    @Query(value = """
+        SELECT r.id AS id,
+               l.depth AS depth,
+               r.public_id AS publicId,
+               p.public_id AS parentPublicId,
+               r.title AS title,
+               CAST(r.title_translations AS text) AS titleTranslations,
+               r.cooking_style AS cookingStyle,
+               r.is_private AS isPrivate,
+               u.public_id AS creatorPublicId,
+               u.username AS creatorName,
+               COALESCE(
+                   (SELECT img.stored_filename FROM recipe_image_map rim
+                    JOIN images img ON img.id = rim.image_id
+                    WHERE rim.recipe_id = r.id AND img.type = 'COVER'
+                    ORDER BY COALESCE(rim.display_order, 0), img.id
+                    LIMIT 1),
+                   (SELECT img.stored_filename FROM images img
+                    WHERE img.recipe_id = r.id AND img.type = 'COVER'
+                    AND NOT EXISTS (SELECT 1 FROM recipe_image_map rim WHERE rim.recipe_id = r.id)
+                    ORDER BY COALESCE(img.display_order, 0), img.id
+                    LIMIT 1)
+               ) AS coverFilename,
+               (SELECT COUNT(*) FROM recipe_lineage c
+                JOIN recipes cr ON cr.id = c.descendant_id
+                WHERE c.ancestor_id = r.id AND c.depth = 1
+                AND (cr.is_private IS NULL OR cr.is_private = false OR cr.creator_id = :viewerId)) AS childCount,
+               COALESCE(s.log_count, 0) AS logCount
+        FROM recipe_lineage l
+        JOIN recipes r ON r.id = l.descendant_id
+        LEFT JOIN recipes p ON p.id = r.parent_recipe_id
+        LEFT JOIN users u ON u.id = r.creator_id
+        LEFT JOIN recipe_stats s ON s.recipe_id = r.id
+        WHERE l.ancestor_id = :ancestorId
+        AND l.depth <= :maxDepth
+        AND (l.depth > :afterDepth OR (l.depth = :afterDepth AND l.descendant_id > :afterId))
+        AND r.deleted_at IS NULL
+        AND NOT EXISTS (
+            SELECT 1 FROM recipe_lineage h
+            JOIN recipes hr ON hr.id = h.ancestor_id
+            WHERE h.descendant_id = l.descendant_id AND h.depth < l.depth
+            AND hr.is_private = true AND hr.creator_id <> :viewerId)
+        ORDER BY l.depth, l.descendant_id
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<RecipeTreeRow> findSubtree(@Param("ancestorId") Long ancestorId,
+                                    @Param("maxDepth") int maxDepth,
+                                    @Param("afterDepth") int afterDepth,
+                                    @Param("afterId") long afterId,
+                                    @Param("viewerId") long viewerId,
+                                    @Param("limit") int limit);
+}
@@ -1,6 +1,7 @@
 package com.cookstemma.cookstemma.repository.recipe;
 
 import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.dto.log_post.LogPostPreview;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,12 +11,53 @@ import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface RecipeLogRepository extends JpaRepository<RecipeLog, Long> {
     // 특정 레시피에 달린 모든 후기 로그 조회
     @Query("SELECT rl FROM RecipeLog rl JOIN FETCH rl.logPost WHERE rl.recipe.id = :recipeId")
     List<RecipeLog> findAllByRecipeId(@Param("recipeId") Long recipeId);
 
+    /**
+     * Newest live logs of a recipe for the recipe detail page, as complete card rows: one statement
+     * reading only the first limit entries of idx_recipe_logs_recipe_log_post, however many logs
+     * the recipe has.
+     */
+    @Query(value = """
+        SELECT lp.public_id AS publicId,
+               lp.title AS title,
+               CAST(lp.title_translations AS text) AS titleTranslations,
+               lp.content AS content,
+               CAST(lp.content_translations AS text) AS contentTranslations,
+               rl.rating AS rating,
+               lp.is_private AS isPrivate,
+               lp.comment_count AS commentCount,
+               lp.locale AS locale,
+               u.public_id AS creatorPublicId,
+               u.username AS creatorName,
+               (SELECT img.stored_filename FROM images img
+                WHERE img.log_post_id = lp.id
+                ORDER BY COALESCE(img.display_order, 0), img.id
+                LIMIT 1) AS thumbnailFilename,
+               CAST(to_jsonb(ARRAY(
+                   SELECT h.name FROM log_post_hashtag_map lhm
+                   JOIN hashtags h ON h.id = lhm.hashtag_id
+                   WHERE lhm.log_post_id = lp.id
+                   ORDER BY h.id)) AS text) AS hashtags
+        FROM recipe_logs rl
+        JOIN log_posts lp ON lp.id = rl.log_post_id
+        LEFT JOIN users u ON u.id = lp.creator_id
+        WHERE rl.recipe_id = :recipeId AND lp.deleted_at IS NULL
+        ORDER BY rl.log_post_id DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<LogPostPreview> findLogPreviews(@Param("recipeId") Long recipeId, @Param("limit") int limit);
+
+    @Query("SELECT rl.recipe.publicId FROM RecipeLog rl WHERE rl.logPostId = :logPostId")
+    Optional<UUID> findRecipePublicIdByLogPostId(@Param("logPostId") Long logPostId);
+
     // 특정 레시피에 달린 로그 조회 (페이지네이션)
     @Query("SELECT rl FROM RecipeLog rl JOIN FETCH rl.logPost lp WHERE rl.recipe.id = :recipeId AND lp.deletedAt IS NULL ORDER BY lp.createdAt DESC")
     Slice<RecipeLog> findByRecipeIdOrderByCreatedAtDesc(@Param("recipeId") Long recipeId, Pageable pageable);
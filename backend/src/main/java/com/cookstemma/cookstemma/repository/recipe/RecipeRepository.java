@@ -1,6 +1,9 @@
 package com.cookstemma.cookstemma.repository.recipe;
 
 import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryStats;
+import com.cookstemma.cookstemma.dto.recipe.RecipeVariantPreview;
+import com.cookstemma.cookstemma.dto.search.SearchHit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -10,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +33,17 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
     // [계보 조회용] 한 뿌리(Root) 아래의 모든 가족 레시피 조회
     List<Recipe> findByRootRecipeIdAndDeletedAtIsNull(Long rootId);
 
+    @Query("SELECT r.publicId FROM Recipe r WHERE r.id = :id")
+    Optional<UUID> findPublicIdById(@Param("id") Long id);
+
+    // [상세 캐시 무효화용] 같은 뿌리의 가족 레시피 (루트 포함, 삭제된 것 포함)
+    @Query(value = """
+        SELECT v.public_id FROM recipes v
+        WHERE v.id = (SELECT COALESCE(r.root_recipe_id, r.id) FROM recipes r WHERE r.public_id = :publicId)
+           OR v.root_recipe_id = (SELECT COALESCE(r.root_recipe_id, r.id) FROM recipes r WHERE r.public_id = :publicId)
+        """, nativeQuery = true)
+    List<UUID> findFamilyPublicIds(@Param("publicId") UUID publicId);
+
     long countByCreatorIdAndDeletedAtIsNull(Long creatorId);
 
     // Count original recipes (no parent) created by user
@@ -154,126 +169,126 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findPublicRecipesWithCursorInitial(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    Slice<Recipe> findPublicRecipesWithCursorInitial(@Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] All public recipes - with cursor
     // Filters by translation availability: titleTranslations must contain user's language (supports both "ko" and "ko-KR" formats)
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findPublicRecipesWithCursor(@Param("langCodePattern") String langCodePattern, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findPublicRecipesWithCursor(@Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Public recipes by cooking style - initial page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findPublicRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    Slice<Recipe> findPublicRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] Public recipes by cooking style - with cursor
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findPublicRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findPublicRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Only original recipes - initial page
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findOriginalRecipesWithCursorInitial(@Param("langCodePattern") String langCode, Pageable pageable);
+    Slice<Recipe> findOriginalRecipesWithCursorInitial(@Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] Only original recipes - with cursor
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findOriginalRecipesWithCursor(@Param("langCodePattern") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findOriginalRecipesWithCursor(@Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Only original recipes by cooking style - initial page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findOriginalRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    Slice<Recipe> findOriginalRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] Only original recipes by cooking style - with cursor
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findOriginalRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findOriginalRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Only variant recipes - initial page
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findVariantRecipesWithCursorInitial(@Param("langCodePattern") String langCode, Pageable pageable);
+    Slice<Recipe> findVariantRecipesWithCursorInitial(@Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] Only variant recipes - with cursor
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findVariantRecipesWithCursor(@Param("langCodePattern") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findVariantRecipesWithCursor(@Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] Only variant recipes by cooking style - initial page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findVariantRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    Slice<Recipe> findVariantRecipesByLocaleWithCursorInitial(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Cursor] Only variant recipes by cooking style - with cursor
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
-    Slice<Recipe> findVariantRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
+    Slice<Recipe> findVariantRecipesByLocaleWithCursor(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, @Param("cursorTime") Instant cursorTime, @Param("cursorId") Long cursorId, Pageable pageable);
 
     // [Cursor] My recipes - initial page
     @Query("SELECT r FROM Recipe r WHERE r.creatorId = :creatorId AND r.deletedAt IS NULL ORDER BY r.createdAt DESC, r.id DESC")
@@ -312,96 +327,96 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findPublicRecipesPage(@Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findPublicRecipesPage(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Public recipes by cooking style with Page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findPublicRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findPublicRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Only original recipes with Page
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findOriginalRecipesPage(@Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findOriginalRecipesPage(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Only original recipes by cooking style with Page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.root_recipe_id IS NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findOriginalRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findOriginalRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Only variant recipes with Page
     // Filters by translation availability: titleTranslations must contain user's language
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findVariantRecipesPage(@Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findVariantRecipesPage(@Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] Only variant recipes by cooking style with Page
     // Filters by cooking style AND translation availability
     @Query(value = """
         SELECT r.* FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(*) FROM recipes r
         WHERE r.root_recipe_id IS NOT NULL AND r.cooking_style = :cookingStyle AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findVariantRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCodePattern") String langCode, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findVariantRecipesByLocalePage(@Param("cookingStyle") String cookingStyle, @Param("langCode") String langCode, Pageable pageable);
 
     // [Offset] My recipes with Page
     @Query("SELECT r FROM Recipe r WHERE r.creatorId = :creatorId AND r.deletedAt IS NULL")
@@ -469,97 +484,71 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
     // Sorted queries for View More navigation
     // ================================================================
 
+    // Each sort walks one recipe_stats index (see V23__recipe_stats.sql) and stops at the page limit.
+    // recipe_id breaks ties: ids grow with created_at.
+
     /**
      * Find recipes ordered by variant count (most forked/evolved).
      * Only returns root recipes (originals) that have the most variants.
      * Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
      */
     @Query(value = """
-        SELECT r.* FROM recipes r
-        LEFT JOIN (
-            SELECT root_recipe_id, COUNT(*) as variant_count
-            FROM recipes
-            WHERE root_recipe_id IS NOT NULL AND deleted_at IS NULL
-            GROUP BY root_recipe_id
-        ) vc ON r.id = vc.root_recipe_id
+        SELECT r.* FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
-        ORDER BY COALESCE(vc.variant_count, 0) DESC, r.created_at DESC
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY rs.variant_count DESC, rs.recipe_id DESC
         """,
         countQuery = """
-        SELECT COUNT(*) FROM recipes r
+        SELECT COUNT(*) FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findRecipesOrderByVariantCount(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findRecipesOrderByVariantCount(@Param("langCode") String langCode, Pageable pageable);
 
     /**
      * Find recipes ordered by recent activity (trending).
-     * Activity = variants + logs created in last 7 days.
+     * Activity = new variants + logs, exponentially decayed (recipe_stats.trending_score).
      * Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
      */
     @Query(value = """
-        SELECT r.* FROM recipes r
-        LEFT JOIN (
-            SELECT root_recipe_id, COUNT(*) as recent_variants
-            FROM recipes
-            WHERE root_recipe_id IS NOT NULL
-            AND deleted_at IS NULL
-            AND created_at > NOW() - INTERVAL '7 days'
-            GROUP BY root_recipe_id
-        ) rv ON r.id = rv.root_recipe_id
-        LEFT JOIN (
-            SELECT rl.recipe_id, COUNT(*) as recent_logs
-            FROM recipe_logs rl
-            JOIN log_posts lp ON rl.log_post_id = lp.id
-            WHERE lp.created_at > NOW() - INTERVAL '7 days'
-            GROUP BY rl.recipe_id
-        ) rlc ON r.id = rlc.recipe_id
+        SELECT r.* FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
-        ORDER BY (COALESCE(rv.recent_variants, 0) + COALESCE(rlc.recent_logs, 0)) DESC, r.created_at DESC
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY rs.trending_score DESC, rs.recipe_id DESC
         """,
         countQuery = """
-        SELECT COUNT(*) FROM recipes r
+        SELECT COUNT(*) FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findRecipesOrderByTrending(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findRecipesOrderByTrending(@Param("langCode") String langCode, Pageable pageable);
 
     /**
      * Find recipes ordered by popularity score.
-     * Score = viewCount * 1 + savedCount * 3 + variantCount * 5 + logCount * 2
+     * Score = viewCount * 1 + savedCount * 3 + variantCount * 5 + logCount * 2 (recipe_stats.popularity_score)
      * Filters by translation availability using pattern matching (supports "ko" and "ko-KR")
      */
     @Query(value = """
-        SELECT r.* FROM recipes r
-        LEFT JOIN (
-            SELECT root_recipe_id, COUNT(*) as variant_count
-            FROM recipes
-            WHERE root_recipe_id IS NOT NULL AND deleted_at IS NULL
-            GROUP BY root_recipe_id
-        ) vc ON r.id = vc.root_recipe_id
-        LEFT JOIN (
-            SELECT rl.recipe_id, COUNT(*) as log_count
-            FROM recipe_logs rl
-            JOIN log_posts lp ON rl.log_post_id = lp.id
-            WHERE lp.deleted_at IS NULL
-            GROUP BY rl.recipe_id
-        ) lc ON r.id = lc.recipe_id
+        SELECT r.* FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
-        ORDER BY (COALESCE(r.view_count, 0) * 1 + COALESCE(r.saved_count, 0) * 3 + COALESCE(vc.variant_count, 0) * 5 + COALESCE(lc.log_count, 0) * 2) DESC,
-                 r.created_at DESC
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY rs.popularity_score DESC, rs.recipe_id DESC
         """,
         countQuery = """
-        SELECT COUNT(*) FROM recipes r
+        SELECT COUNT(*) FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
-    org.springframework.data.domain.Page<Recipe> findRecipesOrderByPopular(@Param("langCodePattern") String langCodePattern, Pageable pageable);
+    org.springframework.data.domain.Page<Recipe> findRecipesOrderByPopular(@Param("langCode") String langCode, Pageable pageable);
 
     // ==================== HASHTAG-BASED QUERIES ====================
 
@@ -570,12 +559,12 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         JOIN hashtags h ON h.id = rh.hashtag_id
         WHERE h.name = :hashtagName AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
     Slice<Recipe> findByHashtagWithCursorInitial(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // [Cursor] Recipes by hashtag - with cursor
@@ -585,13 +574,13 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         JOIN hashtags h ON h.id = rh.hashtag_id
         WHERE h.name = :hashtagName AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
     Slice<Recipe> findByHashtagWithCursor(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             @Param("cursorTime") Instant cursorTime,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
@@ -603,19 +592,19 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         JOIN hashtags h ON h.id = rh.hashtag_id
         WHERE h.name = :hashtagName AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         countQuery = """
         SELECT COUNT(r.id) FROM recipes r
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         JOIN hashtags h ON h.id = rh.hashtag_id
         WHERE h.name = :hashtagName AND r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
     org.springframework.data.domain.Page<Recipe> findByHashtagPage(
             @Param("hashtagName") String hashtagName,
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // Count recipes by hashtag (unfiltered - for hashtag display purposes)
@@ -632,11 +621,11 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         SELECT DISTINCT r.* FROM recipes r
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
     Slice<Recipe> findWithAnyHashtagsWithCursorInitial(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
     // [Cursor] Recipes with any hashtags - with cursor
@@ -644,12 +633,12 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         SELECT DISTINCT r.* FROM recipes r
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         AND (r.created_at < :cursorTime OR (r.created_at = :cursorTime AND r.id < :cursorId))
         ORDER BY r.created_at DESC, r.id DESC
         """, nativeQuery = true)
     Slice<Recipe> findWithAnyHashtagsWithCursor(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             @Param("cursorTime") Instant cursorTime,
             @Param("cursorId") Long cursorId,
             Pageable pageable);
@@ -659,28 +648,74 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
         SELECT DISTINCT r.* FROM recipes r
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         ORDER BY r.created_at DESC
         """,
         countQuery = """
         SELECT COUNT(DISTINCT r.id) FROM recipes r
         JOIN recipe_hashtag_map rh ON rh.recipe_id = r.id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
-        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE :langCodePattern)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
         """,
         nativeQuery = true)
     org.springframework.data.domain.Page<Recipe> findWithAnyHashtagsPage(
-            @Param("langCodePattern") String langCodePattern,
+            @Param("langCode") String langCode,
             Pageable pageable);
 
+    // ==================== UNIFIED SEARCH (KEYSET) ====================
+
+    /**
+     * Seek page of recipe hits for unified search, ordered by (relevance, created_at, id) descending.
+     * Resumes strictly after the given position; pass SearchCursor.Position.START values for the first page.
+     */
+    @Query(value = """
+        SELECT s.entityType, s.entityId, s.relevanceScore, s.createdAtMicros, s.sortId FROM (
+            SELECT 'RECIPE' AS entityType,
+                r.id AS entityId,
+                CAST(GREATEST(
+                    COALESCE(SIMILARITY(r.title, :keyword), 0),
+                    COALESCE(SIMILARITY(r.description, :keyword), 0),
+                    COALESCE(SIMILARITY(jsonb_values_text(r.title_translations), :keyword), 0),
+                    COALESCE(SIMILARITY(jsonb_values_text(r.description_translations), :keyword), 0),
+                    COALESCE(SIMILARITY(jsonb_values_text(fm.name), :keyword), 0)
+                ) AS double precision) AS relevanceScore,
+                CAST(EXTRACT(EPOCH FROM r.created_at) * 1000000 AS BIGINT) AS createdAtMicros,
+                r.id AS sortId
+            FROM recipes r
+            LEFT JOIN foods_master fm ON fm.id = r.food_master_id
+            WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
+            AND (
+                r.title % :keyword OR r.title ILIKE '%' || :keyword || '%'
+                OR r.description % :keyword OR r.description ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(r.title_translations) % :keyword
+                OR jsonb_values_text(r.title_translations) ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(r.description_translations) % :keyword
+                OR jsonb_values_text(r.description_translations) ILIKE '%' || :keyword || '%'
+                OR jsonb_values_text(fm.name) % :keyword
+                OR jsonb_values_text(fm.name) ILIKE '%' || :keyword || '%'
+            )
+        ) s
+        WHERE (s.relevanceScore, s.createdAtMicros, s.sortId) < (:lastScore, :lastCreatedAtMicros, :lastId)
+        ORDER BY s.relevanceScore DESC, s.createdAtMicros DESC, s.sortId DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<SearchHit> searchRecipeHitsAfter(@Param("keyword") String keyword,
+                                          @Param("lastScore") double lastScore,
+                                          @Param("lastCreatedAtMicros") long lastCreatedAtMicros,
+                                          @Param("lastId") long lastId,
+                                          @Param("limit") int limit);
+
     // ==================== UNIFIED SEARCH COUNT ====================
 
     /**
      * Count recipes matching search keyword (for unified search chips, multi-language).
      * Optimized: searches title, description, and food name only (no ingredient/step search for performance).
+     * Stops after :limit matches so broad keywords don't scan the whole table.
      */
     @Query(value = """
-        SELECT COUNT(r.id) FROM recipes r
+        SELECT COUNT(*) FROM (
+        SELECT 1 FROM recipes r
         LEFT JOIN foods_master fm ON fm.id = r.food_master_id
         WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
         AND (
@@ -693,9 +728,11 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
             OR jsonb_values_text(fm.name) % :keyword
             OR jsonb_values_text(fm.name) ILIKE '%' || :keyword || '%'
         )
+        LIMIT :limit
+        ) capped
         """,
         nativeQuery = true)
-    long countSearchResults(@Param("keyword") String keyword);
+    long countSearchResults(@Param("keyword") String keyword, @Param("limit") int limit);
 
     // ==================== BATCH STATS FOR SEARCH PERFORMANCE ====================
 
@@ -834,4 +871,126 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long>, JpaSpecif
      */
     @Query("SELECT r FROM Recipe r WHERE r.publicId IN :publicIds AND r.deletedAt IS NULL")
     List<Recipe> findByPublicIdIn(@Param("publicIds") List<UUID> publicIds);
-}
\ No newline at end of file
+
+    // ==================== SUMMARY BATCH LOADING (SummaryAssembler) ====================
+
+    /**
+     * Load recipes with the to-one associations and hashtags a summary card needs, in one statement.
+     * Also initializes those associations on recipes already in the persistence context.
+     */
+    @Query("SELECT r FROM Recipe r " +
+           "LEFT JOIN FETCH r.foodMaster " +
+           "LEFT JOIN FETCH r.rootRecipe " +
+           "LEFT JOIN FETCH r.parentRecipe " +
+           "LEFT JOIN FETCH r.hashtags " +
+           "WHERE r.id IN :ids")
+    List<Recipe> findAllForSummaryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Variant count, log count and first cover image for a batch of recipes.
+     * The cover falls back to legacy images rows the same way Recipe#getCoverImages does.
+     */
+    @Query(value = """
+        SELECT r.id AS recipeId,
+               (SELECT COUNT(*) FROM recipes v
+                WHERE v.root_recipe_id = r.id AND v.deleted_at IS NULL) AS variantCount,
+               (SELECT COUNT(*) FROM recipe_logs rl WHERE rl.recipe_id = r.id) AS logCount,
+               COALESCE(
+                   (SELECT img.stored_filename FROM recipe_image_map rim
+                    JOIN images img ON img.id = rim.image_id
+                    WHERE rim.recipe_id = r.id AND img.type = 'COVER'
+                    ORDER BY COALESCE(rim.display_order, 0), img.id
+                    LIMIT 1),
+                   (SELECT img.stored_filename FROM images img
+                    WHERE img.recipe_id = r.id AND img.type = 'COVER'
+                    AND NOT EXISTS (SELECT 1 FROM recipe_image_map rim WHERE rim.recipe_id = r.id)
+                    ORDER BY COALESCE(img.display_order, 0), img.id
+                    LIMIT 1)
+               ) AS coverFilename
+        FROM recipes r
+        WHERE r.id IN (:ids)
+        """,
+        nativeQuery = true)
+    List<RecipeSummaryStats> findSummaryStats(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Newest variants of a root for the recipe detail page, as complete card rows: one statement
+     * reading only the first limit rows of idx_recipes_variations, however large the tree is.
+     * Counts and cover are computed the same way as findSummaryStats.
+     */
+    @Query(value = """
+        SELECT r.public_id AS publicId,
+               r.title AS title,
+               CAST(r.title_translations AS text) AS titleTranslations,
+               r.description AS description,
+               CAST(r.description_translations AS text) AS descriptionTranslations,
+               r.cooking_style AS cookingStyle,
+               r.servings AS servings,
+               CAST(r.cooking_time_range AS text) AS cookingTimeRange,
+               r.is_private AS isPrivate,
+               f.public_id AS foodMasterPublicId,
+               CAST(f.name AS text) AS foodName,
+               u.public_id AS creatorPublicId,
+               u.username AS creatorName,
+               p.public_id AS parentPublicId,
+               rr.public_id AS rootPublicId,
+               rr.title AS rootTitle,
+               CAST(rr.title_translations AS text) AS rootTitleTranslations,
+               (SELECT COUNT(*) FROM recipes v
+                WHERE v.root_recipe_id = r.id AND v.deleted_at IS NULL) AS variantCount,
+               (SELECT COUNT(*) FROM recipe_logs rl WHERE rl.recipe_id = r.id) AS logCount,
+               COALESCE(
+                   (SELECT img.stored_filename FROM recipe_image_map rim
+                    JOIN images img ON img.id = rim.image_id
+                    WHERE rim.recipe_id = r.id AND img.type = 'COVER'
+                    ORDER BY COALESCE(rim.display_order, 0), img.id
+                    LIMIT 1),
+                   (SELECT img.stored_filename FROM images img
+                    WHERE img.recipe_id = r.id AND img.type = 'COVER'
+                    AND NOT EXISTS (SELECT 1 FROM recipe_image_map rim WHERE rim.recipe_id = r.id)
+                    ORDER BY COALESCE(img.display_order, 0), img.id
+                    LIMIT 1)
+               ) AS coverFilename,
+               CAST(to_jsonb(ARRAY(
+                   SELECT h.name FROM recipe_hashtag_map rhm
+                   JOIN hashtags h ON h.id = rhm.hashtag_id
+                   WHERE rhm.recipe_id = r.id
+                   ORDER BY h.id
+                   LIMIT 3)) AS text) AS hashtags
+        FROM recipes r
+        JOIN foods_master f ON f.id = r.food_master_id
+        LEFT JOIN users u ON u.id = r.creator_id
+        LEFT JOIN recipes p ON p.id = r.parent_recipe_id
+        LEFT JOIN recipes rr ON rr.id = r.root_recipe_id
+        WHERE r.root_recipe_id = :rootId AND r.deleted_at IS NULL AND r.id <> :excludeId
+        ORDER BY r.created_at DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<RecipeVariantPreview> findVariantPreviews(@Param("rootId") Long rootId,
+                                                   @Param("excludeId") Long excludeId,
+                                                   @Param("limit") int limit);
+
+    // [Home feed] Ids of the latest public recipes (same filter as findPublicRecipesPage, no count query)
+    @Query(value = """
+        SELECT r.id FROM recipes r
+        WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY r.created_at DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<Long> findPublicRecipeIds(@Param("langCode") String langCode, @Param("limit") int limit);
+
+    // [Home feed] Ids of trending root recipes (same ordering as findRecipesOrderByTrending, no count query)
+    @Query(value = """
+        SELECT r.id FROM recipe_stats rs
+        JOIN recipes r ON r.id = rs.recipe_id
+        WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false) AND r.parent_recipe_id IS NULL
+        AND r.available_languages @> ARRAY[CAST(:langCode AS text)]
+        ORDER BY rs.trending_score DESC, rs.recipe_id DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<Long> findTrendingRecipeIds(@Param("langCode") String langCode, @Param("limit") int limit);
+}
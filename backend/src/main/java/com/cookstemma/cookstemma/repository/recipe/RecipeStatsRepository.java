@@ -0,0 +1,111 @@
+package com.cookstemma.cookstemma.repository.recipe;
+
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Write access to recipe_stats. Reads happen through the sorted queries in RecipeRepository.
+ */
+public interface RecipeStatsRepository extends JpaRepository<RecipeStats, Long> {
+
+    /**
+     * Add deltas to a recipe's counters, creating its row if needed. Counts never go below zero.
+     * The trending score is first decayed up to now (given half-life), so activity on a recipe
+     * idle since its last decay isn't decayed over the idle gap at the next refresh.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO recipe_stats (recipe_id, variant_count, log_count, saved_count, view_count,
+                                  trending_score, trending_decayed_at, updated_at)
+        VALUES (:recipeId, GREATEST(:variantDelta, 0), GREATEST(:logDelta, 0), GREATEST(:savedDelta, 0), 0,
+                GREATEST(:trendingDelta, 0), NOW(), NOW())
+        ON CONFLICT (recipe_id) DO UPDATE SET
+            variant_count = GREATEST(recipe_stats.variant_count + :variantDelta, 0),
+            log_count = GREATEST(recipe_stats.log_count + :logDelta, 0),
+            saved_count = GREATEST(recipe_stats.saved_count + :savedDelta, 0),
+            trending_score = GREATEST(recipe_stats.trending_score * POWER(0.5,
+                EXTRACT(EPOCH FROM (NOW() - recipe_stats.trending_decayed_at)) / :halfLifeSeconds) + :trendingDelta, 0),
+            trending_decayed_at = NOW(),
+            updated_at = NOW()
+        """,
+        nativeQuery = true)
+    int applyDeltas(@Param("recipeId") Long recipeId,
+                    @Param("variantDelta") int variantDelta,
+                    @Param("logDelta") int logDelta,
+                    @Param("savedDelta") int savedDelta,
+                    @Param("trendingDelta") double trendingDelta,
+                    @Param("halfLifeSeconds") double halfLifeSeconds);
+
+    /**
+     * Decay trending scores by elapsed time since each row's last decay (exponential, given half-life).
+     * Scores that fall below 0.01 are zeroed so the update skips them from then on.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE recipe_stats SET
+            trending_score = CASE
+                WHEN trending_score * POWER(0.5, EXTRACT(EPOCH FROM (NOW() - trending_decayed_at)) / :halfLifeSeconds) < 0.01
+                THEN 0
+                ELSE trending_score * POWER(0.5, EXTRACT(EPOCH FROM (NOW() - trending_decayed_at)) / :halfLifeSeconds)
+            END,
+            trending_decayed_at = NOW()
+        WHERE trending_score > 0
+        """,
+        nativeQuery = true)
+    int decayTrendingScores(@Param("halfLifeSeconds") double halfLifeSeconds);
+
+    /**
+     * Copy view/saved counts from recipes (views are written in batches by ViewCountBuffer).
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE recipe_stats rs SET
+            view_count = r.view_count,
+            saved_count = r.saved_count,
+            updated_at = NOW()
+        FROM recipes r
+        WHERE r.id = rs.recipe_id
+        AND (rs.view_count <> r.view_count OR rs.saved_count <> r.saved_count)
+        """,
+        nativeQuery = true)
+    int syncEngagementCounts();
+
+    /**
+     * Create rows for recipes that have none (e.g. written outside the application).
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO recipe_stats (recipe_id, variant_count, log_count, saved_count, view_count,
+                                  trending_score, trending_decayed_at, updated_at)
+        SELECT r.id, 0, 0, r.saved_count, r.view_count, 0, NOW(), NOW()
+        FROM recipes r
+        WHERE NOT EXISTS (SELECT 1 FROM recipe_stats rs WHERE rs.recipe_id = r.id)
+        """,
+        nativeQuery = true)
+    int insertMissing();
+
+    /**
+     * Recount variants and logs from the source tables, fixing any drift of the incremental counters.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE recipe_stats rs SET
+            variant_count = c.variant_count,
+            log_count = c.log_count,
+            updated_at = NOW()
+        FROM (
+            SELECT r.id,
+                   (SELECT COUNT(*) FROM recipes v WHERE v.root_recipe_id = r.id AND v.deleted_at IS NULL) AS variant_count,
+                   (SELECT COUNT(*) FROM recipe_logs rl JOIN log_posts lp ON lp.id = rl.log_post_id
+                    WHERE rl.recipe_id = r.id AND lp.deleted_at IS NULL) AS log_count
+            FROM recipes r
+        ) c
+        WHERE c.id = rs.recipe_id
+        AND (rs.variant_count <> c.variant_count OR rs.log_count <> c.log_count)
+        """,
+        nativeQuery = true)
+    int recountVariantsAndLogs();
+}
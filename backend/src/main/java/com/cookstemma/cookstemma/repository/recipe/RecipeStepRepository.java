@@ -2,8 +2,12 @@ package com.cookstemma.cookstemma.repository.recipe;
 
 import com.cookstemma.cookstemma.domain.entity.recipe.RecipeStep;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface RecipeStepRepository extends JpaRepository<RecipeStep, Long> {
 
@@ -11,4 +15,7 @@ public interface RecipeStepRepository extends JpaRepository<RecipeStep, Long> {
 
     // For recipe update: delete all steps before re-adding
     void deleteAllByRecipeId(Long recipeId);
-}
\ No newline at end of file
+
+    @Query("SELECT s.recipe.publicId FROM RecipeStep s WHERE s.id = :id")
+    Optional<UUID> findRecipePublicIdById(@Param("id") Long id);
+}
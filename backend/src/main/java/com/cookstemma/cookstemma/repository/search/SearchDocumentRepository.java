@@ -0,0 +1,233 @@
+package com.cookstemma.cookstemma.repository.search;
+
+import com.cookstemma.cookstemma.domain.entity.search.SearchDocument;
+import com.cookstemma.cookstemma.dto.search.SearchDocumentCounts;
+import com.cookstemma.cookstemma.dto.search.SearchHit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read and write access to the denormalized search_documents table.
+ *
+ * The keyword passed to the search/count queries must already be normalized with
+ * SearchDocumentProjector.normalize() so it matches the stored search_text.
+ */
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long> {
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Search across all entity types, ordered by relevance (exact > prefix > substring > word similarity),
+     * then created_at and id. Resumes strictly after the given keyset position.
+     */
+    @Query(value = """
+        SELECT s.entityType, s.entityId, s.relevanceScore, s.createdAtMicros, s.sortId FROM (
+            SELECT sd.entity_type AS entityType,
+                sd.entity_id AS entityId,
+                CAST(CASE
+                    WHEN sd.search_text = :keyword THEN 1.0
+                    WHEN sd.search_text LIKE :keyword || '%' THEN 0.95
+                    WHEN sd.search_text LIKE '%' || :keyword || '%' THEN 0.9
+                    ELSE word_similarity(:keyword, sd.search_text) * 0.8
+                END AS double precision) AS relevanceScore,
+                CAST(EXTRACT(EPOCH FROM sd.created_at) * 1000000 AS BIGINT) AS createdAtMicros,
+                sd.id AS sortId
+            FROM search_documents sd
+            WHERE sd.is_public = TRUE
+            AND (sd.search_text LIKE '%' || :keyword || '%' OR :keyword <% sd.search_text)
+        ) s
+        WHERE (s.relevanceScore, s.createdAtMicros, s.sortId) < (:lastScore, :lastCreatedAtMicros, :lastId)
+        ORDER BY s.relevanceScore DESC, s.createdAtMicros DESC, s.sortId DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<SearchHit> searchAfter(@Param("keyword") String keyword,
+                                @Param("lastScore") double lastScore,
+                                @Param("lastCreatedAtMicros") long lastCreatedAtMicros,
+                                @Param("lastId") long lastId,
+                                @Param("limit") int limit);
+
+    /**
+     * Search a single entity type ('RECIPE', 'LOG_POST' or 'HASHTAG'), resuming after the given position.
+     */
+    @Query(value = """
+        SELECT s.entityType, s.entityId, s.relevanceScore, s.createdAtMicros, s.sortId FROM (
+            SELECT sd.entity_type AS entityType,
+                sd.entity_id AS entityId,
+                CAST(CASE
+                    WHEN sd.search_text = :keyword THEN 1.0
+                    WHEN sd.search_text LIKE :keyword || '%' THEN 0.95
+                    WHEN sd.search_text LIKE '%' || :keyword || '%' THEN 0.9
+                    ELSE word_similarity(:keyword, sd.search_text) * 0.8
+                END AS double precision) AS relevanceScore,
+                CAST(EXTRACT(EPOCH FROM sd.created_at) * 1000000 AS BIGINT) AS createdAtMicros,
+                sd.id AS sortId
+            FROM search_documents sd
+            WHERE sd.is_public = TRUE
+            AND sd.entity_type = :entityType
+            AND (sd.search_text LIKE '%' || :keyword || '%' OR :keyword <% sd.search_text)
+        ) s
+        WHERE (s.relevanceScore, s.createdAtMicros, s.sortId) < (:lastScore, :lastCreatedAtMicros, :lastId)
+        ORDER BY s.relevanceScore DESC, s.createdAtMicros DESC, s.sortId DESC
+        LIMIT :limit
+        """,
+        nativeQuery = true)
+    List<SearchHit> searchByTypeAfter(@Param("keyword") String keyword,
+                                      @Param("entityType") String entityType,
+                                      @Param("lastScore") double lastScore,
+                                      @Param("lastCreatedAtMicros") long lastCreatedAtMicros,
+                                      @Param("lastId") long lastId,
+                                      @Param("limit") int limit);
+
+    /**
+     * Per-type match counts (for unified search chips). Each type stops after :limit matches
+     * so broad keywords don't walk the whole index.
+     */
+    @Query(value = """
+        SELECT
+            (SELECT COUNT(*) FROM (
+                SELECT 1 FROM search_documents sd
+                WHERE sd.is_public = TRUE AND sd.entity_type = 'RECIPE'
+                AND (sd.search_text LIKE '%' || :keyword || '%' OR :keyword <% sd.search_text)
+                LIMIT :limit) c) AS recipes,
+            (SELECT COUNT(*) FROM (
+                SELECT 1 FROM search_documents sd
+                WHERE sd.is_public = TRUE AND sd.entity_type = 'LOG_POST'
+                AND (sd.search_text LIKE '%' || :keyword || '%' OR :keyword <% sd.search_text)
+                LIMIT :limit) c) AS logs,
+            (SELECT COUNT(*) FROM (
+                SELECT 1 FROM search_documents sd
+                WHERE sd.is_public = TRUE AND sd.entity_type = 'HASHTAG'
+                AND (sd.search_text LIKE '%' || :keyword || '%' OR :keyword <% sd.search_text)
+                LIMIT :limit) c) AS hashtags
+        """,
+        nativeQuery = true)
+    SearchDocumentCounts countByType(@Param("keyword") String keyword, @Param("limit") int limit);
+
+    // ==================== PROJECTION (UPSERT) ====================
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+        SELECT 'RECIPE', r.id,
+            COALESCE(search_normalize(concat_ws(' ',
+                r.title, r.description,
+                jsonb_values_text(r.title_translations),
+                jsonb_values_text(r.description_translations),
+                jsonb_values_text(fm.name))), ''),
+            (r.deleted_at IS NULL AND COALESCE(r.is_private, FALSE) = FALSE),
+            r.created_at,
+            NOW()
+        FROM recipes r
+        LEFT JOIN foods_master fm ON fm.id = r.food_master_id
+        WHERE r.id IN (:ids)
+        ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET search_text = EXCLUDED.search_text,
+            is_public = EXCLUDED.is_public,
+            created_at = EXCLUDED.created_at,
+            indexed_at = EXCLUDED.indexed_at
+        """,
+        nativeQuery = true)
+    int upsertRecipes(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+        SELECT 'LOG_POST', lp.id,
+            COALESCE(search_normalize(concat_ws(' ',
+                lp.title, lp.content,
+                jsonb_values_text(lp.title_translations),
+                jsonb_values_text(lp.content_translations),
+                r.title,
+                jsonb_values_text(r.title_translations))), ''),
+            (lp.deleted_at IS NULL AND COALESCE(lp.is_private, FALSE) = FALSE),
+            lp.created_at,
+            NOW()
+        FROM log_posts lp
+        LEFT JOIN recipe_logs rl ON rl.log_post_id = lp.id
+        LEFT JOIN recipes r ON r.id = rl.recipe_id
+        WHERE lp.id IN (:ids)
+        ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET search_text = EXCLUDED.search_text,
+            is_public = EXCLUDED.is_public,
+            created_at = EXCLUDED.created_at,
+            indexed_at = EXCLUDED.indexed_at
+        """,
+        nativeQuery = true)
+    int upsertLogPosts(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+        SELECT 'HASHTAG', h.id, COALESCE(search_normalize(h.name), ''), TRUE, h.created_at, NOW()
+        FROM hashtags h
+        WHERE h.id IN (:ids)
+        ON CONFLICT (entity_type, entity_id) DO UPDATE
+        SET search_text = EXCLUDED.search_text,
+            created_at = EXCLUDED.created_at,
+            indexed_at = EXCLUDED.indexed_at
+        """,
+        nativeQuery = true)
+    int upsertHashtags(@Param("ids") Collection<Long> ids);
+
+    // ==================== RECONCILIATION ====================
+
+    /**
+     * Recipes whose own row or food name changed since the given instant
+     * (covers translations written directly to the DB by the translator Lambda).
+     */
+    @Query(value = """
+        SELECT r.id FROM recipes r WHERE r.updated_at >= :since
+        UNION
+        SELECT r.id FROM recipes r
+        JOIN foods_master fm ON fm.id = r.food_master_id
+        WHERE fm.updated_at >= :since
+        """,
+        nativeQuery = true)
+    List<Long> findRecipeIdsChangedSince(@Param("since") Instant since);
+
+    /**
+     * Log posts whose own row or linked recipe changed since the given instant.
+     */
+    @Query(value = """
+        SELECT lp.id FROM log_posts lp WHERE lp.updated_at >= :since
+        UNION
+        SELECT rl.log_post_id FROM recipe_logs rl
+        JOIN recipes r ON r.id = rl.recipe_id
+        WHERE r.updated_at >= :since
+        """,
+        nativeQuery = true)
+    List<Long> findLogPostIdsChangedSince(@Param("since") Instant since);
+
+    /**
+     * Hashtags that have no search document yet.
+     */
+    @Query(value = """
+        SELECT h.id FROM hashtags h
+        WHERE NOT EXISTS (
+            SELECT 1 FROM search_documents sd
+            WHERE sd.entity_type = 'HASHTAG' AND sd.entity_id = h.id
+        )
+        """,
+        nativeQuery = true)
+    List<Long> findUnindexedHashtagIds();
+
+    /**
+     * Remove documents whose source row was hard-deleted (e.g. account cleanup cascades).
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM search_documents sd
+        WHERE (sd.entity_type = 'RECIPE' AND NOT EXISTS (SELECT 1 FROM recipes r WHERE r.id = sd.entity_id))
+           OR (sd.entity_type = 'LOG_POST' AND NOT EXISTS (SELECT 1 FROM log_posts lp WHERE lp.id = sd.entity_id))
+           OR (sd.entity_type = 'HASHTAG' AND NOT EXISTS (SELECT 1 FROM hashtags h WHERE h.id = sd.entity_id))
+        """,
+        nativeQuery = true)
+    int deleteOrphans();
+}
@@ -1,7 +1,10 @@
 package com.cookstemma.cookstemma.repository.specification;
 
 import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeStats;
 import com.cookstemma.cookstemma.domain.enums.CookingTimeRange;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -101,4 +104,25 @@ public class RecipeSpecification {
             }
         };
     }
+
+    /**
+     * Order by a recipe_stats column (e.g. "variantCount", "trendingScore", "popularityScore"),
+     * highest first, then newest. Use with an unsorted Pageable; count queries are left unordered.
+     *
+     * @param zero value used for recipes without a stats row, of the column's type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Number> Specification<Recipe> orderByStatsDesc(String statsAttribute, T zero) {
+        return (root, query, cb) -> {
+            if (query.getResultType() == Long.class || query.getResultType() == long.class) {
+                return null;
+            }
+            Subquery<T> stat = query.subquery((Class<T>) zero.getClass());
+            Root<RecipeStats> stats = stat.from(RecipeStats.class);
+            stat.select(stats.get(statsAttribute))
+                    .where(cb.equal(stats.get("recipeId"), root.get("id")));
+            query.orderBy(cb.desc(cb.coalesce(stat, zero)), cb.desc(root.get("createdAt")));
+            return null;
+        };
+    }
 }
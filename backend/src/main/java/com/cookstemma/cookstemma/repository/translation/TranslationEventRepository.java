@@ -4,9 +4,12 @@ import com.cookstemma.cookstemma.domain.entity.translation.TranslationEvent;
 import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
 import com.cookstemma.cookstemma.domain.enums.TranslationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,8 +25,113 @@ public interface TranslationEventRepository extends JpaRepository<TranslationEve
     @Query("SELECT te FROM TranslationEvent te WHERE te.status IN :statuses ORDER BY te.createdAt ASC")
     List<TranslationEvent> findPendingOrFailed(@Param("statuses") List<TranslationStatus> statuses);
 
-    @Query("SELECT te FROM TranslationEvent te WHERE te.status = 'PENDING' OR (te.status = 'FAILED' AND te.retryCount < 3) ORDER BY te.createdAt ASC")
-    List<TranslationEvent> findRetryable();
+    /**
+     * Lock up to :limit claimable events (pending, or failed with attempts left), oldest first,
+     * skipping rows other workers hold. Cancelled events are never claimable. Call markClaimed in the same transaction so the rows stay
+     * out of other claims once it commits.
+     */
+    @Query(value = """
+        SELECT * FROM translation_events
+        WHERE status = 'PENDING' OR (status = 'FAILED' AND retry_count < :maxAttempts)
+        ORDER BY created_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<TranslationEvent> lockClaimable(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events
+        SET status = 'PROCESSING', started_at = NOW(), locked_by = :workerId, lease_expires_at = :leaseExpiresAt
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId,
+                    @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    /**
+     * Extend the worker's leases on the given events; returns how many it still held.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events SET lease_expires_at = :leaseExpiresAt
+        WHERE id IN (:ids) AND status = 'PROCESSING' AND locked_by = :workerId
+        """, nativeQuery = true)
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId,
+                    @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    /**
+     * Append :locale to completed_locales (once) and complete the event when that covers all
+     * target locales, in one statement, if :workerId still holds it. All SET expressions read the
+     * row as locked by this UPDATE, so concurrent appends to one event don't lose each other.
+     * translated_at takes the clock time rather than the transaction start, so it lands close to
+     * the commit that TranslationCompletionWatcher polls for.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events
+        SET completed_locales = CASE
+                WHEN COALESCE(completed_locales, '[]'::jsonb) @> jsonb_build_array(CAST(:locale AS text))
+                    THEN COALESCE(completed_locales, '[]'::jsonb)
+                ELSE COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(:locale AS text))
+            END,
+            status = CASE
+                WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(:locale AS text)))
+                    THEN 'COMPLETED' ELSE status
+            END,
+            completed_at = CASE
+                WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(:locale AS text)))
+                    THEN NOW() ELSE completed_at
+            END,
+            lease_expires_at = CASE
+                WHEN target_locales <@ (COALESCE(completed_locales, '[]'::jsonb) || jsonb_build_array(CAST(:locale AS text)))
+                    THEN NULL ELSE lease_expires_at
+            END,
+            translated_at = clock_timestamp()
+        WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId
+        """, nativeQuery = true)
+    int addCompletedLocale(@Param("id") Long id, @Param("workerId") String workerId, @Param("locale") String locale);
+
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events
+        SET status = 'COMPLETED', completed_at = NOW(), locked_by = NULL, lease_expires_at = NULL
+        WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId
+        """, nativeQuery = true)
+    int markCompleted(@Param("id") Long id, @Param("workerId") String workerId);
+
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events
+        SET status = 'FAILED', last_error = :error, retry_count = retry_count + 1, locked_by = NULL, lease_expires_at = NULL
+        WHERE id = :id AND status = 'PROCESSING' AND locked_by = :workerId
+        """, nativeQuery = true)
+    int markFailed(@Param("id") Long id, @Param("workerId") String workerId, @Param("error") String error);
+
+    /**
+     * Put events whose lease ran out back in the queue as a failed attempt (the worker died or
+     * stalled), so an event that keeps killing workers stops after its attempts.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE translation_events
+        SET status = 'FAILED', last_error = 'Lease expired', retry_count = retry_count + 1,
+            locked_by = NULL, lease_expires_at = NULL
+        WHERE status = 'PROCESSING' AND lease_expires_at < :now
+        """, nativeQuery = true)
+    int releaseExpiredLeases(@Param("now") Instant now);
+
+    /**
+     * Events that recorded a translated locale after :since, oldest first, as
+     * [id, entity_type, entity_id, translated_at in epoch milliseconds].
+     */
+    @Query(value = """
+        SELECT id, CAST(entity_type AS text), entity_id, CAST(EXTRACT(EPOCH FROM translated_at) * 1000 AS bigint)
+        FROM translation_events
+        WHERE translated_at > :since
+        ORDER BY translated_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findTranslatedSince(@Param("since") Instant since, @Param("limit") int limit);
 
     boolean existsByEntityTypeAndEntityIdAndStatusIn(
             TranslatableEntity entityType, Long entityId, List<TranslationStatus> statuses);
@@ -31,6 +139,22 @@ public interface TranslationEventRepository extends JpaRepository<TranslationEve
     List<TranslationEvent> findByEntityTypeAndEntityIdAndStatusIn(
             TranslatableEntity entityType, Long entityId, List<TranslationStatus> statuses);
 
+    /**
+     * Marks the entity's events in the given statuses CANCELLED with the reason and drops any lease,
+     * in one statement. Cancelled events are never claimed again. Returns the number of events cancelled.
+     */
+    @Modifying
+    @Query("""
+        UPDATE TranslationEvent te
+        SET te.status = com.cookstemma.cookstemma.domain.enums.TranslationStatus.CANCELLED,
+            te.lastError = :reason, te.lockedBy = NULL, te.leaseExpiresAt = NULL
+        WHERE te.entityType = :entityType AND te.entityId = :entityId AND te.status IN :statuses
+        """)
+    int cancelByEntityTypeAndEntityIdAndStatusIn(@Param("entityType") TranslatableEntity entityType,
+                                                 @Param("entityId") Long entityId,
+                                                 @Param("statuses") List<TranslationStatus> statuses,
+                                                 @Param("reason") String reason);
+
     /**
      * Find the most recent translation event for a specific entity.
      */
@@ -0,0 +1,28 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.AutocompleteIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds this node's autocomplete index when the published version changes (see AutocompleteIndex).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndexScheduler {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Scheduled(fixedDelayString = "${autocomplete.index.check-interval-ms:30000}",
+            initialDelayString = "${autocomplete.index.check-interval-ms:30000}")
+    public void refresh() {
+        try {
+            autocompleteIndex.refreshIfStale();
+        } catch (Exception e) {
+            log.warn("Autocomplete index refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.HomeFeedSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds home feed snapshots shortly after content changes and when they pass max-age.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeFeedSnapshotScheduler {
+
+    private final HomeFeedSnapshotService homeFeedSnapshotService;
+
+    @Scheduled(fixedDelayString = "${home-feed.snapshot.check-interval-ms:5000}",
+            initialDelayString = "${home-feed.snapshot.check-interval-ms:5000}")
+    public void refreshSnapshots() {
+        homeFeedSnapshotService.refreshIfDue();
+    }
+}
@@ -0,0 +1,28 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.ImageJobQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Releases stale image job claims and refreshes the queue gauges (see ImageJobQueue).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageJobScheduler {
+
+    private final ImageJobQueue imageJobQueue;
+
+    @Scheduled(fixedDelayString = "${image.jobs.refresh-interval-ms:15000}",
+            initialDelayString = "${image.jobs.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            imageJobQueue.refresh();
+        } catch (Exception e) {
+            log.warn("Image job queue refresh failed: {}", e.getMessage());
+        }
+    }
+}
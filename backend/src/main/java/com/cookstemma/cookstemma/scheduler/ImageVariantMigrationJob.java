@@ -1,14 +1,14 @@
 package com.cookstemma.cookstemma.scheduler;
 
-import com.cookstemma.cookstemma.domain.entity.image.Image;
 import com.cookstemma.cookstemma.domain.enums.ImageStatus;
 import com.cookstemma.cookstemma.repository.image.ImageRepository;
-import com.cookstemma.cookstemma.service.ImageProcessingService;
+import com.cookstemma.cookstemma.service.ImageJobQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -19,8 +19,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ImageVariantMigrationJob {
 
+    // How long to wait for the workers when the queue is full
+    private static final long BACKPRESSURE_WAIT_MILLIS = 5000;
+
     private final ImageRepository imageRepository;
-    private final ImageProcessingService imageProcessingService;
+    private final ImageJobQueue imageJobQueue;
 
     @Value("${image.variant.migration.enabled:false}")
     private boolean migrationEnabled;
@@ -28,6 +31,14 @@ public class ImageVariantMigrationJob {
     @Value("${image.variant.migration.delay-seconds:60}")
     private int delaySeconds;
 
+    // Originals looked up and queued per step
+    @Value("${image.variant.migration.page-size:1000}")
+    private int pageSize;
+
+    // Pending jobs above which the migration waits for the workers
+    @Value("${image.variant.migration.max-queue-depth:5000}")
+    private long maxQueueDepth;
+
     @Async
     @EventListener(ApplicationReadyEvent.class)
     public void migrateExistingImages() {
@@ -48,30 +59,34 @@ public class ImageVariantMigrationJob {
 
         log.info("Starting image variant migration check...");
 
-        List<Image> imagesWithoutVariants = imageRepository.findOriginalImagesWithoutVariants(ImageStatus.ACTIVE);
-
-        if (imagesWithoutVariants.isEmpty()) {
-            log.info("No images need variant generation");
-            return;
-        }
-
-        log.info("Found {} images without variants, starting migration", imagesWithoutVariants.size());
+        // Walk the originals by id and keep at most max-queue-depth of them pending, so a large
+        // backlog goes through the workers at their pace instead of flooding the queue
+        long afterId = 0;
+        int queued = 0;
+        while (true) {
+            List<Long> ids = imageRepository.findOriginalIdsWithoutVariants(
+                    ImageStatus.ACTIVE, afterId, PageRequest.of(0, pageSize));
+            if (ids.isEmpty()) {
+                break;
+            }
 
-        int processed = 0;
-        for (Image image : imagesWithoutVariants) {
             try {
-                imageProcessingService.generateVariantsAsync(image.getId());
-                processed++;
-
-                // Log progress every 100 images
-                if (processed % 100 == 0) {
-                    log.info("Queued {} images for variant generation", processed);
+                while (imageJobQueue.pendingCount() >= maxQueueDepth) {
+                    Thread.sleep(BACKPRESSURE_WAIT_MILLIS);
                 }
+                queued += imageJobQueue.enqueue(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Image variant migration interrupted after queueing {} images", queued);
+                return;
             } catch (Exception e) {
-                log.error("Failed to queue image {} for variant generation", image.getId(), e);
+                log.error("Failed to queue images after id {} for variant generation", afterId, e);
             }
+            afterId = ids.get(ids.size() - 1);
+
+            log.info("Queued {} images for variant generation (up to id {})", queued, afterId);
         }
 
-        log.info("Image variant migration queued: {} images", processed);
+        log.info("Image variant migration queued: {} images", queued);
     }
 }
@@ -0,0 +1,28 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.NotificationOutbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Releases stale outbox claims and refreshes the outbox gauges (see NotificationOutbox).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final NotificationOutbox notificationOutbox;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.refresh-interval-ms:15000}",
+            initialDelayString = "${notification.outbox.refresh-interval-ms:15000}")
+    public void refresh() {
+        try {
+            notificationOutbox.refresh();
+        } catch (Exception e) {
+            log.warn("Notification outbox refresh failed: {}", e.getMessage());
+        }
+    }
+}
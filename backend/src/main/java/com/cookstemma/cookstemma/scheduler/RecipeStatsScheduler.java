@@ -0,0 +1,33 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.RecipeStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decays trending scores and syncs view counts into recipe_stats, and recounts it nightly.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeStatsScheduler {
+
+    private final RecipeStatsService recipeStatsService;
+
+    @Scheduled(fixedDelayString = "${recipe-stats.refresh-interval-ms:900000}",
+            initialDelayString = "${recipe-stats.refresh-interval-ms:900000}")
+    public void refreshScores() {
+        try {
+            recipeStatsService.refreshScores();
+        } catch (Exception e) {
+            log.warn("Recipe stats refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 0 4 * * *", zone = "UTC")
+    public void reconcile() {
+        recipeStatsService.reconcile();
+    }
+}
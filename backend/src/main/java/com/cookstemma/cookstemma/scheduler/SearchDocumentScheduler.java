@@ -0,0 +1,56 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.SearchDocumentProjector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps search_documents in sync with writes the application does not see directly
+ * (translator Lambda, manual SQL) and removes documents of hard-deleted rows.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchDocumentScheduler {
+
+    // Overlap between sweeps so rows committed while the previous sweep ran are not missed
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+    // How far back the first sweep after startup looks
+    private static final Duration STARTUP_LOOKBACK = Duration.ofMinutes(30);
+
+    private final SearchDocumentProjector searchDocumentProjector;
+
+    private volatile Instant lastSweepStartedAt;
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reconcileRecentChanges() {
+        Instant startedAt = Instant.now();
+        Instant since = lastSweepStartedAt != null
+                ? lastSweepStartedAt.minus(OVERLAP)
+                : startedAt.minus(STARTUP_LOOKBACK);
+
+        try {
+            int upserted = searchDocumentProjector.reconcile(since);
+            lastSweepStartedAt = startedAt;
+            if (upserted > 0) {
+                log.debug("Search document sweep re-projected {} documents changed since {}", upserted, since);
+            }
+        } catch (Exception e) {
+            // Keep the old watermark so the next sweep retries the same window
+            log.warn("Search document sweep failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "UTC")
+    public void purgeOrphans() {
+        int deleted = searchDocumentProjector.purgeOrphans();
+        if (deleted > 0) {
+            log.info("Purged {} orphaned search documents", deleted);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.TranslationCompletionWatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks up translations the translator Lambda recorded (see TranslationCompletionWatcher).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationCompletionScheduler {
+
+    private final TranslationCompletionWatcher translationCompletionWatcher;
+
+    @Scheduled(fixedDelayString = "${translation.completion-watch.interval-ms:10000}",
+            initialDelayString = "${translation.completion-watch.interval-ms:10000}")
+    public void poll() {
+        try {
+            translationCompletionWatcher.poll();
+        } catch (Exception e) {
+            log.warn("Translation completion poll failed: {}", e.getMessage());
+        }
+    }
+}
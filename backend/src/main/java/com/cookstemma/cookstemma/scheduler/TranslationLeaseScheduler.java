@@ -0,0 +1,28 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.TranslationWorkQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-queues translation events whose worker lease expired (see TranslationWorkQueue).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationLeaseScheduler {
+
+    private final TranslationWorkQueue translationWorkQueue;
+
+    @Scheduled(fixedDelayString = "${translation.work.lease-check-interval-ms:30000}",
+            initialDelayString = "${translation.work.lease-check-interval-ms:30000}")
+    public void releaseExpiredLeases() {
+        try {
+            translationWorkQueue.releaseExpiredLeases();
+        } catch (Exception e) {
+            log.warn("Translation lease release failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.UnreadCountStream;
+import com.cookstemma.cookstemma.service.UnreadNotificationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recounts cached unread counters (see UnreadNotificationCounter) and keeps unread count streams alive.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountScheduler {
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final UnreadCountStream unreadCountStream;
+
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:300000}",
+            initialDelayString = "${notification.unread-counter.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            unreadNotificationCounter.reconcile();
+        } catch (Exception e) {
+            log.warn("Unread counter reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.unread-stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        try {
+            unreadCountStream.heartbeat();
+        } catch (Exception e) {
+            log.warn("Unread count stream heartbeat failed: {}", e.getMessage());
+        }
+    }
+}
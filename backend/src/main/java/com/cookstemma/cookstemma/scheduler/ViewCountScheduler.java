@@ -0,0 +1,22 @@
+package com.cookstemma.cookstemma.scheduler;
+
+import com.cookstemma.cookstemma.service.ViewCountBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically writes buffered recipe / log post views (see ViewCountBuffer).
+ */
+@Component
+@RequiredArgsConstructor
+public class ViewCountScheduler {
+
+    private final ViewCountBuffer viewCountBuffer;
+
+    @Scheduled(fixedDelayString = "${views.buffer.flush-interval-ms:10000}",
+            initialDelayString = "${views.buffer.flush-interval-ms:10000}")
+    public void flushViewCounts() {
+        viewCountBuffer.flush();
+    }
+}
@@ -1,7 +1,5 @@
 package com.cookstemma.cookstemma.security;
 
-import com.cookstemma.cookstemma.domain.entity.user.User;
-import com.cookstemma.cookstemma.repository.user.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,20 +8,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalResolver principalResolver;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -38,19 +32,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        // Access Token 유효성 검증
-        if (token != null && tokenProvider.validateToken(token)) {
-            UUID publicId = UUID.fromString(tokenProvider.getSubject(token));
-
-            // [수정] DB 조회를 통해 UserPrincipal 생성
-            User user = userRepository.findByPublicId(publicId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            UserPrincipal principal = new UserPrincipal(user);
-
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    principal, null, principal.getAuthorities()
-            );
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // Access Token 유효성 검증 (principal comes from token claims or the principal cache)
+        if (token != null) {
+            principalResolver.resolve(token).ifPresent(principal -> {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.getAuthorities()
+                );
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
         filterChain.doFilter(request, response);
     }
@@ -1,5 +1,7 @@
 package com.cookstemma.cookstemma.security;
 
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.util.LruCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,15 +9,28 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
-    private final SecretKey key;
-    private final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 30; // 30분
+    private static final long ACCESS_TOKEN_VALIDITY = 1000L * 60 * 30; // 30분
     private final long REFRESH_TOKEN_VALIDITY = 1000L * 60 * 60 * 24 * 14; // 14일
 
+    private final SecretKey key;
+
+    // Put id, username and status into access tokens so UserPrincipalResolver needs no users lookup
+    @Value("${jwt.principal-claims.enabled:false}")
+    private boolean principalClaimsEnabled;
+
+    // Verified tokens, kept until they expire (least recently used dropped when full)
+    @Value("${jwt.parsed-token-cache.max-entries:10000}")
+    private int maxCachedTokens = 10_000;
+
+    private final LruCache<String, TokenClaims> parsedTokens = new LruCache<>(() -> maxCachedTokens);
+
     public JwtTokenProvider(@Value("${jwt.secret}") String secret) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
     }
@@ -24,6 +39,26 @@ public class JwtTokenProvider {
         return createToken(publicId, role, ACCESS_TOKEN_VALIDITY);
     }
 
+    /**
+     * Access token for a user. With jwt.principal-claims.enabled it also carries the principal
+     * (id, username, status), so requests can be authenticated without loading the user.
+     */
+    public String createAccessToken(User user) {
+        if (!principalClaimsEnabled) {
+            return createAccessToken(user.getPublicId(), user.getRole().name());
+        }
+        return Jwts.builder()
+                .subject(user.getPublicId().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_VALIDITY))
+                .claim("role", user.getRole().name())
+                .claim("uid", user.getId())
+                .claim("username", user.getUsername())
+                .claim("status", user.getStatus() != null ? user.getStatus().name() : null)
+                .signWith(key)
+                .compact();
+    }
+
     public String createRefreshToken(UUID publicId) {
         return createToken(publicId, null, REFRESH_TOKEN_VALIDITY);
     }
@@ -39,20 +74,71 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parse(token).isPresent();
+    }
+
+    public String getSubject(String token) {
+        return parse(token).map(claims -> claims.publicId().toString())
+                .orElseGet(() -> parseClaims(token).getPayload().getSubject());
+    }
+
+    public String getRole(String token) {
+        return parse(token).map(TokenClaims::role)
+                .orElseGet(() -> parseClaims(token).getPayload().get("role", String.class));
+    }
+
+    /**
+     * Verified claims of a token, or empty if it is invalid or expired. The signature is checked
+     * once per token; later calls (every request carrying it, from each filter) hit the cache.
+     */
+    public Optional<TokenClaims> parse(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        TokenClaims cached = parsedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(Instant.now())) {
+                return Optional.of(cached);
+            }
+            parsedTokens.remove(token);
+            return Optional.empty();
+        }
+
+        TokenClaims claims;
         try {
-            parseClaims(token);
-            return true;
+            claims = TokenClaims.from(parseClaims(token).getPayload());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
+        parsedTokens.put(token, claims);
+        return Optional.of(claims);
     }
 
-    public String getSubject(String token) {
-        return parseClaims(token).getPayload().getSubject();
+    public long getAccessTokenValidityMillis() {
+        return ACCESS_TOKEN_VALIDITY;
     }
 
-    public String getRole(String token) {
-        return parseClaims(token).getPayload().get("role", String.class);
+    /**
+     * Claims of a verified token. userId, username and status are only set on access tokens
+     * issued with jwt.principal-claims.enabled.
+     */
+    public record TokenClaims(UUID publicId, String role, Long userId, String username, String status,
+                              Instant issuedAt, Instant expiresAt) {
+
+        static TokenClaims from(Claims claims) {
+            return new TokenClaims(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("role", String.class),
+                    claims.get("uid", Long.class),
+                    claims.get("username", String.class),
+                    claims.get("status", String.class),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX);
+        }
+
+        public boolean hasPrincipal() {
+            return userId != null && username != null && role != null && status != null;
+        }
     }
 
     private Jws<Claims> parseClaims(String token) {
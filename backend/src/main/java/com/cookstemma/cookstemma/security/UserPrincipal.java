@@ -1,6 +1,8 @@
 package com.cookstemma.cookstemma.security;
 
 import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.AccountStatus;
+import com.cookstemma.cookstemma.domain.enums.Role;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -15,14 +17,21 @@ public class UserPrincipal implements UserDetails {
     private final Long id;          // DB PK
     private final UUID publicId;    // 외부용 UUID
     private final String username;  //
+    private final AccountStatus status;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public UserPrincipal(User user) {
-        this.id = user.getId();
-        this.publicId = user.getPublicId();
-        this.username = user.getUsername();
+        this(user.getId(), user.getPublicId(), user.getUsername(), user.getRole(), user.getStatus());
+    }
+
+    // From token claims or the principal cache, without a User entity
+    public UserPrincipal(Long id, UUID publicId, String username, Role role, AccountStatus status) {
+        this.id = id;
+        this.publicId = publicId;
+        this.username = username;
+        this.status = status;
         this.authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                new SimpleGrantedAuthority("ROLE_" + role.name())
         );
     }
 
@@ -0,0 +1,10 @@
+package com.cookstemma.cookstemma.security;
+
+import java.util.UUID;
+
+/**
+ * Published when a user's username, role or account status changes, or the account is deleted,
+ * so cached principals of that user are dropped (see UserPrincipalResolver).
+ */
+public record UserPrincipalChangedEvent(UUID publicId) {
+}
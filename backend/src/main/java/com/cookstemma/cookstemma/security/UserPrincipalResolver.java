@@ -0,0 +1,159 @@
+package com.cookstemma.cookstemma.security;
+
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.AccountStatus;
+import com.cookstemma.cookstemma.domain.enums.Role;
+import com.cookstemma.cookstemma.repository.user.UserRepository;
+import com.cookstemma.cookstemma.util.LruCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the UserPrincipal of an access token without loading the user on every request.
+ *
+ * Token verification is cached by JwtTokenProvider. Tokens go through a bounded cache of principals
+ * keyed by publicId. A UserPrincipalChangedEvent (username, role, status or deletion) evicts the user;
+ * with auth.principal-cache.redis-invalidation.enabled the eviction is broadcast to the other nodes
+ * over Redis pub/sub, without it other nodes pick up the change within the cache TTL.
+ *
+ * Tokens that carry the principal claims (jwt.principal-claims.enabled) need no lookup at all, unless
+ * their user changed after they were issued. That is only known from the evictions a node has seen,
+ * so claims require Redis invalidation (startup fails otherwise), and tokens issued before this node
+ * started are resolved through the cache because changes made before then were missed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalResolver {
+
+    static final String INVALIDATION_CHANNEL = "auth:principal-invalidated";
+
+    private final JwtTokenProvider tokenProvider;
+    private final UserRepository userRepository;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Value("${auth.principal-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${auth.principal-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${auth.principal-cache.redis-invalidation.enabled:false}")
+    private boolean redisInvalidationEnabled;
+
+    @Value("${jwt.principal-claims.enabled:false}")
+    private boolean principalClaimsEnabled;
+
+    // Evictions before this were not seen by this node
+    private Instant startedAt = Instant.now();
+
+    private record CachedPrincipal(UserPrincipal principal, long loadedAtMillis) {
+    }
+
+    private final LruCache<UUID, CachedPrincipal> principals = new LruCache<>(() -> maxEntries);
+
+    // When each user last changed; tokens issued before that are not trusted for their claims
+    private final ConcurrentHashMap<UUID, Instant> changedAt = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        if (principalClaimsEnabled && (!redisInvalidationEnabled || listenerContainer == null)) {
+            throw new IllegalStateException("jwt.principal-claims.enabled requires "
+                    + "auth.principal-cache.redis-invalidation.enabled and a Redis connection");
+        }
+        if (!redisInvalidationEnabled || listenerContainer == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                evict(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed principal invalidation message");
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * Principal for a token, or empty if the token is invalid or expired.
+     * Throws if the token is valid but its user no longer exists.
+     */
+    public Optional<UserPrincipal> resolve(String token) {
+        Optional<JwtTokenProvider.TokenClaims> parsed = tokenProvider.parse(token);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+        JwtTokenProvider.TokenClaims claims = parsed.get();
+
+        if (claims.hasPrincipal() && !claims.issuedAt().isBefore(startedAt)
+                && !changedSince(claims.publicId(), claims.issuedAt())) {
+            return Optional.of(new UserPrincipal(claims.userId(), claims.publicId(), claims.username(),
+                    Role.valueOf(claims.role()), AccountStatus.valueOf(claims.status())));
+        }
+        return Optional.of(load(claims.publicId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserPrincipalChanged(UserPrincipalChangedEvent event) {
+        evict(event.publicId());
+        if (redisInvalidationEnabled && redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, event.publicId().toString());
+            } catch (Exception e) {
+                log.warn("Failed to broadcast principal invalidation for {}: {}", event.publicId(), e.getMessage());
+            }
+        }
+    }
+
+    void evict(UUID publicId) {
+        Instant now = Instant.now();
+        changedAt.put(publicId, now);
+        principals.remove(publicId);
+
+        // Changes older than the longest-lived access token can't affect any token still in use
+        Instant horizon = now.minusMillis(tokenProvider.getAccessTokenValidityMillis());
+        changedAt.values().removeIf(at -> at.isBefore(horizon));
+    }
+
+    private UserPrincipal load(UUID publicId) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = principals.get(publicId);
+        if (cached != null && now - cached.loadedAtMillis() < ttlMillis) {
+            return cached.principal();
+        }
+
+        Instant loadStartedAt = Instant.now();
+        User user = userRepository.findByPublicId(publicId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        UserPrincipal principal = new UserPrincipal(user);
+
+        // Skip caching if the user changed while we were reading (the row may predate the change)
+        if (!changedSince(publicId, loadStartedAt)) {
+            principals.put(publicId, new CachedPrincipal(principal, now));
+        }
+        return principal;
+    }
+
+    private boolean changedSince(UUID publicId, Instant instant) {
+        Instant changed = changedAt.get(publicId);
+        return changed != null && !changed.isBefore(instant);
+    }
+}
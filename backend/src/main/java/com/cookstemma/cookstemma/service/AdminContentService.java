@@ -14,6 +14,7 @@ import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -40,6 +41,10 @@ public class AdminContentService {
     private final CommentRepository commentRepository;
     private final RecipeLogRepository recipeLogRepository;
     private final UserRepository userRepository;
+    private final SearchDocumentProjector searchDocumentProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeStatsService recipeStatsService;
+    private final RecipeLineageService recipeLineageService;
 
     // ==================== RECIPES ====================
 
@@ -84,11 +89,18 @@ public class AdminContentService {
         int deletedCount = 0;
 
         for (Recipe recipe : recipes) {
+            if (recipe.getDeletedAt() == null) {
+                recipeStatsService.recipeDeleted(recipe);
+            }
             recipe.softDelete();
             recipeRepository.save(recipe);
             deletedCount++;
             log.info("Admin deleted recipe: {}", recipe.getPublicId());
         }
+        searchDocumentProjector.projectRecipes(recipes);
+        recipeLineageService.recipesDeleted(recipes.stream().map(Recipe::getId).toList());
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        recipes.forEach(recipe -> eventPublisher.publishEvent(RecipeDetailChangedEvent.family(recipe.getPublicId())));
 
         return deletedCount;
     }
@@ -171,11 +183,20 @@ public class AdminContentService {
         int deletedCount = 0;
 
         for (LogPost logPost : logs) {
+            if (logPost.getDeletedAt() == null) {
+                recipeStatsService.logDeleted(logPost);
+            }
             logPost.softDelete();
             logPostRepository.save(logPost);
             deletedCount++;
             log.info("Admin deleted log post: {}", logPost.getPublicId());
         }
+        searchDocumentProjector.projectLogPosts(logs);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        logs.stream()
+                .filter(logPost -> logPost.getRecipeLog() != null)
+                .forEach(logPost -> eventPublisher.publishEvent(
+                        RecipeDetailChangedEvent.recipe(logPost.getRecipeLog().getRecipe().getPublicId())));
 
         return deletedCount;
     }
@@ -5,7 +5,9 @@ import com.cookstemma.cookstemma.domain.enums.Role;
 import com.cookstemma.cookstemma.dto.admin.UserAdminDto;
 import com.cookstemma.cookstemma.repository.specification.UserSpecification;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
+import com.cookstemma.cookstemma.security.UserPrincipalChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +22,7 @@ import java.util.UUID;
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<UserAdminDto> getUsers(String username, String email, Role role,
@@ -48,6 +51,7 @@ public class AdminUserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + publicId));
 
         user.setRole(newRole);
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(publicId));
         return UserAdminDto.from(user);
     }
 }
@@ -96,8 +96,7 @@ public class AuthService {
         // 소프트 삭제된 계정이면 복구 (30일 유예 기간 내 재로그인)
         userService.restoreDeletedAccount(user);
 
-        // [수정] user.getRole() (Enum) -> .name() (String) 으로 변환하여 전달
-        String accessToken = jwtTokenProvider.createAccessToken(user.getPublicId(), user.getRole().name());
+        String accessToken = jwtTokenProvider.createAccessToken(user);
         String refreshToken = jwtTokenProvider.createRefreshToken(user.getPublicId());
 
         user.setAppRefreshToken(refreshToken);
@@ -0,0 +1,211 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.autocomplete.AutocompleteItem;
+import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteDto;
+import com.cookstemma.cookstemma.repository.autocomplete.AutocompleteItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process autocomplete index: one AutocompleteTrie per locale and type (plus one per locale
+ * over all types), built from autocomplete_items.
+ *
+ * The tries are rebuilt on a background thread and published by swapping a single snapshot
+ * reference, so searches never see a half-built index. Nodes learn about changes through a
+ * version counter in Redis (publishChange bumps it; refreshIfStale compares it to the snapshot's);
+ * without Redis the index is rebuilt once it is older than autocomplete.index.max-age-ms.
+ */
+@Slf4j
+@Component
+public class AutocompleteIndex {
+
+    private static final String VERSION_KEY = "autocomplete:index:version";
+    private static final String ALL_TYPES = "*";
+
+    private record Snapshot(Map<String, AutocompleteTrie> tries, long version, Instant builtAt) {
+    }
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final AutocompleteItemRepository autocompleteItemRepository;
+    private final boolean enabled;
+    private final int topK;
+    private final Duration maxAge;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Set by every rebuild request; the running rebuild starts over while it is set
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicLong requestedVersion = new AtomicLong();
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AutocompleteIndex(
+            AutocompleteItemRepository autocompleteItemRepository,
+            @Value("${autocomplete.index.enabled:true}") boolean enabled,
+            @Value("${autocomplete.index.top-k:10}") int topK,
+            @Value("${autocomplete.index.max-age-ms:3600000}") long maxAgeMillis) {
+        this.autocompleteItemRepository = autocompleteItemRepository;
+        this.enabled = enabled;
+        this.topK = topK;
+        this.maxAge = Duration.ofMillis(maxAgeMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            requestRebuild(readVersion());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * Best matches for prefix, or null while the index is not built (callers fall back).
+     * type null searches all types.
+     */
+    public List<AutocompleteDto> search(String prefix, String locale, String type, int limit) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return null;
+        }
+        AutocompleteTrie trie = current.tries().get(key(locale, type != null ? type : ALL_TYPES));
+        return trie != null ? trie.search(prefix, limit) : List.of();
+    }
+
+    /**
+     * Tells every node that autocomplete items changed, and rebuilds this one.
+     */
+    public void publishChange() {
+        if (!enabled) {
+            return;
+        }
+        long version = 0;
+        if (redisTemplate != null) {
+            try {
+                Long next = redisTemplate.opsForValue().increment(VERSION_KEY);
+                version = next != null ? next : 0;
+            } catch (Exception e) {
+                log.debug("Autocomplete version bump failed: {}", e.getMessage());
+            }
+        }
+        requestRebuild(version);
+    }
+
+    /**
+     * Rebuilds when another node published a change or the snapshot is older than max-age.
+     */
+    public void refreshIfStale() {
+        if (!enabled) {
+            return;
+        }
+        Snapshot current = snapshot.get();
+        long version = readVersion();
+        if (current == null || current.version() != version
+                || current.builtAt().plus(maxAge).isBefore(Instant.now())) {
+            requestRebuild(version);
+        }
+    }
+
+    // At most one rebuild runs; a change requested meanwhile makes it rebuild again when it finishes
+    private void requestRebuild(long version) {
+        requestedVersion.accumulateAndGet(version, Math::max);
+        dirty.set(true);
+        if (rebuilding.compareAndSet(false, true)) {
+            builder.execute(this::rebuildWhileDirty);
+        }
+    }
+
+    private void rebuildWhileDirty() {
+        try {
+            while (dirty.getAndSet(false)) {
+                try {
+                    rebuild(requestedVersion.get());
+                } catch (Exception e) {
+                    log.warn("Autocomplete index rebuild failed: {}", e.getMessage());
+                }
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+        // A request that arrived after the last check found rebuilding still set
+        if (dirty.get() && rebuilding.compareAndSet(false, true)) {
+            builder.execute(this::rebuildWhileDirty);
+        }
+    }
+
+    void rebuild(long version) {
+        long start = System.nanoTime();
+        List<AutocompleteItem> items = autocompleteItemRepository.findAll();
+
+        Map<String, List<AutocompleteDto>> byKey = new HashMap<>();
+        for (AutocompleteItem item : items) {
+            if (item.getName() == null) {
+                continue;
+            }
+            String type = item.getType().name();
+            Double score = item.getScore() != null ? item.getScore() : 50.0;
+            item.getName().forEach((locale, name) -> {
+                AutocompleteDto dto = AutocompleteDto.builder()
+                        .publicId(item.getPublicId())
+                        .name(name)
+                        .type(type)
+                        .score(score)
+                        .build();
+                byKey.computeIfAbsent(key(locale, type), k -> new ArrayList<>()).add(dto);
+                byKey.computeIfAbsent(key(locale, ALL_TYPES), k -> new ArrayList<>()).add(dto);
+            });
+        }
+
+        Map<String, AutocompleteTrie> tries = new HashMap<>();
+        byKey.forEach((key, entries) -> tries.put(key, AutocompleteTrie.build(entries, topK)));
+        snapshot.set(new Snapshot(Map.copyOf(tries), version, Instant.now()));
+
+        log.info("Autocomplete index v{} built from {} items ({} tries) in {}ms",
+                version, items.size(), tries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private long readVersion() {
+        if (redisTemplate == null) {
+            return 0;
+        }
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY);
+            return value != null ? Long.parseLong(value) : 0;
+        } catch (Exception e) {
+            log.debug("Autocomplete version read failed: {}", e.getMessage());
+            Snapshot current = snapshot.get();
+            return current != null ? current.version() : 0;
+        }
+    }
+
+    private static String key(String locale, String type) {
+        return locale + ":" + type;
+    }
+}
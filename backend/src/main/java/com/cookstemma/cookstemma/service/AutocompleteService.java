@@ -24,9 +24,9 @@ public class AutocompleteService {
     private RedisTemplate<String, String> redisTemplate;
 
     private final AutocompleteItemRepository autocompleteItemRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final AutocompleteSyncService autocompleteSyncService;
 
-    private static final String AUTOCOMPLETE_KEY_PREFIX = "autocomplete:";
-    private static final String DELIMITER = "::";
     private static final int MAX_RESULTS = 10;
     private static final Set<String> CJK_LOCALES = Set.of("ko-KR", "ja-JP", "zh-CN");
     private static final int MIN_FUZZY_LENGTH = 3;
@@ -46,11 +46,11 @@ public class AutocompleteService {
         // Map frontend type to autocomplete type
         String mappedType = mapToAutocompleteType(type);
 
-        // 1. Try Redis first
-        List<AutocompleteDto> redisResults = searchRedis(keyword, locale, mappedType);
+        // 1. Try the in-memory index (or Redis until it is built)
+        List<AutocompleteDto> prefixResults = searchPrefix(keyword, locale, mappedType);
 
-        if (!redisResults.isEmpty()) {
-            return redisResults;
+        if (!prefixResults.isEmpty()) {
+            return prefixResults;
         }
 
         // 2. Fallback to DB fuzzy search
@@ -64,9 +64,9 @@ public class AutocompleteService {
         List<AutocompleteDto> allResults = new ArrayList<>();
 
         for (String type : types) {
-            List<AutocompleteDto> redisResults = searchRedis(keyword, locale, type);
-            if (!redisResults.isEmpty()) {
-                allResults.addAll(redisResults);
+            List<AutocompleteDto> prefixResults = searchPrefix(keyword, locale, type);
+            if (!prefixResults.isEmpty()) {
+                allResults.addAll(prefixResults);
             } else {
                 allResults.addAll(searchDbWithFuzzy(keyword, locale, type));
             }
@@ -93,15 +93,27 @@ public class AutocompleteService {
         };
     }
 
+    /**
+     * Prefix matches from the in-memory index; Redis is only consulted while the index is not built.
+     */
+    private List<AutocompleteDto> searchPrefix(String prefix, String locale, String type) {
+        List<AutocompleteDto> indexed = autocompleteIndex.search(prefix, locale, type, MAX_RESULTS);
+        return indexed != null ? indexed : searchRedis(prefix, locale, type);
+    }
+
     private List<AutocompleteDto> searchRedis(String prefix, String locale, String type) {
-        if (redisTemplate == null) {
+        // Only per-type sets are synced; type-less searches go to the DB until the index is built
+        if (redisTemplate == null || type == null) {
             return List.of();
         }
 
         try {
-            // Build key: autocomplete:{locale}:{type} or autocomplete:{locale} if no type
-            String key = buildRedisKey(locale, type);
-            Range<String> range = Range.rightOpen(prefix, prefix + "\uffff");
+            String key = autocompleteSyncService.currentKey(locale, type);
+            if (key == null) return List.of();
+
+            // Members start with the normalized name (see AutocompleteSyncService.member)
+            String normalized = AutocompleteTrie.normalize(prefix);
+            Range<String> range = Range.rightOpen(normalized, normalized + "\uffff");
             Limit limit = Limit.limit().count(50);
 
             Set<String> results = redisTemplate.opsForZSet().rangeByLex(key, range, limit);
@@ -110,7 +122,6 @@ public class AutocompleteService {
 
             return results.stream()
                     .map(this::parse)
-                    .filter(dto -> dto.name().toLowerCase().startsWith(prefix.toLowerCase()))
                     .sorted(Comparator.comparing(AutocompleteDto::score).reversed())
                     .limit(MAX_RESULTS)
                     .collect(Collectors.toList());
@@ -158,57 +169,14 @@ public class AutocompleteService {
         return locale != null && CJK_LOCALES.contains(locale);
     }
 
-    /**
-     * Add item to Redis (for sync)
-     * Format: "Name::Type::Id::Score"
-     */
-    public void add(String locale, String name, String type, UUID publicId, Double score) {
-        if (redisTemplate == null) {
-            return;
-        }
-
-        try {
-            String key = buildRedisKey(locale, type);
-            String value = name + DELIMITER + type + DELIMITER + publicId.toString() + DELIMITER + score;
-            redisTemplate.opsForZSet().add(key, value, 0);
-        } catch (Exception e) {
-            log.debug("Redis add failed: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * Clear all autocomplete data for a locale
-     */
-    public void clear(String locale) {
-        if (redisTemplate == null) {
-            return;
-        }
-
-        try {
-            // Clear type-specific keys
-            for (String type : List.of("DISH", "MAIN_INGREDIENT", "SECONDARY_INGREDIENT", "SEASONING")) {
-                redisTemplate.delete(buildRedisKey(locale, type));
-            }
-        } catch (Exception e) {
-            log.debug("Redis clear failed: {}", e.getMessage());
-        }
-    }
-
-    private String buildRedisKey(String locale, String type) {
-        if (type == null) {
-            return AUTOCOMPLETE_KEY_PREFIX + locale;
-        }
-        return AUTOCOMPLETE_KEY_PREFIX + locale + ":" + type;
-    }
-
     private AutocompleteDto parse(String raw) {
         try {
-            String[] parts = raw.split(DELIMITER);
+            String[] parts = raw.split(AutocompleteSyncService.DELIMITER);
             return AutocompleteDto.builder()
-                    .name(parts[0])
-                    .type(parts[1])
-                    .publicId(UUID.fromString(parts[2]))
-                    .score(Double.parseDouble(parts[3]))
+                    .name(parts[1])
+                    .type(parts[2])
+                    .publicId(UUID.fromString(parts[3]))
+                    .score(Double.parseDouble(parts[4]))
                     .build();
         } catch (Exception e) {
             return AutocompleteDto.builder().name(raw).type("UNKNOWN").build();
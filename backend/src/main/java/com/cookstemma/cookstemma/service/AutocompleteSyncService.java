@@ -0,0 +1,423 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.autocomplete.AutocompleteItem;
+import com.cookstemma.cookstemma.domain.enums.AutocompleteType;
+import com.cookstemma.cookstemma.repository.autocomplete.AutocompleteItemRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Copies autocomplete_items into Redis sorted sets for prefix search (see AutocompleteService).
+ *
+ * Every full sync writes a new version, autocomplete:{v}:{locale}:{type}, from a DB cursor with
+ * pipelined batches of ZADDs, then flips autocomplete:current to it; readers keep using the previous
+ * version until the flip and it expires a grace period later, so search never sees an empty or
+ * half-written index. Delta syncs apply the items whose updated_at is newer than the last sync to
+ * the current version in place. autocomplete:{v}:members remembers each item's member per locale so
+ * a renamed item's old member can be removed; deleted items disappear with the next full sync.
+ */
+@Slf4j
+@Service
+public class AutocompleteSyncService {
+
+    public static final List<String> SUPPORTED_LOCALES = List.of(
+            "en-US", "ko-KR", "ja-JP", "fr-FR", "zh-CN", "es-ES", "it-IT"
+    );
+
+    static final String KEY_PREFIX = "autocomplete:";
+    static final String CURRENT_VERSION_KEY = KEY_PREFIX + "current";
+    static final String DELIMITER = "::";
+    private static final String VERSION_SEQUENCE_KEY = KEY_PREFIX + "version-seq";
+    private static final String SYNCED_AT_KEY = KEY_PREFIX + "synced-at";
+    private static final String LOCK_KEY = KEY_PREFIX + "sync:lock";
+    // Separates the sorted set key from the member in the members hash
+    private static final String MEMBER_SEPARATOR = "\n";
+
+    // Deletes the lock only if it is still ours
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('get', KEYS[1]) == ARGV[1] then
+            return redis.call('del', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    enum Mode {
+        FULL, DELTA
+    }
+
+    // One item's member in one locale
+    private record Entry(String field, String key, String member) {
+    }
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AutocompleteItemRepository autocompleteItemRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final Duration retiredVersionTtl;
+    private final Duration buildTtl;
+    private final Duration deltaOverlap;
+    private final Duration versionCacheTtl;
+
+    private final Map<Mode, Timer> durationTimers = new HashMap<>();
+    private final Map<Mode, Counter> itemCounters = new HashMap<>();
+
+    // Current version as last read by searches
+    private volatile String cachedVersion;
+    private volatile long cachedVersionReadAt;
+
+    public AutocompleteSyncService(
+            AutocompleteItemRepository autocompleteItemRepository,
+            AutocompleteIndex autocompleteIndex,
+            MeterRegistry meterRegistry,
+            @Value("${autocomplete.sync.batch-size:500}") int batchSize,
+            @Value("${autocomplete.sync.retired-version-ttl-ms:120000}") long retiredVersionTtlMillis,
+            @Value("${autocomplete.sync.build-ttl-ms:3600000}") long buildTtlMillis,
+            @Value("${autocomplete.sync.delta-overlap-ms:60000}") long deltaOverlapMillis,
+            @Value("${autocomplete.sync.version-cache-ms:5000}") long versionCacheMillis) {
+        this.autocompleteItemRepository = autocompleteItemRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.retiredVersionTtl = Duration.ofMillis(retiredVersionTtlMillis);
+        this.buildTtl = Duration.ofMillis(buildTtlMillis);
+        this.deltaOverlap = Duration.ofMillis(deltaOverlapMillis);
+        this.versionCacheTtl = Duration.ofMillis(versionCacheMillis);
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        for (Mode mode : Mode.values()) {
+            String tag = mode.name().toLowerCase();
+            durationTimers.put(mode, Timer.builder("autocomplete.sync.duration")
+                    .description("Time to sync autocomplete items to Redis")
+                    .tag("mode", tag)
+                    .register(meterRegistry));
+            itemCounters.put(mode, Counter.builder("autocomplete.sync.items")
+                    .description("Autocomplete items written to Redis")
+                    .tag("mode", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Writes every item into a new version and switches searches to it.
+     * Returns the number of items synced, or -1 if skipped (no Redis, or another sync is running).
+     */
+    @Transactional(readOnly = true)
+    public long fullSync() {
+        String token = lock();
+        if (token == null) {
+            return -1;
+        }
+        try {
+            return doFullSync();
+        } finally {
+            unlock(token);
+        }
+    }
+
+    /**
+     * Applies the items changed since the last sync to the current version, or runs a full sync
+     * if there is none yet. Returns the number of items synced, or -1 if skipped.
+     */
+    @Transactional(readOnly = true)
+    public long deltaSync() {
+        String token = lock();
+        if (token == null) {
+            return -1;
+        }
+        try {
+            String version = redisTemplate.opsForValue().get(CURRENT_VERSION_KEY);
+            String syncedAt = redisTemplate.opsForValue().get(SYNCED_AT_KEY);
+            if (version == null || syncedAt == null) {
+                return doFullSync();
+            }
+            return doDeltaSync(version, Instant.ofEpochMilli(Long.parseLong(syncedAt)));
+        } finally {
+            unlock(token);
+        }
+    }
+
+    /**
+     * Sorted set holding the current version's names for locale and type, or null if nothing was
+     * synced yet. The version is cached for autocomplete.sync.version-cache-ms.
+     */
+    public String currentKey(String locale, String type) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        String version = cachedVersion;
+        if (version == null || now - cachedVersionReadAt > versionCacheTtl.toMillis()) {
+            version = redisTemplate.opsForValue().get(CURRENT_VERSION_KEY);
+            cachedVersion = version;
+            cachedVersionReadAt = now;
+        }
+        return version != null ? key(version, locale, type) : null;
+    }
+
+    private long doFullSync() {
+        long start = System.nanoTime();
+        // Items changed while the cursor is open are picked up by the next delta
+        Instant startedAt = Instant.now();
+        String version = String.valueOf(redisTemplate.opsForValue().increment(VERSION_SEQUENCE_KEY));
+        List<String> newKeys = versionKeys(version);
+
+        long items = 0;
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try (Stream<AutocompleteItem> stream = autocompleteItemRepository.streamAll()) {
+            Iterator<AutocompleteItem> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                batch.addAll(entries(version, iterator.next()));
+                items++;
+                if (items % batchSize == 0) {
+                    writeBatch(version, batch, newKeys);
+                    batch.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        writeBatch(version, batch, newKeys);
+
+        String retired = redisTemplate.opsForValue().getAndSet(CURRENT_VERSION_KEY, version);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : newKeys) {
+                connection.keyCommands().persist(bytes(key));
+            }
+            if (retired != null) {
+                // Readers that cached the old version finish with it before it goes
+                for (String key : versionKeys(retired)) {
+                    connection.keyCommands().pExpire(bytes(key), retiredVersionTtl.toMillis());
+                }
+            }
+            return null;
+        });
+        markSynced(startedAt);
+        autocompleteIndex.publishChange();
+
+        record(Mode.FULL, start, items);
+        log.info("Autocomplete full sync wrote {} items to v{} in {}ms",
+                items, version, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        return items;
+    }
+
+    private long doDeltaSync(String version, Instant since) {
+        long start = System.nanoTime();
+        Instant startedAt = Instant.now();
+
+        long items = 0;
+        List<AutocompleteItem> batch = new ArrayList<>(batchSize);
+        try (Stream<AutocompleteItem> stream = autocompleteItemRepository.streamUpdatedAfter(since)) {
+            Iterator<AutocompleteItem> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                items++;
+                if (batch.size() == batchSize) {
+                    applyChanges(version, batch);
+                    batch.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        applyChanges(version, batch);
+
+        markSynced(startedAt);
+        if (items > 0) {
+            autocompleteIndex.publishChange();
+        }
+
+        record(Mode.DELTA, start, items);
+        log.debug("Autocomplete delta sync applied {} items to v{}", items, version);
+        return items;
+    }
+
+    // Adds a batch of a version being built; its keys expire unless the build completes
+    private void writeBatch(String version, List<Entry> batch, List<String> keys) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, Set<Tuple>> byKey = new HashMap<>();
+        Map<byte[], byte[]> members = new HashMap<>();
+        for (Entry entry : batch) {
+            byKey.computeIfAbsent(entry.key(), k -> new LinkedHashSet<>())
+                    .add(new DefaultTuple(bytes(entry.member()), 0.0));
+            members.put(bytes(entry.field()), bytes(entry.key() + MEMBER_SEPARATOR + entry.member()));
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byKey.forEach((key, tuples) -> connection.zSetCommands().zAdd(bytes(key), tuples));
+            connection.hashCommands().hMSet(bytes(membersKey(version)), members);
+            for (String key : keys) {
+                connection.keyCommands().pExpire(bytes(key), buildTtl.toMillis());
+            }
+            return null;
+        });
+    }
+
+    // Replaces the changed items' members in the live version
+    private void applyChanges(String version, List<AutocompleteItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        String membersKey = membersKey(version);
+        List<Object> fields = new ArrayList<>(items.size() * SUPPORTED_LOCALES.size());
+        for (AutocompleteItem item : items) {
+            for (String locale : SUPPORTED_LOCALES) {
+                fields.add(field(item.getPublicId(), locale));
+            }
+        }
+        List<Object> previous = redisTemplate.opsForHash().multiGet(membersKey, fields);
+
+        Map<String, String> current = new HashMap<>();
+        for (AutocompleteItem item : items) {
+            for (Entry entry : entries(version, item)) {
+                current.put(entry.field(), entry.key() + MEMBER_SEPARATOR + entry.member());
+            }
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < fields.size(); i++) {
+                String field = (String) fields.get(i);
+                String old = (String) previous.get(i);
+                String now = current.get(field);
+                if (old != null && !old.equals(now)) {
+                    removeMember(connection, old);
+                    if (now == null) {
+                        connection.hashCommands().hDel(bytes(membersKey), bytes(field));
+                    }
+                }
+                if (now != null && !now.equals(old)) {
+                    int separator = now.indexOf(MEMBER_SEPARATOR);
+                    connection.zSetCommands().zAdd(bytes(now.substring(0, separator)), 0,
+                            bytes(now.substring(separator + 1)));
+                    connection.hashCommands().hSet(bytes(membersKey), bytes(field), bytes(now));
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void removeMember(RedisConnection connection, String keyAndMember) {
+        int separator = keyAndMember.indexOf(MEMBER_SEPARATOR);
+        connection.zSetCommands().zRem(bytes(keyAndMember.substring(0, separator)),
+                bytes(keyAndMember.substring(separator + 1)));
+    }
+
+    private List<Entry> entries(String version, AutocompleteItem item) {
+        Map<String, String> names = item.getName();
+        if (names == null || names.isEmpty()) {
+            return List.of();
+        }
+        String type = item.getType().name();
+        Double score = item.getScore() != null ? item.getScore() : 50.0;
+        List<Entry> entries = new ArrayList<>(names.size());
+        names.forEach((locale, name) -> {
+            if (SUPPORTED_LOCALES.contains(locale) && name != null && !name.isBlank()) {
+                entries.add(new Entry(field(item.getPublicId(), locale), key(version, locale, type),
+                        member(name, type, item.getPublicId(), score)));
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * "normalized::Name::Type::Id::Score"; the normalized name first makes ZRANGEBYLEX match
+     * case- and accent-insensitively (see AutocompleteTrie.normalize).
+     */
+    static String member(String name, String type, UUID publicId, Double score) {
+        return AutocompleteTrie.normalize(name) + DELIMITER + name + DELIMITER + type
+                + DELIMITER + publicId + DELIMITER + score;
+    }
+
+    static String key(String version, String locale, String type) {
+        return KEY_PREFIX + version + ":" + locale + ":" + type;
+    }
+
+    private static String membersKey(String version) {
+        return KEY_PREFIX + version + ":members";
+    }
+
+    private static String field(UUID publicId, String locale) {
+        return publicId + ":" + locale;
+    }
+
+    private static List<String> versionKeys(String version) {
+        List<String> keys = new ArrayList<>();
+        for (String locale : SUPPORTED_LOCALES) {
+            for (AutocompleteType type : AutocompleteType.values()) {
+                keys.add(key(version, locale, type.name()));
+            }
+        }
+        keys.add(membersKey(version));
+        return keys;
+    }
+
+    // The next delta starts a little before this sync did, for transactions that committed late
+    private void markSynced(Instant startedAt) {
+        redisTemplate.opsForValue().set(SYNCED_AT_KEY, String.valueOf(startedAt.minus(deltaOverlap).toEpochMilli()));
+    }
+
+    private void record(Mode mode, long startNanos, long items) {
+        durationTimers.get(mode).record(Duration.ofNanos(System.nanoTime() - startNanos));
+        itemCounters.get(mode).increment(items);
+    }
+
+    private String lock() {
+        if (redisTemplate == null) {
+            return null;
+        }
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, buildTtl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Autocomplete sync already running elsewhere, skipping");
+            return null;
+        }
+        return token;
+    }
+
+    private void unlock(String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), token);
+        } catch (Exception e) {
+            log.warn("Failed to release autocomplete sync lock, it expires in {}ms: {}",
+                    buildTtl.toMillis(), e.getMessage());
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,259 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable prefix index over the autocomplete names of one locale (and type), see AutocompleteIndex.
+ *
+ * A radix trie: chains of single-child nodes are merged into one edge, and every node holds the
+ * ids of its best topK entries, so a lookup walks the query's characters and copies at most topK
+ * precomputed results. Entries are numbered best first (score descending, then name), which makes
+ * a node's top entries simply the smallest ids in its subtree.
+ *
+ * Names and queries are compared in normalized form (see normalize): compatibility forms folded,
+ * lower-cased, Latin accents dropped, Hangul split into jamo and katakana mapped to hiragana, so a
+ * partially typed CJK syllable still matches.
+ */
+public final class AutocompleteTrie {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final Node[] NO_NODES = new Node[0];
+
+    // Hangul syllables are 0xAC00 + (initial * 21 + medial) * 28 + final
+    private static final char HANGUL_FIRST = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final char INITIAL_BASE = 0x1100;
+    private static final char MEDIAL_BASE = 0x1161;
+    private static final char FINAL_BASE = 0x11A7;
+    private static final int MEDIALS = 21;
+    private static final int FINALS = 28;
+
+    // Final consonants as initial consonant indexes, compound finals split (e.g. ㄺ -> ㄹ ㄱ)
+    private static final int[][] FINAL_AS_INITIALS = {
+            {}, {0}, {1}, {0, 9}, {2}, {2, 12}, {2, 18}, {3}, {5}, {5, 0}, {5, 6}, {5, 7}, {5, 9}, {5, 16},
+            {5, 17}, {5, 18}, {6}, {7}, {7, 9}, {9}, {10}, {11}, {12}, {14}, {15}, {16}, {17}, {18}
+    };
+
+    // Compound medial vowels as their two parts (e.g. ㅘ -> ㅗ ㅏ); null where the vowel is simple
+    private static final int[][] MEDIAL_PARTS = new int[MEDIALS][];
+
+    static {
+        MEDIAL_PARTS[9] = new int[]{8, 0};
+        MEDIAL_PARTS[10] = new int[]{8, 1};
+        MEDIAL_PARTS[11] = new int[]{8, 20};
+        MEDIAL_PARTS[14] = new int[]{13, 4};
+        MEDIAL_PARTS[15] = new int[]{13, 5};
+        MEDIAL_PARTS[16] = new int[]{13, 20};
+        MEDIAL_PARTS[19] = new int[]{18, 20};
+    }
+
+    private static final class Node {
+        final String label;
+        final char[] childChars;
+        final Node[] children;
+        final int[] top;
+
+        Node(String label, char[] childChars, Node[] children, int[] top) {
+            this.label = label;
+            this.childChars = childChars;
+            this.children = children;
+            this.top = top;
+        }
+    }
+
+    private record Key(String text, int entry) {
+    }
+
+    private final AutocompleteDto[] entries;
+    private final Node root;
+
+    private AutocompleteTrie(AutocompleteDto[] entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    /**
+     * Builds a trie over the items' names keeping the best topK items per prefix.
+     */
+    public static AutocompleteTrie build(Collection<AutocompleteDto> items, int topK) {
+        AutocompleteDto[] entries = items.stream()
+                .filter(item -> item.name() != null && !item.name().isBlank())
+                .sorted(Comparator.comparing((AutocompleteDto item) -> item.score() != null ? item.score() : 0.0).reversed()
+                        .thenComparing(AutocompleteDto::name))
+                .toArray(AutocompleteDto[]::new);
+
+        Key[] keys = new Key[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = new Key(normalize(entries[i].name()), i);
+        }
+        Arrays.sort(keys, Comparator.comparing(Key::text));
+
+        return new AutocompleteTrie(entries, buildNode(keys, 0, keys.length, "", 0, topK));
+    }
+
+    /**
+     * The best entries whose normalized name starts with the normalized prefix, best first.
+     */
+    public List<AutocompleteDto> search(String prefix, int limit) {
+        // ASCII queries are only lower-cased, which is done while walking instead of up front
+        boolean ascii = isAscii(prefix);
+        String query = ascii ? prefix : normalize(prefix);
+
+        Node node = root;
+        int i = 0;
+        while (i < query.length()) {
+            int c = Arrays.binarySearch(node.childChars, charAt(query, i, ascii));
+            if (c < 0) {
+                return List.of();
+            }
+            node = node.children[c];
+            String label = node.label;
+            for (int j = 0; j < label.length() && i < query.length(); j++, i++) {
+                if (label.charAt(j) != charAt(query, i, ascii)) {
+                    return List.of();
+                }
+            }
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<AutocompleteDto> results = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            results.add(entries[node.top[k]]);
+        }
+        return results;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Comparison form of a name or query: NFKD, lower case, Latin combining accents removed,
+     * Hangul as initial/medial jamo only (finals written as initials, compounds split) and
+     * katakana as hiragana.
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (c >= 0x0300 && c <= 0x036F) {
+                continue;
+            }
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                // NFKD already splits syllables; kept for text that bypassed it
+                int index = c - HANGUL_FIRST;
+                out.append((char) (INITIAL_BASE + index / (MEDIALS * FINALS)));
+                appendMedial(out, index % (MEDIALS * FINALS) / FINALS);
+                appendFinal(out, index % FINALS);
+            } else if (c >= MEDIAL_BASE && c < MEDIAL_BASE + MEDIALS) {
+                appendMedial(out, c - MEDIAL_BASE);
+            } else if (c > FINAL_BASE && c < FINAL_BASE + FINALS) {
+                appendFinal(out, c - FINAL_BASE);
+            } else if (c >= 0x30A1 && c <= 0x30F6) {
+                out.append((char) (c - 0x60));
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void appendMedial(StringBuilder out, int medial) {
+        int[] parts = MEDIAL_PARTS[medial];
+        if (parts == null) {
+            out.append((char) (MEDIAL_BASE + medial));
+        } else {
+            out.append((char) (MEDIAL_BASE + parts[0])).append((char) (MEDIAL_BASE + parts[1]));
+        }
+    }
+
+    private static void appendFinal(StringBuilder out, int fin) {
+        for (int initial : FINAL_AS_INITIALS[fin]) {
+            out.append((char) (INITIAL_BASE + initial));
+        }
+    }
+
+    // keys[from, to) share their first depth characters; the node's edge from its parent is label
+    private static Node buildNode(Key[] keys, int from, int to, String label, int depth, int topK) {
+        // Keys ending here sort before longer ones
+        int i = from;
+        while (i < to && keys[i].text().length() == depth) {
+            i++;
+        }
+        int[] terminals = new int[i - from];
+        for (int k = from; k < i; k++) {
+            terminals[k - from] = keys[k].entry();
+        }
+        List<int[]> candidates = new ArrayList<>();
+        candidates.add(terminals);
+
+        List<Node> children = new ArrayList<>();
+        while (i < to) {
+            char first = keys[i].text().charAt(depth);
+            int end = i + 1;
+            while (end < to && keys[end].text().charAt(depth) == first) {
+                end++;
+            }
+            // Sorted, so the first and last key bound the group's common prefix
+            int common = commonPrefix(keys[i].text(), keys[end - 1].text());
+            Node child = buildNode(keys, i, end, keys[i].text().substring(depth, common), common, topK);
+            children.add(child);
+            candidates.add(child.top);
+            i = end;
+        }
+
+        char[] childChars = children.isEmpty() ? NO_CHARS : new char[children.size()];
+        for (int k = 0; k < childChars.length; k++) {
+            childChars[k] = children.get(k).label.charAt(0);
+        }
+        return new Node(label, childChars, children.isEmpty() ? NO_NODES : children.toArray(NO_NODES), best(candidates, topK));
+    }
+
+    // The topK smallest entry ids of the candidate lists
+    private static int[] best(List<int[]> candidates, int topK) {
+        int total = 0;
+        for (int[] ids : candidates) {
+            total += ids.length;
+        }
+        int[] all = new int[total];
+        int n = 0;
+        for (int[] ids : candidates) {
+            System.arraycopy(ids, 0, all, n, ids.length);
+            n += ids.length;
+        }
+        Arrays.sort(all);
+        return all.length <= topK ? all : Arrays.copyOf(all, topK);
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char charAt(String query, int i, boolean ascii) {
+        char c = query.charAt(i);
+        return ascii && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
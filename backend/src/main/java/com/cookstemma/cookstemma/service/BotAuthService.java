@@ -90,10 +90,7 @@ public class BotAuthService {
         botApiKey.recordUsage();
 
         // Generate tokens
-        String accessToken = jwtTokenProvider.createAccessToken(
-                botUser.getPublicId(),
-                botUser.getRole().name()
-        );
+        String accessToken = jwtTokenProvider.createAccessToken(botUser);
         String refreshToken = jwtTokenProvider.createRefreshToken(botUser.getPublicId());
 
         // Update bot user's refresh token
@@ -183,10 +180,7 @@ public class BotAuthService {
         botUserService.findOrCreateApiKey(botUser);
 
         // 4. Generate tokens
-        String accessToken = jwtTokenProvider.createAccessToken(
-                botUser.getPublicId(),
-                botUser.getRole().name()
-        );
+        String accessToken = jwtTokenProvider.createAccessToken(botUser);
         String refreshToken = jwtTokenProvider.createRefreshToken(botUser.getPublicId());
 
         // 5. Update bot user
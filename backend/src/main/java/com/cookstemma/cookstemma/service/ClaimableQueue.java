@@ -0,0 +1,200 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.common.ClaimableEntry;
+import com.cookstemma.cookstemma.repository.common.ClaimableQueueRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * A durable table queue drained by ClaimableQueueWorker threads (see ImageJobQueue, NotificationOutbox).
+ *
+ * Workers claim due rows in batches with FOR UPDATE SKIP LOCKED, and the rows record which worker holds
+ * them. Finished rows are deleted and failed ones retried with exponential backoff until maxAttempts,
+ * after which they stay FAILED; both only apply while the worker still holds the row, so a worker whose
+ * claim was released can't undo another worker's newer claim. refresh()
+ * releases claims older than lockTimeout and updates the depth and age gauges ({metricPrefix}.depth,
+ * {metricPrefix}.oldest.age); retries and final failures are counted as {metricPrefix}.retried and
+ * {metricPrefix}.failed.
+ */
+@Slf4j
+public abstract class ClaimableQueue<T extends ClaimableEntry> {
+
+    // Longest error message kept on the row
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final List<String> STATUSES = List.of("PENDING", "PROCESSING", "FAILED");
+
+    protected final ClaimableQueueRepository<T> repository;
+    protected final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    private final String metricPrefix;
+    // Plural name of the rows for logs and metric descriptions, e.g. "image jobs"
+    private final String rowsName;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final long lockTimeoutMillis;
+
+    // Refreshed by refresh() so scrapes don't query the table
+    private final Map<String, AtomicLong> depth = new LinkedHashMap<>();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    private Counter retriedCounter;
+    private Counter failedCounter;
+
+    protected ClaimableQueue(ClaimableQueueRepository<T> repository, MeterRegistry meterRegistry,
+                             String metricPrefix, String rowsName, int maxAttempts,
+                             long backoffBaseMillis, long backoffMaxMillis, long lockTimeoutMillis) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.metricPrefix = metricPrefix;
+        this.rowsName = rowsName;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.lockTimeoutMillis = lockTimeoutMillis;
+        STATUSES.forEach(status -> depth.put(status, new AtomicLong()));
+    }
+
+    @PostConstruct
+    void registerQueueMetrics() {
+        String description = Character.toUpperCase(rowsName.charAt(0)) + rowsName.substring(1);
+        depth.forEach((status, value) -> Gauge.builder(metricPrefix + ".depth", value, AtomicLong::get)
+                .description(description + " per status")
+                .tag("status", status.toLowerCase())
+                .register(meterRegistry));
+        Gauge.builder(metricPrefix + ".oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age of the oldest of the pending " + rowsName)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        retriedCounter = Counter.builder(metricPrefix + ".retried")
+                .description(description + " that failed and were rescheduled")
+                .register(meterRegistry);
+        failedCounter = Counter.builder(metricPrefix + ".failed")
+                .description(description + " that used up their attempts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims up to limit due rows for worker. The returned rows are detached and carry the worker
+     * (lockedBy), which remove() and fail() check against the table.
+     */
+    @Transactional
+    public List<T> claim(String worker, int limit) {
+        List<T> rows = repository.lockDue(limit);
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        repository.markClaimed(ids(rows), worker);
+        for (T row : rows) {
+            entityManager.detach(row);
+            row.setLockedBy(worker);
+        }
+        return rows;
+    }
+
+    /**
+     * Deletes finished rows that their worker still holds.
+     */
+    protected void remove(Collection<T> rows) {
+        byWorker(rows).forEach((worker, group) ->
+                warnIfLost(group, worker, repository.deleteByIds(ids(group), worker), "completed"));
+    }
+
+    /**
+     * Reschedules failed rows, or marks those that used their attempts FAILED.
+     * A claimed row's attempts do not include the current one (claiming increments the row only).
+     */
+    @Transactional
+    public void fail(Collection<T> rows, String error) {
+        String message = truncate(error);
+        byWorker(rows).forEach((worker, workerRows) -> {
+            Map<Integer, List<T>> byAttempts = workerRows.stream()
+                    .collect(Collectors.groupingBy(row -> row.getAttempts() + 1));
+            byAttempts.forEach((attempts, group) -> {
+                if (attempts >= maxAttempts) {
+                    int failed = repository.markFailed(ids(group), worker, message);
+                    warnIfLost(group, worker, failed, "failed");
+                    failedCounter.increment(failed);
+                    log.error("{} {} failed after {} attempts: {} (ids {})", failed, rowsName, attempts, message, ids(group));
+                } else {
+                    Duration delay = backoff(attempts);
+                    int rescheduled = repository.reschedule(ids(group), worker, Instant.now().plus(delay), message);
+                    warnIfLost(group, worker, rescheduled, "failed");
+                    retriedCounter.increment(rescheduled);
+                    log.warn("{} {} failed (attempt {}), retrying in {}s: {}", rescheduled, rowsName, attempts,
+                            delay.toSeconds(), message);
+                }
+            });
+        });
+    }
+
+    /**
+     * Releases stale claims and refreshes the queue gauges.
+     */
+    @Transactional
+    public void refresh() {
+        int released = repository.releaseStaleClaims(Instant.now().minusMillis(lockTimeoutMillis));
+        if (released > 0) {
+            log.warn("Released {} {} claimed more than {}ms ago", released, rowsName, lockTimeoutMillis);
+        }
+
+        depth.values().forEach(value -> value.set(0));
+        for (Object[] row : repository.countByStatus()) {
+            AtomicLong value = depth.get((String) row[0]);
+            if (value != null) {
+                value.set(((Number) row[1]).longValue());
+            }
+        }
+        Double age = repository.findOldestPendingAgeSeconds();
+        oldestPendingAgeSeconds.set(age != null ? age.longValue() : 0);
+    }
+
+    // base, 2x base, 4x base ... capped at the backoff maximum
+    Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        return Duration.ofMillis(Math.min(backoffMaxMillis, backoffBaseMillis * multiplier));
+    }
+
+    private Map<String, List<T>> byWorker(Collection<T> rows) {
+        return rows.stream()
+                .filter(row -> row.getLockedBy() != null)
+                .collect(Collectors.groupingBy(ClaimableEntry::getLockedBy));
+    }
+
+    // Rows the worker no longer held were released after the lock timeout (and maybe claimed again)
+    private void warnIfLost(List<T> rows, String worker, int updated, String outcome) {
+        if (updated < rows.size()) {
+            log.warn("{} of {} {} {} by {} were no longer claimed by it (ids {})", rows.size() - updated,
+                    rows.size(), rowsName, outcome, worker, ids(rows));
+        }
+    }
+
+    protected static List<Long> ids(Collection<? extends ClaimableEntry> rows) {
+        return rows.stream().map(ClaimableEntry::getId).toList();
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
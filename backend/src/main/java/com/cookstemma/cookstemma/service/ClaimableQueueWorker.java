@@ -0,0 +1,96 @@
+package com.cookstemma.cookstemma.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Threads that drain a ClaimableQueue (see ImageJobWorker, NotificationDispatcher).
+ *
+ * Each of the workers threads runs processBatch(), which claims up to batchSize rows and handles
+ * them, again and again; it sleeps for pollIntervalMillis when nothing was claimed or the queue is
+ * unavailable. Workers only claim what they are about to process, so a backlog stays in the table
+ * rather than in memory. Each thread claims under its own worker id (thread name plus an id for this
+ * process), which the queue checks before completing or failing a row.
+ */
+@Slf4j
+public abstract class ClaimableQueueWorker {
+
+    // Tells workers of different processes apart
+    private static final String PROCESS_ID = UUID.randomUUID().toString().substring(0, 8);
+
+    private final String threadName;
+    private final int workers;
+    protected final int batchSize;
+    private final long pollIntervalMillis;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    protected ClaimableQueueWorker(String threadName, int workers, int batchSize, long pollIntervalMillis) {
+        this.threadName = threadName;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+    }
+
+    /**
+     * Claims and handles one batch as worker; returns the number of rows claimed.
+     */
+    protected abstract int processBatch(String worker) throws InterruptedException;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (workers <= 0 || running) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            String name = threadName + "-" + (i + 1);
+            Thread thread = new Thread(() -> run(name + "@" + PROCESS_ID), name);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Started {} {} threads (batch size {})", workers, threadName, batchSize);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            // Rows cut off here are released after the queue's lock timeout
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        threads.clear();
+    }
+
+    private void run(String worker) {
+        while (running) {
+            try {
+                if (processBatch(worker) == 0) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Queue unavailable (e.g. database down); back off and try again
+                log.error("{} failed to claim work: {}", Thread.currentThread().getName(), e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
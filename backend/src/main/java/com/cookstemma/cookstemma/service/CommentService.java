@@ -18,6 +18,7 @@ import com.cookstemma.cookstemma.security.UserPrincipal;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,7 +40,8 @@ public class CommentService {
     private final LogPostRepository logPostRepository;
     private final UserRepository userRepository;
     private final NotificationRepository notificationRepository;
-    private final PushNotificationService pushNotificationService;
+    private final NotificationOutbox notificationOutbox;
+    private final ApplicationEventPublisher eventPublisher;
     private final TranslationEventService translationEventService;
 
     private static final int MAX_PREVIEW_REPLIES = 3;
@@ -339,8 +341,9 @@ public class CommentService {
             .build();
 
         notificationRepository.save(notification);
-        pushNotificationService.sendToUser(logOwnerId, notification);
-        log.info("Sent COMMENT_ON_LOG notification to user {} from user {}", logOwnerId, sender.getId());
+        notificationOutbox.enqueue(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(recipient.getId()));
+        log.info("Queued COMMENT_ON_LOG notification to user {} from user {}", logOwnerId, sender.getId());
     }
 
     private void notifyCommentReply(Comment parentComment, Comment reply, User sender) {
@@ -373,8 +376,9 @@ public class CommentService {
             .build();
 
         notificationRepository.save(notification);
-        pushNotificationService.sendToUser(parentAuthorId, notification);
-        log.info("Sent COMMENT_REPLY notification to user {} from user {}", parentAuthorId, sender.getId());
+        notificationOutbox.enqueue(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(recipient.getId()));
+        log.info("Queued COMMENT_REPLY notification to user {} from user {}", parentAuthorId, sender.getId());
     }
 
     // =========== Conversion Helpers ===========
@@ -0,0 +1,55 @@
+package com.cookstemma.cookstemma.service;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PushSender backed by the Firebase Admin SDK (initialised by FirebaseConfig).
+ */
+@Slf4j
+@Component
+public class FcmPushSender implements PushSender {
+
+    @Override
+    public boolean isAvailable() {
+        return !FirebaseApp.getApps().isEmpty();
+    }
+
+    @Override
+    public List<Result> send(List<Message> messages) {
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            List<Result> results = new ArrayList<>(messages.size());
+            for (SendResponse sent : response.getResponses()) {
+                results.add(sent.isSuccessful() ? Result.SENT : classify(sent.getException()));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            log.warn("FCM batch of {} messages failed: {}", messages.size(), e.getMessage());
+            return Collections.nCopies(messages.size(), Result.RETRYABLE);
+        }
+    }
+
+    private static Result classify(FirebaseMessagingException e) {
+        if (e == null) {
+            return Result.RETRYABLE;
+        }
+        MessagingErrorCode code = e.getMessagingErrorCode();
+        if (code == MessagingErrorCode.UNREGISTERED || code == MessagingErrorCode.INVALID_ARGUMENT
+                || code == MessagingErrorCode.SENDER_ID_MISMATCH) {
+            return Result.INVALID_TOKEN;
+        }
+        return Result.RETRYABLE;
+    }
+}
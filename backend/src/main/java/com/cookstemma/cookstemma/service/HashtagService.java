@@ -12,7 +12,6 @@ import com.cookstemma.cookstemma.domain.entity.user.User;
 import com.cookstemma.cookstemma.domain.enums.ImageType;
 import com.cookstemma.cookstemma.repository.hashtag.HashtagRepository;
 import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
-import com.cookstemma.cookstemma.repository.recipe.RecipeLogRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.util.CursorUtil;
@@ -43,7 +42,8 @@ public class HashtagService {
     private final RecipeRepository recipeRepository;
     private final LogPostRepository logPostRepository;
     private final UserRepository userRepository;
-    private final RecipeLogRepository recipeLogRepository;
+    private final SearchDocumentProjector searchDocumentProjector;
+    private final SummaryAssembler summaryAssembler;
 
     @Value("${file.upload.url-prefix}")
     private String urlPrefix;
@@ -173,6 +173,7 @@ public class HashtagService {
 
         if (!newHashtags.isEmpty()) {
             hashtagRepository.saveAll(newHashtags);
+            searchDocumentProjector.projectHashtags(newHashtags);
         }
 
         // Combine existing and new hashtags
@@ -215,23 +216,21 @@ public class HashtagService {
         }
 
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        // Use language key pattern for translation filtering (e.g., "en%" matches both "en" and "en-US")
-        String langCodePattern = LocaleUtils.toLanguageKey(normalizedLocale) + "%";
+        // Filter by translation availability (available_languages holds 2-letter keys, so "en" covers "en-US")
+        String langCode = LocaleUtils.toLanguageKey(normalizedLocale);
 
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
         Slice<Recipe> recipes;
         if (cursorData == null) {
-            recipes = recipeRepository.findByHashtagWithCursorInitial(normalizedName, langCodePattern, pageable);
+            recipes = recipeRepository.findByHashtagWithCursorInitial(normalizedName, langCode, pageable);
         } else {
             recipes = recipeRepository.findByHashtagWithCursor(
-                    normalizedName, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    normalizedName, langCode, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
-        List<RecipeSummaryDto> content = recipes.getContent().stream()
-                .map(recipe -> convertToRecipeSummary(recipe, normalizedLocale))
-                .toList();
+        List<RecipeSummaryDto> content = summaryAssembler.toRecipeSummaries(recipes.getContent(), normalizedLocale);
 
         String nextCursor = null;
         if (recipes.hasNext() && !recipes.getContent().isEmpty()) {
@@ -260,23 +259,21 @@ public class HashtagService {
         }
 
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        // Use language key pattern for translation filtering (e.g., "en%" matches both "en" and "en-US")
-        String langCodePattern = LocaleUtils.toLanguageKey(normalizedLocale) + "%";
+        // Filter by translation availability (available_languages holds 2-letter keys, so "en" covers "en-US")
+        String langCode = LocaleUtils.toLanguageKey(normalizedLocale);
 
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
         Slice<LogPost> logPosts;
         if (cursorData == null) {
-            logPosts = logPostRepository.findByHashtagWithCursorInitial(normalizedName, langCodePattern, pageable);
+            logPosts = logPostRepository.findByHashtagWithCursorInitial(normalizedName, langCode, pageable);
         } else {
             logPosts = logPostRepository.findByHashtagWithCursor(
-                    normalizedName, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    normalizedName, langCode, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
-        List<LogPostSummaryDto> content = logPosts.getContent().stream()
-                .map(logPost -> convertToLogPostSummary(logPost, normalizedLocale))
-                .toList();
+        List<LogPostSummaryDto> content = summaryAssembler.toLogSummaries(logPosts.getContent(), normalizedLocale);
 
         String nextCursor = null;
         if (logPosts.hasNext() && !logPosts.getContent().isEmpty()) {
@@ -331,30 +328,30 @@ public class HashtagService {
         }
 
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        String langCodePattern = LocaleUtils.toLanguageKey(normalizedLocale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(normalizedLocale);
 
         // For offset-based pagination (web)
         if (page != null) {
-            return getContentByHashtagOffset(normalizedName, page, size, normalizedLocale, langCodePattern);
+            return getContentByHashtagOffset(normalizedName, page, size, normalizedLocale, langCode);
         }
 
         // Cursor-based pagination (mobile)
-        return getContentByHashtagCursor(normalizedName, cursor, size, normalizedLocale, langCodePattern);
+        return getContentByHashtagCursor(normalizedName, cursor, size, normalizedLocale, langCode);
     }
 
     /**
      * Get content by hashtag using offset-based pagination.
      */
     private UnifiedPageResponse<HashtaggedContentDto> getContentByHashtagOffset(
-            String hashtagName, int page, int size, String locale, String langCodePattern) {
+            String hashtagName, int page, int size, String locale, String langCode) {
 
         Pageable pageable = PageRequest.of(page, size);
 
         // Fetch recipes and logs for this hashtag
         org.springframework.data.domain.Page<Recipe> recipesPage = 
-                recipeRepository.findByHashtagPage(hashtagName, langCodePattern, pageable);
+                recipeRepository.findByHashtagPage(hashtagName, langCode, pageable);
         org.springframework.data.domain.Page<LogPost> logsPage = 
-                logPostRepository.findByHashtagPage(hashtagName, langCodePattern, pageable);
+                logPostRepository.findByHashtagPage(hashtagName, langCode, pageable);
 
         // Convert to DTOs with createdAt for sorting
         record ContentWithTime(HashtaggedContentDto dto, java.time.Instant createdAt) {}
@@ -397,7 +394,7 @@ public class HashtagService {
      * Get content by hashtag using cursor-based pagination.
      */
     private UnifiedPageResponse<HashtaggedContentDto> getContentByHashtagCursor(
-            String hashtagName, String cursor, int size, String locale, String langCodePattern) {
+            String hashtagName, String cursor, int size, String locale, String langCode) {
 
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
@@ -405,19 +402,19 @@ public class HashtagService {
         // Fetch recipes for this hashtag
         Slice<Recipe> recipes;
         if (cursorData == null) {
-            recipes = recipeRepository.findByHashtagWithCursorInitial(hashtagName, langCodePattern, pageable);
+            recipes = recipeRepository.findByHashtagWithCursorInitial(hashtagName, langCode, pageable);
         } else {
             recipes = recipeRepository.findByHashtagWithCursor(
-                    hashtagName, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    hashtagName, langCode, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         // Fetch logs for this hashtag
         Slice<LogPost> logs;
         if (cursorData == null) {
-            logs = logPostRepository.findByHashtagWithCursorInitial(hashtagName, langCodePattern, pageable);
+            logs = logPostRepository.findByHashtagWithCursorInitial(hashtagName, langCode, pageable);
         } else {
             logs = logPostRepository.findByHashtagWithCursor(
-                    hashtagName, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    hashtagName, langCode, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         // Convert to DTOs with createdAt for sorting
@@ -540,133 +537,4 @@ public class HashtagService {
                 logPost.getIsPrivate() != null ? logPost.getIsPrivate() : false
         );
     }
-
-    // ==================== PRIVATE HELPER METHODS ====================
-
-    private RecipeSummaryDto convertToRecipeSummary(Recipe recipe, String locale) {
-        // 1. Creator info
-        User creator = userRepository.findById(recipe.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : "Unknown";
-
-        // 2. Food name from JSONB map (locale-aware)
-        String foodName = LocaleUtils.getLocalizedValue(
-                recipe.getFoodMaster().getName(),
-                locale,
-                recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-
-        // 3. Thumbnail URL (first cover image from join table)
-        String thumbnail = recipe.getCoverImages().stream()
-                .filter(img -> img.getType() == ImageType.COVER)
-                .findFirst()
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        // 4. Variant count
-        int variantCount = (int) recipeRepository.countByRootRecipeIdAndDeletedAtIsNull(recipe.getId());
-
-        // 5. Log count
-        int logCount = (int) recipeLogRepository.countByRecipeId(recipe.getId());
-
-        // 6. Root recipe title (locale-aware)
-        String rootTitle = null;
-        if (recipe.getRootRecipe() != null) {
-            rootTitle = LocaleUtils.getLocalizedValue(
-                    recipe.getRootRecipe().getTitleTranslations(),
-                    locale,
-                    recipe.getRootRecipe().getTitle());
-        }
-
-        // 7. Hashtags (first 3)
-        List<String> hashtags = recipe.getHashtags().stream()
-                .map(Hashtag::getName)
-                .limit(3)
-                .toList();
-
-        // 8. Locale-aware title and description
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                recipe.getTitleTranslations(), locale, recipe.getTitle());
-        String localizedDescription = LocaleUtils.getLocalizedValue(
-                recipe.getDescriptionTranslations(), locale, recipe.getDescription());
-
-        return new RecipeSummaryDto(
-                recipe.getPublicId(),
-                foodName,
-                recipe.getFoodMaster().getPublicId(),
-                localizedTitle,
-                localizedDescription,
-                recipe.getCookingStyle(),
-                creatorPublicId,
-                userName,
-                thumbnail,
-                variantCount,
-                logCount,
-                recipe.getParentRecipe() != null ? recipe.getParentRecipe().getPublicId() : null,
-                recipe.getRootRecipe() != null ? recipe.getRootRecipe().getPublicId() : null,
-                rootTitle,
-                recipe.getServings() != null ? recipe.getServings() : 2,
-                recipe.getCookingTimeRange() != null ? recipe.getCookingTimeRange().name() : "MIN_30_TO_60",
-                hashtags,
-                recipe.getIsPrivate() != null ? recipe.getIsPrivate() : false
-        );
-    }
-
-    private LogPostSummaryDto convertToLogPostSummary(LogPost logPost, String locale) {
-        // 1. Creator info
-        User creator = userRepository.findById(logPost.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : null;
-
-        // 2. Thumbnail URL (first image)
-        String thumbnailUrl = logPost.getImages().stream()
-                .findFirst()
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        // 3. Rating, food name, and recipe title from recipe log (locale-aware)
-        Integer rating = logPost.getRecipeLog() != null ? logPost.getRecipeLog().getRating() : null;
-        String foodName = null;
-        String recipeTitle = null;
-        boolean isVariant = false;
-
-        if (logPost.getRecipeLog() != null && logPost.getRecipeLog().getRecipe() != null) {
-            Recipe linkedRecipe = logPost.getRecipeLog().getRecipe();
-            foodName = LocaleUtils.getLocalizedValue(
-                    linkedRecipe.getFoodMaster().getName(),
-                    locale,
-                    linkedRecipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-            recipeTitle = LocaleUtils.getLocalizedValue(
-                    linkedRecipe.getTitleTranslations(), locale, linkedRecipe.getTitle());
-            isVariant = linkedRecipe.getParentRecipe() != null;
-        }
-
-        // 4. Hashtags (first 3)
-        List<String> hashtags = logPost.getHashtags().stream()
-                .map(Hashtag::getName)
-                .limit(3)
-                .toList();
-
-        // 5. Locale-aware title and content
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                logPost.getTitleTranslations(), locale, logPost.getTitle());
-        String localizedContent = LocaleUtils.getLocalizedValue(
-                logPost.getContentTranslations(), locale, logPost.getContent());
-
-        return new LogPostSummaryDto(
-                logPost.getPublicId(),
-                localizedTitle,
-                localizedContent,
-                rating,
-                thumbnailUrl,
-                creatorPublicId,
-                userName,
-                foodName,
-                recipeTitle,
-                hashtags,
-                isVariant,
-                logPost.getIsPrivate() != null ? logPost.getIsPrivate() : false,
-                logPost.getCommentCount() != null ? logPost.getCommentCount() : 0,
-                logPost.getLocale()
-        );
-    }
 }
@@ -0,0 +1,8 @@
+package com.cookstemma.cookstemma.service;
+
+/**
+ * Published when a recipe or log post is created, updated or deleted, so home feed snapshots
+ * are rebuilt after the transaction commits (see HomeFeedSnapshotService).
+ */
+public record HomeFeedChangedEvent() {
+}
@@ -0,0 +1,110 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.recipe.HomeFeedResponseDto;
+import com.cookstemma.cookstemma.util.LocaleUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the home feed from pre-serialized per-language snapshots.
+ *
+ * The feed is the same for every user of a language, so it is built once per supported language
+ * key and kept as JSON bytes with an ETag. Snapshots are rebuilt in the background
+ * (see HomeFeedSnapshotScheduler) after content changes and at least every max-age,
+ * which also picks up translations written by the translator Lambda.
+ * A language without a snapshot yet (e.g. right after startup) is built on first request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HomeFeedSnapshotService {
+
+    public record Snapshot(byte[] body, String etag, Instant builtAt) {
+    }
+
+    private final RecipeService recipeService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${home-feed.snapshot.max-age-ms:60000}")
+    private long maxAgeMillis;
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicBoolean stale = new AtomicBoolean(false);
+
+    // 0 until the first full refresh, so the first scheduler tick builds every language
+    private volatile long lastRefreshStartedAtMillis;
+
+    /**
+     * Snapshot for the request locale. Unsupported languages are built per request and not kept.
+     */
+    public Snapshot getSnapshot(String locale) {
+        String languageKey = LocaleUtils.toLanguageKey(locale);
+        if (!LocaleUtils.supportedLanguageKeys().contains(languageKey)) {
+            return build(LocaleUtils.normalizeLocale(locale));
+        }
+
+        Snapshot snapshot = snapshots.get(languageKey);
+        if (snapshot == null) {
+            snapshot = snapshots.computeIfAbsent(languageKey, this::buildForLanguage);
+        }
+        return snapshot;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeFeedChanged(HomeFeedChangedEvent event) {
+        stale.set(true);
+    }
+
+    /**
+     * Rebuild all snapshots if content changed or the oldest one passed max-age.
+     */
+    public void refreshIfDue() {
+        boolean expired = System.currentTimeMillis() - lastRefreshStartedAtMillis >= maxAgeMillis;
+        // Clear the flag before rebuilding, so changes committed during the rebuild trigger another one
+        if (stale.getAndSet(false) || expired) {
+            refreshAll();
+        }
+    }
+
+    public synchronized void refreshAll() {
+        lastRefreshStartedAtMillis = System.currentTimeMillis();
+        int failed = 0;
+        for (String languageKey : LocaleUtils.supportedLanguageKeys()) {
+            try {
+                snapshots.put(languageKey, buildForLanguage(languageKey));
+            } catch (Exception e) {
+                // Keep serving the previous snapshot for this language
+                failed++;
+                log.warn("Home feed snapshot for {} failed: {}", languageKey, e.getMessage());
+            }
+        }
+        log.debug("Rebuilt home feed snapshots in {}ms ({} failed)",
+                System.currentTimeMillis() - lastRefreshStartedAtMillis, failed);
+    }
+
+    private Snapshot buildForLanguage(String languageKey) {
+        return build(LocaleUtils.toBcp47(languageKey));
+    }
+
+    private Snapshot build(String locale) {
+        HomeFeedResponseDto feed = recipeService.getHomeFeed(locale);
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(feed);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new Snapshot(body, etag, Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize home feed", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.image.ImageJob;
+import com.cookstemma.cookstemma.repository.image.ImageJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable queue of image variant jobs (image_jobs, V25).
+ *
+ * Jobs are enqueued once the transaction that created the image commits (ImageVariantsRequestedEvent),
+ * claimed in batches by ImageJobWorker, deleted when done and retried with exponential backoff on
+ * failure until image.jobs.max-attempts, after which they stay FAILED. Claims older than
+ * image.jobs.lock-timeout-ms are released by refresh() (see ClaimableQueue).
+ */
+@Service
+public class ImageJobQueue extends ClaimableQueue<ImageJob> {
+
+    private final ImageJobRepository imageJobRepository;
+
+    private Counter completedCounter;
+    private Timer latencyTimer;
+    private Timer processingTimer;
+
+    public ImageJobQueue(ImageJobRepository imageJobRepository, MeterRegistry meterRegistry,
+                         @Value("${image.jobs.max-attempts:5}") int maxAttempts,
+                         @Value("${image.jobs.backoff-base-ms:10000}") long backoffBaseMillis,
+                         @Value("${image.jobs.backoff-max-ms:3600000}") long backoffMaxMillis,
+                         @Value("${image.jobs.lock-timeout-ms:600000}") long lockTimeoutMillis) {
+        super(imageJobRepository, meterRegistry, "image.jobs", "image jobs",
+                maxAttempts, backoffBaseMillis, backoffMaxMillis, lockTimeoutMillis);
+        this.imageJobRepository = imageJobRepository;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        completedCounter = Counter.builder("image.jobs.completed")
+                .description("Image jobs finished")
+                .register(meterRegistry);
+        latencyTimer = Timer.builder("image.jobs.latency")
+                .description("Time from enqueue to completion")
+                .register(meterRegistry);
+        processingTimer = Timer.builder("image.jobs.processing")
+                .description("Time spent generating variants per job")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onImageVariantsRequested(ImageVariantsRequestedEvent event) {
+        enqueue(List.of(event.imageId()));
+    }
+
+    /**
+     * Queues the images; returns how many jobs were added.
+     */
+    @Transactional
+    public int enqueue(Collection<Long> imageIds) {
+        if (imageIds.isEmpty()) {
+            return 0;
+        }
+        return imageJobRepository.enqueue(imageIds);
+    }
+
+    @Transactional
+    public void complete(ImageJob job, Duration processingTime) {
+        remove(List.of(job));
+        completedCounter.increment();
+        processingTimer.record(processingTime);
+        latencyTimer.record(Duration.between(job.getCreatedAt(), Instant.now()));
+    }
+
+    /**
+     * Reschedules a failed attempt, or marks the job FAILED once it has used its attempts.
+     */
+    @Transactional
+    public void fail(ImageJob job, Exception error) {
+        fail(List.of(job), error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+
+    public long pendingCount() {
+        return imageJobRepository.countPending();
+    }
+}
@@ -0,0 +1,73 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.image.ImageJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker threads that drain the image job queue (see ImageJobQueue).
+ *
+ * Each of image.jobs.workers threads claims up to image.jobs.batch-size jobs, generates their
+ * variants and claims again; it sleeps for image.jobs.poll-interval-ms when the queue is empty
+ * (see ClaimableQueueWorker). image.jobs.max-jobs-per-second (0 = unlimited) paces all workers together.
+ */
+@Component
+public class ImageJobWorker extends ClaimableQueueWorker {
+
+    private final ImageJobQueue imageJobQueue;
+    private final ImageProcessingService imageProcessingService;
+    private final double maxJobsPerSecond;
+
+    // Earliest time the next job may start when paced
+    private final AtomicLong nextStartNanos = new AtomicLong(System.nanoTime());
+
+    public ImageJobWorker(ImageJobQueue imageJobQueue, ImageProcessingService imageProcessingService,
+                          @Value("${image.jobs.workers:2}") int workers,
+                          @Value("${image.jobs.batch-size:4}") int batchSize,
+                          @Value("${image.jobs.poll-interval-ms:1000}") long pollIntervalMillis,
+                          @Value("${image.jobs.max-jobs-per-second:0}") double maxJobsPerSecond) {
+        super("image-job-worker", workers, batchSize, pollIntervalMillis);
+        this.imageJobQueue = imageJobQueue;
+        this.imageProcessingService = imageProcessingService;
+        this.maxJobsPerSecond = maxJobsPerSecond;
+    }
+
+    @Override
+    protected int processBatch(String worker) throws InterruptedException {
+        List<ImageJob> jobs = imageJobQueue.claim(worker, batchSize);
+        for (ImageJob job : jobs) {
+            pace();
+            process(job);
+        }
+        return jobs.size();
+    }
+
+    void process(ImageJob job) {
+        long start = System.nanoTime();
+        try {
+            imageProcessingService.generateVariants(job.getImageId());
+        } catch (Exception e) {
+            imageJobQueue.fail(job, e);
+            return;
+        }
+        imageJobQueue.complete(job, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void pace() throws InterruptedException {
+        if (maxJobsPerSecond <= 0) {
+            return;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / maxJobsPerSecond);
+        long slot = nextStartNanos.accumulateAndGet(interval,
+                (next, step) -> Math.max(next, System.nanoTime()) + step) - interval;
+        long wait = slot - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -2,36 +2,37 @@ package com.cookstemma.cookstemma.service;
 
 import com.cookstemma.cookstemma.domain.entity.image.Image;
 import com.cookstemma.cookstemma.domain.enums.ImageStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageType;
 import com.cookstemma.cookstemma.domain.enums.ImageVariant;
 import com.cookstemma.cookstemma.repository.image.ImageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import dev.matrixlab.webp4j.WebPCodec;
-
-import javax.imageio.IIOImage;
-import javax.imageio.ImageIO;
-import javax.imageio.ImageWriteParam;
-import javax.imageio.ImageWriter;
-import javax.imageio.stream.ImageOutputStream;
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Iterator;
-
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates resized WebP variants of uploaded images (see ImageVariantPipeline).
+ *
+ * Generation is queued once the uploading transaction commits. Download, decode, encode and upload
+ * run outside any transaction; the variant rows and original metadata are written afterwards in
+ * one short transaction. The original is read from the copy staged at upload when this instance
+ * still has it (StagedImageStore) and downloaded from S3 otherwise. Deduplicated uploads, which
+ * share another original's stored object, copy that original's variant rows instead.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -39,6 +40,10 @@ public class ImageProcessingService {
 
     private final S3Client s3Client;
     private final ImageRepository imageRepository;
+    private final ImageVariantPipeline imageVariantPipeline;
+    private final StagedImageStore stagedImageStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload.bucket}")
     private String bucket;
@@ -46,283 +51,226 @@ public class ImageProcessingService {
     @Value("${file.upload.url-prefix}")
     private String urlPrefix;
 
-    // Track if WebP fallback warning has been logged (to avoid log spam)
-    private volatile boolean webpFallbackWarningLogged = false;
-
     /**
-     * Result of image encoding, containing the bytes and format used.
+     * What the pipeline needs from the original image row, read before any S3 work.
      */
-    private record EncodingResult(byte[] data, String format, String contentType, String extension) {}
+    private record Source(String storedFilename, ImageType type, boolean skip) {
+    }
 
-    @Async("imageProcessingExecutor")
-    @Transactional
+    /**
+     * Queues variant generation for an original image. The job is added once the caller's
+     * transaction has committed and is processed by ImageJobWorker (see ImageJobQueue).
+     */
     public void generateVariantsAsync(Long originalImageId) {
-        // Add a small delay to ensure the calling transaction has committed
-        // This prevents race condition where we read recipe_id as NULL
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return;
-        }
-
-        generateVariantsSync(originalImageId);
+        eventPublisher.publishEvent(new ImageVariantsRequestedEvent(originalImageId));
     }
 
     /**
-     * Synchronous variant generation for debugging.
-     * Call this directly to test if the processing logic works.
+     * Generates the variants of an original image. Throws if the work should be retried
+     * (e.g. S3 unavailable); unreadable images and images that already have variants are not errors.
      */
-    @Transactional
-    public void generateVariantsSync(Long originalImageId) {
-        generateVariantsSyncWithResult(originalImageId);
+    public void generateVariants(Long originalImageId) throws Exception {
+        StringBuilder result = new StringBuilder();
+        generateVariants(originalImageId, result);
+        log.debug(result.toString());
     }
 
     /**
      * Synchronous variant generation with detailed result for debugging.
      */
-    @Transactional
     public String generateVariantsSyncWithResult(Long originalImageId) {
         StringBuilder result = new StringBuilder();
-        result.append("Processing image ID: ").append(originalImageId).append("\n");
-
         try {
-            Image original = imageRepository.findById(originalImageId)
-                    .orElseThrow(() -> new IllegalArgumentException("Image not found: " + originalImageId));
-
-            result.append("Found image: ").append(original.getStoredFilename()).append("\n");
-
-            // Skip if already has variants or is a variant itself
-            if (original.getOriginalImage() != null || original.hasVariants()) {
-                result.append("SKIPPED: Image already has variants or is a variant itself\n");
-                return result.toString();
-            }
-
-            // Download original from S3
-            result.append("Downloading from S3...\n");
-            byte[] originalBytes = downloadFromS3(original.getStoredFilename());
-            result.append("Downloaded ").append(originalBytes.length).append(" bytes\n");
-
-            BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(originalBytes));
-
-            if (originalImage == null) {
-                result.append("ERROR: Failed to read image as BufferedImage\n");
-                return result.toString();
-            }
-
-            result.append("Image dimensions: ").append(originalImage.getWidth())
-                  .append("x").append(originalImage.getHeight()).append("\n");
-
-            // Update original with metadata
-            original.setVariantType(ImageVariant.ORIGINAL);
-            original.setWidth(originalImage.getWidth());
-            original.setHeight(originalImage.getHeight());
-            original.setFileSize((long) originalBytes.length);
-            original.setFormat(getFormatFromFilename(original.getStoredFilename()));
-
-            int generated = 0;
-            int skipped = 0;
-
-            // Generate each variant
-            for (ImageVariant variant : ImageVariant.values()) {
-                if (variant == ImageVariant.ORIGINAL) continue;
-
-                // Skip large variants for profile images (only need small thumbnails)
-                if (original.getType() != null && !original.getType().needsLargeVariants()) {
-                    if (variant == ImageVariant.LARGE_1200 || variant == ImageVariant.MEDIUM_800) {
-                        result.append("  ").append(variant).append(": SKIPPED (profile image)\n");
-                        skipped++;
-                        continue;
-                    }
-                }
-
-                try {
-                    boolean created = generateVariantWithResult(original, originalImage, variant, result);
-                    if (created) generated++;
-                    else skipped++;
-                } catch (Exception e) {
-                    result.append("ERROR generating ").append(variant).append(": ").append(e.getMessage()).append("\n");
-                }
-            }
-
-            imageRepository.save(original);
-            result.append("\nSUMMARY: Generated ").append(generated).append(" variants, skipped ").append(skipped).append("\n");
-            result.append("Variants in DB: ").append(original.getVariants().size()).append("\n");
-
+            generateVariants(originalImageId, result);
         } catch (Exception e) {
             result.append("FATAL ERROR: ").append(e.getMessage()).append("\n");
         }
-
         return result.toString();
     }
 
-    private boolean generateVariantWithResult(Image original, BufferedImage sourceImage, ImageVariant variant, StringBuilder result) throws IOException {
-        int originalWidth = sourceImage.getWidth();
-        int originalHeight = sourceImage.getHeight();
-        int maxDim = variant.getMaxDimension();
-
-        // Skip if image is smaller than target
-        if (originalWidth <= maxDim && originalHeight <= maxDim) {
-            result.append("  ").append(variant).append(": SKIPPED (").append(originalWidth).append(" <= ").append(maxDim).append(")\n");
-            return false;
-        }
-
-        // Calculate new dimensions maintaining aspect ratio
-        double scale = Math.min((double) maxDim / originalWidth, (double) maxDim / originalHeight);
-        int newWidth = (int) (originalWidth * scale);
-        int newHeight = (int) (originalHeight * scale);
-
-        // Resize image using Thumbnailator
-        BufferedImage resizedImage = Thumbnails.of(sourceImage)
-                .size(newWidth, newHeight)
-                .asBufferedImage();
+    private void generateVariants(Long originalImageId, StringBuilder result) throws Exception {
+        result.append("Processing image ID: ").append(originalImageId).append("\n");
 
-        // Encode to WebP format (with JPEG fallback if native library unavailable)
-        EncodingResult encoded = encodeToWebP(resizedImage, variant.getQuality());
+        Source source = transactionTemplate.execute(status -> imageRepository.findById(originalImageId)
+                // Skip if already has variants or is a variant itself
+                .map(image -> new Source(image.getStoredFilename(), image.getType(),
+                        image.getOriginalImage() != null || image.hasVariants()))
+                .orElseThrow(() -> new IllegalArgumentException("Image not found: " + originalImageId)));
 
-        // Generate new filename with appropriate extension
-        String originalKey = original.getStoredFilename();
-        String baseName = originalKey.substring(originalKey.lastIndexOf('/') + 1);
-        String nameWithoutExt = baseName.contains(".") ? baseName.substring(0, baseName.lastIndexOf('.')) : baseName;
-        String newKey = variant.getPathPrefix() + "/" + nameWithoutExt + "_" + variant.name().toLowerCase() + encoded.extension();
-
-        // Upload to S3 with appropriate content type
-        uploadToS3(newKey, encoded.data(), encoded.contentType());
-
-        // Save variant record
-        Image variantImage = Image.builder()
-                .storedFilename(newKey)
-                .originalFilename(original.getOriginalFilename())
-                .status(ImageStatus.ACTIVE)
-                .type(original.getType())
-                .displayOrder(original.getDisplayOrder())
-                .uploaderId(original.getUploaderId())
-                .variantType(variant)
-                .originalImage(original)
-                .width(newWidth)
-                .height(newHeight)
-                .fileSize((long) encoded.data().length)
-                .format(encoded.format())
-                .build();
+        result.append("Found image: ").append(source.storedFilename()).append("\n");
+        if (source.skip()) {
+            stagedImageStore.evict(source.storedFilename());
+            result.append("SKIPPED: Image already has variants or is a variant itself\n");
+            return;
+        }
 
-        original.getVariants().add(variantImage);
-        result.append("  ").append(variant).append(": CREATED ").append(newWidth).append("x").append(newHeight)
-              .append(" (").append(encoded.data().length).append(" bytes) -> ").append(newKey).append("\n");
-        return true;
-    }
+        // Deduplicated upload: copy the variant rows of an original sharing the same stored object
+        Integer reused = transactionTemplate.execute(status -> copySharedVariants(originalImageId));
+        if (reused != null && reused > 0) {
+            result.append("REUSED: ").append(reused).append(" variants of an image sharing ")
+                  .append(source.storedFilename()).append("\n");
+            return;
+        }
 
-    private void generateVariant(Image original, BufferedImage sourceImage, ImageVariant variant) throws IOException {
-        int originalWidth = sourceImage.getWidth();
-        int originalHeight = sourceImage.getHeight();
-        int maxDim = variant.getMaxDimension();
+        // Skip large variants for profile images (only need small thumbnails)
+        List<ImageVariant> targets = Arrays.stream(ImageVariant.values())
+                .filter(ImageVariant::shouldResize)
+                .filter(variant -> source.type() == null || source.type().needsLargeVariants()
+                        || (variant != ImageVariant.LARGE_1200 && variant != ImageVariant.MEDIUM_800))
+                .toList();
+
+        // Read the copy staged at upload if this instance has one, otherwise stream it from S3
+        ImageVariantPipeline.Result processed;
+        long fileSize;
+        InputStream staged = stagedImageStore.open(source.storedFilename());
+        if (staged != null) {
+            result.append("Reading staged upload...\n");
+            fileSize = stagedImageStore.size(source.storedFilename());
+            try (InputStream in = staged) {
+                processed = imageVariantPipeline.process(in, targets,
+                        encoded -> uploadToS3(variantKey(source.storedFilename(), encoded), encoded.data(), encoded.contentType()));
+            }
+        } else {
+            result.append("Downloading from S3...\n");
+            try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(source.storedFilename())
+                    .build())) {
+                fileSize = in.response().contentLength() != null ? in.response().contentLength() : 0L;
+                processed = imageVariantPipeline.process(in, targets,
+                        encoded -> uploadToS3(variantKey(source.storedFilename(), encoded), encoded.data(), encoded.contentType()));
+            }
+        }
 
-        // Skip if image is smaller than target
-        if (originalWidth <= maxDim && originalHeight <= maxDim) {
-            log.debug("Skipping {} variant: original is smaller", variant);
+        if (processed == null) {
+            stagedImageStore.evict(source.storedFilename());
+            result.append("ERROR: Failed to read image as BufferedImage\n");
             return;
         }
 
-        // Calculate new dimensions maintaining aspect ratio
-        double scale = Math.min((double) maxDim / originalWidth, (double) maxDim / originalHeight);
-        int newWidth = (int) (originalWidth * scale);
-        int newHeight = (int) (originalHeight * scale);
-
-        // Resize image using Thumbnailator
-        BufferedImage resizedImage = Thumbnails.of(sourceImage)
-                .size(newWidth, newHeight)
-                .asBufferedImage();
+        result.append("Image dimensions: ").append(processed.width())
+              .append("x").append(processed.height())
+              .append(" (decoded at 1/").append(processed.subsampling()).append(")\n");
+        for (ImageVariant variant : Arrays.stream(ImageVariant.values()).filter(ImageVariant::shouldResize).toList()) {
+            if (!targets.contains(variant)) {
+                result.append("  ").append(variant).append(": SKIPPED (profile image)\n");
+            } else if (processed.skipped().contains(variant)) {
+                result.append("  ").append(variant).append(": SKIPPED (").append(Math.max(processed.width(), processed.height()))
+                      .append(" <= ").append(variant.getMaxDimension()).append(")\n");
+            }
+        }
+        for (ImageVariantPipeline.EncodedVariant encoded : processed.variants()) {
+            result.append("  ").append(encoded.variant()).append(": CREATED ").append(encoded.width()).append("x").append(encoded.height())
+                  .append(" (").append(encoded.data().length).append(" bytes) -> ")
+                  .append(variantKey(source.storedFilename(), encoded)).append("\n");
+        }
+        for (ImageVariantPipeline.VariantFailure failure : processed.failures()) {
+            result.append("ERROR generating ").append(failure.variant()).append(": ").append(failure.message()).append("\n");
+        }
+        // Saving a partial set would mark the image as done for good; the job is retried instead
+        // (uploaded variants are overwritten under the same keys) and the staged copy is kept for it
+        if (!processed.failures().isEmpty()) {
+            throw new IOException("Failed to generate " + processed.failures().size() + " variants of image "
+                    + originalImageId + ": " + processed.failures().get(0).message());
+        }
 
-        // Encode to WebP format (with JPEG fallback if native library unavailable)
-        EncodingResult encoded = encodeToWebP(resizedImage, variant.getQuality());
+        Integer variantsInDb = transactionTemplate.execute(status -> saveVariants(originalImageId, processed, fileSize));
+        stagedImageStore.evict(source.storedFilename());
+        result.append("\nSUMMARY: Generated ").append(processed.variants().size()).append(" variants, skipped ")
+              .append(ImageVariant.values().length - 1 - processed.variants().size() - processed.failures().size()).append("\n");
+        result.append("Variants in DB: ").append(variantsInDb).append("\n");
+    }
 
-        // Generate new filename with appropriate extension
-        String originalKey = original.getStoredFilename();
-        String baseName = originalKey.substring(originalKey.lastIndexOf('/') + 1);
-        String nameWithoutExt = baseName.contains(".") ? baseName.substring(0, baseName.lastIndexOf('.')) : baseName;
-        String newKey = variant.getPathPrefix() + "/" + nameWithoutExt + "_" + variant.name().toLowerCase() + encoded.extension();
-
-        // Upload to S3 with appropriate content type
-        uploadToS3(newKey, encoded.data(), encoded.contentType());
-
-        // Save variant record
-        Image variantImage = Image.builder()
-                .storedFilename(newKey)
-                .originalFilename(original.getOriginalFilename())
-                .status(ImageStatus.ACTIVE)
-                .type(original.getType())
-                .displayOrder(original.getDisplayOrder())
-                .uploaderId(original.getUploaderId())
-                .variantType(variant)
-                .originalImage(original)
-                .width(newWidth)
-                .height(newHeight)
-                .fileSize((long) encoded.data().length)
-                .format(encoded.format())
-                .build();
+    private int saveVariants(Long originalImageId, ImageVariantPipeline.Result processed, long fileSize) {
+        Image original = imageRepository.findById(originalImageId)
+                .orElseThrow(() -> new IllegalArgumentException("Image not found: " + originalImageId));
 
-        original.getVariants().add(variantImage);
-        log.debug("Generated {} variant: {}x{}, {} bytes", variant, newWidth, newHeight, encoded.data().length);
-    }
+        // Another run finished first; its objects had the same keys
+        if (original.hasVariants()) {
+            return original.getVariants().size();
+        }
 
-    private EncodingResult encodeToWebP(BufferedImage image, int quality) throws IOException {
-        try {
-            byte[] data = WebPCodec.encodeImage(image, (float) quality);
-            return new EncodingResult(data, "webp", "image/webp", ".webp");
-        } catch (UnsatisfiedLinkError e) {
-            if (!webpFallbackWarningLogged) {
-                log.warn("WebP native library unavailable, falling back to JPEG: {}", e.getMessage());
-                webpFallbackWarningLogged = true;
-            }
-            return encodeToJpeg(image, quality);
+        // Update original with metadata
+        original.setVariantType(ImageVariant.ORIGINAL);
+        original.setWidth(processed.width());
+        original.setHeight(processed.height());
+        original.setFileSize(fileSize);
+        original.setFormat(getFormatFromFilename(original.getStoredFilename()));
+
+        for (ImageVariantPipeline.EncodedVariant encoded : processed.variants()) {
+            // Save variant record
+            original.getVariants().add(Image.builder()
+                    .storedFilename(variantKey(original.getStoredFilename(), encoded))
+                    .originalFilename(original.getOriginalFilename())
+                    .status(ImageStatus.ACTIVE)
+                    .type(original.getType())
+                    .displayOrder(original.getDisplayOrder())
+                    .uploaderId(original.getUploaderId())
+                    .variantType(encoded.variant())
+                    .originalImage(original)
+                    .width(encoded.width())
+                    .height(encoded.height())
+                    .fileSize((long) encoded.data().length)
+                    .format(encoded.format())
+                    .build());
         }
-    }
 
+        imageRepository.save(original);
+        return original.getVariants().size();
+    }
 
     /**
-     * Fallback encoding to JPEG when WebP native library is unavailable.
+     * Gives the original copies of the variant rows of another original with the same stored
+     * object (the variant objects are shared too). Returns how many were copied.
      */
-    private EncodingResult encodeToJpeg(BufferedImage image, int quality) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-
-        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
-        if (!writers.hasNext()) {
-            throw new IOException("No JPEG writer available");
+    private int copySharedVariants(Long originalImageId) {
+        Image original = imageRepository.findById(originalImageId)
+                .orElseThrow(() -> new IllegalArgumentException("Image not found: " + originalImageId));
+        List<Image> donors = imageRepository.findOriginalsWithVariantsSharing(
+                original.getStoredFilename(), originalImageId, PageRequest.of(0, 1));
+        if (donors.isEmpty() || original.hasVariants()) {
+            return 0;
+        }
+        Image donor = donors.get(0);
+        // A profile image's variants lack the large sizes other types need
+        if (needsLargeVariants(original) && !needsLargeVariants(donor)) {
+            return 0;
         }
 
-        ImageWriter writer = writers.next();
-        try (ImageOutputStream ios = ImageIO.createImageOutputStream(baos)) {
-            writer.setOutput(ios);
-
-            ImageWriteParam param = writer.getDefaultWriteParam();
-            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-            param.setCompressionQuality(quality / 100.0f);
-
-            // Handle transparency - convert to RGB if needed
-            BufferedImage rgbImage = image;
-            if (image.getColorModel().hasAlpha()) {
-                rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
-                Graphics2D g = rgbImage.createGraphics();
-                g.setColor(Color.WHITE);
-                g.fillRect(0, 0, image.getWidth(), image.getHeight());
-                g.drawImage(image, 0, 0, null);
-                g.dispose();
-            }
-
-            writer.write(null, new IIOImage(rgbImage, null, null), param);
-        } finally {
-            writer.dispose();
+        original.setVariantType(ImageVariant.ORIGINAL);
+        original.setWidth(donor.getWidth());
+        original.setHeight(donor.getHeight());
+        original.setFileSize(donor.getFileSize());
+        original.setFormat(donor.getFormat());
+        for (Image variant : donor.getVariants()) {
+            original.getVariants().add(Image.builder()
+                    .storedFilename(variant.getStoredFilename())
+                    .originalFilename(original.getOriginalFilename())
+                    .status(ImageStatus.ACTIVE)
+                    .type(original.getType())
+                    .displayOrder(original.getDisplayOrder())
+                    .uploaderId(original.getUploaderId())
+                    .variantType(variant.getVariantType())
+                    .originalImage(original)
+                    .width(variant.getWidth())
+                    .height(variant.getHeight())
+                    .fileSize(variant.getFileSize())
+                    .format(variant.getFormat())
+                    .build());
         }
+        imageRepository.save(original);
+        return original.getVariants().size();
+    }
 
-        return new EncodingResult(baos.toByteArray(), "jpeg", "image/jpeg", ".jpg");
+    private static boolean needsLargeVariants(Image image) {
+        return image.getType() == null || image.getType().needsLargeVariants();
     }
 
-    private byte[] downloadFromS3(String key) throws IOException {
-        try (InputStream is = s3Client.getObject(GetObjectRequest.builder()
-                .bucket(bucket)
-                .key(key)
-                .build())) {
-            return is.readAllBytes();
-        }
+    // e.g. THUMB_400/abc_thumb_400.webp for recipes/abc.jpg
+    private static String variantKey(String originalKey, ImageVariantPipeline.EncodedVariant encoded) {
+        String baseName = originalKey.substring(originalKey.lastIndexOf('/') + 1);
+        String nameWithoutExt = baseName.contains(".") ? baseName.substring(0, baseName.lastIndexOf('.')) : baseName;
+        return encoded.variant().getPathPrefix() + "/" + nameWithoutExt + "_" + encoded.variant().name().toLowerCase() + encoded.extension();
     }
 
     private void uploadToS3(String key, byte[] data, String contentType) {
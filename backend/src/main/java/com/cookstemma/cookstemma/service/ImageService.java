@@ -16,17 +16,17 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -43,10 +43,14 @@ public class ImageService {
     private final RecipeImageRepository recipeImageRepository;
     private final UserRepository userRepository;
     private final ImageProcessingService imageProcessingService;
+    private final ImageUploadPipeline imageUploadPipeline;
 
     @Value("${file.upload.bucket}")
     private String bucket;
 
+    @Value("${image.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
     @Transactional
     public ImageUploadResponseDto uploadImage(MultipartFile file, ImageType imageType, UserPrincipal principal) {
         if (file.isEmpty()) throw new IllegalArgumentException("File is empty");
@@ -56,16 +60,28 @@ public class ImageService {
         String extension = getExtension(originalFilename);
         String savedFilename = UUID.randomUUID() + extension;
 
-        // Enum 타입명을 경로로 사용 (예: COVER -> cover)
-        String key = imageType.name().toLowerCase() + "/" + savedFilename;
-
         try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .build();
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            // Stage, hash and sniff the upload before anything is sent to S3
+            ImageUploadPipeline.StagedUpload staged = imageUploadPipeline.stage(file);
+
+            // Identical content already stored: share its object (and later its variants)
+            Image duplicate;
+            try {
+                duplicate = findDuplicate(staged);
+            } catch (RuntimeException e) {
+                imageUploadPipeline.discard(staged);
+                throw e;
+            }
+            String key;
+            if (duplicate != null) {
+                key = duplicate.getStoredFilename();
+                imageUploadPipeline.discard(staged);
+                log.debug("Upload by user {} reuses stored object {} of image {}", uploaderId, key, duplicate.getId());
+            } else {
+                // Enum 타입명을 경로로 사용 (예: COVER -> cover)
+                key = imageType.name().toLowerCase() + "/" + savedFilename;
+                imageUploadPipeline.store(staged, key, file.getContentType());
+            }
 
             // DB 저장 (SQL과 일치하게 PROCESSING 상태로 시작)
             Image image = Image.builder()
@@ -74,6 +90,12 @@ public class ImageService {
                     .type(imageType)
                     .status(ImageStatus.PROCESSING)
                     .uploaderId(uploaderId)
+                    .width(staged.width())
+                    .height(staged.height())
+                    .fileSize(staged.size())
+                    .format(staged.format())
+                    .contentHash(staged.contentHash())
+                    .perceptualHash(staged.perceptualHash())
                     .build();
             imageRepository.save(image); //
 
@@ -216,6 +238,8 @@ public class ImageService {
             Long imageId = image.getId();
 
             try {
+                List<String> keys = storedKeys(image);
+
                 // Delete from DB first (atomic, status-conditional)
                 int deleted = imageRepository.deleteByIdAndStatus(imageId, ImageStatus.PROCESSING);
 
@@ -225,21 +249,60 @@ public class ImageService {
                     continue;
                 }
 
-                // DB deletion succeeded, now clean up S3
-                try {
-                    s3Client.deleteObject(DeleteObjectRequest.builder()
+                // DB deletion succeeded, now clean up S3 objects no other image shares
+                deleteUnreferencedObjects(keys);
+            } catch (Exception e) {
+                log.error("Failed to delete image: {}", storedFilename, e);
+            }
+        }
+    }
+
+    /**
+     * An ACTIVE original the staged upload can share its stored object with: one with the same
+     * SHA-256. Perceptual hashes are only recorded, never used to share objects: a dHash match says
+     * nothing about the pixels, and another user's different picture must not stand in for the upload.
+     */
+    private Image findDuplicate(ImageUploadPipeline.StagedUpload staged) {
+        if (!dedupEnabled) {
+            return null;
+        }
+        List<Image> matches = imageRepository.findOriginalsByContentHash(
+                staged.contentHash(), ImageStatus.ACTIVE, PageRequest.of(0, 1));
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Deletes S3 objects whose rows are gone, keeping any object another image row still
+     * references (deduplicated uploads share objects). Uploads lock the row they share with, so
+     * once the row is deleted the count also sees any upload that took a share of it.
+     */
+    private void deleteUnreferencedObjects(List<String> keys) {
+        for (String key : keys) {
+            if (imageRepository.countByStoredFilename(key) > 0) {
+                log.debug("S3 object {} is still referenced, keeping it", key);
+                continue;
+            }
+            try {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
                         .bucket(bucket)
-                        .key(storedFilename)
+                        .key(key)
                         .build());
-                } catch (Exception e) {
-                    log.warn("Failed to delete S3 object {}, may need manual cleanup", storedFilename, e);
-                }
             } catch (Exception e) {
-                log.error("Failed to delete image: {}", storedFilename, e);
+                log.warn("Failed to delete S3 object {}, may need manual cleanup", key, e);
             }
         }
     }
 
+    // The image's own object followed by its variants' objects
+    private static List<String> storedKeys(Image image) {
+        List<String> keys = new ArrayList<>();
+        keys.add(image.getStoredFilename());
+        if (image.hasVariants()) {
+            image.getVariants().forEach(variant -> keys.add(variant.getStoredFilename()));
+        }
+        return keys;
+    }
+
     private String getExtension(String filename) {
         if (filename == null || !filename.contains(".")) return "";
         return filename.substring(filename.lastIndexOf("."));
@@ -286,25 +349,18 @@ public class ImageService {
     public void hardDeleteAllByUploader(Long uploaderId) {
         List<Image> images = imageRepository.findByUploaderId(uploaderId);
         for (Image image : images) {
+            // Variants go with their original
+            if (!image.isOriginal()) {
+                continue;
+            }
             try {
-                // Delete original image from S3
-                s3Client.deleteObject(DeleteObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(image.getStoredFilename())
-                        .build());
-
-                // Delete variants from S3
-                if (image.hasVariants()) {
-                    for (Image variant : image.getVariants()) {
-                        s3Client.deleteObject(DeleteObjectRequest.builder()
-                                .bucket(bucket)
-                                .key(variant.getStoredFilename())
-                                .build());
-                    }
-                }
+                List<String> keys = storedKeys(image);
 
                 // Delete from DB (variants cascade due to orphanRemoval)
                 imageRepository.delete(image);
+
+                // Delete original and variants from S3 unless another image shares them
+                deleteUnreferencedObjects(keys);
             } catch (Exception e) {
                 log.error("Failed to hard delete image: {}", image.getStoredFilename(), e);
             }
@@ -0,0 +1,246 @@
+package com.cookstemma.cookstemma.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Upload path for original images.
+ *
+ * The request body is read once: stage() copies it to a staged file (StagedImageStore) while its
+ * SHA-256 is computed and reads the format and dimensions from the file's header without decoding
+ * pixels. The caller can then check for a duplicate before store() sends the staged file to S3 - as
+ * a multipart upload from memory-mapped parts when it is at least
+ * file.upload.multipart-threshold-bytes - and keeps it for variant generation on this instance.
+ *
+ * With image.dedup.perceptual-hash a 64-bit difference hash is also computed from a subsampled
+ * decode and stored on the row, marking re-encoded copies as near-duplicate candidates; uploads
+ * only share objects on an exact SHA-256 match.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+    // Long side the perceptual hash decode is subsampled down to (at least)
+    private static final int PERCEPTUAL_HASH_DECODE_SIZE = 256;
+
+    private final S3Client s3Client;
+    private final StagedImageStore stagedImageStore;
+    private final String bucket;
+    private final long multipartThresholdBytes;
+    private final int partSizeBytes;
+    private final boolean perceptualHash;
+
+    public ImageUploadPipeline(
+            S3Client s3Client,
+            StagedImageStore stagedImageStore,
+            @Value("${file.upload.bucket}") String bucket,
+            @Value("${file.upload.multipart-threshold-bytes:8388608}") long multipartThresholdBytes,
+            @Value("${file.upload.multipart-part-size-bytes:5242880}") int partSizeBytes,
+            @Value("${image.dedup.perceptual-hash:false}") boolean perceptualHash) {
+        this.s3Client = s3Client;
+        this.stagedImageStore = stagedImageStore;
+        this.bucket = bucket;
+        this.multipartThresholdBytes = multipartThresholdBytes;
+        this.partSizeBytes = partSizeBytes;
+        this.perceptualHash = perceptualHash;
+    }
+
+    /**
+     * What was learned about an upload while staging it. format, width and height are null when
+     * no image reader recognises the header; perceptualHash is null unless enabled.
+     */
+    public record StagedUpload(Path file, long size, String contentHash, Long perceptualHash,
+                               String format, Integer width, Integer height) {
+    }
+
+    /**
+     * Copies the upload to a staged file. The caller must store() or discard() it.
+     */
+    public StagedUpload stage(MultipartFile file) throws IOException {
+        Path staged = stagedImageStore.createFile();
+        try (InputStream in = file.getInputStream()) {
+            return stage(in, staged, perceptualHash);
+        } catch (IOException | RuntimeException e) {
+            stagedImageStore.discard(staged);
+            throw e;
+        }
+    }
+
+    /**
+     * Stores a staged upload in S3 under key and keeps the staged copy for variant generation.
+     */
+    public void store(StagedUpload upload, String key, String contentType) throws IOException {
+        try {
+            if (upload.size() >= multipartThresholdBytes) {
+                putMultipart(upload.file(), upload.size(), key, contentType);
+            } else {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(), RequestBody.fromFile(upload.file()));
+            }
+        } catch (IOException | RuntimeException e) {
+            discard(upload);
+            throw e;
+        }
+        stagedImageStore.retain(key, upload.file(), upload.size());
+    }
+
+    /**
+     * Drops a staged upload that is not being stored (e.g. it duplicates an existing image).
+     */
+    public void discard(StagedUpload upload) {
+        stagedImageStore.discard(upload.file());
+    }
+
+    /**
+     * Copies in to target, hashing it on the way, then reads the image header from target.
+     */
+    static StagedUpload stage(InputStream in, Path target, boolean perceptualHash) throws IOException {
+        MessageDigest digest = sha256();
+        long size;
+        try (OutputStream out = new DigestOutputStream(Files.newOutputStream(target), digest)) {
+            size = in.transferTo(out);
+        }
+        String contentHash = HexFormat.of().formatHex(digest.digest());
+
+        try (ImageInputStream header = ImageIO.createImageInputStream(target.toFile())) {
+            Iterator<ImageReader> readers = header != null ? ImageIO.getImageReaders(header) : null;
+            if (readers == null || !readers.hasNext()) {
+                return new StagedUpload(target, size, contentHash, null, null, null, null);
+            }
+            ImageReader reader = readers.next();
+            String format = reader.getFormatName().toLowerCase();
+            try {
+                reader.setInput(header, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                Long hash = perceptualHash ? differenceHash(reader, Math.max(width, height)) : null;
+                return new StagedUpload(target, size, contentHash, hash, format, width, height);
+            } catch (IOException e) {
+                // Recognised signature but unreadable header; variant generation will report it
+                log.debug("Could not read image header: {}", e.getMessage());
+                return new StagedUpload(target, size, contentHash, null, format, null, null);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * dHash: the image shrunk to 9x8 grey pixels, one bit per horizontally adjacent pair
+     * (1 where the left pixel is brighter).
+     */
+    static long differenceHash(BufferedImage image) {
+        BufferedImage small = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = small.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, 9, 8, null);
+        g.dispose();
+
+        Raster pixels = small.getRaster();
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                hash = (hash << 1) | (pixels.getSample(x, y, 0) > pixels.getSample(x + 1, y, 0) ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    // null if the pixels can't be decoded; the upload itself is still accepted
+    private static Long differenceHash(ImageReader reader, int longSide) {
+        ImageReadParam param = reader.getDefaultReadParam();
+        int subsampling = Math.max(1, longSide / PERCEPTUAL_HASH_DECODE_SIZE);
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        try {
+            return differenceHash(reader.read(0, param));
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not compute perceptual hash: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void putMultipart(Path staged, long size, String key, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.READ)) {
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            for (long offset = 0; offset < size; offset += partSizeBytes, partNumber++) {
+                long length = Math.min(partSizeBytes, size - offset);
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength(length)
+                        .build(), RequestBody.fromByteBuffer(channel.map(FileChannel.MapMode.READ_ONLY, offset, length))).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .build());
+            } catch (RuntimeException abortFailure) {
+                e.addSuppressed(abortFailure);
+            }
+            throw e;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.ImageVariant;
+import dev.matrixlab.webp4j.WebPCodec;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes an original image once and produces its resized, encoded variants.
+ *
+ * Stages:
+ * 1. Decode - large sources are decoded with source subsampling (every Nth pixel) down to at
+ *    least 1.5x the largest variant, so a 12MP photo is held as 3MP rather than at full resolution.
+ * 2. Resize - variants are produced largest first, each from the previous one rather than from
+ *    the original (LARGE -> MEDIUM -> THUMB_400 -> THUMB_200).
+ * 3. Encode + upload - each variant is encoded and handed to the sink on the encoder pool while
+ *    the next one is being resized.
+ *
+ * Decoded pixels are bounded by a semaphore (image.pipeline.max-decoded-megapixels) shared by all
+ * callers; a source larger than the whole budget waits until it can run alone.
+ */
+@Slf4j
+@Component
+public class ImageVariantPipeline {
+
+    // Decode to at least this multiple of the largest variant so the resize still has pixels to average
+    private static final double SUBSAMPLING_HEADROOM = 1.5;
+
+    // Permits are kilopixels so the whole budget fits in an int
+    private static final int PIXELS_PER_PERMIT = 1024;
+
+    private final Semaphore decodeBudget;
+    private final int budgetPermits;
+    private final ExecutorService encoderPool;
+
+    // Track if WebP fallback warning has been logged (to avoid log spam)
+    private volatile boolean webpFallbackWarningLogged = false;
+
+    public ImageVariantPipeline(
+            @Value("${image.pipeline.max-decoded-megapixels:64}") int maxDecodedMegapixels,
+            @Value("${image.pipeline.encoder-threads:0}") int encoderThreads) {
+        this.budgetPermits = Math.max(1, (int) ((long) maxDecodedMegapixels * 1_000_000 / PIXELS_PER_PERMIT));
+        this.decodeBudget = new Semaphore(budgetPermits, true);
+        int threads = encoderThreads > 0 ? encoderThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.encoderPool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "image-encoder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        encoderPool.shutdown();
+    }
+
+    /**
+     * Receives each encoded variant, e.g. to upload it. Called on the encoder pool.
+     */
+    @FunctionalInterface
+    public interface VariantSink {
+        void accept(EncodedVariant variant) throws IOException;
+    }
+
+    public record EncodedVariant(ImageVariant variant, int width, int height,
+                                 byte[] data, String format, String contentType, String extension) {
+    }
+
+    public record VariantFailure(ImageVariant variant, String message) {
+    }
+
+    /**
+     * Outcome of one source image. Dimensions are those of the original, not of the decoded copy.
+     */
+    public record Result(int width, int height, int subsampling,
+                         List<EncodedVariant> variants, List<ImageVariant> skipped, List<VariantFailure> failures) {
+    }
+
+    /**
+     * Produces the given variants from the source stream.
+     * Returns null if the stream is not a readable image.
+     */
+    public Result process(InputStream source, Collection<ImageVariant> targets, VariantSink sink)
+            throws IOException, InterruptedException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return process(reader, targets, sink);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Result process(ImageReader reader, Collection<ImageVariant> targets, VariantSink sink)
+            throws IOException, InterruptedException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        int longSide = Math.max(width, height);
+
+        // Largest first, so each variant can be resized from the previous one
+        List<ImageVariant> ordered = targets.stream()
+                .filter(ImageVariant::shouldResize)
+                .sorted(Comparator.comparingInt(ImageVariant::getMaxDimension).reversed())
+                .toList();
+        List<ImageVariant> toGenerate = new ArrayList<>();
+        List<ImageVariant> skipped = new ArrayList<>();
+        for (ImageVariant variant : ordered) {
+            // Skip if image is smaller than target
+            if (longSide <= variant.getMaxDimension()) {
+                skipped.add(variant);
+            } else {
+                toGenerate.add(variant);
+            }
+        }
+        if (toGenerate.isEmpty()) {
+            return new Result(width, height, 1, List.of(), skipped, List.of());
+        }
+
+        int subsampling = subsamplingFor(longSide, toGenerate.get(0).getMaxDimension());
+        long decodedPixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+        int permits = (int) Math.min(budgetPermits, Math.max(1, decodedPixels / PIXELS_PER_PERMIT));
+
+        decodeBudget.acquire(permits);
+        try {
+            ImageReadParam param = reader.getDefaultReadParam();
+            if (subsampling > 1) {
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+            }
+            BufferedImage current = reader.read(0, param);
+
+            List<CompletableFuture<EncodedVariant>> pending = new ArrayList<>();
+            List<VariantFailure> failures = new ArrayList<>();
+            for (int i = 0; i < toGenerate.size(); i++) {
+                ImageVariant variant = toGenerate.get(i);
+                // Calculate new dimensions maintaining aspect ratio (of the original, not the decoded copy)
+                double scale = Math.min((double) variant.getMaxDimension() / width, (double) variant.getMaxDimension() / height);
+                int newWidth = (int) (width * scale);
+                int newHeight = (int) (height * scale);
+
+                try {
+                    current = Thumbnails.of(current)
+                            .forceSize(newWidth, newHeight)
+                            .asBufferedImage();
+                } catch (IOException | RuntimeException e) {
+                    // Smaller variants are resized from this one, so they fail with it
+                    for (ImageVariant failed : toGenerate.subList(i, toGenerate.size())) {
+                        failures.add(new VariantFailure(failed, e.getMessage()));
+                    }
+                    break;
+                }
+
+                BufferedImage resized = current;
+                pending.add(CompletableFuture.supplyAsync(() -> encodeAndSink(variant, resized, sink), encoderPool));
+            }
+
+            List<EncodedVariant> encoded = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                try {
+                    encoded.add(pending.get(i).join());
+                } catch (RuntimeException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    failures.add(new VariantFailure(toGenerate.get(i), cause.getMessage()));
+                }
+            }
+            return new Result(width, height, subsampling, encoded, skipped, failures);
+        } finally {
+            decodeBudget.release(permits);
+        }
+    }
+
+    /**
+     * Largest subsampling step that still decodes at least SUBSAMPLING_HEADROOM times the target.
+     */
+    static int subsamplingFor(int longSide, int largestTarget) {
+        return Math.max(1, (int) (longSide / (largestTarget * SUBSAMPLING_HEADROOM)));
+    }
+
+    private EncodedVariant encodeAndSink(ImageVariant variant, BufferedImage image, VariantSink sink) {
+        try {
+            EncodedVariant encoded = encodeToWebP(variant, image);
+            sink.accept(encoded);
+            return encoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private EncodedVariant encodeToWebP(ImageVariant variant, BufferedImage image) throws IOException {
+        try {
+            byte[] data = WebPCodec.encodeImage(image, (float) variant.getQuality());
+            return new EncodedVariant(variant, image.getWidth(), image.getHeight(), data, "webp", "image/webp", ".webp");
+        } catch (UnsatisfiedLinkError e) {
+            if (!webpFallbackWarningLogged) {
+                log.warn("WebP native library unavailable, falling back to JPEG: {}", e.getMessage());
+                webpFallbackWarningLogged = true;
+            }
+            return encodeToJpeg(variant, image);
+        }
+    }
+
+    /**
+     * Fallback encoding to JPEG when WebP native library is unavailable.
+     */
+    private EncodedVariant encodeToJpeg(ImageVariant variant, BufferedImage image) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(baos)) {
+            writer.setOutput(ios);
+
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(variant.getQuality() / 100.0f);
+
+            // Handle transparency - convert to RGB if needed
+            BufferedImage rgbImage = image;
+            if (image.getColorModel().hasAlpha()) {
+                rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+                Graphics2D g = rgbImage.createGraphics();
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+                g.drawImage(image, 0, 0, null);
+                g.dispose();
+            }
+
+            writer.write(null, new IIOImage(rgbImage, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return new EncodedVariant(variant, image.getWidth(), image.getHeight(), baos.toByteArray(), "jpeg", "image/jpeg", ".jpg");
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+}
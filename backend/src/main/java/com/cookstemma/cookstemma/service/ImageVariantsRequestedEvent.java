@@ -0,0 +1,8 @@
+package com.cookstemma.cookstemma.service;
+
+/**
+ * Published when an original image needs its variants, so they are generated after the
+ * uploading transaction commits (see ImageProcessingService).
+ */
+public record ImageVariantsRequestedEvent(Long imageId) {
+}
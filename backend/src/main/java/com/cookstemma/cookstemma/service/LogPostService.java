@@ -25,6 +25,7 @@ import com.cookstemma.cookstemma.util.CursorUtil;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -53,6 +54,11 @@ public class LogPostService {
     private final SavedLogRepository savedLogRepository;
     private final TranslationEventService translationEventService;
     private final CommentRepository commentRepository;
+    private final SearchDocumentProjector searchDocumentProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeStatsService recipeStatsService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SummaryAssembler summaryAssembler;
 
     @Value("${file.upload.url-prefix}") // [추가] URL 조합을 위해 필요
     private String urlPrefix;
@@ -112,6 +118,11 @@ public class LogPostService {
         // Notify recipe owner that someone cooked their recipe
         notificationService.notifyRecipeCooked(recipe, logPost, creator);
 
+        searchDocumentProjector.projectLogPost(logPost);
+        recipeStatsService.logCreated(logPost);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        eventPublisher.publishEvent(RecipeDetailChangedEvent.recipe(recipe.getPublicId()));
+
         // Queue async translation for all languages
         translationEventService.queueLogPostTranslation(logPost);
 
@@ -120,8 +131,8 @@ public class LogPostService {
 
     @Transactional(readOnly = true)
     public Slice<LogPostSummaryDto> getAllLogs(Pageable pageable) {
-        return logPostRepository.findAllOrderByCreatedAtDesc(pageable)
-                .map(this::convertToLogSummary);
+        return summaryAssembler.toLogSummariesWithVisibleComments(
+                logPostRepository.findAllOrderByCreatedAtDesc(pageable), LocaleUtils.DEFAULT_LOCALE);
     }
 
     /**
@@ -131,8 +142,8 @@ public class LogPostService {
      */
     @Transactional(readOnly = true)
     public Slice<LogPostSummaryDto> getAllLogsByRating(Integer minRating, Integer maxRating, Pageable pageable) {
-        return logPostRepository.findByRatingBetween(minRating, maxRating, pageable)
-                .map(this::convertToLogSummary);
+        return summaryAssembler.toLogSummariesWithVisibleComments(
+                logPostRepository.findByRatingBetween(minRating, maxRating, pageable), LocaleUtils.DEFAULT_LOCALE);
     }
 
     /**
@@ -150,7 +161,7 @@ public class LogPostService {
             logs = logPostRepository.findByCreatorIdAndDeletedAtIsNullOrderByCreatedAtDesc(userId, pageable);
         }
 
-        return logs.map(this::convertToLogSummary);
+        return summaryAssembler.toLogSummariesWithVisibleComments(logs, LocaleUtils.DEFAULT_LOCALE);
     }
 
     /**
@@ -164,8 +175,9 @@ public class LogPostService {
         Recipe recipe = recipeRepository.findByPublicId(recipePublicId)
                 .orElseThrow(() -> new IllegalArgumentException("Recipe not found"));
 
-        return recipeLogRepository.findByRecipeIdOrderByCreatedAtDesc(recipe.getId(), pageable)
-                .map(rl -> convertToLogSummary(rl.getLogPost(), locale));
+        Slice<LogPost> logs = recipeLogRepository.findByRecipeIdOrderByCreatedAtDesc(recipe.getId(), pageable)
+                .map(RecipeLog::getLogPost);
+        return summaryAssembler.toLogSummariesWithVisibleComments(logs, locale);
     }
 
     @Transactional(readOnly = true)
@@ -178,7 +190,7 @@ public class LogPostService {
         return getLogDetail(publicId, userId, LocaleUtils.DEFAULT_LOCALE);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public LogPostDetailResponseDto getLogDetail(UUID publicId, Long userId, String locale) {
         LogPost logPost = logPostRepository.findByPublicId(publicId)
                 .orElseThrow(() -> new IllegalArgumentException("Log not found"));
@@ -190,9 +202,8 @@ public class LogPostService {
             }
         }
 
-        // Increment view count for analytics
-        logPost.incrementViewCount();
-        logPostRepository.save(logPost);
+        // Count the view for analytics (buffered, written in batches)
+        viewCountBuffer.recordLogPostView(logPost.getId());
 
         // Normalize locale
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
@@ -209,7 +220,7 @@ public class LogPostService {
                 .toList();
 
         // 2. 연결된 레시피 요약 정보 생성 (locale-aware)
-        RecipeSummaryDto linkedRecipeSummary = convertToRecipeSummary(linkedRecipe, normalizedLocale);
+        RecipeSummaryDto linkedRecipeSummary = summaryAssembler.toRecipeSummary(linkedRecipe, normalizedLocale);
 
         // 3. 해시태그 리스트 변환
         List<HashtagDto> hashtagDtos = logPost.getHashtags().stream()
@@ -255,140 +266,6 @@ public class LogPostService {
         );
     }
 
-    private LogPostSummaryDto convertToLogSummary(LogPost log) {
-        return convertToLogSummary(log, LocaleUtils.DEFAULT_LOCALE);
-    }
-
-    private LogPostSummaryDto convertToLogSummary(LogPost log, String locale) {
-        User creator = userRepository.findById(log.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : "Unknown";
-
-        String thumbnailUrl = log.getImages().stream()
-                .findFirst() // 로그의 첫 번째 이미지를 썸네일로 사용
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        // Normalize locale for consistent usage
-        String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-
-        // Get localized title and content
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                log.getTitleTranslations(), normalizedLocale, log.getTitle());
-        String localizedContent = LocaleUtils.getLocalizedValue(
-                log.getContentTranslations(), normalizedLocale, log.getContent());
-
-        // Get food name, recipe title, and variant status from linked recipe
-        RecipeLog recipeLog = log.getRecipeLog();
-        String foodName = null;
-        String recipeTitle = null;
-        Boolean isVariant = null;
-        if (recipeLog != null && recipeLog.getRecipe() != null) {
-            Recipe recipe = recipeLog.getRecipe();
-            // Use locale-aware food name
-            foodName = LocaleUtils.getLocalizedValue(
-                    recipe.getFoodMaster().getName(),
-                    normalizedLocale,
-                    recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-            // Use locale-aware recipe title
-            recipeTitle = LocaleUtils.getLocalizedValue(
-                    recipe.getTitleTranslations(), normalizedLocale, recipe.getTitle());
-            isVariant = recipe.getRootRecipe() != null;
-        }
-
-        // Get hashtag names
-        List<String> hashtags = log.getHashtags().stream()
-                .map(Hashtag::getName)
-                .toList();
-
-        // Calculate visible comment count (excludes hidden comments)
-        int visibleCommentCount = (int) commentRepository.countVisibleCommentsAnonymous(log.getId());
-
-        return new LogPostSummaryDto(
-                log.getPublicId(),
-                localizedTitle,
-                localizedContent,
-                log.getRecipeLog().getRating(),
-                thumbnailUrl,
-                creatorPublicId,
-                userName,
-                foodName,
-                recipeTitle,
-                hashtags,
-                isVariant,
-                log.getIsPrivate() != null ? log.getIsPrivate() : false,
-                visibleCommentCount,
-                log.getLocale()
-        );
-    }
-
-    private RecipeSummaryDto convertToRecipeSummary(Recipe recipe, String locale) {
-        // 1. 작성자 정보 조회
-        User creator = userRepository.findById(recipe.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : "Unknown";
-
-        // 2. 음식 이름 추출 (locale 기반)
-        String foodName = LocaleUtils.getLocalizedValue(
-                recipe.getFoodMaster().getName(),
-                locale,
-                recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-
-        // 3. 제목/설명 locale 기반 추출
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                recipe.getTitleTranslations(), locale, recipe.getTitle());
-        String localizedDescription = LocaleUtils.getLocalizedValue(
-                recipe.getDescriptionTranslations(), locale, recipe.getDescription());
-
-        // 4. 썸네일 URL 추출 (첫 번째 커버 이미지 사용)
-        String thumbnail = recipe.getCoverImages().stream()
-                .findFirst()
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        // 5. 변형 수 조회
-        int variantCount = (int) recipeRepository.countByRootRecipeIdAndDeletedAtIsNull(recipe.getId());
-
-        // 6. 로그 수 조회 (Activity count)
-        int logCount = (int) recipeLogRepository.countByRecipeId(recipe.getId());
-
-        // 7. 루트 레시피 제목 추출 (locale 기반)
-        String rootTitle = null;
-        if (recipe.getRootRecipe() != null) {
-            rootTitle = LocaleUtils.getLocalizedValue(
-                    recipe.getRootRecipe().getTitleTranslations(),
-                    locale,
-                    recipe.getRootRecipe().getTitle());
-        }
-
-        // 8. 해시태그 추출 (first 3)
-        List<String> hashtags = recipe.getHashtags().stream()
-                .map(Hashtag::getName)
-                .limit(3)
-                .toList();
-
-        return new RecipeSummaryDto(
-                recipe.getPublicId(),
-                foodName,
-                recipe.getFoodMaster().getPublicId(),
-                localizedTitle,
-                localizedDescription,
-                recipe.getCookingStyle(),
-                creatorPublicId,
-                userName,
-                thumbnail,
-                variantCount,
-                logCount,
-                recipe.getParentRecipe() != null ? recipe.getParentRecipe().getPublicId() : null,
-                recipe.getRootRecipe() != null ? recipe.getRootRecipe().getPublicId() : null,
-                rootTitle,
-                recipe.getServings() != null ? recipe.getServings() : 2,
-                recipe.getCookingTimeRange() != null ? recipe.getCookingTimeRange().name() : "MIN_30_TO_60",
-                hashtags,
-                recipe.getIsPrivate() != null ? recipe.getIsPrivate() : false
-        );
-    }
-
     /**
      * 로그 검색 (제목, 내용, 연결된 레시피 제목)
      * Filters by translation availability based on locale
@@ -401,11 +278,11 @@ public class LogPostService {
         }
 
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(normalizedLocale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(normalizedLocale);
 
-        return logPostRepository.searchLogPosts(keyword.trim(), langCodePattern, pageable)
-                .map(log -> convertToLogSummary(log, normalizedLocale));
+        return summaryAssembler.toLogSummariesWithVisibleComments(
+                logPostRepository.searchLogPosts(keyword.trim(), langCode, pageable), normalizedLocale);
     }
 
     // ==================== CURSOR-BASED PAGINATION ====================
@@ -419,14 +296,14 @@ public class LogPostService {
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Slice<LogPost> logs;
         if (cursorData == null) {
-            logs = logPostRepository.findAllLogsWithCursorInitial(langCodePattern, pageable);
+            logs = logPostRepository.findAllLogsWithCursorInitial(langCode, pageable);
         } else {
-            logs = logPostRepository.findAllLogsWithCursor(langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+            logs = logPostRepository.findAllLogsWithCursor(langCode, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         return buildCursorResponse(logs, size, locale);
@@ -441,14 +318,14 @@ public class LogPostService {
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Slice<LogPost> logs;
         if (cursorData == null) {
-            logs = logPostRepository.findByRatingWithCursorInitial(langCodePattern, minRating, maxRating, pageable);
+            logs = logPostRepository.findByRatingWithCursorInitial(langCode, minRating, maxRating, pageable);
         } else {
-            logs = logPostRepository.findByRatingWithCursor(langCodePattern, minRating, maxRating, cursorData.createdAt(), cursorData.id(), pageable);
+            logs = logPostRepository.findByRatingWithCursor(langCode, minRating, maxRating, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         return buildCursorResponse(logs, size, locale);
@@ -462,13 +339,13 @@ public class LogPostService {
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Slice<LogPost> logs;
         if (cursorData == null) {
-            logs = logPostRepository.findByCookingStyleWithCursorInitial(langCodePattern, cookingStyle, pageable);
+            logs = logPostRepository.findByCookingStyleWithCursorInitial(langCode, cookingStyle, pageable);
         } else {
-            logs = logPostRepository.findByCookingStyleWithCursor(langCodePattern, cookingStyle, cursorData.createdAt(), cursorData.id(), pageable);
+            logs = logPostRepository.findByCookingStyleWithCursor(langCode, cookingStyle, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         return buildCursorResponse(logs, size, locale);
@@ -482,13 +359,13 @@ public class LogPostService {
         Pageable pageable = PageRequest.of(0, size);
         CursorUtil.CursorData cursorData = CursorUtil.decode(cursor);
 
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Slice<LogPost> logs;
         if (cursorData == null) {
-            logs = logPostRepository.findByCookingStyleAndRatingWithCursorInitial(langCodePattern, cookingStyle, minRating, maxRating, pageable);
+            logs = logPostRepository.findByCookingStyleAndRatingWithCursorInitial(langCode, cookingStyle, minRating, maxRating, pageable);
         } else {
-            logs = logPostRepository.findByCookingStyleAndRatingWithCursor(langCodePattern, cookingStyle, minRating, maxRating, cursorData.createdAt(), cursorData.id(), pageable);
+            logs = logPostRepository.findByCookingStyleAndRatingWithCursor(langCode, cookingStyle, minRating, maxRating, cursorData.createdAt(), cursorData.id(), pageable);
         }
 
         return buildCursorResponse(logs, size, locale);
@@ -531,12 +408,12 @@ public class LogPostService {
             return CursorPageResponse.empty(size);
         }
 
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         // Search uses page-based due to complex ordering, cursor decodes to page number for simplicity
         Pageable pageable = PageRequest.of(0, size);
-        Slice<LogPost> logs = logPostRepository.searchLogPosts(keyword.trim(), langCodePattern, pageable);
+        Slice<LogPost> logs = logPostRepository.searchLogPosts(keyword.trim(), langCode, pageable);
         return buildCursorResponse(logs, size, locale);
     }
 
@@ -545,9 +422,7 @@ public class LogPostService {
     }
 
     private CursorPageResponse<LogPostSummaryDto> buildCursorResponse(Slice<LogPost> logs, int size, String locale) {
-        List<LogPostSummaryDto> content = logs.getContent().stream()
-                .map(log -> convertToLogSummary(log, locale))
-                .toList();
+        List<LogPostSummaryDto> content = summaryAssembler.toLogSummariesWithVisibleComments(logs.getContent(), locale);
 
         String nextCursor = null;
         if (logs.hasNext() && !logs.getContent().isEmpty()) {
@@ -620,6 +495,9 @@ public class LogPostService {
         }
 
         logPostRepository.save(logPost);
+        searchDocumentProjector.projectLogPost(logPost);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        eventPublisher.publishEvent(RecipeDetailChangedEvent.recipe(recipeLog.getRecipe().getPublicId()));
 
         // Queue translation for updated content (hybrid SQS push)
         translationEventService.queueLogPostTranslation(logPost);
@@ -642,6 +520,12 @@ public class LogPostService {
         // Soft delete
         logPost.softDelete();
         logPostRepository.save(logPost);
+        searchDocumentProjector.projectLogPost(logPost);
+        recipeStatsService.logDeleted(logPost);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        if (logPost.getRecipeLog() != null) {
+            eventPublisher.publishEvent(RecipeDetailChangedEvent.recipe(logPost.getRecipeLog().getRecipe().getPublicId()));
+        }
     }
 
     // ================================================================
@@ -694,24 +578,24 @@ public class LogPostService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Page<LogPost> logs;
         boolean hasCookingStyle = cookingStyle != null && !cookingStyle.isEmpty();
         boolean hasRating = minRating != null && maxRating != null;
 
         if (hasCookingStyle && hasRating) {
-            logs = logPostRepository.findByCookingStyleAndRatingPage(langCodePattern, cookingStyle, minRating, maxRating, pageable);
+            logs = logPostRepository.findByCookingStyleAndRatingPage(langCode, cookingStyle, minRating, maxRating, pageable);
         } else if (hasCookingStyle) {
-            logs = logPostRepository.findByCookingStylePage(langCodePattern, cookingStyle, pageable);
+            logs = logPostRepository.findByCookingStylePage(langCode, cookingStyle, pageable);
         } else if (hasRating) {
-            logs = logPostRepository.findByRatingPage(langCodePattern, minRating, maxRating, pageable);
+            logs = logPostRepository.findByRatingPage(langCode, minRating, maxRating, pageable);
         } else {
-            logs = logPostRepository.findAllLogsPage(langCodePattern, pageable);
+            logs = logPostRepository.findAllLogsPage(langCode, pageable);
         }
 
-        Page<LogPostSummaryDto> mappedPage = logs.map(log -> convertToLogSummary(log, locale));
+        Page<LogPostSummaryDto> mappedPage = summaryAssembler.toLogSummariesWithVisibleComments(logs, locale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -725,34 +609,34 @@ public class LogPostService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        // Use 2-letter language code with pattern matching for backward compatibility with BCP47 keys
-        String langCodePattern = LocaleUtils.toLanguageKey(locale) + "%";
+        // available_languages holds 2-letter language keys (BCP47 translation keys are folded in)
+        String langCode = LocaleUtils.toLanguageKey(locale);
 
         Page<LogPost> logs;
         boolean hasCookingStyle = cookingStyle != null && !cookingStyle.isEmpty();
 
         if ("popular".equalsIgnoreCase(sort)) {
             if (hasCookingStyle) {
-                logs = logPostRepository.findByCookingStyleOrderByPopular(langCodePattern, cookingStyle, pageable);
+                logs = logPostRepository.findByCookingStyleOrderByPopular(langCode, cookingStyle, pageable);
             } else {
-                logs = logPostRepository.findAllLogsOrderByPopular(langCodePattern, pageable);
+                logs = logPostRepository.findAllLogsOrderByPopular(langCode, pageable);
             }
         } else if ("trending".equalsIgnoreCase(sort)) {
             if (hasCookingStyle) {
-                logs = logPostRepository.findByCookingStyleOrderByTrending(langCodePattern, cookingStyle, pageable);
+                logs = logPostRepository.findByCookingStyleOrderByTrending(langCode, cookingStyle, pageable);
             } else {
-                logs = logPostRepository.findAllLogsOrderByTrending(langCodePattern, pageable);
+                logs = logPostRepository.findAllLogsOrderByTrending(langCode, pageable);
             }
         } else {
             // Fallback to recent
             if (hasCookingStyle) {
-                logs = logPostRepository.findByCookingStylePage(langCodePattern, cookingStyle, pageable);
+                logs = logPostRepository.findByCookingStylePage(langCode, cookingStyle, pageable);
             } else {
-                logs = logPostRepository.findAllLogsPage(langCodePattern, pageable);
+                logs = logPostRepository.findAllLogsPage(langCode, pageable);
             }
         }
 
-        Page<LogPostSummaryDto> mappedPage = logs.map(log -> convertToLogSummary(log, locale));
+        Page<LogPostSummaryDto> mappedPage = summaryAssembler.toLogSummariesWithVisibleComments(logs, locale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -818,7 +702,7 @@ public class LogPostService {
             logs = logPostRepository.findMyLogsPage(userId, pageable);
         }
 
-        Page<LogPostSummaryDto> mappedPage = logs.map(log -> convertToLogSummary(log, locale));
+        Page<LogPostSummaryDto> mappedPage = summaryAssembler.toLogSummariesWithVisibleComments(logs, locale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -871,7 +755,7 @@ public class LogPostService {
         Pageable pageable = PageRequest.of(page, size);
         Page<LogPost> logs = logPostRepository.searchLogPostsPage(keyword.trim(), pageable);
 
-        Page<LogPostSummaryDto> mappedPage = logs.map(log -> convertToLogSummary(log, locale));
+        Page<LogPostSummaryDto> mappedPage = summaryAssembler.toLogSummariesWithVisibleComments(logs, locale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -0,0 +1,56 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.notification.NotificationOutboxEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Threads that drain the notification outbox (see NotificationOutbox).
+ *
+ * Each of notification.outbox.workers threads claims up to notification.outbox.batch-size entries,
+ * hands them to PushNotificationService as one batch and records the outcome; it sleeps for
+ * notification.outbox.poll-interval-ms when the outbox is empty (see ClaimableQueueWorker).
+ */
+@Component
+public class NotificationDispatcher extends ClaimableQueueWorker {
+
+    private final NotificationOutbox notificationOutbox;
+    private final PushNotificationService pushNotificationService;
+
+    public NotificationDispatcher(NotificationOutbox notificationOutbox, PushNotificationService pushNotificationService,
+                                  @Value("${notification.outbox.workers:1}") int workers,
+                                  @Value("${notification.outbox.batch-size:200}") int batchSize,
+                                  @Value("${notification.outbox.poll-interval-ms:500}") long pollIntervalMillis) {
+        super("notification-dispatcher", workers, batchSize, pollIntervalMillis);
+        this.notificationOutbox = notificationOutbox;
+        this.pushNotificationService = pushNotificationService;
+    }
+
+    @Override
+    protected int processBatch(String worker) {
+        return dispatchBatch(worker);
+    }
+
+    /**
+     * Claims and sends one batch as worker; returns the number of entries claimed.
+     */
+    int dispatchBatch(String worker) {
+        List<NotificationOutboxEntry> entries = notificationOutbox.claim(worker, batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        PushNotificationService.Delivery delivery;
+        try {
+            delivery = pushNotificationService.deliver(entries);
+        } catch (Exception e) {
+            notificationOutbox.fail(entries, e.getClass().getSimpleName() + ": " + e.getMessage());
+            return entries.size();
+        }
+        pushNotificationService.deactivateTokens(delivery.invalidTokens());
+        notificationOutbox.complete(delivery.delivered());
+        notificationOutbox.fail(delivery.retry(), "Push delivery failed");
+        return entries.size();
+    }
+}
@@ -0,0 +1,76 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.notification.Notification;
+import com.cookstemma.cookstemma.domain.entity.notification.NotificationOutboxEntry;
+import com.cookstemma.cookstemma.repository.notification.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * Durable queue of push notifications (notification_outbox, V29).
+ *
+ * enqueue() is called inside the transaction that saves the notification, so a push is queued
+ * exactly when its notification commits. NotificationDispatcher claims entries in batches; delivered
+ * entries are deleted and failed ones retried with exponential backoff until
+ * notification.outbox.max-attempts, after which they stay FAILED. refresh() releases claims older than
+ * notification.outbox.lock-timeout-ms (see ClaimableQueue).
+ */
+@Service
+public class NotificationOutbox extends ClaimableQueue<NotificationOutboxEntry> {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    private Counter deliveredCounter;
+    private Timer lagTimer;
+
+    public NotificationOutbox(NotificationOutboxRepository outboxRepository, MeterRegistry meterRegistry,
+                              @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${notification.outbox.backoff-base-ms:5000}") long backoffBaseMillis,
+                              @Value("${notification.outbox.backoff-max-ms:600000}") long backoffMaxMillis,
+                              @Value("${notification.outbox.lock-timeout-ms:120000}") long lockTimeoutMillis) {
+        super(outboxRepository, meterRegistry, "notification.outbox", "outbox entries",
+                maxAttempts, backoffBaseMillis, backoffMaxMillis, lockTimeoutMillis);
+        this.outboxRepository = outboxRepository;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        deliveredCounter = Counter.builder("notification.outbox.delivered")
+                .description("Outbox entries handled (sent, deduplicated or without devices)")
+                .register(meterRegistry);
+        lagTimer = Timer.builder("notification.outbox.lag")
+                .description("Time from notification to push delivery")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a push for a saved notification; joins the caller's transaction.
+     */
+    @Transactional
+    public void enqueue(Notification notification) {
+        outboxRepository.save(NotificationOutboxEntry.builder()
+                .notificationId(notification.getId())
+                .recipientId(notification.getRecipient().getId())
+                .build());
+    }
+
+    @Transactional
+    public void complete(Collection<NotificationOutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        remove(entries);
+        deliveredCounter.increment(entries.size());
+        Instant now = Instant.now();
+        entries.forEach(entry -> lagTimer.record(Duration.between(entry.getCreatedAt(), now)));
+    }
+}
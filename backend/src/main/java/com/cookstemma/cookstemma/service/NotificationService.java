@@ -13,15 +13,23 @@ import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.IntFunction;
 
 @Slf4j
 @Service
@@ -32,7 +40,16 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserFcmTokenRepository fcmTokenRepository;
     private final UserRepository userRepository;
-    private final PushNotificationService pushNotificationService;
+    private final NotificationOutbox notificationOutbox;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final UnreadCountStream unreadCountStream;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${notification.coalesce.enabled:true}")
+    private boolean coalesceEnabled;
+
+    @Value("${notification.coalesce.window-ms:3600000}")
+    private long coalesceWindowMillis;
 
     // =========== FCM Token Management ===========
 
@@ -119,9 +136,10 @@ public class NotificationService {
             ))
             .build();
 
-        notificationRepository.save(notification);
-        pushNotificationService.sendToUser(recipeOwnerId, notification);
-        log.info("Sent RECIPE_COOKED notification to user {} from user {}", recipeOwnerId, sender.getId());
+        publish(notification, "recipe:" + recipe.getId(), others -> String.format(
+            "%s님 외 %d명이 '%s' 레시피를 요리하고 후기를 남겼습니다.",
+            safeUsername(sender), others, truncate(recipe.getTitle(), 30)));
+        log.info("Queued RECIPE_COOKED notification to user {} from user {}", recipeOwnerId, sender.getId());
     }
 
     /**
@@ -152,9 +170,10 @@ public class NotificationService {
             ))
             .build();
 
-        notificationRepository.save(notification);
-        pushNotificationService.sendToUser(recipientId, notification);
-        log.info("Sent NEW_FOLLOWER notification to user {} from user {}", recipientId, follower.getId());
+        publish(notification, "followers", others -> String.format(
+            "%s님 외 %d명이 회원님을 팔로우하기 시작했습니다.",
+            safeUsername(follower), others));
+        log.info("Queued NEW_FOLLOWER notification to user {} from user {}", recipientId, follower.getId());
     }
 
     /**
@@ -195,9 +214,10 @@ public class NotificationService {
             ))
             .build();
 
-        notificationRepository.save(notification);
-        pushNotificationService.sendToUser(parentOwnerId, notification);
-        log.info("Sent RECIPE_VARIATION notification to user {} from user {}", parentOwnerId, sender.getId());
+        publish(notification, "recipe:" + parentRecipe.getId(), others -> String.format(
+            "%s님 외 %d명이 '%s' 레시피를 변형했습니다.",
+            safeUsername(sender), others, truncate(parentRecipe.getTitle(), 20)));
+        log.info("Queued RECIPE_VARIATION notification to user {} from user {}", parentOwnerId, sender.getId());
     }
 
     /**
@@ -235,9 +255,10 @@ public class NotificationService {
             ))
             .build();
 
-        notificationRepository.save(notification);
-        pushNotificationService.sendToUser(recipeOwnerId, notification);
-        log.info("Sent RECIPE_SAVED notification to user {} from user {}", recipeOwnerId, sender.getId());
+        publish(notification, "recipe:" + recipe.getId(), others -> String.format(
+            "%s님 외 %d명이 '%s' 레시피를 저장했습니다.",
+            safeUsername(sender), others, truncate(recipe.getTitle(), 30)));
+        log.info("Queued RECIPE_SAVED notification to user {} from user {}", recipeOwnerId, sender.getId());
     }
 
     /**
@@ -275,9 +296,10 @@ public class NotificationService {
             ))
             .build();
 
-        notificationRepository.save(notification);
-        pushNotificationService.sendToUser(logOwnerId, notification);
-        log.info("Sent LOG_SAVED notification to user {} from user {}", logOwnerId, sender.getId());
+        publish(notification, "log:" + logPost.getId(), others -> String.format(
+            "%s님 외 %d명이 회원님의 요리 일지를 저장했습니다.",
+            safeUsername(sender), others));
+        log.info("Queued LOG_SAVED notification to user {} from user {}", logOwnerId, sender.getId());
     }
 
     // =========== Notification Inbox ===========
@@ -287,7 +309,7 @@ public class NotificationService {
         Slice<Notification> slice = notificationRepository
             .findByRecipientIdOrderByCreatedAtDesc(principal.getId(), pageable);
 
-        long unreadCount = notificationRepository.countUnreadByRecipientId(principal.getId());
+        long unreadCount = unreadNotificationCounter.get(principal.getId());
 
         return new NotificationListResponse(
             slice.getContent().stream().map(NotificationDto::from).toList(),
@@ -296,10 +318,17 @@ public class NotificationService {
         );
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Served from the cached counter without a transaction, so a cache hit doesn't touch the database.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UnreadCountResponse getUnreadCount(UserPrincipal principal) {
-        long count = notificationRepository.countUnreadByRecipientId(principal.getId());
-        return new UnreadCountResponse(count);
+        return new UnreadCountResponse(unreadNotificationCounter.get(principal.getId()));
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public SseEmitter streamUnreadCount(UserPrincipal principal) {
+        return unreadCountStream.open(principal.getId(), unreadNotificationCounter.get(principal.getId()));
     }
 
     public void markAsRead(UUID notificationPublicId, UserPrincipal principal) {
@@ -311,12 +340,16 @@ public class NotificationService {
             throw new SecurityException("Not authorized to mark this notification as read");
         }
 
-        notification.markAsRead();
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.markAsRead();
+            eventPublisher.publishEvent(UnreadCountChangedEvent.read(principal.getId()));
+        }
         log.debug("Marked notification {} as read", notificationPublicId);
     }
 
     public void markAllAsRead(UserPrincipal principal) {
         notificationRepository.markAllAsReadByRecipientId(principal.getId());
+        eventPublisher.publishEvent(UnreadCountChangedEvent.cleared(principal.getId()));
         log.debug("Marked all notifications as read for user {}", principal.getId());
     }
 
@@ -330,6 +363,9 @@ public class NotificationService {
         }
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.read(principal.getId()));
+        }
         log.debug("Deleted notification {} for user {}", notificationPublicId, principal.getId());
     }
 
@@ -337,6 +373,7 @@ public class NotificationService {
         try {
             log.info("Deleting all notifications for user {}", principal.getId());
             notificationRepository.deleteAllByRecipientId(principal.getId());
+            eventPublisher.publishEvent(UnreadCountChangedEvent.cleared(principal.getId()));
             log.info("Deleted all notifications for user {}", principal.getId());
         } catch (Exception e) {
             log.error("Failed to delete all notifications for user {}: {}", principal.getId(), e.getMessage(), e);
@@ -369,12 +406,69 @@ public class NotificationService {
             .build();
 
         notificationRepository.save(notification);
-        pushNotificationService.sendToUser(principal.getId(), notification);
-        log.info("Sent TEST notification to user {}", principal.getId());
+        notificationOutbox.enqueue(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(user.getId()));
+        log.info("Queued TEST notification to user {}", principal.getId());
     }
 
     // =========== Helpers ===========
 
+    /**
+     * Saves the notification and queues its push, or folds it into the recipient's unread
+     * notification of the same type and group when that was touched within the coalesce window
+     * (aggregateBody gets the number of other actors). Two first events racing can still create
+     * two rows; later events fold into the newest.
+     */
+    private void publish(Notification notification, String groupKey, IntFunction<String> aggregateBody) {
+        notification.setGroupKey(groupKey);
+        if (notification.getSender() != null) {
+            notification.setActorIds(new ArrayList<>(List.of(notification.getSender().getId())));
+        }
+        if (coalesceEnabled) {
+            List<Notification> open = notificationRepository.findCoalescable(
+                notification.getRecipient().getId(), notification.getType(), groupKey,
+                Instant.now().minusMillis(coalesceWindowMillis), PageRequest.of(0, 1));
+            if (!open.isEmpty()) {
+                coalesce(open.get(0), notification, aggregateBody);
+                return;
+            }
+        }
+        notificationRepository.save(notification);
+        notificationOutbox.enqueue(notification);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.added(notification.getRecipient().getId()));
+    }
+
+    private void coalesce(Notification existing, Notification event, IntFunction<String> aggregateBody) {
+        existing.setCreatedAt(Instant.now());
+        List<Long> actorIds = new ArrayList<>(existing.getActorIds());
+        if (actorIds.isEmpty() && existing.getSender() != null) {
+            actorIds.add(existing.getSender().getId());
+        }
+        // Someone already counted repeating the action (e.g. save, unsave, save) only refreshes the row
+        Long senderId = event.getSender() != null ? event.getSender().getId() : null;
+        if (senderId != null && actorIds.contains(senderId)) {
+            log.debug("Refreshed {} notification {} for a repeated event", existing.getType(), existing.getId());
+            return;
+        }
+        if (senderId != null) {
+            actorIds.add(senderId);
+        }
+        int actors = existing.getActorCount() + 1;
+        Map<String, Object> data = new HashMap<>(event.getData());
+        data.put("actorCount", actors);
+
+        existing.setActorCount(actors);
+        existing.setActorIds(actorIds);
+        existing.setSender(event.getSender());
+        existing.setRecipe(event.getRecipe());
+        existing.setLogPost(event.getLogPost());
+        existing.setTitle(event.getTitle());
+        existing.setBody(aggregateBody.apply(actors - 1));
+        existing.setData(data);
+        notificationOutbox.enqueue(existing);
+        log.debug("Coalesced {} notification {} ({} actors)", existing.getType(), existing.getId(), actors);
+    }
+
     private String truncate(String text, int maxLength) {
         if (text == null) return "";
         if (text.length() <= maxLength) return text;
@@ -1,56 +1,192 @@
 package com.cookstemma.cookstemma.service;
 
-import com.google.firebase.FirebaseApp;
 import com.google.firebase.messaging.*;
 import com.cookstemma.cookstemma.domain.entity.notification.Notification;
+import com.cookstemma.cookstemma.domain.entity.notification.NotificationOutboxEntry;
 import com.cookstemma.cookstemma.domain.entity.notification.UserFcmToken;
+import com.cookstemma.cookstemma.repository.notification.NotificationRepository;
 import com.cookstemma.cookstemma.repository.notification.UserFcmTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns claimed outbox entries (see NotificationOutbox) into FCM messages.
+ *
+ * A batch costs one query for its notifications and one for all recipients' active tokens; the
+ * messages (one per device) go out in calls of up to PushSender.MAX_MESSAGES_PER_CALL. A push that
+ * repeats one sent to the same recipient for the same event within notification.outbox.dedupe-window-ms
+ * (e.g. save, unsave, save again) is dropped. This node remembers what it sent for the window only,
+ * so a duplicate handled by another node still goes out. Each recipient gets at most
+ * notification.push.recipient-limit pushes per notification.push.recipient-limit-window-ms (see
+ * PushRateLimiter); the notifications themselves stay in the inbox.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PushNotificationService {
 
+    // Recently sent pushes remembered for deduplication
+    private static final int MAX_RECENT_PUSHES = 10_000;
+
+    private final NotificationRepository notificationRepository;
     private final UserFcmTokenRepository fcmTokenRepository;
+    private final PushSender pushSender;
+    private final PushRateLimiter pushRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.outbox.dedupe-window-ms:60000}")
+    private long dedupeWindowMillis;
+
+    // Dedupe key -> when it was last sent, oldest first
+    private final LinkedHashMap<String, Long> recentPushes = new LinkedHashMap<>();
+
+    private final Map<PushSender.Result, Counter> messageCounters = new EnumMap<>(PushSender.Result.class);
+    private Counter deduplicatedCounter;
+    private Counter rateLimitedCounter;
 
     /**
-     * Send push notification to all active devices of a user.
-     * Runs asynchronously to avoid blocking the main thread.
+     * What happened to a batch: delivered entries are done (sent, deduplicated, without devices or
+     * no longer existing), retry entries should be rescheduled.
      */
-    @Async
-    public void sendToUser(Long userId, Notification notification) {
-        if (FirebaseApp.getApps().isEmpty()) {
-            log.warn("Firebase not initialized, skipping push notification");
-            return;
+    public record Delivery(List<NotificationOutboxEntry> delivered, List<NotificationOutboxEntry> retry,
+                           Set<String> invalidTokens) {
+    }
+
+    // One message and the entry it belongs to
+    private record Push(NotificationOutboxEntry entry, String token, Message message) {
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        for (PushSender.Result result : PushSender.Result.values()) {
+            messageCounters.put(result, Counter.builder("notification.push.messages")
+                    .description("Push messages sent to devices, by result")
+                    .tag("result", result.name().toLowerCase())
+                    .register(meterRegistry));
         }
+        deduplicatedCounter = Counter.builder("notification.push.deduplicated")
+                .description("Pushes dropped as repeats within the dedupe window")
+                .register(meterRegistry);
+        rateLimitedCounter = Counter.builder("notification.push.rate_limited")
+                .description("Pushes dropped because the recipient reached the push limit")
+                .register(meterRegistry);
+    }
 
-        List<UserFcmToken> tokens = fcmTokenRepository.findByUserIdAndIsActiveTrue(userId);
+    public Delivery deliver(List<NotificationOutboxEntry> entries) {
+        if (!pushSender.isAvailable()) {
+            log.warn("Push sender not available, dropping {} pushes", entries.size());
+            return new Delivery(entries, List.of(), Set.of());
+        }
+
+        Map<Long, Notification> notifications = notificationRepository.findAllForPushByIdIn(
+                        entries.stream().map(NotificationOutboxEntry::getNotificationId).toList())
+                .stream()
+                .collect(Collectors.toMap(Notification::getId, Function.identity()));
+        Map<Long, List<String>> tokensByUser = fcmTokenRepository.findActiveByUserIdIn(
+                        entries.stream().map(NotificationOutboxEntry::getRecipientId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.groupingBy(token -> token.getUser().getId(),
+                        Collectors.mapping(UserFcmToken::getFcmToken, Collectors.toList())));
+
+        List<NotificationOutboxEntry> delivered = new ArrayList<>();
+        List<Push> pushes = new ArrayList<>();
+        Set<String> batchKeys = new HashSet<>();
+        for (NotificationOutboxEntry entry : entries) {
+            Notification notification = notifications.get(entry.getNotificationId());
+            List<String> tokens = tokensByUser.getOrDefault(entry.getRecipientId(), List.of());
+            if (notification == null || tokens.isEmpty()) {
+                delivered.add(entry);
+                continue;
+            }
+            String key = dedupeKey(entry, notification);
+            if (!batchKeys.add(key) || sentRecently(key)) {
+                deduplicatedCounter.increment();
+                delivered.add(entry);
+                continue;
+            }
+            if (!pushRateLimiter.tryAcquire(entry.getRecipientId())) {
+                rateLimitedCounter.increment();
+                delivered.add(entry);
+                continue;
+            }
+            for (String token : tokens) {
+                pushes.add(new Push(entry, token, buildMessage(notification, token)));
+            }
+        }
+
+        Map<NotificationOutboxEntry, EnumSet<PushSender.Result>> outcomes = new LinkedHashMap<>();
+        Set<String> invalidTokens = new HashSet<>();
+        for (int from = 0; from < pushes.size(); from += PushSender.MAX_MESSAGES_PER_CALL) {
+            List<Push> chunk = pushes.subList(from, Math.min(pushes.size(), from + PushSender.MAX_MESSAGES_PER_CALL));
+            List<PushSender.Result> results = send(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                Push push = chunk.get(i);
+                PushSender.Result result = results.get(i);
+                messageCounters.get(result).increment();
+                outcomes.computeIfAbsent(push.entry(), e -> EnumSet.noneOf(PushSender.Result.class)).add(result);
+                if (result == PushSender.Result.INVALID_TOKEN) {
+                    invalidTokens.add(push.token());
+                }
+            }
+        }
+
+        // Reaching any device counts; retrying would repeat the push on the others
+        List<NotificationOutboxEntry> retry = new ArrayList<>();
+        outcomes.forEach((entry, results) -> {
+            if (results.contains(PushSender.Result.SENT)) {
+                rememberSent(dedupeKey(entry, notifications.get(entry.getNotificationId())));
+                delivered.add(entry);
+            } else if (results.contains(PushSender.Result.RETRYABLE)) {
+                retry.add(entry);
+            } else {
+                delivered.add(entry);
+            }
+        });
+
+        log.debug("Push batch: {} entries, {} messages, {} to retry, {} invalid tokens",
+                entries.size(), pushes.size(), retry.size(), invalidTokens.size());
+        return new Delivery(delivered, retry, invalidTokens);
+    }
+
+    /**
+     * Deactivates tokens FCM rejected, in one statement.
+     */
+    @Transactional
+    public void deactivateTokens(Collection<String> tokens) {
         if (tokens.isEmpty()) {
-            log.debug("No active FCM tokens found for user {}", userId);
             return;
         }
+        int updated = fcmTokenRepository.deactivateTokens(tokens);
+        log.info("Deactivated {} invalid FCM tokens", updated);
+    }
 
-        List<String> tokenStrings = tokens.stream()
-            .map(UserFcmToken::getFcmToken)
-            .toList();
-
-        // Build data payload for navigation
-        Map<String, String> data = buildDataPayload(notification);
+    private List<PushSender.Result> send(List<Push> chunk) {
+        try {
+            return pushSender.send(chunk.stream().map(Push::message).toList());
+        } catch (RuntimeException e) {
+            log.warn("Push batch of {} messages failed: {}", chunk.size(), e.getMessage());
+            return Collections.nCopies(chunk.size(), PushSender.Result.RETRYABLE);
+        }
+    }
 
-        MulticastMessage message = MulticastMessage.builder()
+    private Message buildMessage(Notification notification, String token) {
+        return Message.builder()
+            .setToken(token)
             .setNotification(com.google.firebase.messaging.Notification.builder()
                 .setTitle(notification.getTitle())
                 .setBody(notification.getBody())
                 .build())
-            .putAllData(data)
+            .putAllData(buildDataPayload(notification))
             .setAndroidConfig(AndroidConfig.builder()
                 .setNotification(AndroidNotification.builder()
                     .setClickAction("FLUTTER_NOTIFICATION_CLICK")
@@ -63,19 +199,7 @@ public class PushNotificationService {
                     .setBadge(1)
                     .build())
                 .build())
-            .addAllTokens(tokenStrings)
             .build();
-
-        try {
-            BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(message);
-            log.info("Push notification sent: {} success, {} failure",
-                response.getSuccessCount(), response.getFailureCount());
-
-            // Handle failed tokens (deactivate invalid ones)
-            handleFailedTokens(tokens, response);
-        } catch (FirebaseMessagingException e) {
-            log.error("Failed to send push notification: {}", e.getMessage());
-        }
     }
 
     private Map<String, String> buildDataPayload(Notification notification) {
@@ -93,22 +217,30 @@ public class PushNotificationService {
         return data;
     }
 
-    private void handleFailedTokens(List<UserFcmToken> tokens, BatchResponse response) {
-        List<SendResponse> responses = response.getResponses();
-        for (int i = 0; i < responses.size(); i++) {
-            if (!responses.get(i).isSuccessful()) {
-                FirebaseMessagingException exception = responses.get(i).getException();
-                if (exception != null && isTokenInvalid(exception)) {
-                    String invalidToken = tokens.get(i).getFcmToken();
-                    log.info("Deactivating invalid FCM token: {}...", invalidToken.substring(0, Math.min(20, invalidToken.length())));
-                    fcmTokenRepository.deactivateToken(invalidToken);
-                }
-            }
-        }
+    // Same recipient, event type, sender and target
+    private static String dedupeKey(NotificationOutboxEntry entry, Notification notification) {
+        return entry.getRecipientId() + ":" + notification.getType()
+            + ":" + (notification.getSender() != null ? notification.getSender().getId() : "")
+            + ":" + (notification.getRecipe() != null ? notification.getRecipe().getId() : "")
+            + ":" + (notification.getLogPost() != null ? notification.getLogPost().getId() : "");
+    }
+
+    private synchronized boolean sentRecently(String key) {
+        Long sentAt = recentPushes.get(key);
+        return sentAt != null && System.currentTimeMillis() - sentAt < dedupeWindowMillis;
     }
 
-    private boolean isTokenInvalid(FirebaseMessagingException e) {
-        return e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED
-            || e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT;
+    private synchronized void rememberSent(String key) {
+        long now = System.currentTimeMillis();
+        recentPushes.remove(key);
+        recentPushes.put(key, now);
+        Iterator<Long> oldest = recentPushes.values().iterator();
+        while (oldest.hasNext()) {
+            long sentAt = oldest.next();
+            if (recentPushes.size() <= MAX_RECENT_PUSHES && now - sentAt < dedupeWindowMillis) {
+                break;
+            }
+            oldest.remove();
+        }
     }
 }
@@ -0,0 +1,43 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.filter.RateLimitBucketStore;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+
+import java.time.Duration;
+
+/**
+ * Caps the pushes each recipient gets (notification.push.recipient-limit per
+ * notification.push.recipient-limit-window-ms). The buckets live in a store of their own
+ * (see RateLimitConfig), so a burst of pushes can't evict the request rate limiter's buckets or
+ * the other way round; notification.push.max-buckets bounds it.
+ */
+public class PushRateLimiter implements AutoCloseable {
+
+    private final RateLimitBucketStore bucketStore;
+    private final BucketConfiguration recipientBucket;
+
+    public PushRateLimiter(RateLimitBucketStore bucketStore, int recipientLimit, Duration window) {
+        this.bucketStore = bucketStore;
+        this.recipientBucket = BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(recipientLimit)
+                        .refillGreedy(recipientLimit, window)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Takes one push from the recipient's bucket; false once the limit is reached.
+     */
+    public boolean tryAcquire(Long recipientId) {
+        return bucketStore.resolve("push:" + recipientId, recipientBucket).tryConsume(1);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (bucketStore instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
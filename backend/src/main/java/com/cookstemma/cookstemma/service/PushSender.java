@@ -0,0 +1,33 @@
+package com.cookstemma.cookstemma.service;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * Sends push messages in batches; FcmPushSender in production, a stub in tests.
+ */
+public interface PushSender {
+
+    // FCM's limit for one sendEach call
+    int MAX_MESSAGES_PER_CALL = 500;
+
+    enum Result {
+        SENT,
+        // The device token is no longer valid and should be deactivated
+        INVALID_TOKEN,
+        // Worth trying again later (quota, unavailable, internal error)
+        RETRYABLE
+    }
+
+    /**
+     * False when pushes can't be sent at all (e.g. Firebase is not configured).
+     */
+    boolean isAvailable();
+
+    /**
+     * Sends up to MAX_MESSAGES_PER_CALL messages in one call and returns one result per message,
+     * in order. A failure of the whole call is reported as RETRYABLE for every message.
+     */
+    List<Result> send(List<Message> messages);
+}
@@ -0,0 +1,282 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.recipe.RecipeDetailResponseDto;
+import com.cookstemma.cookstemma.repository.recipe.RecipeIngredientRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeLogRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeStepRepository;
+import com.cookstemma.cookstemma.util.LruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the user-independent part of recipe details per locale, so hot recipe pages are served
+ * without loading the recipe graph, its variants and its logs.
+ *
+ * Entries hold the detail built for a locale (isSavedByCurrentUser left null) plus what RecipeService
+ * needs to check access and count the view; the caller overlays the per-user bits. Lookups go through
+ * a bounded in-process cache (recipe.detail-cache.near-ttl-ms), then, with
+ * recipe.detail-cache.redis.enabled, Redis under recipe:detail:{publicId}:{locale}:{version}.
+ *
+ * A RecipeDetailChangedEvent or TranslationCompletedEvent drops the recipe after commit: it gets a
+ * new content version from a global sequence, so details built from older data are never read again
+ * and expire on their own, and the eviction is broadcast to the other nodes over Redis pub/sub.
+ * Without Redis other nodes pick up the change within the near cache TTL. Translations written by the
+ * Lambda arrive as TranslationCompletedEvents from TranslationCompletionWatcher, which every node runs,
+ * within translation.completion-watch.interval-ms.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeDetailCache {
+
+    static final String KEY_PREFIX = "recipe:detail:";
+    static final String VERSION_KEY_PREFIX = KEY_PREFIX + "version:";
+    private static final String VERSION_SEQUENCE_KEY = KEY_PREFIX + "version-seq";
+    static final String INVALIDATION_CHANNEL = "recipe:detail-invalidated";
+
+    // Moves each recipe in KEYS[2..] to a new version from the sequence in KEYS[1]
+    private static final DefaultRedisScript<Long> BUMP_VERSIONS_SCRIPT = new DefaultRedisScript<>("""
+        for i = 2, #KEYS do
+            redis.call('set', KEYS[i], redis.call('incr', KEYS[1]), 'PX', ARGV[1])
+        end
+        return #KEYS - 1
+        """, Long.class);
+
+    /**
+     * Cached detail of one recipe in one locale.
+     */
+    public record Entry(Long recipeId, Long creatorId, RecipeDetailResponseDto detail) {
+    }
+
+    private record Key(UUID publicId, String locale) {
+    }
+
+    private record Cached(Entry entry, long loadedAtMillis) {
+    }
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeLogRepository recipeLogRepository;
+    private final RecipeStepRepository recipeStepRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Value("${recipe.detail-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recipe.detail-cache.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${recipe.detail-cache.near-ttl-ms:30000}")
+    private long nearTtlMillis;
+
+    @Value("${recipe.detail-cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${recipe.detail-cache.redis.ttl-ms:600000}")
+    private long redisTtlMillis;
+
+    private final LruCache<Key, Cached> entries = new LruCache<>(() -> maxEntries);
+
+    // Bumped by every eviction; a load that raced one isn't kept (it may predate the change). Guarded by this
+    private long evictions;
+
+    private Counter nearHitCounter;
+    private Counter redisHitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void subscribe() {
+        nearHitCounter = lookupCounter("near_hit");
+        redisHitCounter = lookupCounter("redis_hit");
+        missCounter = lookupCounter("miss");
+        Gauge.builder("recipe.detail.cache.entries", entries, LruCache::size)
+                .description("Recipe details held in this node's near cache")
+                .register(meterRegistry);
+
+        if (!enabled || !redisEnabled || listenerContainer == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                evictLocal(Arrays.stream(new String(message.getBody(), StandardCharsets.UTF_8).split(","))
+                        .map(UUID::fromString)
+                        .collect(Collectors.toSet()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed recipe detail invalidation message");
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    private Counter lookupCounter(String result) {
+        return Counter.builder("recipe.detail.cache")
+                .description("Recipe detail lookups, by where the detail came from")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached detail of the recipe in the (normalized) locale, loaded with loader on a miss.
+     * Inside a read-write transaction the loader is always used and nothing is cached, since the
+     * transaction may see changes that aren't committed yet.
+     */
+    public Entry get(UUID publicId, String locale, Supplier<Entry> loader) {
+        if (!enabled || inReadWriteTransaction()) {
+            return loader.get();
+        }
+        Key key = new Key(publicId, locale);
+        long now = System.currentTimeMillis();
+        Cached cached = entries.get(key);
+        if (cached != null && now - cached.loadedAtMillis() < nearTtlMillis) {
+            nearHitCounter.increment();
+            return cached.entry();
+        }
+
+        long evictionsBefore = evictionCount();
+        Entry entry = useRedis() ? loadThroughRedis(publicId, locale, loader) : load(loader);
+        putLocal(key, new Cached(entry, now), evictionsBefore);
+        return entry;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRecipeDetailChanged(RecipeDetailChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Set<UUID> publicIds = new HashSet<>();
+        publicIds.add(event.recipePublicId());
+        if (event.family()) {
+            publicIds.addAll(recipeRepository.findFamilyPublicIds(event.recipePublicId()));
+        }
+        evict(publicIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationCompleted(TranslationCompletedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Optional<UUID> recipePublicId = switch (event.entityType()) {
+            case RECIPE, RECIPE_FULL -> recipeRepository.findPublicIdById(event.entityId());
+            case RECIPE_STEP -> recipeStepRepository.findRecipePublicIdById(event.entityId());
+            case RECIPE_INGREDIENT -> recipeIngredientRepository.findRecipePublicIdById(event.entityId());
+            case LOG_POST -> recipeLogRepository.findRecipePublicIdByLogPostId(event.entityId());
+            default -> Optional.empty();
+        };
+        recipePublicId.ifPresent(publicId -> evict(Set.of(publicId)));
+    }
+
+    /**
+     * Drops the recipes on every node.
+     */
+    void evict(Collection<UUID> publicIds) {
+        if (publicIds.isEmpty()) {
+            return;
+        }
+        evictLocal(publicIds);
+        if (!useRedis()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(publicIds.size() + 1);
+        keys.add(VERSION_SEQUENCE_KEY);
+        publicIds.forEach(publicId -> keys.add(VERSION_KEY_PREFIX + publicId));
+        try {
+            // Versions outlive the details written under them, so a version key never resets while
+            // details from before the change are still around
+            redisTemplate.execute(BUMP_VERSIONS_SCRIPT, keys, String.valueOf(2 * redisTtlMillis));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    publicIds.stream().map(UUID::toString).collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.warn("Failed to invalidate cached details of {} recipes: {}", publicIds.size(), e.getMessage());
+        }
+    }
+
+    private Entry loadThroughRedis(UUID publicId, String locale, Supplier<Entry> loader) {
+        String detailKey;
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + publicId);
+            detailKey = KEY_PREFIX + publicId + ":" + locale + ":" + (version != null ? version : "0");
+            String cached = redisTemplate.opsForValue().get(detailKey);
+            if (cached != null) {
+                redisHitCounter.increment();
+                return objectMapper.readValue(cached, Entry.class);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read cached detail of recipe {}: {}", publicId, e.getMessage());
+            return load(loader);
+        }
+
+        Entry entry = load(loader);
+        try {
+            redisTemplate.opsForValue().set(detailKey, objectMapper.writeValueAsString(entry),
+                    Duration.ofMillis(redisTtlMillis));
+        } catch (Exception e) {
+            log.warn("Failed to cache detail of recipe {}: {}", publicId, e.getMessage());
+        }
+        return entry;
+    }
+
+    private Entry load(Supplier<Entry> loader) {
+        missCounter.increment();
+        return loader.get();
+    }
+
+    private synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private synchronized void putLocal(Key key, Cached cached, long evictionsBefore) {
+        if (evictions != evictionsBefore) {
+            return;
+        }
+        entries.put(key, cached);
+    }
+
+    private synchronized void evictLocal(Collection<UUID> publicIds) {
+        evictions++;
+        entries.removeIf((key, cached) -> publicIds.contains(key.publicId()));
+    }
+
+    private boolean useRedis() {
+        return redisEnabled && redisTemplate != null;
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
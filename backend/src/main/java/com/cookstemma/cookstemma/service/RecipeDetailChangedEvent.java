@@ -0,0 +1,25 @@
+package com.cookstemma.cookstemma.service;
+
+import java.util.UUID;
+
+/**
+ * Published when something shown on a recipe's detail page changes, so its cached detail is dropped
+ * after the transaction commits (see RecipeDetailCache). With family set, the details of the root and
+ * all its variants are dropped too, since every detail page lists the root's variants.
+ */
+public record RecipeDetailChangedEvent(UUID recipePublicId, boolean family) {
+
+    /**
+     * Only this recipe's page changed, e.g. a log was added to it.
+     */
+    public static RecipeDetailChangedEvent recipe(UUID recipePublicId) {
+        return new RecipeDetailChangedEvent(recipePublicId, false);
+    }
+
+    /**
+     * The recipe was created, edited or deleted.
+     */
+    public static RecipeDetailChangedEvent family(UUID recipePublicId) {
+        return new RecipeDetailChangedEvent(recipePublicId, true);
+    }
+}
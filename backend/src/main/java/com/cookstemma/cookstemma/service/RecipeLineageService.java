@@ -0,0 +1,86 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.dto.common.CursorPageResponse;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeCursor;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeNodeDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeRow;
+import com.cookstemma.cookstemma.repository.recipe.RecipeLineageRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.util.LocaleUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains recipe_lineage, the closure table of the variant tree, and serves subtrees from it.
+ *
+ * RecipeService reports creates and deletes as they happen: a new recipe copies its parent's
+ * ancestors one level further, a deleted one drops out of every subtree (variants below it keep
+ * their lineage). Tree pages are breadth-first keyset pages of one indexed query, so rendering
+ * an evolution tree never walks it recursively or loads it whole.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeLineageService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final RecipeLineageRepository recipeLineageRepository;
+    private final RecipeRepository recipeRepository;
+    private final SummaryAssembler summaryAssembler;
+
+    @Transactional
+    public void recipeCreated(Recipe recipe) {
+        Long parentId = recipe.getParentRecipe() != null ? recipe.getParentRecipe().getId() : -1L;
+        recipeLineageRepository.insertForRecipe(recipe.getId(), parentId);
+    }
+
+    @Transactional
+    public void recipesDeleted(Collection<Long> recipeIds) {
+        if (!recipeIds.isEmpty()) {
+            recipeLineageRepository.deleteByDescendantIds(recipeIds);
+        }
+    }
+
+    /**
+     * One page of the variant tree below the recipe (the recipe itself first), at most maxDepth
+     * levels down (null for no limit). Private recipes, and the variants below them, are only shown
+     * to their creator; the child counts leave them out the same way.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RecipeTreeNodeDto> getTree(UUID publicId, Long userId, Integer maxDepth,
+                                                         String cursor, int size, String locale) {
+        Recipe recipe = recipeRepository.findByPublicId(publicId)
+                .filter(r -> r.getDeletedAt() == null)
+                .orElseThrow(() -> new IllegalArgumentException("Recipe not found"));
+        if (Boolean.TRUE.equals(recipe.getIsPrivate()) && !recipe.getCreatorId().equals(userId)) {
+            throw new AccessDeniedException("This recipe is private");
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        RecipeTreeCursor after = RecipeTreeCursor.decode(cursor);
+        // One extra row tells whether there is a next page
+        List<RecipeTreeRow> rows = recipeLineageRepository.findSubtree(
+                recipe.getId(),
+                maxDepth != null ? Math.max(maxDepth, 0) : Integer.MAX_VALUE,
+                after.depth(),
+                after.id(),
+                userId != null ? userId : -1L,
+                pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            RecipeTreeRow last = rows.get(pageSize - 1);
+            nextCursor = new RecipeTreeCursor(last.getDepth(), last.getId()).encode();
+        }
+        return CursorPageResponse.of(
+                summaryAssembler.toTreeNodes(rows, LocaleUtils.normalizeLocale(locale)), nextCursor, pageSize);
+    }
+}
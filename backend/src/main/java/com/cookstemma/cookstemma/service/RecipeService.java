@@ -17,7 +17,6 @@ import com.cookstemma.cookstemma.dto.common.UnifiedPageResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 import com.cookstemma.cookstemma.dto.log_post.LogPostSummaryDto;
-import com.cookstemma.cookstemma.dto.log_post.RecentActivityDto;
 import com.cookstemma.cookstemma.dto.recipe.*;
 import com.cookstemma.cookstemma.util.CursorUtil;
 import com.cookstemma.cookstemma.util.LocaleUtils;
@@ -34,27 +33,33 @@ import com.cookstemma.cookstemma.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class RecipeService {
+    // Items per home feed section
+    private static final int HOME_SECTION_SIZE = 5;
+    // Variants and logs on the detail page (show 5, detect "View All" if 6)
+    private static final int DETAIL_PREVIEW_SIZE = 6;
+
     private final RecipeRepository recipeRepository;
     private final RecipeIngredientRepository ingredientRepository;
     private final RecipeStepRepository stepRepository;
@@ -74,6 +79,14 @@ public class RecipeService {
     private final NotificationService notificationService;
     private final TranslationEventService translationEventService;
     private final ImageProcessingService imageProcessingService;
+    private final SearchDocumentProjector searchDocumentProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeStatsService recipeStatsService;
+    private final RecipeLineageService recipeLineageService;
+    private final ViewCountBuffer viewCountBuffer;
+    private final SummaryAssembler summaryAssembler;
+    private final RecipeDetailCache recipeDetailCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${file.upload.url-prefix}")
     private String urlPrefix;
@@ -178,6 +191,12 @@ public class RecipeService {
             notificationService.notifyRecipeVariation(parent, recipe, creator);
         }
 
+        searchDocumentProjector.projectRecipe(recipe);
+        recipeStatsService.recipeCreated(recipe);
+        recipeLineageService.recipeCreated(recipe);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        eventPublisher.publishEvent(RecipeDetailChangedEvent.family(recipe.getPublicId()));
+
         // Queue async translation for all languages
         translationEventService.queueRecipeTranslation(recipe);
 
@@ -204,83 +223,52 @@ public class RecipeService {
     /**
      * 레시피 상세 조회 (기획 원칙 1 반영: 상단 루트 고정)
      * 로그인 사용자용, with locale
-     * Increments view count for analytics.
+     * Records a view in ViewCountBuffer for analytics.
+     * The locale's detail comes from RecipeDetailCache; only the bookmark status is read per user.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public RecipeDetailResponseDto getRecipeDetail(UUID publicId, Long userId, String locale) {
-        Recipe recipe = recipeRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new IllegalArgumentException("Recipe not found"));
+        // Normalize locale for consistent usage
+        String normalizedLocale = LocaleUtils.normalizeLocale(locale);
+
+        RecipeDetailCache.Entry entry = recipeDetailCache.get(publicId, normalizedLocale,
+                () -> transactionTemplate.execute(status -> loadRecipeDetail(publicId, normalizedLocale)));
 
         // Access control for private recipes - only owner can view
-        if (Boolean.TRUE.equals(recipe.getIsPrivate())) {
-            if (userId == null || !recipe.getCreatorId().equals(userId)) {
+        if (Boolean.TRUE.equals(entry.detail().isPrivate())) {
+            if (userId == null || !entry.creatorId().equals(userId)) {
                 throw new org.springframework.security.access.AccessDeniedException("This recipe is private");
             }
         }
 
-        // Increment view count for analytics
-        recipe.incrementViewCount();
-        recipeRepository.save(recipe);
-
-        // [원칙 1] 어디서든 루트 레시피 정보 포함
-        Recipe root = (recipe.getRootRecipe() != null) ? recipe.getRootRecipe() : recipe;
-
-        // Normalize locale for consistent usage
-        String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-
-        // 변형 및 로그 리스트 조회 - 루트에 연결된 모든 변형을 가져옴
-        List<RecipeSummaryDto> variants = recipeRepository.findByRootRecipeIdAndDeletedAtIsNull(root.getId())
-                .stream()
-                .filter(v -> !v.getId().equals(recipe.getId())) // Exclude current recipe
-                .limit(6)  // Limit to 6 for "View All" detection (show 5, detect more if 6)
-                .map(v -> convertToSummary(v, normalizedLocale))
-                .toList();
-
-        List<LogPostSummaryDto> logs = recipeLogRepository.findAllByRecipeId(recipe.getId())
-                .stream()
-                .limit(6)  // Limit to 6 for "See More" detection (show 5, detect more if 6)
-                .map(rl -> {
-                    var logPost = rl.getLogPost();
-                    // Get first image URL as thumbnail (images ordered by displayOrder ASC)
-                    String thumbnailUrl = logPost.getImages().isEmpty()
-                            ? null
-                            : urlPrefix + "/" + logPost.getImages().get(0).getStoredFilename();
-                    // Get creator info
-                    User logCreator = userRepository.findById(logPost.getCreatorId()).orElse(null);
-                    UUID logCreatorPublicId = logCreator != null ? logCreator.getPublicId() : null;
-                    String logCreatorName = logCreator != null ? logCreator.getUsername() : null;
-                    // Get food name and variant status from linked recipe
-                    String foodName = recipe.getFoodMaster().getNameByLocale(normalizedLocale);
-                    Boolean isVariant = recipe.getRootRecipe() != null;
-
-                    // Get hashtag names
-                    List<String> logHashtags = logPost.getHashtags().stream()
-                            .map(Hashtag::getName)
-                            .toList();
-
-                    return new LogPostSummaryDto(
-                            logPost.getPublicId(),
-                            LocaleUtils.getLocalizedValue(logPost.getTitleTranslations(), normalizedLocale, logPost.getTitle()),
-                            LocaleUtils.getLocalizedValue(logPost.getContentTranslations(), normalizedLocale, logPost.getContent()),
-                            rl.getRating(),
-                            thumbnailUrl,
-                            logCreatorPublicId,
-                            logCreatorName,
-                            foodName,
-                            LocaleUtils.getLocalizedValue(recipe.getTitleTranslations(), normalizedLocale, recipe.getTitle()),
-                            logHashtags,
-                            isVariant,
-                            logPost.getIsPrivate() != null ? logPost.getIsPrivate() : false,
-                            logPost.getCommentCount() != null ? logPost.getCommentCount() : 0,
-                            logPost.getLocale()
-                    );
-                }).toList();
+        // Count the view for analytics (buffered, written in batches)
+        viewCountBuffer.recordRecipeView(entry.recipeId());
 
         // P1: 저장 여부 확인
         Boolean isSavedByCurrentUser = (userId != null)
-                ? savedRecipeRepository.existsByUserIdAndRecipeId(userId, recipe.getId())
+                ? savedRecipeRepository.existsByUserIdAndRecipeId(userId, entry.recipeId())
                 : null;
 
+        return entry.detail().withSavedByCurrentUser(isSavedByCurrentUser);
+    }
+
+    /**
+     * User-independent part of the recipe detail in the locale, for RecipeDetailCache.
+     */
+    private RecipeDetailCache.Entry loadRecipeDetail(UUID publicId, String normalizedLocale) {
+        Recipe recipe = recipeRepository.findByPublicId(publicId)
+                .orElseThrow(() -> new IllegalArgumentException("Recipe not found"));
+
+        // [원칙 1] 어디서든 루트 레시피 정보 포함
+        Recipe root = (recipe.getRootRecipe() != null) ? recipe.getRootRecipe() : recipe;
+
+        // 변형 및 로그 미리보기 - 루트의 최신 변형과 이 레시피의 최신 로그만 조회 (트리 크기와 무관)
+        List<RecipeSummaryDto> variants = summaryAssembler.toVariantSummaries(
+                recipeRepository.findVariantPreviews(root.getId(), recipe.getId(), DETAIL_PREVIEW_SIZE),
+                normalizedLocale);
+        List<LogPostSummaryDto> logs = summaryAssembler.toLogSummaries(
+                recipeLogRepository.findLogPreviews(recipe.getId(), DETAIL_PREVIEW_SIZE), recipe, normalizedLocale);
+
         // 작성자 정보 조회
         User creator = userRepository.findById(recipe.getCreatorId()).orElse(null);
         UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
@@ -296,7 +284,8 @@ public class RecipeService {
             rootCreatorName = rootCreator != null ? rootCreator.getUsername() : "Unknown";
         }
 
-        return RecipeDetailResponseDto.from(recipe, variants, logs, this.urlPrefix, isSavedByCurrentUser, creatorPublicId, userName, rootCreatorPublicId, rootCreatorName, normalizedLocale);
+        RecipeDetailResponseDto detail = RecipeDetailResponseDto.from(recipe, variants, logs, this.urlPrefix, null, creatorPublicId, userName, rootCreatorPublicId, rootCreatorName, normalizedLocale);
+        return new RecipeDetailCache.Entry(recipe.getId(), recipe.getCreatorId(), detail);
     }
 
     @Transactional(readOnly = true)
@@ -328,7 +317,7 @@ public class RecipeService {
             }
         }
 
-        return recipes.map(this::convertToSummary);
+        return summaryAssembler.toRecipeSummaries(recipes, LocaleUtils.DEFAULT_LOCALE);
     }
 
 
@@ -541,182 +530,22 @@ public class RecipeService {
         return nameMap.values().stream().findFirst().orElse("Unknown Food");
     }
 
-    /**
-     * Convert recipe to summary DTO without locale (uses default locale).
-     * For backward compatibility with methods that don't have locale context.
-     */
-    private RecipeSummaryDto convertToSummary(Recipe recipe) {
-        return convertToSummary(recipe, LocaleUtils.DEFAULT_LOCALE);
-    }
-
-    /**
-     * Convert recipe to summary DTO with locale-aware field resolution.
-     */
-    private RecipeSummaryDto convertToSummary(Recipe recipe, String locale) {
-        // 1. 작성자 정보 조회
-        User creator = userRepository.findById(recipe.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : "Unknown";
-
-        // 2. 음식 이름 추출 (locale 기반)
-        String foodName = LocaleUtils.getLocalizedValue(
-                recipe.getFoodMaster().getName(),
-                locale,
-                recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-
-        // 3. 제목/설명 locale 기반 추출
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                recipe.getTitleTranslations(), locale, recipe.getTitle());
-        String localizedDescription = LocaleUtils.getLocalizedValue(
-                recipe.getDescriptionTranslations(), locale, recipe.getDescription());
-
-        // 4. 썸네일 URL 추출 (첫 번째 커버 이미지 사용)
-        String thumbnail = recipe.getCoverImages().stream()
-                .filter(img -> img.getType() == com.cookstemma.cookstemma.domain.enums.ImageType.COVER)
-                .findFirst()
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        // 5. 변형 수 조회
-        int variantCount = (int) recipeRepository.countByRootRecipeIdAndDeletedAtIsNull(recipe.getId());
-
-        // 6. 로그 수 조회 (Activity count)
-        int logCount = (int) recipeLogRepository.countByRecipeId(recipe.getId());
-
-        // 7. 루트 레시피 제목 추출 (locale 기반)
-        String rootTitle = null;
-        if (recipe.getRootRecipe() != null) {
-            rootTitle = LocaleUtils.getLocalizedValue(
-                    recipe.getRootRecipe().getTitleTranslations(),
-                    locale,
-                    recipe.getRootRecipe().getTitle());
-        }
-
-        // 8. 해시태그 추출 (first 3)
-        List<String> hashtags = recipe.getHashtags().stream()
-                .map(Hashtag::getName)
-                .limit(3)
-                .toList();
-
-        return new RecipeSummaryDto(
-                recipe.getPublicId(),
-                foodName,
-                recipe.getFoodMaster().getPublicId(),
-                localizedTitle,
-                localizedDescription,
-                recipe.getCookingStyle(),
-                creatorPublicId,
-                userName,
-                thumbnail,
-                variantCount,
-                logCount,
-                recipe.getParentRecipe() != null ? recipe.getParentRecipe().getPublicId() : null,
-                recipe.getRootRecipe() != null ? recipe.getRootRecipe().getPublicId() : null,
-                rootTitle,
-                recipe.getServings() != null ? recipe.getServings() : 2,
-                recipe.getCookingTimeRange() != null ? recipe.getCookingTimeRange().name() : "MIN_30_TO_60",
-                hashtags,
-                recipe.getIsPrivate() != null ? recipe.getIsPrivate() : false
-        );
-    }
-
     @Transactional(readOnly = true)
     public HomeFeedResponseDto getHomeFeed(String locale) {
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
         // Use BCP47 format for translation filtering (matches how Lambda translator stores keys)
         String langCode = LocaleUtils.toLanguageKey(normalizedLocale);
 
-        // 1. 최근 요리 활동 (로그) 조회 - "📍 최근 요리 활동" 섹션
-        // Use translation-aware query to only show logs available in user's locale
-        List<RecentActivityDto> recentActivity = logPostRepository
-                .findAllLogsPage(langCode, PageRequest.of(0, 5))
-                .stream()
-                .map(log -> {
-                    var recipeLog = log.getRecipeLog();
-                    var recipe = recipeLog.getRecipe();
-                    var creator = userRepository.findById(log.getCreatorId()).orElse(null);
-                    String userName = creator != null ? creator.getUsername() : "익명";
-                    UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-                    String thumbnailUrl = log.getImages().stream()
-                            .findFirst()
-                            .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                            .orElse(null);
-
-                    // Get localized recipe title
-                    String recipeTitle = LocaleUtils.getLocalizedValue(
-                            recipe.getTitleTranslations(), normalizedLocale, recipe.getTitle());
-                    // Get localized food name
-                    String foodName = LocaleUtils.getLocalizedValue(
-                            recipe.getFoodMaster().getName(), normalizedLocale,
-                            recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-
-                    return RecentActivityDto.builder()
-                            .logPublicId(log.getPublicId())
-                            .rating(recipeLog.getRating())
-                            .thumbnailUrl(thumbnailUrl)
-                            .userName(userName)
-                            .creatorPublicId(creatorPublicId)
-                            .recipeTitle(recipeTitle)
-                            .recipePublicId(recipe.getPublicId())
-                            .foodName(foodName)
-                            .createdAt(log.getCreatedAt())
-                            .hashtags(log.getHashtags().stream().map(Hashtag::getName).toList())
-                            .commentCount(log.getCommentCount())
-                            .build();
-                })
-                .toList();
-
-        // 2. 최근 레시피 조회 - Use translation-aware query to only show recipes available in user's locale
-        List<RecipeSummaryDto> recentRecipes = recipeRepository
-                .findPublicRecipesPage(langCode, PageRequest.of(0, 5))
-                .stream()
-                .map(r -> convertToSummary(r, normalizedLocale))
-                .toList();
-
-        // 3. 활발한 변형 트리 조회 (기획서: "🔥 이 레시피, 이렇게 바뀌고 있어요")
-        // Use translation-aware query to only show recipes available in user's locale
-        List<TrendingTreeDto> trending = recipeRepository
-                .findRecipesOrderByTrending(langCode, PageRequest.of(0, 5))
-                .stream()
-                .map(root -> {
-                    long variants = recipeRepository.countByRootRecipeIdAndDeletedAtIsNull(root.getId());
-                    long logs = recipeLogRepository.countByRecipeId(root.getId());
-                    String thumbnail = root.getCoverImages().stream()
-                            .filter(img -> img.getType() == com.cookstemma.cookstemma.domain.enums.ImageType.COVER)
-                            .findFirst()
-                            .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                            .orElse(null);
-
-                    // Get creator info (handle null creatorId)
-                    var creatorOpt = Optional.ofNullable(root.getCreatorId())
-                            .flatMap(userRepository::findById);
-                    String userName = creatorOpt.map(user -> user.getUsername()).orElse("Unknown");
-                    UUID creatorPublicId = creatorOpt.map(user -> user.getPublicId()).orElse(null);
-
-                    // Get localized title and food name
-                    String title = LocaleUtils.getLocalizedValue(
-                            root.getTitleTranslations(), normalizedLocale, root.getTitle());
-                    String foodName = LocaleUtils.getLocalizedValue(
-                            root.getFoodMaster().getName(), normalizedLocale,
-                            root.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-                    String description = LocaleUtils.getLocalizedValue(
-                            root.getDescriptionTranslations(), normalizedLocale, root.getDescription());
-
-                    return TrendingTreeDto.builder()
-                            .rootRecipeId(root.getPublicId())
-                            .title(title)
-                            .foodName(foodName)
-                            .cookingStyle(root.getCookingStyle())
-                            .thumbnail(thumbnail)
-                            .variantCount(variants)
-                            .logCount(logs)
-                            .latestChangeSummary(description)
-                            .userName(userName)
-                            .creatorPublicId(creatorPublicId)
-                            .build();
-                }).toList();
-
-        return new HomeFeedResponseDto(recentActivity, recentRecipes, trending);
+        // Each section only selects ids (translation-aware, no count query);
+        // the assembler then loads all three sections in a fixed number of batched queries.
+        // 1. 최근 요리 활동 (로그) - "📍 최근 요리 활동" 섹션
+        List<Long> recentLogIds = logPostRepository.findRecentLogIds(langCode, HOME_SECTION_SIZE);
+        // 2. 최근 레시피
+        List<Long> recentRecipeIds = recipeRepository.findPublicRecipeIds(langCode, HOME_SECTION_SIZE);
+        // 3. 활발한 변형 트리 (기획서: "🔥 이 레시피, 이렇게 바뀌고 있어요")
+        List<Long> trendingRecipeIds = recipeRepository.findTrendingRecipeIds(langCode, HOME_SECTION_SIZE);
+
+        return summaryAssembler.toHomeFeed(recentLogIds, recentRecipeIds, trendingRecipeIds, normalizedLocale);
     }
 
     private Long findUserId(UUID publicId) {
@@ -725,8 +554,7 @@ public class RecipeService {
     }
 
     public Slice<RecipeSummaryDto> findAllRootRecipes(Pageable pageable) {
-        return recipeRepository.findAllRootRecipes(pageable)
-                .map(this::convertToSummary);
+        return summaryAssembler.toRecipeSummaries(recipeRepository.findAllRootRecipes(pageable), LocaleUtils.DEFAULT_LOCALE);
     }
 
     /**
@@ -744,7 +572,7 @@ public class RecipeService {
             recipes = recipeRepository.findByCreatorIdAndDeletedAtIsNullOrderByCreatedAtDesc(userId, pageable);
         }
 
-        return recipes.map(this::convertToSummary);
+        return summaryAssembler.toRecipeSummaries(recipes, LocaleUtils.DEFAULT_LOCALE);
     }
 
     /**
@@ -761,8 +589,8 @@ public class RecipeService {
 
         // Use unsorted pageable - the native query handles ordering by relevance score
         Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
-        return recipeRepository.searchRecipes(keyword.trim(), unsortedPageable)
-                .map(r -> convertToSummary(r, normalizedLocale));
+        return summaryAssembler.toRecipeSummaries(
+                recipeRepository.searchRecipes(keyword.trim(), unsortedPageable), normalizedLocale);
     }
 
     // ================================================================
@@ -940,6 +768,9 @@ public class RecipeService {
         }
 
         recipeRepository.save(recipe);
+        searchDocumentProjector.projectRecipe(recipe);
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        eventPublisher.publishEvent(RecipeDetailChangedEvent.family(recipe.getPublicId()));
 
         // Queue translation for updated content (hybrid SQS push)
         translationEventService.queueRecipeTranslation(recipe);
@@ -976,6 +807,11 @@ public class RecipeService {
         // Soft delete (images remain, just hidden with recipe)
         recipe.softDelete();
         recipeRepository.save(recipe);
+        searchDocumentProjector.projectRecipe(recipe);
+        recipeStatsService.recipeDeleted(recipe);
+        recipeLineageService.recipesDeleted(List.of(recipe.getId()));
+        eventPublisher.publishEvent(new HomeFeedChangedEvent());
+        eventPublisher.publishEvent(RecipeDetailChangedEvent.family(recipe.getPublicId()));
     }
 
     // ================================================================
@@ -997,46 +833,46 @@ public class RecipeService {
 
         Slice<Recipe> recipes;
 
-        // Get the user's language code pattern for filtering recipes by translation availability
+        // Get the user's language key for filtering recipes by translation availability
         // Pattern "ko%" matches both "ko" and "ko-KR" for backward compatibility
-        String langCodePattern = LocaleUtils.toLanguageKey(contentLocale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(contentLocale);
 
         if (cookingStyle == null || cookingStyle.isBlank()) {
             // No cooking style filter - show all recipes with user's language translation
             if (cursorData == null) {
                 if (isVariantFilter) {
-                    recipes = recipeRepository.findVariantRecipesWithCursorInitial(langCodePattern, pageable);
+                    recipes = recipeRepository.findVariantRecipesWithCursorInitial(langCode, pageable);
                 } else if (isOriginalFilter) {
-                    recipes = recipeRepository.findOriginalRecipesWithCursorInitial(langCodePattern, pageable);
+                    recipes = recipeRepository.findOriginalRecipesWithCursorInitial(langCode, pageable);
                 } else {
-                    recipes = recipeRepository.findPublicRecipesWithCursorInitial(langCodePattern, pageable);
+                    recipes = recipeRepository.findPublicRecipesWithCursorInitial(langCode, pageable);
                 }
             } else {
                 if (isVariantFilter) {
-                    recipes = recipeRepository.findVariantRecipesWithCursor(langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findVariantRecipesWithCursor(langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 } else if (isOriginalFilter) {
-                    recipes = recipeRepository.findOriginalRecipesWithCursor(langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findOriginalRecipesWithCursor(langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 } else {
-                    recipes = recipeRepository.findPublicRecipesWithCursor(langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findPublicRecipesWithCursor(langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 }
             }
         } else {
             // Filter by cooking style (e.g., KR, JP, US) AND user's language translation
             if (cursorData == null) {
                 if (isVariantFilter) {
-                    recipes = recipeRepository.findVariantRecipesByLocaleWithCursorInitial(cookingStyle, langCodePattern, pageable);
+                    recipes = recipeRepository.findVariantRecipesByLocaleWithCursorInitial(cookingStyle, langCode, pageable);
                 } else if (isOriginalFilter) {
-                    recipes = recipeRepository.findOriginalRecipesByLocaleWithCursorInitial(cookingStyle, langCodePattern, pageable);
+                    recipes = recipeRepository.findOriginalRecipesByLocaleWithCursorInitial(cookingStyle, langCode, pageable);
                 } else {
-                    recipes = recipeRepository.findPublicRecipesByLocaleWithCursorInitial(cookingStyle, langCodePattern, pageable);
+                    recipes = recipeRepository.findPublicRecipesByLocaleWithCursorInitial(cookingStyle, langCode, pageable);
                 }
             } else {
                 if (isVariantFilter) {
-                    recipes = recipeRepository.findVariantRecipesByLocaleWithCursor(cookingStyle, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findVariantRecipesByLocaleWithCursor(cookingStyle, langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 } else if (isOriginalFilter) {
-                    recipes = recipeRepository.findOriginalRecipesByLocaleWithCursor(cookingStyle, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findOriginalRecipesByLocaleWithCursor(cookingStyle, langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 } else {
-                    recipes = recipeRepository.findPublicRecipesByLocaleWithCursor(cookingStyle, langCodePattern, cursorData.createdAt(), cursorData.id(), pageable);
+                    recipes = recipeRepository.findPublicRecipesByLocaleWithCursor(cookingStyle, langCode, cursorData.createdAt(), cursorData.id(), pageable);
                 }
             }
         }
@@ -1065,9 +901,7 @@ public class RecipeService {
 
         Pageable pageable = PageRequest.of(page, size);
         Slice<Recipe> recipes = recipeRepository.searchRecipes(keyword.trim(), pageable);
-        List<RecipeSummaryDto> content = recipes.getContent().stream()
-                .map(r -> convertToSummary(r, contentLocale))
-                .toList();
+        List<RecipeSummaryDto> content = summaryAssembler.toRecipeSummaries(recipes.getContent(), contentLocale);
 
         String nextCursor = recipes.hasNext() ? String.valueOf(page + 1) : null;
         return new CursorPageResponse<>(content, nextCursor, recipes.hasNext(), size);
@@ -1117,9 +951,7 @@ public class RecipeService {
      * Helper to build cursor response from Slice
      */
     private CursorPageResponse<RecipeSummaryDto> buildCursorResponse(Slice<Recipe> recipes, int size, String contentLocale) {
-        List<RecipeSummaryDto> content = recipes.getContent().stream()
-                .map(r -> convertToSummary(r, contentLocale))
-                .toList();
+        List<RecipeSummaryDto> content = summaryAssembler.toRecipeSummaries(recipes.getContent(), contentLocale);
 
         String nextCursor = null;
         if (recipes.hasNext() && !recipes.getContent().isEmpty()) {
@@ -1143,7 +975,8 @@ public class RecipeService {
      * Sort options:
      * - recent (default): order by createdAt DESC
      * - mostForked: order by variant count DESC
-     * - trending: order by recent activity (variants + logs in last 7 days)
+     * - trending: order by recent activity (new variants + logs, decayed over time)
+     * - popular: order by popularity score (views, saves, variants, logs)
      *
      * Filter options:
      * - cookingTimeRanges: List of acceptable cooking time ranges
@@ -1195,20 +1028,25 @@ public class RecipeService {
             List<CookingTimeRange> cookingTimeRanges, Integer minServings, Integer maxServings,
             int page, int size, String contentLocale) {
 
-        Sort sortBy;
+        var spec = RecipeSpecification.withFilters(locale, typeFilter, cookingTimeRanges, minServings, maxServings);
+
+        // Stats sorts are applied by the specification (ordering by recipe_stats), so the page stays unsorted
+        Pageable pageable;
         if ("mostForked".equalsIgnoreCase(sort)) {
-            sortBy = Sort.by(Sort.Direction.DESC, "createdAt"); // TODO: Implement variant count sorting with Spec
+            spec = spec.and(RecipeSpecification.orderByStatsDesc("variantCount", 0));
+            pageable = PageRequest.of(page, size);
         } else if ("trending".equalsIgnoreCase(sort)) {
-            sortBy = Sort.by(Sort.Direction.DESC, "createdAt"); // TODO: Implement trending with Spec
+            spec = spec.and(RecipeSpecification.orderByStatsDesc("trendingScore", 0.0));
+            pageable = PageRequest.of(page, size);
+        } else if ("popular".equalsIgnoreCase(sort)) {
+            spec = spec.and(RecipeSpecification.orderByStatsDesc("popularityScore", 0L));
+            pageable = PageRequest.of(page, size);
         } else {
-            sortBy = Sort.by(Sort.Direction.DESC, "createdAt");
+            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         }
 
-        Pageable pageable = PageRequest.of(page, size, sortBy);
-        var spec = RecipeSpecification.withFilters(locale, typeFilter, cookingTimeRanges, minServings, maxServings);
-
         Page<Recipe> recipes = recipeRepository.findAll(spec, pageable);
-        Page<RecipeSummaryDto> mappedPage = recipes.map(r -> convertToSummary(r, contentLocale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(recipes, contentLocale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -1226,39 +1064,39 @@ public class RecipeService {
         boolean isOriginalFilter = "original".equalsIgnoreCase(typeFilter);
         boolean isVariantFilter = "variants".equalsIgnoreCase(typeFilter);
 
-        // Get the user's language code pattern for filtering recipes by translation availability
+        // Get the user's language key for filtering recipes by translation availability
         // Pattern "ko%" matches both "ko" and "ko-KR" for backward compatibility
-        String langCodePattern = LocaleUtils.toLanguageKey(contentLocale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(contentLocale);
 
         Page<Recipe> recipes;
 
         if (cookingStyle == null || cookingStyle.isBlank()) {
             // No cooking style filter - show all recipes with user's language translation
             if (isVariantFilter) {
-                recipes = recipeRepository.findVariantRecipesPage(langCodePattern, pageable);
+                recipes = recipeRepository.findVariantRecipesPage(langCode, pageable);
             } else if (isOriginalFilter) {
-                recipes = recipeRepository.findOriginalRecipesPage(langCodePattern, pageable);
+                recipes = recipeRepository.findOriginalRecipesPage(langCode, pageable);
             } else {
-                recipes = recipeRepository.findPublicRecipesPage(langCodePattern, pageable);
+                recipes = recipeRepository.findPublicRecipesPage(langCode, pageable);
             }
         } else {
             // Filter by cooking style (e.g., KR, JP, US) AND user's language translation
             if (isVariantFilter) {
-                recipes = recipeRepository.findVariantRecipesByLocalePage(cookingStyle, langCodePattern, pageable);
+                recipes = recipeRepository.findVariantRecipesByLocalePage(cookingStyle, langCode, pageable);
             } else if (isOriginalFilter) {
-                recipes = recipeRepository.findOriginalRecipesByLocalePage(cookingStyle, langCodePattern, pageable);
+                recipes = recipeRepository.findOriginalRecipesByLocalePage(cookingStyle, langCode, pageable);
             } else {
-                recipes = recipeRepository.findPublicRecipesByLocalePage(cookingStyle, langCodePattern, pageable);
+                recipes = recipeRepository.findPublicRecipesByLocalePage(cookingStyle, langCode, pageable);
             }
         }
 
-        Page<RecipeSummaryDto> mappedPage = recipes.map(r -> convertToSummary(r, contentLocale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(recipes, contentLocale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
     /**
-     * Offset-based pagination with complex sorting (mostForked, trending).
-     * Uses native queries with subqueries for counting variants/activity.
+     * Offset-based pagination with complex sorting (mostForked, trending, popular).
+     * Uses native queries ordered by recipe_stats indexes.
      * Filters by translation availability based on contentLocale
      */
     private UnifiedPageResponse<RecipeSummaryDto> findRecipesWithOffsetSorted(
@@ -1266,27 +1104,27 @@ public class RecipeService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        // Get the user's language code pattern for filtering recipes by translation availability
+        // Get the user's language key for filtering recipes by translation availability
         // Pattern "ko%" matches both "ko" and "ko-KR" for backward compatibility
-        String langCodePattern = LocaleUtils.toLanguageKey(contentLocale) + "%";
+        String langCode = LocaleUtils.toLanguageKey(contentLocale);
 
         Page<Recipe> recipes;
 
         if ("mostForked".equalsIgnoreCase(sort)) {
             // Order by variant count (most evolved)
-            recipes = recipeRepository.findRecipesOrderByVariantCount(langCodePattern, pageable);
+            recipes = recipeRepository.findRecipesOrderByVariantCount(langCode, pageable);
         } else if ("trending".equalsIgnoreCase(sort)) {
-            // Order by recent activity (variants + logs in last 7 days)
-            recipes = recipeRepository.findRecipesOrderByTrending(langCodePattern, pageable);
+            // Order by recent activity (decayed new variants + logs)
+            recipes = recipeRepository.findRecipesOrderByTrending(langCode, pageable);
         } else if ("popular".equalsIgnoreCase(sort)) {
             // Order by popularity score (weighted engagement metrics)
-            recipes = recipeRepository.findRecipesOrderByPopular(langCodePattern, pageable);
+            recipes = recipeRepository.findRecipesOrderByPopular(langCode, pageable);
         } else {
             // Fallback to recent
-            recipes = recipeRepository.findPublicRecipesPage(langCodePattern, pageable);
+            recipes = recipeRepository.findPublicRecipesPage(langCode, pageable);
         }
 
-        Page<RecipeSummaryDto> mappedPage = recipes.map(r -> convertToSummary(r, contentLocale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(recipes, contentLocale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -1344,7 +1182,7 @@ public class RecipeService {
             recipes = recipeRepository.findMyRecipesPage(userId, pageable);
         }
 
-        Page<RecipeSummaryDto> mappedPage = recipes.map(r -> convertToSummary(r, locale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(recipes, locale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
@@ -1397,7 +1235,7 @@ public class RecipeService {
         Pageable pageable = PageRequest.of(page, size);
         Page<Recipe> recipes = recipeRepository.searchRecipesPage(keyword.trim(), pageable);
 
-        Page<RecipeSummaryDto> mappedPage = recipes.map(r -> convertToSummary(r, contentLocale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(recipes, contentLocale);
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
 
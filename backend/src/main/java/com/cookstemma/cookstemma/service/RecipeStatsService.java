@@ -0,0 +1,109 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.repository.recipe.RecipeStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains recipe_stats, the sort keys behind the popular / trending / mostForked recipe lists.
+ *
+ * Services report creates, deletes and saves as they happen, so the counters move with each
+ * write instead of being aggregated per request. A new variant or log also adds 1 to the
+ * trending score, which decays exponentially (see RecipeStatsScheduler). The scheduler also
+ * copies view counts from recipes and periodically recounts everything to fix drift.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecipeStatsService {
+
+    private final RecipeStatsRepository recipeStatsRepository;
+
+    @Value("${recipe-stats.trending.half-life-hours:48}")
+    private double trendingHalfLifeHours;
+
+    /**
+     * New recipe: create its row, and count it as a variant (and trending activity) of its root.
+     */
+    @Transactional
+    public void recipeCreated(Recipe recipe) {
+        applyDeltas(recipe.getId(), 0, 0, 0, 0);
+        if (recipe.getRootRecipe() != null) {
+            applyDeltas(recipe.getRootRecipe().getId(), 1, 0, 0, 1);
+        }
+    }
+
+    @Transactional
+    public void recipeDeleted(Recipe recipe) {
+        if (recipe.getRootRecipe() != null) {
+            applyDeltas(recipe.getRootRecipe().getId(), -1, 0, 0, 0);
+        }
+    }
+
+    @Transactional
+    public void logCreated(LogPost logPost) {
+        Long recipeId = recipeIdOf(logPost);
+        if (recipeId != null) {
+            applyDeltas(recipeId, 0, 1, 0, 1);
+        }
+    }
+
+    @Transactional
+    public void logDeleted(LogPost logPost) {
+        Long recipeId = recipeIdOf(logPost);
+        if (recipeId != null) {
+            applyDeltas(recipeId, 0, -1, 0, 0);
+        }
+    }
+
+    @Transactional
+    public void recipeSaved(Long recipeId) {
+        applyDeltas(recipeId, 0, 0, 1, 0);
+    }
+
+    @Transactional
+    public void recipeUnsaved(Long recipeId) {
+        applyDeltas(recipeId, 0, 0, -1, 0);
+    }
+
+    /**
+     * Decay trending scores to now and pick up view counts flushed since the last run.
+     */
+    @Transactional
+    public void refreshScores() {
+        int decayed = recipeStatsRepository.decayTrendingScores(trendingHalfLifeHours * 3600);
+        int synced = recipeStatsRepository.syncEngagementCounts();
+        log.debug("Recipe stats refresh: {} trending scores decayed, {} engagement counts synced", decayed, synced);
+    }
+
+    /**
+     * Create missing rows and recount variants/logs from the source tables.
+     */
+    @Transactional
+    public void reconcile() {
+        int inserted = recipeStatsRepository.insertMissing();
+        int recounted = recipeStatsRepository.recountVariantsAndLogs();
+        int synced = recipeStatsRepository.syncEngagementCounts();
+        if (inserted + recounted + synced > 0) {
+            log.info("Recipe stats reconcile: {} rows created, {} recounted, {} engagement counts synced",
+                    inserted, recounted, synced);
+        }
+    }
+
+    private void applyDeltas(Long recipeId, int variantDelta, int logDelta, int savedDelta, double trendingDelta) {
+        recipeStatsRepository.applyDeltas(recipeId, variantDelta, logDelta, savedDelta, trendingDelta,
+                trendingHalfLifeHours * 3600);
+    }
+
+    private static Long recipeIdOf(LogPost logPost) {
+        if (logPost.getRecipeLog() == null || logPost.getRecipeLog().getRecipe() == null) {
+            return null;
+        }
+        return logPost.getRecipeLog().getRecipe().getId();
+    }
+}
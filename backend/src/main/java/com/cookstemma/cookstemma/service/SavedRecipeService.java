@@ -1,20 +1,17 @@
 package com.cookstemma.cookstemma.service;
 
-import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
 import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
 import com.cookstemma.cookstemma.domain.entity.recipe.SavedRecipe;
 import com.cookstemma.cookstemma.domain.entity.user.User;
 import com.cookstemma.cookstemma.dto.common.CursorPageResponse;
 import com.cookstemma.cookstemma.dto.common.UnifiedPageResponse;
 import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryDto;
-import com.cookstemma.cookstemma.repository.recipe.RecipeLogRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
 import com.cookstemma.cookstemma.repository.recipe.SavedRecipeRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.util.CursorUtil;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,7 +21,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -34,12 +30,10 @@ public class SavedRecipeService {
 
     private final SavedRecipeRepository savedRecipeRepository;
     private final RecipeRepository recipeRepository;
-    private final RecipeLogRepository recipeLogRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
-
-    @Value("${file.upload.url-prefix}")
-    private String urlPrefix;
+    private final SummaryAssembler summaryAssembler;
+    private final RecipeStatsService recipeStatsService;
 
     @Transactional
     public void saveRecipe(UUID recipePublicId, Long userId) {
@@ -52,6 +46,7 @@ public class SavedRecipeService {
                     .recipeId(recipe.getId())
                     .build());
             recipe.incrementSavedCount();
+            recipeStatsService.recipeSaved(recipe.getId());
 
             // Send notification to recipe owner (don't let notification failures affect save)
             try {
@@ -74,6 +69,7 @@ public class SavedRecipeService {
         if (savedRecipeRepository.existsByUserIdAndRecipeId(userId, recipe.getId())) {
             savedRecipeRepository.deleteByUserIdAndRecipeId(userId, recipe.getId());
             recipe.decrementSavedCount();
+            recipeStatsService.recipeUnsaved(recipe.getId());
         }
     }
 
@@ -91,70 +87,9 @@ public class SavedRecipeService {
 
     public Slice<RecipeSummaryDto> getSavedRecipes(Long userId, Pageable pageable, String locale) {
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        return savedRecipeRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
-                .map(sr -> convertToSummary(sr.getRecipe(), normalizedLocale));
-    }
-
-    private RecipeSummaryDto convertToSummary(Recipe recipe, String locale) {
-        User creator = userRepository.findById(recipe.getCreatorId()).orElse(null);
-        UUID creatorPublicId = creator != null ? creator.getPublicId() : null;
-        String userName = creator != null ? creator.getUsername() : "Unknown";
-
-        // Locale-aware food name
-        String foodName = LocaleUtils.getLocalizedValue(
-                recipe.getFoodMaster().getName(),
-                locale,
-                recipe.getFoodMaster().getName().values().stream().findFirst().orElse("Unknown Food"));
-
-        String thumbnail = recipe.getCoverImages().stream()
-                .filter(img -> img.getType() == com.cookstemma.cookstemma.domain.enums.ImageType.COVER)
-                .findFirst()
-                .map(img -> urlPrefix + "/" + img.getStoredFilename())
-                .orElse(null);
-
-        int variantCount = (int) recipeRepository.countByRootRecipeIdAndDeletedAtIsNull(recipe.getId());
-        int logCount = (int) recipeLogRepository.countByRecipeId(recipe.getId());
-
-        // Locale-aware root title
-        String rootTitle = null;
-        if (recipe.getRootRecipe() != null) {
-            rootTitle = LocaleUtils.getLocalizedValue(
-                    recipe.getRootRecipe().getTitleTranslations(),
-                    locale,
-                    recipe.getRootRecipe().getTitle());
-        }
-
-        List<String> hashtags = recipe.getHashtags().stream()
-                .map(Hashtag::getName)
-                .limit(3)
-                .toList();
-
-        // Locale-aware title and description
-        String localizedTitle = LocaleUtils.getLocalizedValue(
-                recipe.getTitleTranslations(), locale, recipe.getTitle());
-        String localizedDescription = LocaleUtils.getLocalizedValue(
-                recipe.getDescriptionTranslations(), locale, recipe.getDescription());
-
-        return new RecipeSummaryDto(
-                recipe.getPublicId(),
-                foodName,
-                recipe.getFoodMaster().getPublicId(),
-                localizedTitle,
-                localizedDescription,
-                recipe.getCookingStyle(),
-                creatorPublicId,
-                userName,
-                thumbnail,
-                variantCount,
-                logCount,
-                recipe.getParentRecipe() != null ? recipe.getParentRecipe().getPublicId() : null,
-                recipe.getRootRecipe() != null ? recipe.getRootRecipe().getPublicId() : null,
-                rootTitle,
-                recipe.getServings() != null ? recipe.getServings() : 2,
-                recipe.getCookingTimeRange() != null ? recipe.getCookingTimeRange().name() : "MIN_30_TO_60",
-                hashtags,
-                recipe.getIsPrivate() != null ? recipe.getIsPrivate() : false
-        );
+        Slice<Recipe> recipes = savedRecipeRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+                .map(SavedRecipe::getRecipe);
+        return summaryAssembler.toRecipeSummaries(recipes, normalizedLocale);
     }
 
     /**
@@ -172,9 +107,8 @@ public class SavedRecipeService {
         }
 
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
-        List<RecipeSummaryDto> content = savedRecipes.getContent().stream()
-                .map(sr -> convertToSummary(sr.getRecipe(), normalizedLocale))
-                .toList();
+        List<RecipeSummaryDto> content = summaryAssembler.toRecipeSummaries(
+                savedRecipes.getContent().stream().map(SavedRecipe::getRecipe).toList(), normalizedLocale);
 
         String nextCursor = null;
         if (savedRecipes.hasNext() && !savedRecipes.getContent().isEmpty()) {
@@ -215,7 +149,8 @@ public class SavedRecipeService {
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
 
         Page<SavedRecipe> savedRecipes = savedRecipeRepository.findSavedRecipesPage(userId, pageable);
-        Page<RecipeSummaryDto> mappedPage = savedRecipes.map(sr -> convertToSummary(sr.getRecipe(), normalizedLocale));
+        Page<RecipeSummaryDto> mappedPage = summaryAssembler.toRecipeSummaries(
+                savedRecipes.map(SavedRecipe::getRecipe), normalizedLocale);
 
         return UnifiedPageResponse.fromPage(mappedPage, size);
     }
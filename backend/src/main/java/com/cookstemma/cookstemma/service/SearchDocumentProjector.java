@@ -0,0 +1,137 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.repository.search.SearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Write-side projector for the search_documents table.
+ *
+ * Services call the project* methods after writing a recipe, log post or hashtag so the
+ * document is upserted in the same transaction. The actual text assembly happens in SQL
+ * (see SearchDocumentRepository) so the backfill migration, this projector and the
+ * reconciliation sweep all produce identical documents.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchDocumentProjector {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SearchDocumentRepository searchDocumentRepository;
+
+    /**
+     * Normalize a keyword the same way search_normalize() normalizes stored text:
+     * trim, collapse whitespace, lowercase.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    @Transactional
+    public void projectRecipe(Recipe recipe) {
+        if (recipe == null || recipe.getId() == null) {
+            return;
+        }
+        searchDocumentRepository.upsertRecipes(List.of(recipe.getId()));
+    }
+
+    @Transactional
+    public void projectRecipes(Collection<Recipe> recipes) {
+        List<Long> ids = recipes.stream()
+                .map(Recipe::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!ids.isEmpty()) {
+            searchDocumentRepository.upsertRecipes(ids);
+        }
+    }
+
+    @Transactional
+    public void projectLogPost(LogPost logPost) {
+        if (logPost == null || logPost.getId() == null) {
+            return;
+        }
+        searchDocumentRepository.upsertLogPosts(List.of(logPost.getId()));
+    }
+
+    @Transactional
+    public void projectLogPosts(Collection<LogPost> logPosts) {
+        List<Long> ids = logPosts.stream()
+                .map(LogPost::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!ids.isEmpty()) {
+            searchDocumentRepository.upsertLogPosts(ids);
+        }
+    }
+
+    @Transactional
+    public void projectHashtags(Collection<Hashtag> hashtags) {
+        List<Long> ids = hashtags.stream()
+                .map(Hashtag::getId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!ids.isEmpty()) {
+            searchDocumentRepository.upsertHashtags(ids);
+        }
+    }
+
+    /**
+     * Re-project everything that changed since the given instant, including writes that
+     * bypass the application (translator Lambda JSONB merges bump updated_at via trigger).
+     *
+     * @return number of documents upserted
+     */
+    @Transactional
+    public int reconcile(Instant since) {
+        int upserted = 0;
+
+        List<Long> recipeIds = searchDocumentRepository.findRecipeIdsChangedSince(since);
+        for (List<Long> batch : partition(recipeIds)) {
+            upserted += searchDocumentRepository.upsertRecipes(batch);
+        }
+
+        List<Long> logPostIds = searchDocumentRepository.findLogPostIdsChangedSince(since);
+        for (List<Long> batch : partition(logPostIds)) {
+            upserted += searchDocumentRepository.upsertLogPosts(batch);
+        }
+
+        List<Long> hashtagIds = searchDocumentRepository.findUnindexedHashtagIds();
+        for (List<Long> batch : partition(hashtagIds)) {
+            upserted += searchDocumentRepository.upsertHashtags(batch);
+        }
+
+        return upserted;
+    }
+
+    /**
+     * Delete documents whose source rows no longer exist.
+     */
+    @Transactional
+    public int purgeOrphans() {
+        return searchDocumentRepository.deleteOrphans();
+    }
+
+    private static List<List<Long>> partition(List<Long> ids) {
+        int batches = (ids.size() + BATCH_SIZE - 1) / BATCH_SIZE;
+        return java.util.stream.IntStream.range(0, batches)
+                .mapToObj(i -> ids.subList(i * BATCH_SIZE, Math.min(ids.size(), (i + 1) * BATCH_SIZE)))
+                .toList();
+    }
+}
@@ -0,0 +1,179 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.search.SearchCounts;
+import com.cookstemma.cookstemma.util.LruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Cached filter-chip counts for unified search.
+ *
+ * Counts are keyed by (source, normalized keyword) and kept in Redis with a short TTL,
+ * falling back to an in-process map when Redis is not available (aws profile, tests).
+ * Concurrent misses for the same key share a single load (single-flight), and loaders
+ * are expected to use capped count queries (see {@link #PROBE_LIMIT}) so broad keywords
+ * come back as "1000+" instead of a full scan.
+ */
+@Slf4j
+@Service
+public class SearchFacetCountService {
+
+    // Counts above this are reported as COUNT_CAP with exact = false
+    public static final int COUNT_CAP = 1000;
+    // LIMIT used by the capped count queries: one past the cap tells us the cap was exceeded
+    public static final int PROBE_LIMIT = COUNT_CAP + 1;
+
+    private static final String KEY_PREFIX = "search:facets:";
+    private static final String DELIMITER = ":";
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+    // How long a concurrent request waits for the in-flight load before loading on its own
+    private static final long LOAD_WAIT_SECONDS = 5;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    // 0 disables caching (single-flight still applies)
+    @Value("${search.facet-counts.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<String, CompletableFuture<SearchCounts>> inFlight = new ConcurrentHashMap<>();
+    private final LruCache<String, LocalEntry> localCache = new LruCache<>(() -> MAX_LOCAL_ENTRIES);
+
+    private record LocalEntry(SearchCounts counts, long expiresAtMillis) {
+    }
+
+    /**
+     * Build counts from capped query results (each at most {@link #PROBE_LIMIT}).
+     */
+    public static SearchCounts fromCapped(long recipes, long logs, long hashtags) {
+        boolean exact = recipes <= COUNT_CAP && logs <= COUNT_CAP && hashtags <= COUNT_CAP;
+        return SearchCounts.of(
+            (int) Math.min(recipes, COUNT_CAP),
+            (int) Math.min(logs, COUNT_CAP),
+            (int) Math.min(hashtags, COUNT_CAP),
+            exact);
+    }
+
+    /**
+     * Return cached counts for the keyword, or load them once via the loader.
+     *
+     * @param source identifies the query path so counts from different paths never mix
+     */
+    public SearchCounts getCounts(String source, String keyword, Supplier<SearchCounts> loader) {
+        String key = KEY_PREFIX + source + DELIMITER + SearchDocumentProjector.normalize(keyword);
+
+        SearchCounts cached = readCache(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<SearchCounts> mine = new CompletableFuture<>();
+        CompletableFuture<SearchCounts> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            SearchCounts shared = awaitShared(existing);
+            if (shared != null) {
+                return shared;
+            }
+            return loader.get();
+        }
+
+        try {
+            SearchCounts counts = loader.get();
+            writeCache(key, counts);
+            mine.complete(counts);
+            return counts;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private SearchCounts awaitShared(CompletableFuture<SearchCounts> future) {
+        try {
+            return future.get(LOAD_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            // The leader failed or is slow; the caller loads on its own
+            return null;
+        }
+    }
+
+    private SearchCounts readCache(String key) {
+        if (ttlSeconds <= 0) {
+            return null;
+        }
+
+        if (redisTemplate != null) {
+            try {
+                String raw = redisTemplate.opsForValue().get(key);
+                if (raw != null) {
+                    return parse(raw);
+                }
+                return null;
+            } catch (Exception e) {
+                log.debug("Redis facet count read failed, using local cache: {}", e.getMessage());
+            }
+        }
+
+        LocalEntry entry = localCache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() < System.currentTimeMillis()) {
+            localCache.remove(key, entry);
+            return null;
+        }
+        return entry.counts();
+    }
+
+    private void writeCache(String key, SearchCounts counts) {
+        if (ttlSeconds <= 0) {
+            return;
+        }
+
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.opsForValue().set(key, format(counts), Duration.ofSeconds(ttlSeconds));
+                return;
+            } catch (Exception e) {
+                log.debug("Redis facet count write failed, using local cache: {}", e.getMessage());
+            }
+        }
+
+        localCache.put(key, new LocalEntry(counts, System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    // Format: "recipes:logs:hashtags:exact"
+    private static String format(SearchCounts counts) {
+        return counts.recipes() + DELIMITER + counts.logs() + DELIMITER + counts.hashtags()
+            + DELIMITER + (counts.exact() ? 1 : 0);
+    }
+
+    private static SearchCounts parse(String raw) {
+        try {
+            String[] parts = raw.split(DELIMITER);
+            return SearchCounts.of(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                Integer.parseInt(parts[2]),
+                "1".equals(parts[3]));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
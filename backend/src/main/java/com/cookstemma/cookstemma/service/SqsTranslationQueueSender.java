@@ -0,0 +1,83 @@
+package com.cookstemma.cookstemma.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TranslationQueueSender backed by SQS (client from AwsSqsConfig). Message bodies are
+ * {"event_id", "entity_type", "entity_id"}, as the translation Lambda expects.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqsTranslationQueueSender implements TranslationQueueSender {
+
+    private final ObjectMapper objectMapper;
+
+    @Autowired(required = false)
+    private SqsClient sqsClient;
+
+    @Value("${aws.sqs.translation-queue-url:}")
+    private String translationQueueUrl;
+
+    @Value("${aws.sqs.enabled:false}")
+    private boolean sqsEnabled;
+
+    @Override
+    public boolean isAvailable() {
+        return sqsEnabled && sqsClient != null && translationQueueUrl != null && !translationQueueUrl.isEmpty();
+    }
+
+    @Override
+    public Set<Long> send(List<TranslationEventQueuedEvent> events) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(events.size());
+        for (TranslationEventQueuedEvent event : events) {
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(event.eventId().toString())
+                    .messageBody(messageBody(event))
+                    .build());
+        }
+
+        SendMessageBatchResponse response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                .queueUrl(translationQueueUrl)
+                .entries(entries)
+                .build());
+
+        Set<Long> failed = new HashSet<>();
+        for (BatchResultErrorEntry error : response.failed()) {
+            log.warn("SQS rejected translation event {}: {} {}", error.id(), error.code(), error.message());
+            failed.add(Long.valueOf(error.id()));
+        }
+        return failed;
+    }
+
+    private String messageBody(TranslationEventQueuedEvent event) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("event_id", event.eventId());
+        body.put("entity_type", event.entityType().name());
+        body.put("entity_id", event.entityId());
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
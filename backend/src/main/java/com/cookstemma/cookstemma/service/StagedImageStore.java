@@ -0,0 +1,169 @@
+package com.cookstemma.cookstemma.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Local copies of recently uploaded originals, keyed by their S3 key.
+ *
+ * The upload path writes each original to a temp file here before sending it to S3
+ * (see ImageUploadPipeline), and keeps the file so variant generation on this instance can read it
+ * instead of downloading the object again. Copies expire after file.upload.staging.ttl-ms, the
+ * oldest are dropped once file.upload.staging.max-bytes is exceeded, and a copy is removed as soon
+ * as its variants exist. Other instances simply fall back to S3.
+ *
+ * The directory may be shared with other processes on the host, so startup only deletes files
+ * older than the TTL: anything newer may still be in use by another instance.
+ */
+@Slf4j
+@Component
+public class StagedImageStore {
+
+    private record Entry(Path file, long size, Instant stagedAt) {
+    }
+
+    private final Path directory;
+    private final Duration ttl;
+    private final long maxBytes;
+
+    // Insertion order is staging order, so the first entries are the oldest
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private long totalBytes;
+
+    public StagedImageStore(
+            @Value("${file.upload.staging.dir:}") String directory,
+            @Value("${file.upload.staging.ttl-ms:1800000}") long ttlMillis,
+            @Value("${file.upload.staging.max-bytes:536870912}") long maxBytes) {
+        this.directory = directory.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "cookstemma-uploads")
+                : Path.of(directory);
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(this.directory);
+            // Copies left by a previous run are no longer tracked; they go once they would have expired
+            Instant cutoff = Instant.now().minus(ttl);
+            try (Stream<Path> leftovers = Files.list(this.directory)) {
+                leftovers.filter(file -> modifiedBefore(file, cutoff)).forEach(StagedImageStore::delete);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot prepare upload staging directory " + this.directory, e);
+        }
+    }
+
+    /**
+     * A new empty file in the staging directory; the caller retains or discards it.
+     */
+    public Path createFile() throws IOException {
+        return Files.createTempFile(directory, "upload-", ".tmp");
+    }
+
+    /**
+     * Keeps a staged file for the object stored under key.
+     */
+    public synchronized void retain(String key, Path file, long size) {
+        Entry previous = entries.put(key, new Entry(file, size, Instant.now()));
+        if (previous != null) {
+            remove(previous);
+        }
+        totalBytes += size;
+        evictExpired();
+        while (totalBytes > maxBytes && !entries.isEmpty()) {
+            String oldest = entries.keySet().iterator().next();
+            remove(entries.remove(oldest));
+        }
+    }
+
+    /**
+     * Opens the staged copy of key, or returns null if this instance has none. The stream stays
+     * readable if the copy is evicted meanwhile.
+     */
+    public synchronized InputStream open(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!isExpired(entry)) {
+            try {
+                return Files.newInputStream(entry.file());
+            } catch (IOException e) {
+                log.warn("Staged upload for {} is unreadable: {}", key, e.getMessage());
+            }
+        }
+        remove(entries.remove(key));
+        return null;
+    }
+
+    /**
+     * Size of the staged copy of key, or -1 if this instance has none.
+     */
+    public synchronized long size(String key) {
+        Entry entry = entries.get(key);
+        return entry != null ? entry.size() : -1;
+    }
+
+    public synchronized void evict(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    public synchronized long stagedBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Deletes a staged file that was never retained (e.g. the upload failed).
+     */
+    public void discard(Path file) {
+        delete(file);
+    }
+
+    private void evictExpired() {
+        entries.values().removeIf(entry -> {
+            if (!isExpired(entry)) {
+                return false;
+            }
+            remove(entry);
+            return true;
+        });
+    }
+
+    private boolean isExpired(Entry entry) {
+        return entry.stagedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    private void remove(Entry entry) {
+        totalBytes -= entry.size();
+        delete(entry.file());
+    }
+
+    private static boolean modifiedBefore(Path file, Instant cutoff) {
+        try {
+            return Files.isRegularFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            // Deleted by its owner meanwhile
+            return false;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged upload {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,468 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.dto.log_post.LogPostPreview;
+import com.cookstemma.cookstemma.dto.log_post.LogPostSummaryDto;
+import com.cookstemma.cookstemma.dto.log_post.RecentActivityDto;
+import com.cookstemma.cookstemma.dto.recipe.HomeFeedResponseDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryStats;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeNodeDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeRow;
+import com.cookstemma.cookstemma.dto.recipe.RecipeVariantPreview;
+import com.cookstemma.cookstemma.dto.recipe.TrendingTreeDto;
+import com.cookstemma.cookstemma.repository.comment.CommentRepository;
+import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.user.UserRepository;
+import com.cookstemma.cookstemma.util.LocaleUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Builds summary card DTOs for lists of recipes and log posts in a fixed number of queries.
+ *
+ * Converting row by row looked up the creator, variant count and log count per recipe and
+ * lazy-loaded food, cover images and hashtags per row. Here a list of any size costs:
+ * - recipes: graph fetch (food, root/parent, hashtags) + stats (counts, cover) + creators = 3
+ * - log posts: graph fetch (recipe log, recipe, food, images, hashtags) + creators = 2
+ *   (+1 when visible comment counts are requested)
+ * The home feed combines all three sections into 4 statements on top of its id queries.
+ * Recipe detail previews and variant tree nodes come from projection rows that already hold
+ * everything (0 statements).
+ *
+ * Callers must be inside a transaction so the fetched associations stay attached.
+ */
+@Component
+@RequiredArgsConstructor
+public class SummaryAssembler {
+
+    private static final String UNKNOWN_USER = "Unknown";
+    private static final String UNKNOWN_FOOD = "Unknown Food";
+    private static final TypeReference<Map<String, String>> TRANSLATIONS = new TypeReference<>() {};
+    private static final TypeReference<List<String>> NAMES = new TypeReference<>() {};
+
+    private final RecipeRepository recipeRepository;
+    private final LogPostRepository logPostRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${file.upload.url-prefix}")
+    private String urlPrefix;
+
+    // ==================== RECIPES ====================
+
+    public List<RecipeSummaryDto> toRecipeSummaries(List<Recipe> recipes, String locale) {
+        if (recipes.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = recipes.stream().map(Recipe::getId).toList();
+        Map<Long, Recipe> loaded = recipeRepository.findAllForSummaryByIdIn(ids).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity(), (a, b) -> a));
+        Map<Long, RecipeSummaryStats> stats = loadStats(ids);
+        Map<Long, User> creators = loadCreators(recipes.stream().map(Recipe::getCreatorId));
+
+        // Build from the loaded copies; the given recipes may be detached without their associations
+        return recipes.stream()
+                .map(recipe -> toRecipeSummary(loaded.getOrDefault(recipe.getId(), recipe), locale, creators, stats))
+                .toList();
+    }
+
+    public Slice<RecipeSummaryDto> toRecipeSummaries(Slice<Recipe> recipes, String locale) {
+        return new SliceImpl<>(toRecipeSummaries(recipes.getContent(), locale), recipes.getPageable(), recipes.hasNext());
+    }
+
+    public Page<RecipeSummaryDto> toRecipeSummaries(Page<Recipe> recipes, String locale) {
+        return new PageImpl<>(toRecipeSummaries(recipes.getContent(), locale), recipes.getPageable(), recipes.getTotalElements());
+    }
+
+    public RecipeSummaryDto toRecipeSummary(Recipe recipe, String locale) {
+        return toRecipeSummaries(List.of(recipe), locale).get(0);
+    }
+
+    // ==================== LOG POSTS ====================
+
+    /**
+     * Log summaries using the stored comment counter.
+     */
+    public List<LogPostSummaryDto> toLogSummaries(List<LogPost> logs, String locale) {
+        return toLogSummaries(logs, locale, false);
+    }
+
+    public Slice<LogPostSummaryDto> toLogSummaries(Slice<LogPost> logs, String locale) {
+        return new SliceImpl<>(toLogSummaries(logs.getContent(), locale), logs.getPageable(), logs.hasNext());
+    }
+
+    public Page<LogPostSummaryDto> toLogSummaries(Page<LogPost> logs, String locale) {
+        return new PageImpl<>(toLogSummaries(logs.getContent(), locale), logs.getPageable(), logs.getTotalElements());
+    }
+
+    /**
+     * Log summaries whose comment count excludes hidden comments and replies to them.
+     */
+    public List<LogPostSummaryDto> toLogSummariesWithVisibleComments(List<LogPost> logs, String locale) {
+        return toLogSummaries(logs, locale, true);
+    }
+
+    public Slice<LogPostSummaryDto> toLogSummariesWithVisibleComments(Slice<LogPost> logs, String locale) {
+        return new SliceImpl<>(toLogSummaries(logs.getContent(), locale, true), logs.getPageable(), logs.hasNext());
+    }
+
+    public Page<LogPostSummaryDto> toLogSummariesWithVisibleComments(Page<LogPost> logs, String locale) {
+        return new PageImpl<>(toLogSummaries(logs.getContent(), locale, true), logs.getPageable(), logs.getTotalElements());
+    }
+
+    private List<LogPostSummaryDto> toLogSummaries(List<LogPost> logs, String locale, boolean visibleComments) {
+        if (logs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = logs.stream().map(LogPost::getId).toList();
+        Map<Long, LogPost> loaded = loadLogs(ids).stream()
+                .collect(Collectors.toMap(LogPost::getId, Function.identity(), (a, b) -> a));
+        Map<Long, User> creators = loadCreators(logs.stream().map(LogPost::getCreatorId));
+        Map<Long, Long> visibleCommentCounts = visibleComments ? loadVisibleCommentCounts(ids) : null;
+
+        return logs.stream()
+                .map(given -> loaded.getOrDefault(given.getId(), given))
+                .map(log -> {
+                    int commentCount = visibleCommentCounts != null
+                            ? visibleCommentCounts.getOrDefault(log.getId(), 0L).intValue()
+                            : (log.getCommentCount() != null ? log.getCommentCount() : 0);
+                    return toLogSummary(log, locale, creators, commentCount);
+                })
+                .toList();
+    }
+
+    // ==================== RECIPE DETAIL PREVIEWS / VARIANT TREE ====================
+
+    /**
+     * Variant cards from RecipeRepository#findVariantPreviews rows.
+     */
+    public List<RecipeSummaryDto> toVariantSummaries(List<RecipeVariantPreview> previews, String locale) {
+        return previews.stream()
+                .map(preview -> new RecipeSummaryDto(
+                        preview.getPublicId(),
+                        foodName(readTranslations(preview.getFoodName()), locale),
+                        preview.getFoodMasterPublicId(),
+                        LocaleUtils.getLocalizedValue(readTranslations(preview.getTitleTranslations()), locale, preview.getTitle()),
+                        LocaleUtils.getLocalizedValue(readTranslations(preview.getDescriptionTranslations()), locale, preview.getDescription()),
+                        preview.getCookingStyle(),
+                        preview.getCreatorPublicId(),
+                        preview.getCreatorName() != null ? preview.getCreatorName() : UNKNOWN_USER,
+                        fileUrl(preview.getCoverFilename()),
+                        preview.getVariantCount() != null ? preview.getVariantCount().intValue() : 0,
+                        preview.getLogCount() != null ? preview.getLogCount().intValue() : 0,
+                        preview.getParentPublicId(),
+                        preview.getRootPublicId(),
+                        preview.getRootPublicId() != null
+                                ? LocaleUtils.getLocalizedValue(readTranslations(preview.getRootTitleTranslations()), locale, preview.getRootTitle())
+                                : null,
+                        preview.getServings() != null ? preview.getServings() : 2,
+                        preview.getCookingTimeRange() != null ? preview.getCookingTimeRange() : "MIN_30_TO_60",
+                        readNames(preview.getHashtags()),
+                        preview.getIsPrivate() != null ? preview.getIsPrivate() : false
+                ))
+                .toList();
+    }
+
+    /**
+     * Log cards from RecipeLogRepository#findLogPreviews rows of the given recipe.
+     */
+    public List<LogPostSummaryDto> toLogSummaries(List<LogPostPreview> previews, Recipe recipe, String locale) {
+        String foodName = foodName(recipe, locale);
+        String recipeTitle = LocaleUtils.getLocalizedValue(recipe.getTitleTranslations(), locale, recipe.getTitle());
+        boolean isVariant = recipe.getRootRecipe() != null;
+
+        return previews.stream()
+                .map(preview -> new LogPostSummaryDto(
+                        preview.getPublicId(),
+                        LocaleUtils.getLocalizedValue(readTranslations(preview.getTitleTranslations()), locale, preview.getTitle()),
+                        LocaleUtils.getLocalizedValue(readTranslations(preview.getContentTranslations()), locale, preview.getContent()),
+                        preview.getRating(),
+                        fileUrl(preview.getThumbnailFilename()),
+                        preview.getCreatorPublicId(),
+                        preview.getCreatorName() != null ? preview.getCreatorName() : UNKNOWN_USER,
+                        foodName,
+                        recipeTitle,
+                        readNames(preview.getHashtags()),
+                        isVariant,
+                        preview.getIsPrivate() != null ? preview.getIsPrivate() : false,
+                        preview.getCommentCount() != null ? preview.getCommentCount() : 0,
+                        preview.getLocale()
+                ))
+                .toList();
+    }
+
+    /**
+     * Variant tree nodes from RecipeLineageRepository#findSubtree rows.
+     */
+    public List<RecipeTreeNodeDto> toTreeNodes(List<RecipeTreeRow> rows, String locale) {
+        return rows.stream()
+                .map(row -> new RecipeTreeNodeDto(
+                        row.getPublicId(),
+                        row.getParentPublicId(),
+                        row.getDepth(),
+                        LocaleUtils.getLocalizedValue(readTranslations(row.getTitleTranslations()), locale, row.getTitle()),
+                        row.getCookingStyle(),
+                        fileUrl(row.getCoverFilename()),
+                        row.getCreatorPublicId(),
+                        row.getCreatorName() != null ? row.getCreatorName() : UNKNOWN_USER,
+                        row.getIsPrivate() != null ? row.getIsPrivate() : false,
+                        row.getChildCount() != null ? row.getChildCount() : 0,
+                        row.getLogCount() != null ? row.getLogCount() : 0
+                ))
+                .toList();
+    }
+
+    // ==================== HOME FEED ====================
+
+    /**
+     * Assemble the home feed from the ids its section queries returned, keeping their order.
+     */
+    public HomeFeedResponseDto toHomeFeed(List<Long> recentLogIds, List<Long> recentRecipeIds,
+                                          List<Long> trendingRecipeIds, String locale) {
+        List<LogPost> logs = inOrder(recentLogIds,
+                recentLogIds.isEmpty() ? List.of() : loadLogs(recentLogIds),
+                LogPost::getId);
+
+        Set<Long> recipeIds = new LinkedHashSet<>(recentRecipeIds);
+        recipeIds.addAll(trendingRecipeIds);
+        List<Recipe> recipes = recipeIds.isEmpty() ? List.of() : recipeRepository.findAllForSummaryByIdIn(recipeIds);
+        Map<Long, RecipeSummaryStats> stats = loadStats(recipeIds);
+
+        Map<Long, User> creators = loadCreators(Stream.concat(
+                logs.stream().map(LogPost::getCreatorId),
+                recipes.stream().map(Recipe::getCreatorId)));
+
+        List<RecentActivityDto> recentActivity = logs.stream()
+                .map(log -> toRecentActivity(log, locale, creators))
+                .toList();
+        List<RecipeSummaryDto> recentRecipes = inOrder(recentRecipeIds, recipes, Recipe::getId).stream()
+                .map(recipe -> toRecipeSummary(recipe, locale, creators, stats))
+                .toList();
+        List<TrendingTreeDto> trending = inOrder(trendingRecipeIds, recipes, Recipe::getId).stream()
+                .map(root -> toTrendingTree(root, locale, creators, stats))
+                .toList();
+
+        return new HomeFeedResponseDto(recentActivity, recentRecipes, trending);
+    }
+
+    // ==================== BATCH LOADERS ====================
+
+    // Log posts with their summary associations; hashtags are fetched separately from the images bag
+    private List<LogPost> loadLogs(Collection<Long> ids) {
+        List<LogPost> logs = logPostRepository.findAllForSummaryByIdIn(ids);
+        logPostRepository.findHashtagsForSummaryByIdIn(ids);
+        return logs;
+    }
+
+    private Map<Long, User> loadCreators(Stream<Long> creatorIds) {
+        List<Long> ids = creatorIds.filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Map<Long, RecipeSummaryStats> loadStats(Collection<Long> recipeIds) {
+        if (recipeIds.isEmpty()) {
+            return Map.of();
+        }
+        return recipeRepository.findSummaryStats(recipeIds).stream()
+                .collect(Collectors.toMap(RecipeSummaryStats::getRecipeId, Function.identity()));
+    }
+
+    private Map<Long, Long> loadVisibleCommentCounts(Collection<Long> logPostIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        commentRepository.countVisibleCommentsAnonymousByLogPostIds(logPostIds)
+                .forEach(row -> counts.put((Long) row[0], (Long) row[1]));
+        return counts;
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity(), (a, b) -> a));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    // ==================== CONVERTERS ====================
+
+    private RecipeSummaryDto toRecipeSummary(Recipe recipe, String locale,
+                                             Map<Long, User> creators, Map<Long, RecipeSummaryStats> stats) {
+        User creator = creators.get(recipe.getCreatorId());
+        RecipeSummaryStats recipeStats = stats.get(recipe.getId());
+
+        String rootTitle = null;
+        if (recipe.getRootRecipe() != null) {
+            rootTitle = LocaleUtils.getLocalizedValue(
+                    recipe.getRootRecipe().getTitleTranslations(), locale, recipe.getRootRecipe().getTitle());
+        }
+
+        List<String> hashtags = recipe.getHashtags().stream()
+                .map(Hashtag::getName)
+                .limit(3)
+                .toList();
+
+        return new RecipeSummaryDto(
+                recipe.getPublicId(),
+                foodName(recipe, locale),
+                recipe.getFoodMaster().getPublicId(),
+                LocaleUtils.getLocalizedValue(recipe.getTitleTranslations(), locale, recipe.getTitle()),
+                LocaleUtils.getLocalizedValue(recipe.getDescriptionTranslations(), locale, recipe.getDescription()),
+                recipe.getCookingStyle(),
+                creator != null ? creator.getPublicId() : null,
+                creator != null ? creator.getUsername() : UNKNOWN_USER,
+                coverUrl(recipeStats),
+                recipeStats != null ? recipeStats.getVariantCount().intValue() : 0,
+                recipeStats != null ? recipeStats.getLogCount().intValue() : 0,
+                recipe.getParentRecipe() != null ? recipe.getParentRecipe().getPublicId() : null,
+                recipe.getRootRecipe() != null ? recipe.getRootRecipe().getPublicId() : null,
+                rootTitle,
+                recipe.getServings() != null ? recipe.getServings() : 2,
+                recipe.getCookingTimeRange() != null ? recipe.getCookingTimeRange().name() : "MIN_30_TO_60",
+                hashtags,
+                recipe.getIsPrivate() != null ? recipe.getIsPrivate() : false
+        );
+    }
+
+    private LogPostSummaryDto toLogSummary(LogPost log, String locale, Map<Long, User> creators, int commentCount) {
+        User creator = creators.get(log.getCreatorId());
+
+        RecipeLog recipeLog = log.getRecipeLog();
+        String foodName = null;
+        String recipeTitle = null;
+        Boolean isVariant = null;
+        if (recipeLog != null && recipeLog.getRecipe() != null) {
+            Recipe recipe = recipeLog.getRecipe();
+            foodName = foodName(recipe, locale);
+            recipeTitle = LocaleUtils.getLocalizedValue(recipe.getTitleTranslations(), locale, recipe.getTitle());
+            isVariant = recipe.getRootRecipe() != null;
+        }
+
+        List<String> hashtags = log.getHashtags().stream()
+                .map(Hashtag::getName)
+                .toList();
+
+        return new LogPostSummaryDto(
+                log.getPublicId(),
+                LocaleUtils.getLocalizedValue(log.getTitleTranslations(), locale, log.getTitle()),
+                LocaleUtils.getLocalizedValue(log.getContentTranslations(), locale, log.getContent()),
+                recipeLog != null ? recipeLog.getRating() : null,
+                firstImageUrl(log),
+                creator != null ? creator.getPublicId() : null,
+                creator != null ? creator.getUsername() : UNKNOWN_USER,
+                foodName,
+                recipeTitle,
+                hashtags,
+                isVariant,
+                log.getIsPrivate() != null ? log.getIsPrivate() : false,
+                commentCount,
+                log.getLocale()
+        );
+    }
+
+    private RecentActivityDto toRecentActivity(LogPost log, String locale, Map<Long, User> creators) {
+        User creator = creators.get(log.getCreatorId());
+        RecipeLog recipeLog = log.getRecipeLog();
+        Recipe recipe = recipeLog.getRecipe();
+
+        return RecentActivityDto.builder()
+                .logPublicId(log.getPublicId())
+                .rating(recipeLog.getRating())
+                .thumbnailUrl(firstImageUrl(log))
+                .userName(creator != null ? creator.getUsername() : "익명")
+                .creatorPublicId(creator != null ? creator.getPublicId() : null)
+                .recipeTitle(LocaleUtils.getLocalizedValue(recipe.getTitleTranslations(), locale, recipe.getTitle()))
+                .recipePublicId(recipe.getPublicId())
+                .foodName(foodName(recipe, locale))
+                .createdAt(log.getCreatedAt())
+                .hashtags(log.getHashtags().stream().map(Hashtag::getName).toList())
+                .commentCount(log.getCommentCount())
+                .build();
+    }
+
+    private TrendingTreeDto toTrendingTree(Recipe root, String locale,
+                                           Map<Long, User> creators, Map<Long, RecipeSummaryStats> stats) {
+        User creator = creators.get(root.getCreatorId());
+        RecipeSummaryStats rootStats = stats.get(root.getId());
+
+        return TrendingTreeDto.builder()
+                .rootRecipeId(root.getPublicId())
+                .title(LocaleUtils.getLocalizedValue(root.getTitleTranslations(), locale, root.getTitle()))
+                .foodName(foodName(root, locale))
+                .cookingStyle(root.getCookingStyle())
+                .thumbnail(coverUrl(rootStats))
+                .variantCount(rootStats != null ? rootStats.getVariantCount() : 0L)
+                .logCount(rootStats != null ? rootStats.getLogCount() : 0L)
+                .latestChangeSummary(LocaleUtils.getLocalizedValue(
+                        root.getDescriptionTranslations(), locale, root.getDescription()))
+                .userName(creator != null ? creator.getUsername() : UNKNOWN_USER)
+                .creatorPublicId(creator != null ? creator.getPublicId() : null)
+                .build();
+    }
+
+    private String foodName(Recipe recipe, String locale) {
+        return foodName(recipe.getFoodMaster().getName(), locale);
+    }
+
+    private String foodName(Map<String, String> names, String locale) {
+        return LocaleUtils.getLocalizedValue(names, locale,
+                names.values().stream().findFirst().orElse(UNKNOWN_FOOD));
+    }
+
+    private String coverUrl(RecipeSummaryStats stats) {
+        return stats != null ? fileUrl(stats.getCoverFilename()) : null;
+    }
+
+    private String fileUrl(String storedFilename) {
+        return storedFilename != null ? urlPrefix + "/" + storedFilename : null;
+    }
+
+    private String firstImageUrl(LogPost log) {
+        return log.getImages().stream()
+                .findFirst()
+                .map(img -> urlPrefix + "/" + img.getStoredFilename())
+                .orElse(null);
+    }
+
+    // jsonb columns read as text by the preview queries
+    private Map<String, String> readTranslations(String json) {
+        return json != null ? readJson(json, TRANSLATIONS) : Map.of();
+    }
+
+    private List<String> readNames(String json) {
+        return json != null ? readJson(json, NAMES) : List.of();
+    }
+
+    private <T> T readJson(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Malformed JSON column: " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+
+/**
+ * Published when a translator worker reports a translation of the entity as written
+ * (see TranslationWorkQueue), so caches of its localized content can be dropped.
+ */
+public record TranslationCompletedEvent(TranslatableEntity entityType, Long entityId) {
+}
@@ -0,0 +1,87 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes a TranslationCompletedEvent for translations the translator Lambda records.
+ *
+ * The Lambda writes translations straight to the database, so nothing in this process sees them
+ * happen. Every locale it records stamps translation_events.translated_at; poll() reads the events
+ * stamped since the last poll and publishes one event per stamp, so RecipeDetailCache drops the
+ * recipe. Each poll looks back translation.completion-watch.overlap-ms before the newest stamp seen,
+ * for commits that land after a later stamp was already read; stamps already published are skipped.
+ */
+@Slf4j
+@Service
+public class TranslationCompletionWatcher {
+
+    private final TranslationEventRepository translationEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long overlapMillis;
+    private final int batchSize;
+
+    // Newest stamp seen, and the stamps published within the overlap (event id -> stamp). Only the scheduler thread polls
+    private long watermarkMillis = System.currentTimeMillis();
+    private final Map<Long, Long> published = new HashMap<>();
+
+    public TranslationCompletionWatcher(
+            TranslationEventRepository translationEventRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${translation.completion-watch.enabled:true}") boolean enabled,
+            @Value("${translation.completion-watch.overlap-ms:30000}") long overlapMillis,
+            @Value("${translation.completion-watch.batch-size:500}") int batchSize) {
+        this.translationEventRepository = translationEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.overlapMillis = overlapMillis;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Publishes the translations recorded since the last poll; returns how many were published.
+     */
+    public int poll() {
+        if (!enabled) {
+            return 0;
+        }
+        long sinceMillis = watermarkMillis - overlapMillis;
+        List<Object[]> rows = translationEventRepository.findTranslatedSince(Instant.ofEpochMilli(sinceMillis), batchSize);
+
+        int count = 0;
+        for (Object[] row : rows) {
+            Long eventId = ((Number) row[0]).longValue();
+            long translatedAt = ((Number) row[3]).longValue();
+            watermarkMillis = Math.max(watermarkMillis, translatedAt);
+            Long previous = published.put(eventId, translatedAt);
+            if (previous != null && previous == translatedAt) {
+                continue;
+            }
+            TranslatableEntity entityType;
+            try {
+                entityType = TranslatableEntity.valueOf((String) row[1]);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            eventPublisher.publishEvent(new TranslationCompletedEvent(entityType, ((Number) row[2]).longValue()));
+            count++;
+        }
+
+        long horizon = watermarkMillis - overlapMillis;
+        published.values().removeIf(at -> at <= horizon);
+        if (count > 0) {
+            log.debug("Published {} translations recorded by the translator", count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,232 @@
+package com.cookstemma.cookstemma.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends saved translation events (see TranslationEventService) to the translation queue in the
+ * background, so requests don't wait on SQS.
+ *
+ * Events are buffered after their transaction commits and a flusher thread sends them in batches of
+ * TranslationQueueSender.MAX_MESSAGES_PER_CALL, waiting up to translation.producer.linger-ms for a
+ * batch to fill. A newer event for an entity that is still buffered replaces the older one (which
+ * TranslationEventService has cancelled), so rapid edits cost one message. The database stays the
+ * source of truth: events that are dropped (buffer full, node stopped, SQS rejected them) are picked
+ * up by EventBridge. Without SQS, or with translation.producer.workers set to 0, nothing is buffered.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranslationEventProducer {
+
+    private final TranslationQueueSender translationQueueSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${translation.producer.workers:1}")
+    private int workers;
+
+    @Value("${translation.producer.linger-ms:200}")
+    private long lingerMillis;
+
+    @Value("${translation.producer.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    private record Pending(TranslationEventQueuedEvent event, long bufferedAtNanos) {
+    }
+
+    // "entityType:entityId" -> latest event for that entity, oldest first; guarded by this
+    private final LinkedHashMap<String, Pending> buffer = new LinkedHashMap<>();
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    private Timer sendTimer;
+    private DistributionSummary batchSizeSummary;
+    private Counter sentCounter;
+    private Counter failedCounter;
+    private Counter coalescedCounter;
+    private Counter droppedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        sendTimer = Timer.builder("translation.producer.send.latency")
+                .description("Time per batch send to the translation queue")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("translation.producer.batch.size")
+                .description("Translation events per batch send")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        sentCounter = messageCounter("sent");
+        failedCounter = messageCounter("failed");
+        coalescedCounter = messageCounter("coalesced");
+        droppedCounter = messageCounter("dropped");
+        Gauge.builder("translation.producer.buffer", this, producer -> producer.buffered())
+                .description("Translation events waiting to be sent")
+                .register(meterRegistry);
+    }
+
+    private Counter messageCounter(String result) {
+        return Counter.builder("translation.producer.messages")
+                .description("Translation events handled by the producer, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (workers <= 0 || running || !translationQueueSender.isAvailable()) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            Thread thread = new Thread(this::run, "translation-producer-" + (i + 1));
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+        log.info("Started {} translation producers (linger {} ms)", workers, lingerMillis);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        List<Thread> stopping;
+        synchronized (this) {
+            running = false;
+            stopping = new ArrayList<>(threads);
+            threads.clear();
+        }
+        stopping.forEach(Thread::interrupt);
+        for (Thread thread : stopping) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // Send what is left rather than waiting for EventBridge
+        while (buffered() > 0) {
+            flush();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationEventQueued(TranslationEventQueuedEvent event) {
+        if (!running) {
+            log.debug("Translation producer not running, event {} will be picked up by EventBridge", event.eventId());
+            return;
+        }
+        String key = event.entityType() + ":" + event.entityId();
+        synchronized (this) {
+            Pending previous = buffer.get(key);
+            if (previous != null) {
+                // Keep the original position and age, so repeated edits don't hold the entity back
+                buffer.put(key, new Pending(event, previous.bufferedAtNanos()));
+                coalescedCounter.increment();
+                return;
+            }
+            if (buffer.size() >= bufferCapacity) {
+                droppedCounter.increment();
+                log.warn("Translation producer buffer full, event {} will be picked up by EventBridge", event.eventId());
+                return;
+            }
+            buffer.put(key, new Pending(event, System.nanoTime()));
+            // Wake flushers to start the linger, or to send a full batch
+            if (buffer.size() == 1 || buffer.size() >= TranslationQueueSender.MAX_MESSAGES_PER_CALL) {
+                notifyAll();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                send(takeBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends one batch of whatever is buffered without waiting; returns the number of events sent
+     * or attempted.
+     */
+    int flush() {
+        List<TranslationEventQueuedEvent> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        send(batch);
+        return batch.size();
+    }
+
+    synchronized int buffered() {
+        return buffer.size();
+    }
+
+    // Waits for a full batch, or for the oldest buffered event to have lingered long enough
+    private synchronized List<TranslationEventQueuedEvent> takeBatch() throws InterruptedException {
+        while (true) {
+            if (buffer.isEmpty()) {
+                wait();
+                continue;
+            }
+            if (buffer.size() >= TranslationQueueSender.MAX_MESSAGES_PER_CALL) {
+                return drain();
+            }
+            long oldest = buffer.values().iterator().next().bufferedAtNanos();
+            long remainingMillis = lingerMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest);
+            if (remainingMillis <= 0) {
+                return drain();
+            }
+            wait(remainingMillis);
+        }
+    }
+
+    private List<TranslationEventQueuedEvent> drain() {
+        List<TranslationEventQueuedEvent> batch = new ArrayList<>(TranslationQueueSender.MAX_MESSAGES_PER_CALL);
+        Iterator<Pending> pending = buffer.values().iterator();
+        while (pending.hasNext() && batch.size() < TranslationQueueSender.MAX_MESSAGES_PER_CALL) {
+            batch.add(pending.next().event());
+            pending.remove();
+        }
+        return batch;
+    }
+
+    private void send(List<TranslationEventQueuedEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Set<Long> failed = translationQueueSender.send(batch);
+            sentCounter.increment(batch.size() - failed.size());
+            failedCounter.increment(failed.size());
+            log.debug("Sent {} translation events to the queue, {} rejected", batch.size(), failed.size());
+        } catch (Exception e) {
+            failedCounter.increment(batch.size());
+            log.warn("Failed to send {} translation events, they will be picked up by EventBridge: {}",
+                    batch.size(), e.getMessage());
+        } finally {
+            sample.stop(sendTimer);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+
+/**
+ * Published when a translation event is saved, so it is sent to the translation queue after the
+ * transaction commits (see TranslationEventProducer).
+ */
+public record TranslationEventQueuedEvent(Long eventId, TranslatableEntity entityType, Long entityId) {
+}
@@ -14,21 +14,13 @@ import com.cookstemma.cookstemma.domain.enums.TranslationStatus;
 import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
 import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
 import com.cookstemma.cookstemma.util.LocaleUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Profile;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
-import software.amazon.awssdk.services.sqs.model.SqsException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,16 +31,7 @@ public class TranslationEventService {
 
     private final TranslationEventRepository translationEventRepository;
     private final FoodMasterRepository foodMasterRepository;
-    private final ObjectMapper objectMapper;
-
-    @Autowired(required = false)
-    private SqsClient sqsClient;
-
-    @Value("${aws.sqs.translation-queue-url:}")
-    private String translationQueueUrl;
-
-    @Value("${aws.sqs.enabled:false}")
-    private boolean sqsEnabled;
+    private final ApplicationEventPublisher eventPublisher;
 
     // All supported languages in BCP47 format (20 total)
     private static final List<String> ALL_LOCALES = List.of(
@@ -86,61 +69,13 @@ public class TranslationEventService {
             Map.entry("IR", "fa")   // Iran → Persian
     );
 
-    /**
-     * Send translation event to SQS for immediate processing.
-     * Hybrid architecture: SQS provides real-time processing, EventBridge is safety net.
-     *
-     * @param event The translation event that was saved to database
-     */
-    private void sendToSqs(TranslationEvent event) {
-        // Skip if SQS is disabled or not configured
-        if (!sqsEnabled || sqsClient == null || translationQueueUrl == null || translationQueueUrl.isEmpty()) {
-            log.debug("SQS disabled or not configured, event {} will be picked up by EventBridge", event.getId());
-            return;
-        }
-
-        try {
-            // Create SQS message body
-            Map<String, Object> messageBody = new HashMap<>();
-            messageBody.put("event_id", event.getId());
-            messageBody.put("entity_type", event.getEntityType().name());
-            messageBody.put("entity_id", event.getEntityId());
-
-            String messageJson = objectMapper.writeValueAsString(messageBody);
-
-            // Send to SQS
-            SendMessageRequest request = SendMessageRequest.builder()
-                    .queueUrl(translationQueueUrl)
-                    .messageBody(messageJson)
-                    .build();
-
-            sqsClient.sendMessage(request);
-
-            log.info("Sent {} translation event {} to SQS for immediate processing",
-                    event.getEntityType(), event.getId());
-
-        } catch (JsonProcessingException e) {
-            // Log but don't fail - EventBridge will pick it up
-            log.warn("Failed to serialize SQS message for event {}, will be picked up by EventBridge: {}",
-                    event.getId(), e.getMessage());
-        } catch (SqsException e) {
-            // Log but don't fail - EventBridge will pick it up
-            log.warn("Failed to send event {} to SQS ({}), will be picked up by EventBridge in ~5 minutes",
-                    event.getId(), e.getMessage());
-        } catch (Exception e) {
-            // Catch all other exceptions to prevent translation from failing
-            log.error("Unexpected error sending event {} to SQS, will be picked up by EventBridge: {}",
-                    event.getId(), e.getMessage(), e);
-        }
-    }
-
     /**
      * Queue a full recipe translation (title, description, all steps, all ingredients).
      * Uses RECIPE_FULL entity type for context-aware translation in a single API call.
      *
      * Hybrid Architecture:
      * 1. Saves event to database (source of truth)
-     * 2. Sends to SQS for immediate processing (~1 min latency)
+     * 2. Sends to SQS in a batch after commit (see TranslationEventProducer, ~1 min latency)
      * 3. If SQS fails, EventBridge picks it up (~5 min latency)
      */
     @Transactional
@@ -155,13 +90,10 @@ public class TranslationEventService {
 
         // Cancel any PENDING translations (not PROCESSING, as they're already being worked on)
         // This ensures edited content gets re-translated immediately
-        List<TranslationEvent> pendingEvents = translationEventRepository.findByEntityTypeAndEntityIdAndStatusIn(
-                TranslatableEntity.RECIPE_FULL, recipe.getId(), List.of(TranslationStatus.PENDING));
-
-        for (TranslationEvent pendingEvent : pendingEvents) {
-            pendingEvent.markFailed("Cancelled due to content edit");
-            translationEventRepository.save(pendingEvent);
-            log.info("Cancelled pending translation {} for edited recipe {}", pendingEvent.getId(), recipe.getId());
+        int cancelled = translationEventRepository.cancelByEntityTypeAndEntityIdAndStatusIn(
+                TranslatableEntity.RECIPE_FULL, recipe.getId(), List.of(TranslationStatus.PENDING), "Cancelled due to content edit");
+        if (cancelled > 0) {
+            log.info("Cancelled {} pending translations for edited recipe {}", cancelled, recipe.getId());
         }
 
         // Create single RECIPE_FULL event (replaces RECIPE + RECIPE_STEP + RECIPE_INGREDIENT events)
@@ -172,13 +104,10 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued full recipe translation for recipe {} ({} steps, {} ingredients, source: {}, targets: {})",
                 recipe.getId(), recipe.getSteps().size(), recipe.getIngredients().size(),
                 sourceLocale, targetLocales.size());
-
-        // Push to SQS for immediate processing (hybrid architecture)
-        sendToSqs(event);
     }
 
     @Transactional
@@ -201,7 +130,7 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
     }
 
     @Transactional
@@ -224,7 +153,7 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
     }
 
     @Transactional
@@ -240,13 +169,10 @@ public class TranslationEventService {
 
         // Cancel any PENDING translations (not PROCESSING, as they're already being worked on)
         // This ensures edited content gets re-translated immediately
-        List<TranslationEvent> pendingEvents = translationEventRepository.findByEntityTypeAndEntityIdAndStatusIn(
-                TranslatableEntity.LOG_POST, logPost.getId(), List.of(TranslationStatus.PENDING));
-
-        for (TranslationEvent pendingEvent : pendingEvents) {
-            pendingEvent.markFailed("Cancelled due to content edit");
-            translationEventRepository.save(pendingEvent);
-            log.info("Cancelled pending translation {} for edited log post {}", pendingEvent.getId(), logPost.getId());
+        int cancelled = translationEventRepository.cancelByEntityTypeAndEntityIdAndStatusIn(
+                TranslatableEntity.LOG_POST, logPost.getId(), List.of(TranslationStatus.PENDING), "Cancelled due to content edit");
+        if (cancelled > 0) {
+            log.info("Cancelled {} pending translations for edited log post {}", cancelled, logPost.getId());
         }
 
         TranslationEvent event = TranslationEvent.builder()
@@ -256,12 +182,9 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued translation for log post {} (source: {}, targets: {})",
                 logPost.getId(), sourceLocale, targetLocales.size());
-
-        // Push to SQS for immediate processing
-        sendToSqs(event);
     }
 
     /**
@@ -287,13 +210,10 @@ public class TranslationEventService {
 
         // Cancel any PENDING translations (not PROCESSING, as they're already being worked on)
         // This ensures edited content gets re-translated immediately
-        List<TranslationEvent> pendingEvents = translationEventRepository.findByEntityTypeAndEntityIdAndStatusIn(
-                TranslatableEntity.COMMENT, comment.getId(), List.of(TranslationStatus.PENDING));
-
-        for (TranslationEvent pendingEvent : pendingEvents) {
-            pendingEvent.markFailed("Cancelled due to content edit");
-            translationEventRepository.save(pendingEvent);
-            log.info("Cancelled pending translation {} for edited comment {}", pendingEvent.getId(), comment.getId());
+        int cancelled = translationEventRepository.cancelByEntityTypeAndEntityIdAndStatusIn(
+                TranslatableEntity.COMMENT, comment.getId(), List.of(TranslationStatus.PENDING), "Cancelled due to content edit");
+        if (cancelled > 0) {
+            log.info("Cancelled {} pending translations for edited comment {}", cancelled, comment.getId());
         }
 
         TranslationEvent event = TranslationEvent.builder()
@@ -303,12 +223,9 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued translation for comment {} (source: {}, targets: {})",
                 comment.getId(), sourceLocale, targetLocales.size());
-
-        // Push to SQS for immediate processing
-        sendToSqs(event);
     }
 
     @Transactional
@@ -333,7 +250,7 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued translation for food master {} (source: {}, targets: {})",
                 foodMaster.getId(), normalized, targetLocales.size());
     }
@@ -361,7 +278,7 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued translation for autocomplete item {} (source: {}, targets: {})",
                 autocompleteItem.getId(), normalized, targetLocales.size());
     }
@@ -397,43 +314,11 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Queued bio translation for user {} (source: {}, targets: {})",
                 user.getId(), sourceLocale, targetLocales.size());
     }
 
-    @Transactional(readOnly = true)
-    public List<TranslationEvent> getRetryableEvents() {
-        return translationEventRepository.findRetryable();
-    }
-
-    @Transactional
-    public void markEventProcessing(TranslationEvent event) {
-        event.markProcessing();
-        translationEventRepository.save(event);
-    }
-
-    @Transactional
-    public void markEventCompleted(TranslationEvent event) {
-        event.markCompleted();
-        translationEventRepository.save(event);
-    }
-
-    @Transactional
-    public void markEventFailed(TranslationEvent event, String error) {
-        event.markFailed(error);
-        translationEventRepository.save(event);
-    }
-
-    @Transactional
-    public void addCompletedLocale(TranslationEvent event, String locale) {
-        event.addCompletedLocale(locale);
-        if (event.isAllLocalesCompleted()) {
-            event.markCompleted();
-        }
-        translationEventRepository.save(event);
-    }
-
     /**
      * Queue translations for all FoodMaster entries that only have one locale.
      * Used for backfilling translations for existing untranslated foods.
@@ -492,20 +377,24 @@ public class TranslationEventService {
                 .targetLocales(targetLocales)
                 .build();
 
-        translationEventRepository.save(event);
+        save(event);
         log.info("Force-queued full recipe translation for recipe {} ({} steps, {} ingredients, source: {}, targets: all {})",
                 recipe.getId(), recipe.getSteps().size(), recipe.getIngredients().size(),
                 normalized, targetLocales.size());
     }
 
     private void cancelPendingTranslations(TranslatableEntity entityType, Long entityId) {
-        List<TranslationEvent> pendingEvents = translationEventRepository.findByEntityTypeAndEntityIdAndStatusIn(
-                entityType, entityId, List.of(TranslationStatus.PENDING, TranslationStatus.PROCESSING));
+        translationEventRepository.cancelByEntityTypeAndEntityIdAndStatusIn(entityType, entityId,
+                List.of(TranslationStatus.PENDING, TranslationStatus.PROCESSING), "Cancelled for re-translation");
+    }
 
-        for (TranslationEvent event : pendingEvents) {
-            event.markFailed("Cancelled for re-translation");
-            translationEventRepository.save(event);
-        }
+    /**
+     * Saves a new event and hands it to TranslationEventProducer, which sends it to SQS after commit.
+     */
+    private void save(TranslationEvent event) {
+        translationEventRepository.save(event);
+        eventPublisher.publishEvent(new TranslationEventQueuedEvent(
+                event.getId(), event.getEntityType(), event.getEntityId()));
     }
 
     private boolean isTranslationPending(TranslatableEntity entityType, Long entityId) {
@@ -0,0 +1,25 @@
+package com.cookstemma.cookstemma.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sends translation events to the translation queue in batches; SqsTranslationQueueSender in
+ * production, a stub in tests.
+ */
+public interface TranslationQueueSender {
+
+    // SQS's limit for one SendMessageBatch call
+    int MAX_MESSAGES_PER_CALL = 10;
+
+    /**
+     * False when nothing can be sent (e.g. SQS is disabled); events are then only picked up by EventBridge.
+     */
+    boolean isAvailable();
+
+    /**
+     * Sends up to MAX_MESSAGES_PER_CALL events in one call and returns the ids of the events that
+     * were not accepted. A failure of the whole call is thrown.
+     */
+    Set<Long> send(List<TranslationEventQueuedEvent> events);
+}
@@ -0,0 +1,161 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.translation.TranslationEvent;
+import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Work claims on translation events for parallel translator workers.
+ *
+ * claimBatch() locks the oldest claimable events (pending, or failed with attempts left) with
+ * FOR UPDATE SKIP LOCKED, so concurrent workers get disjoint batches without waiting on each other,
+ * and leases them to the worker. Every later write is one guarded UPDATE that only applies while the
+ * worker still holds the lease: completed locales are appended to the jsonb array in place, so
+ * workers finishing different locales of one event don't overwrite each other. Leases that run out
+ * (see releaseExpiredLeases) count as a failed attempt and put the event back in the queue; a worker
+ * that outlives its lease gets false back and should drop the event. Each reported locale publishes a
+ * TranslationCompletedEvent, so cached translations of the entity are dropped.
+ *
+ * The translator Lambda (lambda/translator/handler.py) is the worker in production and runs the
+ * same claim, append, complete, fail and lease-release statements against the table; keep the two
+ * in sync. It doesn't go through this class; TranslationCompletionWatcher publishes its completions.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranslationWorkQueue {
+
+    // Longest error message kept on the row
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final TranslationEventRepository translationEventRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${translation.work.max-attempts:3}")
+    private int maxAttempts;
+
+    private Counter claimedCounter;
+    private Counter completedCounter;
+    private Counter failedCounter;
+    private Counter expiredCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        claimedCounter = eventCounter("claimed");
+        completedCounter = eventCounter("completed");
+        failedCounter = eventCounter("failed");
+        expiredCounter = eventCounter("lease_expired");
+    }
+
+    private Counter eventCounter(String result) {
+        return Counter.builder("translation.work.events")
+                .description("Translation events claimed by workers and how their claims ended")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims up to limit events for workerId until now + leaseDuration. The returned events are
+     * detached and show the claim.
+     */
+    @Transactional
+    public List<TranslationEvent> claimBatch(String workerId, int limit, Duration leaseDuration) {
+        List<TranslationEvent> events = translationEventRepository.lockClaimable(maxAttempts, limit);
+        if (events.isEmpty()) {
+            return events;
+        }
+        Instant leaseExpiresAt = Instant.now().plus(leaseDuration);
+        translationEventRepository.markClaimed(events.stream().map(TranslationEvent::getId).toList(),
+                workerId, leaseExpiresAt);
+        for (TranslationEvent event : events) {
+            entityManager.detach(event);
+            event.markProcessing();
+            event.setLockedBy(workerId);
+            event.setLeaseExpiresAt(leaseExpiresAt);
+        }
+        claimedCounter.increment(events.size());
+        log.debug("Worker {} claimed {} translation events until {}", workerId, events.size(), leaseExpiresAt);
+        return events;
+    }
+
+    /**
+     * Extends the worker's leases; returns how many of the events it still held.
+     */
+    @Transactional
+    public int renewLeases(String workerId, Collection<Long> eventIds, Duration leaseDuration) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+        return translationEventRepository.renewLeases(eventIds, workerId, Instant.now().plus(leaseDuration));
+    }
+
+    /**
+     * Records one finished locale; the event completes when all its target locales are done.
+     * False if the worker no longer holds the event.
+     */
+    @Transactional
+    public boolean completeLocale(String workerId, Long eventId, String locale) {
+        boolean held = translationEventRepository.addCompletedLocale(eventId, workerId, locale) == 1;
+        if (held) {
+            publishCompleted(eventId);
+        }
+        return held;
+    }
+
+    @Transactional
+    public boolean complete(String workerId, Long eventId) {
+        boolean held = translationEventRepository.markCompleted(eventId, workerId) == 1;
+        if (held) {
+            completedCounter.increment();
+            publishCompleted(eventId);
+        }
+        return held;
+    }
+
+    /**
+     * Gives the event back as a failed attempt; it is claimed again until it runs out of attempts.
+     */
+    @Transactional
+    public boolean fail(String workerId, Long eventId, String error) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        boolean held = translationEventRepository.markFailed(eventId, workerId, truncated) == 1;
+        if (held) {
+            failedCounter.increment();
+        }
+        return held;
+    }
+
+    @Transactional
+    public int releaseExpiredLeases() {
+        int released = translationEventRepository.releaseExpiredLeases(Instant.now());
+        if (released > 0) {
+            expiredCounter.increment(released);
+            log.warn("Re-queued {} translation events whose lease expired", released);
+        }
+        return released;
+    }
+
+    private void publishCompleted(Long eventId) {
+        translationEventRepository.findById(eventId).ifPresent(event -> eventPublisher.publishEvent(
+                new TranslationCompletedEvent(event.getEntityType(), event.getEntityId())));
+    }
+}
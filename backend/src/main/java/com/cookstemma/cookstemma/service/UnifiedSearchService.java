@@ -6,6 +6,7 @@ import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
 import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
 import com.cookstemma.cookstemma.domain.entity.user.User;
 import com.cookstemma.cookstemma.domain.enums.ImageType;
+import com.cookstemma.cookstemma.domain.enums.SearchDocumentType;
 import com.cookstemma.cookstemma.dto.log_post.LogPostSummaryDto;
 import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryDto;
 import com.cookstemma.cookstemma.dto.search.*;
@@ -13,19 +14,18 @@ import com.cookstemma.cookstemma.repository.hashtag.HashtagRepository;
 import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeLogRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.search.SearchDocumentRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,16 +39,30 @@ public class UnifiedSearchService {
     private static final String TYPE_RECIPES = "recipes";
     private static final String TYPE_LOGS = "logs";
     private static final String TYPE_HASHTAGS = "hashtags";
+    // Facet count cache namespaces for the two query paths
+    private static final String COUNT_SOURCE_TABLES = "tables";
+    private static final String COUNT_SOURCE_DOCUMENTS = "documents";
+    // Keyset cursor source names
+    private static final String SOURCE_RECIPES = "r";
+    private static final String SOURCE_LOGS = "l";
+    private static final String SOURCE_HASHTAGS = "h";
+    private static final String SOURCE_DOCUMENTS = "d";
 
     private final RecipeRepository recipeRepository;
     private final LogPostRepository logPostRepository;
     private final HashtagRepository hashtagRepository;
     private final RecipeLogRepository recipeLogRepository;
     private final UserRepository userRepository;
+    private final SearchDocumentRepository searchDocumentRepository;
+    private final SearchFacetCountService searchFacetCountService;
 
     @Value("${file.upload.url-prefix}")
     private String urlPrefix;
 
+    // Read from the denormalized search_documents table instead of the per-table queries
+    @Value("${search.document-index.enabled:false}")
+    private boolean documentIndexEnabled;
+
     public UnifiedSearchResponse search(String keyword, String type, String cursor, int size, String locale) {
         if (keyword == null || keyword.trim().length() < MIN_KEYWORD_LENGTH) {
             return UnifiedSearchResponse.empty(size);
@@ -58,166 +72,289 @@ public class UnifiedSearchService {
         String normalizedType = type != null ? type.toLowerCase() : TYPE_ALL;
         String normalizedLocale = LocaleUtils.normalizeLocale(locale);
 
-        // Decode cursor to page number (cursor is Base64(pageNumber))
-        int page = decodePageCursor(cursor);
+        // Decode keyset cursor: page index, first-page counts and per-source positions
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        int page = searchCursor.page();
 
-        // Get counts for all types (for filter chips)
-        SearchCounts counts = getCounts(normalizedKeyword);
+        // Get counts for all types (for filter chips); later pages reuse the ones from the cursor
+        String documentKeyword = SearchDocumentProjector.normalize(normalizedKeyword);
+        SearchCounts counts = searchCursor.counts() != null ? searchCursor.counts()
+            : documentIndexEnabled ? getDocumentCounts(documentKeyword) : getCounts(normalizedKeyword);
 
-        // Fetch content based on type filter
-        List<SearchResultItem> items;
-        long totalElements;
+        Map<String, HitSource> sources = documentIndexEnabled
+            ? documentSources(documentKeyword, normalizedType, counts)
+            : tableSources(normalizedKeyword, normalizedType, counts);
 
-        switch (normalizedType) {
-            case TYPE_RECIPES -> {
-                items = searchRecipesOnly(normalizedKeyword, page, size, normalizedLocale);
-                totalElements = counts.recipes();
-            }
-            case TYPE_LOGS -> {
-                items = searchLogsOnly(normalizedKeyword, page, size, normalizedLocale);
-                totalElements = counts.logs();
-            }
-            case TYPE_HASHTAGS -> {
-                items = searchHashtagsOnly(normalizedKeyword, page, size);
-                totalElements = counts.hashtags();
-            }
-            default -> {
-                // Pass counts to avoid duplicate getCounts() call
-                items = searchAll(normalizedKeyword, page, size, normalizedLocale, counts);
-                totalElements = counts.total();
-            }
-        }
+        KeysetPage keysetPage = mergeSources(sources, searchCursor, size);
+        List<SearchResultItem> items = hydrateHits(keysetPage.hits(), normalizedLocale);
+
+        long totalElements = switch (normalizedType) {
+            case TYPE_RECIPES -> counts.recipes();
+            case TYPE_LOGS -> counts.logs();
+            case TYPE_HASHTAGS -> counts.hashtags();
+            default -> counts.total();
+        };
 
-        // Generate nextCursor if there are more items
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        String nextCursor = page < totalPages - 1 ? encodePageCursor(page + 1) : null;
+        String nextCursor = keysetPage.hasNext()
+            ? new SearchCursor(page + 1, counts, keysetPage.positions()).encode()
+            : null;
 
         return UnifiedSearchResponse.of(items, counts, page, size, totalElements, nextCursor);
     }
 
+    // ==================== KEYSET MERGE ====================
 
     /**
-     * Decode page cursor back to page number.
-     * Cursor format: Base64(pageNumber)
+     * One ranked result stream: returns up to limit hits strictly after the given position,
+     * ordered by (relevance, createdAtMicros, sortId) descending.
      */
-    private int decodePageCursor(String cursor) {
-        if (cursor == null || cursor.isBlank()) {
-            return 0;
-        }
-        try {
-            String decoded = new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8);
-            return Integer.parseInt(decoded);
-        } catch (Exception e) {
-            log.warn("Invalid cursor format: {}", cursor);
-            return 0;
-        }
+    @FunctionalInterface
+    private interface HitSource {
+        List<SearchHit> fetchAfter(SearchCursor.Position after, int limit);
     }
 
     /**
-     * Encode page number as cursor.
-     * Cursor format: Base64(pageNumber)
+     * Hits for one page plus the positions to resume each source from.
      */
-    private String encodePageCursor(int page) {
-        return Base64.getEncoder().encodeToString(String.valueOf(page).getBytes(StandardCharsets.UTF_8));
+    private record KeysetPage(List<SearchHit> hits, Map<String, SearchCursor.Position> positions, boolean hasNext) {
     }
 
     /**
-     * Get counts for all content types matching the keyword.
+     * Cursor over the fetched hits of one source during the k-way merge.
      */
-    private SearchCounts getCounts(String keyword) {
-        int recipeCount = (int) recipeRepository.countSearchResults(keyword);
-        int logCount = (int) logPostRepository.countSearchResults(keyword);
-        int hashtagCount = (int) hashtagRepository.countSearchResults(keyword);
+    private static final class SourceHead {
+        private final String source;
+        private final int order;
+        private final List<SearchHit> hits;
+        private int next;
+
+        private SourceHead(String source, int order, List<SearchHit> hits) {
+            this.source = source;
+            this.order = order;
+            this.hits = hits;
+        }
 
-        return SearchCounts.of(recipeCount, logCount, hashtagCount);
+        private SearchHit peek() {
+            return hits.get(next);
+        }
     }
 
+    // Same order as the SQL keyset, with source order breaking cross-source ties
+    private static final Comparator<SourceHead> HEAD_ORDER = Comparator
+        .comparingDouble((SourceHead head) -> head.peek().getRelevanceScore()).reversed()
+        .thenComparing(Comparator.comparingLong((SourceHead head) -> head.peek().getCreatedAtMicros()).reversed())
+        .thenComparingInt(head -> head.order)
+        .thenComparing(Comparator.comparingLong((SourceHead head) -> head.peek().getSortId()).reversed());
+
     /**
-     * Search all types and merge results by relevance.
+     * K-way merge of the sources, each resumed from its own cursor position.
+     * Every source is asked for size + 1 rows, so per-request cost is constant regardless of
+     * page depth and a leftover row tells us whether another page exists.
      */
-    private List<SearchResultItem> searchAll(String keyword, int page, int size, String locale, SearchCounts counts) {
-        // For "all" type, we fetch proportionally from each type based on counts
-        // Then merge and sort by relevance score
-        // For simplicity, fetch size items from each type for the first page,
-        // then paginate the merged results
-
-        int totalCount = counts.total();
-        if (totalCount == 0) {
-            return List.of();
+    private KeysetPage mergeSources(Map<String, HitSource> sources, SearchCursor cursor, int size) {
+        Map<String, SearchCursor.Position> positions = new HashMap<>(cursor.positions());
+        List<SourceHead> heads = new ArrayList<>();
+        PriorityQueue<SourceHead> heap = new PriorityQueue<>(HEAD_ORDER);
+
+        int order = 0;
+        for (Map.Entry<String, HitSource> entry : sources.entrySet()) {
+            String source = entry.getKey();
+            SearchCursor.Position after = cursor.position(source);
+            if (after.isEnd()) {
+                continue;
+            }
+            SourceHead head = new SourceHead(source, order++, entry.getValue().fetchAfter(after, size + 1));
+            heads.add(head);
+            if (!head.hits.isEmpty()) {
+                heap.add(head);
+            }
         }
 
-        // Fetch more items than needed to allow for proper pagination
-        int fetchSize = size * 3;
-        int skip = page * size;
-
-        List<SearchResultItem> allItems = new ArrayList<>();
-
-        // Fetch recipes with position-based relevance
-        Page<Recipe> recipes = recipeRepository.searchRecipesPage(keyword,
-            PageRequest.of(0, fetchSize));
-        addRecipeItems(allItems, recipes.getContent(), fetchSize, locale);
+        List<SearchHit> hits = new ArrayList<>(size);
+        while (hits.size() < size && !heap.isEmpty()) {
+            SourceHead head = heap.poll();
+            SearchHit hit = head.peek();
+            hits.add(hit);
+            positions.put(head.source, SearchCursor.Position.of(hit));
+            head.next++;
+            if (head.next < head.hits.size()) {
+                heap.add(head);
+            }
+        }
 
-        // Fetch logs
-        Page<LogPost> logs = logPostRepository.searchLogPostsPage(keyword,
-            PageRequest.of(0, fetchSize));
-        addLogItems(allItems, logs.getContent(), fetchSize, locale);
+        boolean hasNext = false;
+        for (SourceHead head : heads) {
+            if (head.next < head.hits.size()) {
+                hasNext = true;
+            } else {
+                // Fewer than size + 1 rows and all consumed: nothing left in this source
+                positions.put(head.source, SearchCursor.Position.END);
+            }
+        }
 
-        // Fetch hashtags
-        Page<Hashtag> hashtags = hashtagRepository.searchHashtagsWithRelevance(keyword,
-            PageRequest.of(0, fetchSize));
-        addHashtagItems(allItems, hashtags.getContent(), keyword, fetchSize);
+        return new KeysetPage(hits, positions, hasNext);
+    }
 
-        // Sort by relevance score descending
-        allItems.sort((a, b) -> Double.compare(b.relevanceScore(), a.relevanceScore()));
+    /**
+     * Per-table sources (recipes, logs, hashtags) for the requested type.
+     * Sources with no matches according to the counts are skipped.
+     */
+    private Map<String, HitSource> tableSources(String keyword, String type, SearchCounts counts) {
+        Map<String, HitSource> sources = new LinkedHashMap<>();
+        boolean all = !List.of(TYPE_RECIPES, TYPE_LOGS, TYPE_HASHTAGS).contains(type);
 
-        // Apply pagination
-        return allItems.stream()
-            .skip(skip)
-            .limit(size)
-            .toList();
+        if ((all || TYPE_RECIPES.equals(type)) && counts.recipes() > 0) {
+            sources.put(SOURCE_RECIPES, (after, limit) -> recipeRepository.searchRecipeHitsAfter(
+                keyword, after.score(), after.createdAtMicros(), after.sortId(), limit));
+        }
+        if ((all || TYPE_LOGS.equals(type)) && counts.logs() > 0) {
+            sources.put(SOURCE_LOGS, (after, limit) -> logPostRepository.searchLogPostHitsAfter(
+                keyword, after.score(), after.createdAtMicros(), after.sortId(), limit));
+        }
+        if ((all || TYPE_HASHTAGS.equals(type)) && counts.hashtags() > 0) {
+            sources.put(SOURCE_HASHTAGS, (after, limit) -> hashtagRepository.searchHashtagHitsAfter(
+                keyword, after.score(), after.createdAtMicros(), after.sortId(), limit));
+        }
+        return sources;
     }
 
     /**
-     * Search only recipes.
+     * Single search_documents source, optionally restricted to one entity type.
      */
-    private List<SearchResultItem> searchRecipesOnly(String keyword, int page, int size, String locale) {
-        Page<Recipe> recipes = recipeRepository.searchRecipesPage(keyword,
-            PageRequest.of(page, size));
+    private Map<String, HitSource> documentSources(String documentKeyword, String type, SearchCounts counts) {
+        SearchDocumentType entityType = switch (type) {
+            case TYPE_RECIPES -> SearchDocumentType.RECIPE;
+            case TYPE_LOGS -> SearchDocumentType.LOG_POST;
+            case TYPE_HASHTAGS -> SearchDocumentType.HASHTAG;
+            default -> null;
+        };
+
+        int matches = switch (type) {
+            case TYPE_RECIPES -> counts.recipes();
+            case TYPE_LOGS -> counts.logs();
+            case TYPE_HASHTAGS -> counts.hashtags();
+            default -> counts.total();
+        };
+        if (matches == 0) {
+            return Map.of();
+        }
 
-        List<SearchResultItem> items = new ArrayList<>();
-        addRecipeItems(items, recipes.getContent(), size, locale);
-        return items;
+        HitSource source = entityType == null
+            ? (after, limit) -> searchDocumentRepository.searchAfter(
+                documentKeyword, after.score(), after.createdAtMicros(), after.sortId(), limit)
+            : (after, limit) -> searchDocumentRepository.searchByTypeAfter(
+                documentKeyword, entityType.name(), after.score(), after.createdAtMicros(), after.sortId(), limit);
+        return Map.of(SOURCE_DOCUMENTS, source);
     }
 
     /**
-     * Search only logs.
+     * Load the entities behind a page of hits and convert them, preserving hit order and scores.
+     * Hits whose entity vanished since they were matched are dropped.
      */
-    private List<SearchResultItem> searchLogsOnly(String keyword, int page, int size, String locale) {
-        Page<LogPost> logs = logPostRepository.searchLogPostsPage(keyword,
-            PageRequest.of(page, size));
+    private List<SearchResultItem> hydrateHits(List<SearchHit> hits, String locale) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<SearchDocumentType, List<Long>> idsByType = new EnumMap<>(SearchDocumentType.class);
+        for (SearchHit hit : hits) {
+            idsByType.computeIfAbsent(SearchDocumentType.valueOf(hit.getEntityType()), k -> new ArrayList<>())
+                .add(hit.getEntityId());
+        }
 
-        List<SearchResultItem> items = new ArrayList<>();
-        addLogItems(items, logs.getContent(), size, locale);
+        Map<Long, Recipe> recipeMap = recipeRepository
+            .findAllById(idsByType.getOrDefault(SearchDocumentType.RECIPE, List.of())).stream()
+            .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+        Map<Long, LogPost> logMap = logPostRepository
+            .findAllById(idsByType.getOrDefault(SearchDocumentType.LOG_POST, List.of())).stream()
+            .collect(Collectors.toMap(LogPost::getId, Function.identity()));
+        Map<Long, Hashtag> hashtagMap = hashtagRepository
+            .findAllById(idsByType.getOrDefault(SearchDocumentType.HASHTAG, List.of())).stream()
+            .collect(Collectors.toMap(Hashtag::getId, Function.identity()));
+
+        // Keep only hits that still resolve, in hit order, split by type
+        List<SearchHit> resolved = new ArrayList<>();
+        List<Recipe> recipes = new ArrayList<>();
+        List<Double> recipeScores = new ArrayList<>();
+        List<LogPost> logs = new ArrayList<>();
+        List<Double> logScores = new ArrayList<>();
+        List<Hashtag> hashtags = new ArrayList<>();
+        List<Double> hashtagScores = new ArrayList<>();
+
+        for (SearchHit hit : hits) {
+            switch (SearchDocumentType.valueOf(hit.getEntityType())) {
+                case RECIPE -> {
+                    Recipe recipe = recipeMap.get(hit.getEntityId());
+                    if (recipe == null) continue;
+                    recipes.add(recipe);
+                    recipeScores.add(hit.getRelevanceScore());
+                }
+                case LOG_POST -> {
+                    LogPost logPost = logMap.get(hit.getEntityId());
+                    if (logPost == null) continue;
+                    logs.add(logPost);
+                    logScores.add(hit.getRelevanceScore());
+                }
+                case HASHTAG -> {
+                    Hashtag hashtag = hashtagMap.get(hit.getEntityId());
+                    if (hashtag == null) continue;
+                    hashtags.add(hashtag);
+                    hashtagScores.add(hit.getRelevanceScore());
+                }
+            }
+            resolved.add(hit);
+        }
+
+        List<SearchResultItem> recipeItems = new ArrayList<>();
+        addRecipeItems(recipeItems, recipes, locale, recipeScores::get);
+        List<SearchResultItem> logItems = new ArrayList<>();
+        addLogItems(logItems, logs, locale, logScores::get);
+        List<SearchResultItem> hashtagItems = new ArrayList<>();
+        addHashtagItems(hashtagItems, hashtags, hashtagScores::get);
+
+        // Re-interleave the per-type results in hit order
+        Iterator<SearchResultItem> recipeIt = recipeItems.iterator();
+        Iterator<SearchResultItem> logIt = logItems.iterator();
+        Iterator<SearchResultItem> hashtagIt = hashtagItems.iterator();
+        List<SearchResultItem> items = new ArrayList<>(resolved.size());
+        for (SearchHit hit : resolved) {
+            switch (SearchDocumentType.valueOf(hit.getEntityType())) {
+                case RECIPE -> items.add(recipeIt.next());
+                case LOG_POST -> items.add(logIt.next());
+                case HASHTAG -> items.add(hashtagIt.next());
+            }
+        }
         return items;
     }
 
     /**
-     * Search only hashtags.
+     * Get counts for all content types from search_documents (cached, capped at COUNT_CAP per type).
      */
-    private List<SearchResultItem> searchHashtagsOnly(String keyword, int page, int size) {
-        Page<Hashtag> hashtags = hashtagRepository.searchHashtagsWithRelevance(keyword,
-            PageRequest.of(page, size));
+    private SearchCounts getDocumentCounts(String documentKeyword) {
+        return searchFacetCountService.getCounts(COUNT_SOURCE_DOCUMENTS, documentKeyword, () -> {
+            SearchDocumentCounts documentCounts = searchDocumentRepository.countByType(
+                documentKeyword, SearchFacetCountService.PROBE_LIMIT);
+            return SearchFacetCountService.fromCapped(
+                documentCounts.getRecipes(), documentCounts.getLogs(), documentCounts.getHashtags());
+        });
+    }
 
-        List<SearchResultItem> items = new ArrayList<>();
-        addHashtagItems(items, hashtags.getContent(), keyword, size);
-        return items;
+    /**
+     * Get counts for all content types matching the keyword (cached, capped at COUNT_CAP per type).
+     */
+    private SearchCounts getCounts(String keyword) {
+        return searchFacetCountService.getCounts(COUNT_SOURCE_TABLES, keyword, () -> SearchFacetCountService.fromCapped(
+            recipeRepository.countSearchResults(keyword, SearchFacetCountService.PROBE_LIMIT),
+            logPostRepository.countSearchResults(keyword, SearchFacetCountService.PROBE_LIMIT),
+            hashtagRepository.countSearchResults(keyword, SearchFacetCountService.PROBE_LIMIT)));
     }
 
     /**
-     * Add recipe items to the list with position-based relevance scores.
+     * Add recipe items to the list, scoring the item at index i with scoreAt(i).
      * Uses batch loading to avoid N+1 queries.
      */
-    private void addRecipeItems(List<SearchResultItem> items, List<Recipe> recipes, int totalSize, String locale) {
+    private void addRecipeItems(List<SearchResultItem> items, List<Recipe> recipes, String locale,
+                                IntToDoubleFunction scoreAt) {
         if (recipes.isEmpty()) {
             return;
         }
@@ -253,17 +390,18 @@ public class UnifiedSearchService {
         // Convert recipes using pre-loaded data
         for (int i = 0; i < recipes.size(); i++) {
             Recipe recipe = recipes.get(i);
-            double relevance = calculatePositionScore(i, totalSize);
+            double relevance = scoreAt.applyAsDouble(i);
             RecipeSummaryDto dto = convertToRecipeSummaryBatch(recipe, locale, userMap, variantCountMap, logCountMap);
             items.add(SearchResultItem.recipe(dto, relevance));
         }
     }
 
     /**
-     * Add log items to the list with position-based relevance scores.
+     * Add log items to the list, scoring the item at index i with scoreAt(i).
      * Uses batch loading to avoid N+1 queries.
      */
-    private void addLogItems(List<SearchResultItem> items, List<LogPost> logs, int totalSize, String locale) {
+    private void addLogItems(List<SearchResultItem> items, List<LogPost> logs, String locale,
+                             IntToDoubleFunction scoreAt) {
         if (logs.isEmpty()) {
             return;
         }
@@ -280,18 +418,18 @@ public class UnifiedSearchService {
         // Convert logs using pre-loaded data
         for (int i = 0; i < logs.size(); i++) {
             LogPost log = logs.get(i);
-            double relevance = calculatePositionScore(i, totalSize);
+            double relevance = scoreAt.applyAsDouble(i);
             LogPostSummaryDto dto = convertToLogSummaryBatch(log, locale, userMap);
             items.add(SearchResultItem.log(dto, relevance));
         }
     }
 
     /**
-     * Add hashtag items to the list with relevance scores.
+     * Add hashtag items to the list, scoring the item at index i with scoreAt(i).
      * Uses batch loading to avoid N+1 queries.
      */
     private void addHashtagItems(List<SearchResultItem> items, List<Hashtag> hashtags,
-                                  String keyword, int totalSize) {
+                                  IntToDoubleFunction scoreAt) {
         if (hashtags.isEmpty()) {
             return;
         }
@@ -332,43 +470,13 @@ public class UnifiedSearchService {
         // Convert hashtags using pre-loaded data
         for (int i = 0; i < hashtags.size(); i++) {
             Hashtag hashtag = hashtags.get(i);
-            double relevance = calculateHashtagRelevance(hashtag.getName(), keyword, i, totalSize);
+            double relevance = scoreAt.applyAsDouble(i);
             HashtagSearchDto dto = convertToHashtagSearchDtoBatch(
                 hashtag, recipeCountMap, logCountMap, thumbnailMap, contributorMap);
             items.add(SearchResultItem.hashtag(dto, relevance));
         }
     }
 
-    /**
-     * Calculate relevance score based on position in results.
-     * First items get higher scores (1.0 → 0.5).
-     */
-    private double calculatePositionScore(int position, int totalSize) {
-        if (totalSize <= 1) return 1.0;
-        return 1.0 - (0.5 * position / (double) totalSize);
-    }
-
-    /**
-     * Calculate hashtag relevance based on exact/prefix/fuzzy match.
-     */
-    private double calculateHashtagRelevance(String name, String keyword, int position, int totalSize) {
-        String lowerName = name.toLowerCase();
-        String lowerKeyword = keyword.toLowerCase();
-
-        double baseScore;
-        if (lowerName.equals(lowerKeyword)) {
-            baseScore = 1.0; // Exact match
-        } else if (lowerName.startsWith(lowerKeyword)) {
-            baseScore = 0.9; // Prefix match
-        } else {
-            baseScore = 0.7; // Fuzzy match
-        }
-
-        // Adjust slightly by position
-        double positionAdjustment = 0.1 * (1.0 - (position / (double) Math.max(totalSize, 1)));
-        return Math.min(1.0, baseScore + positionAdjustment);
-    }
-
     /**
      * Convert Recipe entity to RecipeSummaryDto with locale-aware fields.
      */
@@ -0,0 +1,20 @@
+package com.cookstemma.cookstemma.service;
+
+/**
+ * Published when a user's unread notification count changes by delta, or drops to zero when cleared,
+ * so the cached counter is adjusted after the transaction commits (see UnreadNotificationCounter).
+ */
+public record UnreadCountChangedEvent(Long recipientId, int delta, boolean cleared) {
+
+    public static UnreadCountChangedEvent added(Long recipientId) {
+        return new UnreadCountChangedEvent(recipientId, 1, false);
+    }
+
+    public static UnreadCountChangedEvent read(Long recipientId) {
+        return new UnreadCountChangedEvent(recipientId, -1, false);
+    }
+
+    public static UnreadCountChangedEvent cleared(Long recipientId) {
+        return new UnreadCountChangedEvent(recipientId, 0, true);
+    }
+}
@@ -0,0 +1,172 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.notification.UnreadCountResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Server-sent event streams of unread notification counts, so clients can stop polling.
+ *
+ * Each stream gets the current count when it opens and an "unread-count" event whenever the count
+ * changes. Streams live on the node that opened them; with notification.unread-counter.enabled the
+ * changes are broadcast over Redis pub/sub so every node's streams see them. Streams close after
+ * notification.unread-stream.timeout-ms and clients reconnect.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCountStream {
+
+    static final String CHANGED_CHANNEL = "notification:unread-changed";
+    static final String EVENT_NAME = "unread-count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired(required = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Value("${notification.unread-counter.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${notification.unread-stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${notification.unread-stream.max-per-user:5}")
+    private int maxPerUser;
+
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    // Whether changes go through Redis pub/sub
+    private boolean subscribed;
+
+    @PostConstruct
+    void subscribe() {
+        Gauge.builder("notification.unread.streams", emitters, e -> e.values().stream().mapToInt(List::size).sum())
+                .description("Open unread count streams on this node")
+                .register(meterRegistry);
+
+        if (!redisEnabled || listenerContainer == null) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+            try {
+                send(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed unread count message");
+            }
+        }, new ChannelTopic(CHANGED_CHANNEL));
+        subscribed = true;
+    }
+
+    @PreDestroy
+    void closeStreams() {
+        emitters.values().forEach(list -> list.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Opens a stream for the user, starting with their current count. The user's oldest stream is
+     * closed when they already have notification.unread-stream.max-per-user open.
+     */
+    public SseEmitter open(Long userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        List<SseEmitter> evicted = new ArrayList<>();
+        emitters.compute(userId, (id, list) -> {
+            List<SseEmitter> userEmitters = list != null ? list : new CopyOnWriteArrayList<>();
+            userEmitters.add(emitter);
+            while (userEmitters.size() > maxPerUser) {
+                evicted.add(userEmitters.remove(0));
+            }
+            return userEmitters;
+        });
+        evicted.forEach(SseEmitter::complete);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(new UnreadCountResponse(unreadCount)));
+        } catch (IOException e) {
+            remove(userId, emitter);
+        }
+        return emitter;
+    }
+
+    /**
+     * Whether the user may have an open stream, on this node or (with Redis) any other.
+     */
+    public boolean isWatched(Long userId) {
+        return subscribed || emitters.containsKey(userId);
+    }
+
+    /**
+     * Sends the user's new count to their streams on every node.
+     */
+    public void publish(Long userId, long unreadCount) {
+        if (subscribed && redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(CHANGED_CHANNEL, userId + ":" + unreadCount);
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to broadcast unread count for user {}: {}", userId, e.getMessage());
+            }
+        }
+        send(userId, unreadCount);
+    }
+
+    /**
+     * Comment line on every open stream, so idle connections aren't dropped by proxies.
+     */
+    public void heartbeat() {
+        emitters.forEach((userId, userEmitters) -> userEmitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }));
+    }
+
+    void send(Long userId, long unreadCount) {
+        List<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(new UnreadCountResponse(unreadCount)));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,228 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.repository.notification.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-user unread notification counts, so the badge doesn't COUNT the inbox on every poll.
+ *
+ * With notification.unread-counter.enabled the count is cached in Redis (notification:unread:{userId})
+ * the first time it is read and then adjusted in place: +1 for a new notification, -1 when one is read
+ * or deleted unread, 0 when all are read or deleted (see UnreadCountChangedEvent). A missing counter is
+ * not created by an adjustment; the next read loads it. While a read counts the inbox, adjustments go
+ * to a short-lived pending key (notification:unread-pending:{userId}) that the load folds in, so a
+ * change committed during the count isn't lost (one whose event lands as the count starts may be
+ * counted twice until reconciled). Counters expire after
+ * notification.unread-counter.ttl-ms and reconcile() recounts the ones cached longest ago, which fixes
+ * drift from notifications removed without an event (e.g. with their recipe). A change committed while
+ * its user is being recounted can leave the counter off by one until the next pass.
+ *
+ * Without the flag every read counts the inbox.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    static final String KEY_PREFIX = "notification:unread:";
+    // userId -> when the counter was loaded or last reconciled
+    static final String CACHED_USERS_KEY = "notification:unread-cached";
+    // Deltas received while a counter is being loaded
+    static final String PENDING_PREFIX = "notification:unread-pending:";
+
+    // Adds ARGV[1] to an existing counter (KEYS[1]), never going below zero; without a counter adds it
+    // to the pending deltas (KEYS[2]) of a load in progress, if any, and returns -1
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('exists', KEYS[1]) == 0 then
+            if redis.call('exists', KEYS[2]) == 1 then
+                redis.call('incrby', KEYS[2], ARGV[1])
+            end
+            return -1
+        end
+        local count = redis.call('incrby', KEYS[1], ARGV[1])
+        if count < 0 then
+            redis.call('incrby', KEYS[1], -count)
+            count = 0
+        end
+        return count
+        """, Long.class);
+
+    // Stores the counted ARGV[1] plus the pending deltas (KEYS[2]) as the counter (KEYS[1]) for ARGV[2] ms
+    // unless another load or a clear created it first; returns the counter's value
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+        local existing = redis.call('get', KEYS[1])
+        if existing then
+            return tonumber(existing)
+        end
+        local count = tonumber(ARGV[1]) + tonumber(redis.call('get', KEYS[2]) or '0')
+        if count < 0 then
+            count = 0
+        end
+        redis.call('set', KEYS[1], count, 'PX', ARGV[2])
+        redis.call('del', KEYS[2])
+        return count
+        """, Long.class);
+
+    // Overwrites an existing counter keeping its expiry; returns 0 if there is no counter
+    private static final DefaultRedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        local ttl = redis.call('pttl', KEYS[1])
+        if ttl <= 0 then
+            return 0
+        end
+        redis.call('set', KEYS[1], ARGV[1], 'PX', ttl)
+        return 1
+        """, Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCountStream unreadCountStream;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Value("${notification.unread-counter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${notification.unread-counter.ttl-ms:86400000}")
+    private long ttlMillis;
+
+    @Value("${notification.unread-counter.load-ttl-ms:10000}")
+    private long loadTtlMillis;
+
+    @Value("${notification.unread-counter.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        hitCounter = Counter.builder("notification.unread.cache")
+                .description("Unread count reads, by whether the cached counter was used")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("notification.unread.cache")
+                .description("Unread count reads, by whether the cached counter was used")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public long get(Long userId) {
+        if (!useRedis()) {
+            return notificationRepository.countUnreadByRecipientId(userId);
+        }
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (cached != null) {
+                hitCounter.increment();
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read unread counter for user {}: {}", userId, e.getMessage());
+            return notificationRepository.countUnreadByRecipientId(userId);
+        }
+
+        missCounter.increment();
+        String pendingKey = PENDING_PREFIX + userId;
+        try {
+            // Collect adjustments from here on; a concurrent load already collecting shares its key
+            redisTemplate.opsForValue().setIfAbsent(pendingKey, "0", Duration.ofMillis(loadTtlMillis));
+        } catch (Exception e) {
+            log.warn("Failed to start loading unread counter for user {}: {}", userId, e.getMessage());
+            return notificationRepository.countUnreadByRecipientId(userId);
+        }
+        long count = notificationRepository.countUnreadByRecipientId(userId);
+        try {
+            Long loaded = redisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + userId, pendingKey),
+                    String.valueOf(count), String.valueOf(ttlMillis));
+            redisTemplate.opsForZSet().add(CACHED_USERS_KEY, userId.toString(), System.currentTimeMillis());
+            return loaded != null ? loaded : count;
+        } catch (Exception e) {
+            log.warn("Failed to cache unread counter for user {}: {}", userId, e.getMessage());
+            return count;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        Long userId = event.recipientId();
+        if (useRedis()) {
+            try {
+                long count = event.cleared() ? clear(userId) : adjust(userId, event.delta());
+                // Without a counter count directly; loading one here would fold this change in twice
+                unreadCountStream.publish(userId,
+                        count >= 0 ? count : notificationRepository.countUnreadByRecipientId(userId));
+            } catch (Exception e) {
+                log.warn("Failed to update unread counter for user {}: {}", userId, e.getMessage());
+            }
+        } else if (unreadCountStream.isWatched(userId)) {
+            unreadCountStream.publish(userId, event.cleared() ? 0 : get(userId));
+        }
+    }
+
+    /**
+     * Recounts up to reconcile-batch-size counters, those cached longest ago first, and forgets the
+     * ones that expired. Returns how many were recounted.
+     */
+    public int reconcile() {
+        if (!useRedis()) {
+            return 0;
+        }
+        Set<String> members = redisTemplate.opsForZSet().range(CACHED_USERS_KEY, 0, reconcileBatchSize - 1);
+        if (members == null || members.isEmpty()) {
+            return 0;
+        }
+        List<Long> userIds = members.stream().map(Long::valueOf).toList();
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByRecipientIdIn(userIds)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+
+        int reconciled = 0;
+        long now = System.currentTimeMillis();
+        for (Long userId : userIds) {
+            String count = String.valueOf(counts.getOrDefault(userId, 0L));
+            Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(KEY_PREFIX + userId), count);
+            if (replaced != null && replaced == 1) {
+                redisTemplate.opsForZSet().add(CACHED_USERS_KEY, userId.toString(), now);
+                reconciled++;
+            } else {
+                redisTemplate.opsForZSet().remove(CACHED_USERS_KEY, userId.toString());
+            }
+        }
+        log.debug("Reconciled {} unread counters, {} expired", reconciled, userIds.size() - reconciled);
+        return reconciled;
+    }
+
+    private long adjust(Long userId, int delta) {
+        Long count = redisTemplate.execute(ADJUST_SCRIPT, List.of(KEY_PREFIX + userId, PENDING_PREFIX + userId),
+                String.valueOf(delta));
+        return count != null ? count : -1;
+    }
+
+    private long clear(Long userId) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + userId, "0", Duration.ofMillis(ttlMillis));
+        redisTemplate.opsForZSet().add(CACHED_USERS_KEY, userId.toString(), System.currentTimeMillis());
+        return 0;
+    }
+
+    private boolean useRedis() {
+        return enabled && redisTemplate != null;
+    }
+}
@@ -21,10 +21,12 @@ import com.cookstemma.cookstemma.repository.recipe.SavedRecipeRepository;
 import com.cookstemma.cookstemma.repository.log_post.SavedLogRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.security.UserPrincipal;
+import com.cookstemma.cookstemma.security.UserPrincipalChangedEvent;
 import com.cookstemma.cookstemma.util.LocaleUtils;
 import com.cookstemma.cookstemma.util.UsernameUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -52,6 +54,7 @@ public class UserService {
     private final SavedLogRepository savedLogRepository;
     private final CookingDnaService cookingDnaService;
     private final TranslationEventService translationEventService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${file.upload.url-prefix}")
     private String urlPrefix;
@@ -141,6 +144,8 @@ public class UserService {
                     throw new IllegalArgumentException("Username is already taken");
                 }
                 user.setUsername(newUsername);
+                // Cached principals and claim-carrying tokens still hold the old username
+                eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getPublicId()));
             }
         }
 
@@ -298,6 +303,8 @@ public class UserService {
 
         // Soft-delete user's images (same schedule as user)
         imageService.softDeleteAllByUploader(user.getId(), now, scheduledDeletion);
+
+        eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getPublicId()));
     }
 
     /**
@@ -314,6 +321,8 @@ public class UserService {
 
             // Restore user's soft-deleted images
             imageService.restoreAllByUploader(user.getId());
+
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getPublicId()));
         }
     }
 
@@ -334,6 +343,7 @@ public class UserService {
 
             // Then delete user (other data handled by cascade)
             userRepository.delete(user);
+            eventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getPublicId()));
         }
     }
 
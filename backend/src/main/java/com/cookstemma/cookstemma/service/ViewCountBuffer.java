@@ -0,0 +1,378 @@
+package com.cookstemma.cookstemma.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Buffers recipe / log post detail views in memory and writes them in batches.
+ *
+ * Detail reads used to UPDATE the row on every request, which serialized concurrent viewers
+ * of a popular recipe on its row lock. Views are now counted in a LongAdder per entity id and
+ * flushed periodically (see ViewCountScheduler) with one UPDATE ... FROM (VALUES ...) per chunk,
+ * plus a final flush on graceful shutdown.
+ *
+ * With views.buffer.redis-aggregation.enabled, each node HINCRBYs its deltas into a shared
+ * Redis hash and whichever node renames the hash first writes the combined deltas, so the
+ * database sees one batch per interval regardless of the number of nodes.
+ *
+ * Chunks commit one by one, so a failed write only keeps the chunks that weren't written: they go
+ * back into the buffer, and written ids are removed from the Redis draining hash as each chunk
+ * commits. Nodes keep a heartbeat key; draining hashes of nodes whose heartbeat expired (crashed
+ * mid-flush) are merged back into the shared hash by the next node that flushes.
+ * View counts are analytics: a crash loses at most one interval of views.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    enum Target {
+        RECIPE("recipes", "recipe"),
+        LOG_POST("log_posts", "log_post");
+
+        private final String table;
+        private final String tag;
+
+        Target(String table, String tag) {
+            this.table = table;
+            this.tag = tag;
+        }
+    }
+
+    // Rows per UPDATE statement (two bind parameters per row)
+    static final int FLUSH_CHUNK_SIZE = 1000;
+
+    private static final String PENDING_KEY_PREFIX = "views:pending:";
+    private static final String DRAINING_KEY_PREFIX = "views:draining:";
+    private static final String NODE_KEY_PREFIX = "views:node:";
+
+    // Merges a dead node's draining hash (KEYS[1]) back into the shared hash (KEYS[2]) unless the
+    // node's heartbeat (KEYS[3]) came back; returns the number of ids moved
+    private static final DefaultRedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('exists', KEYS[3]) == 1 then
+            return 0
+        end
+        local fields = redis.call('hgetall', KEYS[1])
+        for i = 1, #fields, 2 do
+            redis.call('hincrby', KEYS[2], fields[i], fields[i + 1])
+        end
+        redis.call('del', KEYS[1])
+        return #fields / 2
+        """, Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, String> redisTemplate;
+
+    // Distinct ids buffered per target; views of further ids are dropped until the next flush
+    @Value("${views.buffer.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${views.buffer.redis-aggregation.enabled:false}")
+    private boolean redisAggregationEnabled;
+
+    // A node that hasn't flushed for this long is considered dead and its draining hashes reclaimed
+    @Value("${views.buffer.redis-aggregation.node-ttl-ms:120000}")
+    private long nodeTtlMillis;
+
+    // Identifies this node's drain key so a failed DB write can be retried by the same node
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Target, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(Map.of(
+            Target.RECIPE, new ConcurrentHashMap<>(),
+            Target.LOG_POST, new ConcurrentHashMap<>()));
+    private final Map<Target, Counter> droppedCounters = new EnumMap<>(Target.class);
+    private final Map<Target, Counter> flushedCounters = new EnumMap<>(Target.class);
+
+    private volatile long lastFlushCompletedAtMillis = System.currentTimeMillis();
+
+    @PostConstruct
+    void registerMetrics() {
+        for (Target target : Target.values()) {
+            Gauge.builder("views.buffer.size", buffers.get(target), Map::size)
+                    .description("Distinct entities with buffered views")
+                    .tag("type", target.tag)
+                    .register(meterRegistry);
+            droppedCounters.put(target, Counter.builder("views.buffer.dropped")
+                    .description("Views dropped because the buffer was full")
+                    .tag("type", target.tag)
+                    .register(meterRegistry));
+            flushedCounters.put(target, Counter.builder("views.buffer.flushed")
+                    .description("Views written to the database")
+                    .tag("type", target.tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("views.buffer.flush.lag", this, ViewCountBuffer::getFlushLagSeconds)
+                .description("Seconds since the last successful flush")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void recordRecipeView(Long recipeId) {
+        record(Target.RECIPE, recipeId);
+    }
+
+    public void recordLogPostView(Long logPostId) {
+        record(Target.LOG_POST, logPostId);
+    }
+
+    public double getFlushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushCompletedAtMillis) / 1000.0;
+    }
+
+    private void record(Target target, Long id) {
+        if (id == null) {
+            return;
+        }
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+
+        LongAdder adder = buffer.get(id);
+        if (adder == null) {
+            if (buffer.size() >= maxEntries) {
+                droppedCounters.get(target).increment();
+                return;
+            }
+            adder = buffer.computeIfAbsent(id, key -> new LongAdder());
+        }
+        adder.increment();
+
+        // A flush may have evicted this adder between the lookup and the increment
+        if (buffer.get(id) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned != 0) {
+                buffer.computeIfAbsent(id, key -> new LongAdder()).add(orphaned);
+            }
+        }
+    }
+
+    /**
+     * Write buffered views to the database. Called by the scheduler and on shutdown.
+     * Each chunk commits on its own.
+     */
+    public synchronized void flush() {
+        boolean succeeded = true;
+        if (useRedis()) {
+            heartbeat();
+        }
+        for (Target target : Target.values()) {
+            try {
+                flushTarget(target);
+            } catch (Exception e) {
+                succeeded = false;
+                log.warn("View count flush for {} failed: {}", target.table, e.getMessage());
+            }
+        }
+        if (succeeded) {
+            lastFlushCompletedAtMillis = System.currentTimeMillis();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        log.info("Flushing buffered view counts before shutdown");
+        flush();
+    }
+
+    private void flushTarget(Target target) {
+        Map<Long, Long> deltas = drain(target);
+
+        if (useRedis()) {
+            try {
+                pushToRedis(target, deltas);
+            } catch (Exception e) {
+                log.warn("Redis view count push failed, writing {} directly: {}", target.table, e.getMessage());
+                writeOrRebuffer(target, deltas);
+                return;
+            }
+            reclaimOrphans(target);
+            flushFromRedis(target);
+            return;
+        }
+
+        writeOrRebuffer(target, deltas);
+    }
+
+    private Map<Long, Long> drain(Target target) {
+        ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : buffer.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else {
+                // Idle since the last flush: evict so the map only holds recently viewed ids
+                buffer.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+            }
+        }
+        return deltas;
+    }
+
+    private void writeOrRebuffer(Target target, Map<Long, Long> deltas) {
+        Map<Long, Long> unwritten = new HashMap<>(deltas);
+        try {
+            write(target, deltas, ids -> ids.forEach(unwritten::remove));
+        } catch (RuntimeException e) {
+            // Chunks written before the failure are committed; only the rest is kept
+            ConcurrentHashMap<Long, LongAdder> buffer = buffers.get(target);
+            unwritten.forEach((id, delta) -> buffer.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+            throw e;
+        }
+    }
+
+    /**
+     * Write deltas chunk by chunk, calling written with each chunk's ids once it is committed.
+     * Rows go in id order, so nodes flushing overlapping ids take the chunks' locks in the same
+     * order instead of deadlocking.
+     */
+    private void write(Target target, Map<Long, Long> deltas, Consumer<List<Long>> written) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+
+            Object[] params = new Object[chunk.size() * 2];
+            long views = 0;
+            for (int i = 0; i < chunk.size(); i++) {
+                params[i * 2] = chunk.get(i).getKey();
+                params[i * 2 + 1] = chunk.get(i).getValue();
+                views += chunk.get(i).getValue();
+            }
+
+            jdbcTemplate.update(updateSql(target, chunk.size()), params);
+            flushedCounters.get(target).increment(views);
+            written.accept(chunk.stream().map(Map.Entry::getKey).toList());
+        }
+    }
+
+    static String updateSql(Target target, int rows) {
+        StringBuilder values = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            values.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+        }
+        return "UPDATE " + target.table + " t"
+                + " SET view_count = COALESCE(t.view_count, 0) + v.delta"
+                + " FROM (VALUES " + values + ") AS v(id, delta)"
+                + " WHERE t.id = v.id";
+    }
+
+    private void pushToRedis(Target target, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] key = (PENDING_KEY_PREFIX + target.tag).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((id, delta) ->
+                    connection.hashCommands().hIncrBy(key, id.toString().getBytes(StandardCharsets.UTF_8), delta));
+            return null;
+        });
+    }
+
+    /**
+     * Claim the shared hash by renaming it (only one node wins each batch) and write it.
+     * Written ids leave the renamed hash chunk by chunk; if the write fails the rest is kept and
+     * retried by this node's next flush.
+     */
+    private void flushFromRedis(Target target) {
+        String pendingKey = PENDING_KEY_PREFIX + target.tag;
+        String drainingKey = DRAINING_KEY_PREFIX + target.tag + ":" + nodeId;
+
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(drainingKey))) {
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+                    return;
+                }
+                try {
+                    redisTemplate.rename(pendingKey, drainingKey);
+                } catch (Exception e) {
+                    // Another node claimed the batch first
+                    return;
+                }
+            }
+
+            Map<Long, Long> deltas = new HashMap<>();
+            redisTemplate.opsForHash().entries(drainingKey).forEach((field, value) ->
+                    deltas.put(Long.parseLong(field.toString()), Long.parseLong(value.toString())));
+
+            write(target, deltas, ids -> redisTemplate.opsForHash().delete(drainingKey,
+                    ids.stream().map(String::valueOf).toArray()));
+            redisTemplate.delete(drainingKey);
+        } catch (Exception e) {
+            log.warn("Redis view count flush for {} failed, will retry: {}", target.table, e.getMessage());
+        }
+    }
+
+    private void heartbeat() {
+        try {
+            redisTemplate.opsForValue().set(NODE_KEY_PREFIX + nodeId, "1", Duration.ofMillis(nodeTtlMillis));
+        } catch (Exception e) {
+            log.warn("View count heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Move draining hashes left behind by dead nodes back into the shared hash.
+     */
+    private void reclaimOrphans(Target target) {
+        String prefix = DRAINING_KEY_PREFIX + target.tag + ":";
+        List<String> orphans = new ArrayList<>();
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(100).build())) {
+            keys.forEachRemaining(key -> {
+                if (!key.equals(prefix + nodeId)) {
+                    orphans.add(key);
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Scanning draining view counts for {} failed: {}", target.table, e.getMessage());
+            return;
+        }
+
+        for (String key : orphans) {
+            String owner = key.substring(prefix.length());
+            try {
+                Long moved = redisTemplate.execute(RECLAIM_SCRIPT,
+                        List.of(key, PENDING_KEY_PREFIX + target.tag, NODE_KEY_PREFIX + owner));
+                if (moved != null && moved > 0) {
+                    log.info("Reclaimed {} buffered {} view counts of dead node {}", moved, target.tag, owner);
+                }
+            } catch (Exception e) {
+                log.warn("Reclaiming draining view counts {} failed: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private boolean useRedis() {
+        return redisAggregationEnabled && redisTemplate != null;
+    }
+}
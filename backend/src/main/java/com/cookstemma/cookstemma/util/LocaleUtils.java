@@ -1,6 +1,7 @@
 package com.cookstemma.cookstemma.util;
 
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Utility class for locale-based content resolution.
@@ -65,6 +66,13 @@ public final class LocaleUtils {
         return SHORT_TO_BCP47.getOrDefault(lower, lower + "-" + lower.toUpperCase());
     }
 
+    /**
+     * Language keys (e.g., "en", "ko") of all 20 supported languages.
+     */
+    public static Set<String> supportedLanguageKeys() {
+        return SHORT_TO_BCP47.keySet();
+    }
+
     /**
      * Get a localized value from a translations map.
      * Fallback order: requested locale → language-only match → default locale (en-US) → English variants → fallback value → first available → null.
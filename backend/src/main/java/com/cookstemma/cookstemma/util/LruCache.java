@@ -0,0 +1,54 @@
+package com.cookstemma.cookstemma.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.IntSupplier;
+
+/**
+ * Small in-memory cache that holds at most maxEntries entries, evicting the least recently used
+ * one when a put goes over. Thread-safe; every operation takes the cache's lock, so keep it to
+ * cheap lookups. The bound is read on each put, so it can come from an @Value field that is
+ * injected after the cache is created.
+ */
+public class LruCache<K, V> {
+
+    private final IntSupplier maxEntries;
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries.getAsInt();
+        }
+    };
+
+    public LruCache(IntSupplier maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes the entry only if it still maps to the given value.
+     */
+    public synchronized void remove(K key, V value) {
+        entries.remove(key, value);
+    }
+
+    public synchronized void removeIf(BiPredicate<? super K, ? super V> filter) {
+        entries.entrySet().removeIf(e -> filter.test(e.getKey(), e.getValue()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
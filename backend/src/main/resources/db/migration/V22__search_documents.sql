@@ -0,0 +1,71 @@
+-- V22: Denormalized search documents for unified search
+-- One row per searchable entity (recipe, log post, hashtag) holding a single
+-- normalized text column, so unified search hits one trigram index instead of
+-- OR-ing ten ILIKE/% predicates across three tables and their JSONB translations.
+
+-- Normalization shared by the backfill, the write-side projector and the query path:
+-- lowercase + collapse whitespace. Must stay in sync with SearchDocumentProjector.normalize().
+CREATE OR REPLACE FUNCTION search_normalize(t text) RETURNS text AS $$
+    SELECT lower(regexp_replace(btrim(t), '\s+', ' ', 'g'));
+$$ LANGUAGE SQL IMMUTABLE STRICT;
+
+CREATE TABLE search_documents (
+    id              BIGSERIAL PRIMARY KEY,
+    entity_type     VARCHAR(20) NOT NULL,  -- 'RECIPE', 'LOG_POST' or 'HASHTAG'
+    entity_id       BIGINT NOT NULL,
+    search_text     TEXT NOT NULL DEFAULT '',
+    is_public       BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    indexed_at      TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT uk_search_documents_entity UNIQUE (entity_type, entity_id)
+);
+
+COMMENT ON TABLE search_documents IS 'Denormalized, normalized search text per recipe/log/hashtag (maintained by SearchDocumentProjector)';
+
+-- Single trigram index serving both substring (LIKE) and word_similarity (<%) matching
+CREATE INDEX idx_search_documents_text_trgm
+    ON search_documents USING GIN (search_text gin_trgm_ops)
+    WHERE is_public = TRUE;
+
+CREATE INDEX idx_search_documents_type_created
+    ON search_documents (entity_type, created_at DESC)
+    WHERE is_public = TRUE;
+
+-- Reconciliation sweep picks up out-of-band writes (e.g. translator Lambda) by updated_at
+CREATE INDEX IF NOT EXISTS idx_recipes_updated_at ON recipes (updated_at);
+CREATE INDEX IF NOT EXISTS idx_log_posts_updated_at ON log_posts (updated_at);
+CREATE INDEX IF NOT EXISTS idx_foods_master_updated_at ON foods_master (updated_at);
+
+-- Backfill: recipes (title, description, translations, food name in all locales)
+INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at)
+SELECT 'RECIPE', r.id,
+       COALESCE(search_normalize(concat_ws(' ',
+           r.title, r.description,
+           jsonb_values_text(r.title_translations),
+           jsonb_values_text(r.description_translations),
+           jsonb_values_text(fm.name))), ''),
+       (r.deleted_at IS NULL AND COALESCE(r.is_private, FALSE) = FALSE),
+       r.created_at
+FROM recipes r
+LEFT JOIN foods_master fm ON fm.id = r.food_master_id;
+
+-- Backfill: log posts (title, content, translations, linked recipe title)
+INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at)
+SELECT 'LOG_POST', lp.id,
+       COALESCE(search_normalize(concat_ws(' ',
+           lp.title, lp.content,
+           jsonb_values_text(lp.title_translations),
+           jsonb_values_text(lp.content_translations),
+           r.title,
+           jsonb_values_text(r.title_translations))), ''),
+       (lp.deleted_at IS NULL AND COALESCE(lp.is_private, FALSE) = FALSE),
+       lp.created_at
+FROM log_posts lp
+LEFT JOIN recipe_logs rl ON rl.log_post_id = lp.id
+LEFT JOIN recipes r ON r.id = rl.recipe_id;
+
+-- Backfill: hashtags
+INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at)
+SELECT 'HASHTAG', h.id, COALESCE(search_normalize(h.name), ''), TRUE, h.created_at
+FROM hashtags h;
@@ -0,0 +1,38 @@
+-- V23: Per-recipe engagement stats for the popular / trending / mostForked sorts
+-- Those sorts used to GROUP BY all of recipes and recipe_logs JOIN log_posts on every request.
+-- recipe_stats is maintained incrementally by RecipeStatsService, so each sort walks one index.
+
+CREATE TABLE recipe_stats (
+    recipe_id           BIGINT PRIMARY KEY REFERENCES recipes(id) ON DELETE CASCADE,
+    variant_count       INTEGER NOT NULL DEFAULT 0,   -- live variants with this recipe as root
+    log_count           INTEGER NOT NULL DEFAULT 0,   -- live logs of this recipe
+    saved_count         INTEGER NOT NULL DEFAULT 0,
+    view_count          INTEGER NOT NULL DEFAULT 0,   -- synced from recipes.view_count
+    popularity_score    BIGINT GENERATED ALWAYS AS
+                            (view_count + saved_count * 3 + variant_count * 5 + log_count * 2) STORED,
+    trending_score      DOUBLE PRECISION NOT NULL DEFAULT 0,  -- new variants + logs, exponentially decayed
+    trending_decayed_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    updated_at          TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE recipe_stats IS 'Incrementally maintained sort keys per recipe (see RecipeStatsService)';
+
+-- One index per sort; recipe_id breaks ties (ids grow with created_at)
+CREATE INDEX idx_recipe_stats_popularity ON recipe_stats (popularity_score DESC, recipe_id DESC);
+CREATE INDEX idx_recipe_stats_trending ON recipe_stats (trending_score DESC, recipe_id DESC);
+CREATE INDEX idx_recipe_stats_variant_count ON recipe_stats (variant_count DESC, recipe_id DESC);
+
+-- Backfill. Trending starts from the last 7 days of activity (the previous window).
+INSERT INTO recipe_stats (recipe_id, variant_count, log_count, saved_count, view_count, trending_score)
+SELECT r.id,
+       (SELECT COUNT(*) FROM recipes v WHERE v.root_recipe_id = r.id AND v.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM recipe_logs rl JOIN log_posts lp ON lp.id = rl.log_post_id
+        WHERE rl.recipe_id = r.id AND lp.deleted_at IS NULL),
+       r.saved_count,
+       r.view_count,
+       (SELECT COUNT(*) FROM recipes v WHERE v.root_recipe_id = r.id AND v.deleted_at IS NULL
+        AND v.created_at > NOW() - INTERVAL '7 days')
+       + (SELECT COUNT(*) FROM recipe_logs rl JOIN log_posts lp ON lp.id = rl.log_post_id
+          WHERE rl.recipe_id = r.id AND lp.deleted_at IS NULL
+          AND lp.created_at > NOW() - INTERVAL '7 days')
+FROM recipes r;
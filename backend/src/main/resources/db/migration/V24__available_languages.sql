@@ -0,0 +1,31 @@
+-- V24: Translation availability as an indexed array instead of per-row jsonb_object_keys scans
+-- Feed, hashtag and sort queries filtered with EXISTS (SELECT 1 FROM jsonb_object_keys(title_translations) k
+-- WHERE k LIKE 'ko%'), which expands the jsonb of every candidate row and can't use an index.
+-- available_languages holds the 2-letter language keys a row can be shown in, and is a generated column
+-- so every write path (app, translation Lambda, admin SQL) keeps it current. Adding it backfills existing rows.
+
+-- Distinct 2-letter language keys of a translations object ("ko-KR" and "ko" both give "ko"),
+-- plus the language of original_language when given. Must stay IMMUTABLE for the generated columns.
+CREATE OR REPLACE FUNCTION translation_languages(translations jsonb, original_language text) RETURNS text[] AS $$
+    SELECT COALESCE(array_agg(DISTINCT lang ORDER BY lang), '{}')
+    FROM (
+        SELECT lower(split_part(replace(k, '_', '-'), '-', 1)) AS lang
+        FROM jsonb_object_keys(CASE WHEN jsonb_typeof(translations) = 'object' THEN translations ELSE '{}'::jsonb END) k
+        UNION
+        SELECT lower(split_part(replace(original_language, '_', '-'), '-', 1))
+        WHERE original_language IS NOT NULL AND original_language <> ''
+    ) langs
+$$ LANGUAGE SQL IMMUTABLE;
+
+-- Recipes are listed once their title is translated
+ALTER TABLE recipes ADD COLUMN available_languages TEXT[]
+    GENERATED ALWAYS AS (translation_languages(title_translations, NULL)) STORED;
+
+-- Logs are also listed in the language they were written in
+ALTER TABLE log_posts ADD COLUMN available_languages TEXT[]
+    GENERATED ALWAYS AS (translation_languages(title_translations, original_language)) STORED;
+
+CREATE INDEX idx_recipes_available_languages ON recipes USING GIN (available_languages)
+    WHERE deleted_at IS NULL;
+CREATE INDEX idx_log_posts_available_languages ON log_posts USING GIN (available_languages)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,26 @@
+-- V25: Durable queue for image variant generation
+-- Variants used to be generated on an in-memory executor (queue capacity 50) after a fixed sleep,
+-- so work was lost on rejection or restart. Jobs are now rows claimed by ImageJobWorker with
+-- SELECT ... FOR UPDATE SKIP LOCKED; finished jobs are deleted, failed ones kept for inspection.
+
+CREATE TABLE image_jobs (
+    id           BIGSERIAL PRIMARY KEY,
+    image_id     BIGINT NOT NULL REFERENCES images(id) ON DELETE CASCADE,
+    status       VARCHAR(20) NOT NULL DEFAULT 'PENDING',  -- PENDING, PROCESSING, FAILED
+    attempts     INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),      -- not claimed before this (retry backoff)
+    locked_at    TIMESTAMPTZ,                             -- when a worker claimed it
+    last_error   TEXT,
+    created_at   TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE image_jobs IS 'Pending image variant generation (see ImageJobQueue)';
+
+-- At most one open job per image; enqueueing again is a no-op
+CREATE UNIQUE INDEX uq_image_jobs_open ON image_jobs (image_id) WHERE status IN ('PENDING', 'PROCESSING');
+
+-- Claim order
+CREATE INDEX idx_image_jobs_pending ON image_jobs (available_at, id) WHERE status = 'PENDING';
+
+-- Stale claims of crashed workers
+CREATE INDEX idx_image_jobs_processing ON image_jobs (locked_at) WHERE status = 'PROCESSING';
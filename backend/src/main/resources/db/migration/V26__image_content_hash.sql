@@ -0,0 +1,6 @@
+-- V26: SHA-256 of the uploaded bytes, computed while the upload is staged (ImageUploadPipeline).
+-- Width, height, file_size and format of originals are now also filled at upload time instead of
+-- after variant generation. Existing rows keep NULL until they are re-uploaded.
+ALTER TABLE images ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+COMMENT ON COLUMN images.content_hash IS 'Hex SHA-256 of the original upload (NULL for variants and older rows)';
@@ -0,0 +1,18 @@
+-- V27: Content-addressed image deduplication
+-- An upload whose bytes (content_hash) match an ACTIVE original reuses that original's S3 object:
+-- the new row gets the same stored_filename, and variant generation copies the existing variant rows
+-- instead of re-encoding. Rows sharing a stored_filename are the object's references, so S3 objects
+-- are deleted only once no row points at them (idx_images_stored_filename keeps that count cheap).
+
+CREATE INDEX IF NOT EXISTS idx_images_content_hash ON images(content_hash)
+    WHERE content_hash IS NOT NULL AND original_image_id IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_images_stored_filename ON images(stored_filename);
+
+-- Optional 64-bit difference hash (image.dedup.perceptual-hash) to also catch re-encoded copies
+ALTER TABLE images ADD COLUMN IF NOT EXISTS perceptual_hash BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_images_perceptual_hash ON images(perceptual_hash)
+    WHERE perceptual_hash IS NOT NULL AND original_image_id IS NULL;
+
+COMMENT ON COLUMN images.perceptual_hash IS 'dHash of the original upload when image.dedup.perceptual-hash is enabled';
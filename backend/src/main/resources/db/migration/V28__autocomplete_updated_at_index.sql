@@ -0,0 +1,5 @@
+-- V28: Delta autocomplete syncs
+-- AutocompleteSyncService pushes only the items changed since its last run to Redis, so it looks
+-- them up by updated_at (maintained by trg_autocomplete_items_updated_at).
+
+CREATE INDEX IF NOT EXISTS idx_autocomplete_items_updated_at ON autocomplete_items(updated_at);
@@ -0,0 +1,28 @@
+-- V29: Notification push outbox
+-- Pushes used to be sent from an @Async call made before the notification's transaction committed,
+-- one FCM multicast and token lookup per notification. Notifications now queue an outbox row in the
+-- same transaction; NotificationDispatcher claims rows with SELECT ... FOR UPDATE SKIP LOCKED and
+-- sends them in batches. Delivered rows are deleted, rows that used up their attempts kept as FAILED.
+
+CREATE TABLE notification_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    notification_id BIGINT NOT NULL REFERENCES notifications(id) ON DELETE CASCADE,
+    recipient_id    BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',  -- PENDING, PROCESSING, FAILED
+    attempts        INTEGER NOT NULL DEFAULT 0,
+    available_at    TIMESTAMPTZ NOT NULL DEFAULT NOW(),      -- not claimed before this (retry backoff)
+    locked_at       TIMESTAMPTZ,                             -- when a dispatcher claimed it
+    last_error      TEXT,
+    created_at      TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+COMMENT ON TABLE notification_outbox IS 'Pushes waiting to be sent (see NotificationOutbox)';
+
+-- Claim order
+CREATE INDEX idx_notification_outbox_pending ON notification_outbox (available_at, id) WHERE status = 'PENDING';
+
+-- Stale claims of crashed dispatchers
+CREATE INDEX idx_notification_outbox_processing ON notification_outbox (locked_at) WHERE status = 'PROCESSING';
+
+-- Cascade from notifications
+CREATE INDEX idx_notification_outbox_notification ON notification_outbox (notification_id);
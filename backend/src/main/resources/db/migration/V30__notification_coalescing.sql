@@ -0,0 +1,14 @@
+-- V30: Coalesced notifications
+-- Repeated events of one type about the same target (e.g. cooks of one recipe) fold into the
+-- recipient's latest unread notification for it while that was touched within
+-- notification.coalesce.window-ms: actor_count goes up, sender/text become the latest event's and
+-- created_at moves to the latest event so the row returns to the top of the inbox.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS group_key VARCHAR(100);
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS actor_count INTEGER NOT NULL DEFAULT 1;
+
+COMMENT ON COLUMN notifications.group_key IS 'Target events of the same type are coalesced on (e.g. recipe:42); NULL = never coalesced';
+COMMENT ON COLUMN notifications.actor_count IS 'Events folded into this notification';
+
+CREATE INDEX IF NOT EXISTS idx_notifications_coalesce ON notifications(recipient_id, type, group_key, created_at DESC)
+    WHERE is_read = FALSE AND group_key IS NOT NULL;
@@ -0,0 +1,18 @@
+-- V31: Leases for translation work claims
+-- Workers claim events through TranslationWorkQueue with SELECT ... FOR UPDATE SKIP LOCKED and hold
+-- them for a lease; events whose lease runs out are put back as a failed attempt. Completed locales
+-- are appended to completed_locales in place instead of rewriting the row.
+
+ALTER TABLE translation_events
+    ADD COLUMN IF NOT EXISTS locked_by VARCHAR(100),         -- worker holding the lease
+    ADD COLUMN IF NOT EXISTS lease_expires_at TIMESTAMPTZ;   -- re-queued after this unless renewed
+
+-- Claim order; retry_count is included so FAILED rows out of attempts are skipped in the index
+DROP INDEX IF EXISTS idx_translation_events_pending;
+CREATE INDEX idx_translation_events_pending ON translation_events (status, created_at)
+    INCLUDE (retry_count)
+    WHERE status IN ('PENDING', 'FAILED');
+
+-- Expired leases
+CREATE INDEX IF NOT EXISTS idx_translation_events_lease ON translation_events (lease_expires_at)
+    WHERE status = 'PROCESSING';
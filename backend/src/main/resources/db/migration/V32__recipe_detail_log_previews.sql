@@ -0,0 +1,6 @@
+-- V32: Newest logs of a recipe in index order
+-- The recipe detail page shows the newest few logs of a recipe (RecipeLogRepository#findLogPreviews).
+-- log_post_id follows creation order, so this index lets it stop after the first live rows instead of
+-- sorting every log of a popular recipe. Variant previews already use idx_recipes_variations.
+
+CREATE INDEX IF NOT EXISTS idx_recipe_logs_recipe_log_post ON recipe_logs (recipe_id, log_post_id DESC);
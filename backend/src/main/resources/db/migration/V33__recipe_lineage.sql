@@ -0,0 +1,33 @@
+-- V33: Closure table of the variant tree
+-- recipes only stores parent_recipe_id / root_recipe_id, so subtrees below the root needed
+-- recursive queries. recipe_lineage holds every (ancestor, descendant) pair with its distance,
+-- maintained by RecipeLineageService when recipes are created or deleted.
+
+CREATE TABLE recipe_lineage (
+    ancestor_id   BIGINT NOT NULL REFERENCES recipes(id) ON DELETE CASCADE,
+    descendant_id BIGINT NOT NULL REFERENCES recipes(id) ON DELETE CASCADE,
+    depth         INTEGER NOT NULL,   -- 0 = the recipe itself, 1 = direct variant, ...
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+COMMENT ON TABLE recipe_lineage IS 'Variant tree closure table (see RecipeLineageService)';
+
+-- Subtree pages (ancestor, depth, id keyset) and per-node child/descendant counts
+CREATE INDEX idx_recipe_lineage_subtree ON recipe_lineage (ancestor_id, depth, descendant_id);
+-- Copying a parent's ancestors to a new variant, removing a deleted recipe
+CREATE INDEX idx_recipe_lineage_descendant ON recipe_lineage (descendant_id);
+
+-- Backfill. Walks all recipes so live variants below a deleted recipe keep their full lineage,
+-- then keeps only rows of live descendants (deleted recipes have no rows, as at runtime).
+INSERT INTO recipe_lineage (ancestor_id, descendant_id, depth)
+WITH RECURSIVE lineage (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM recipes
+    UNION ALL
+    SELECT l.ancestor_id, r.id, l.depth + 1
+    FROM lineage l
+    JOIN recipes r ON r.parent_recipe_id = l.descendant_id
+)
+SELECT l.ancestor_id, l.descendant_id, l.depth
+FROM lineage l
+JOIN recipes d ON d.id = l.descendant_id
+WHERE d.deleted_at IS NULL;
@@ -0,0 +1,9 @@
+-- V34: CANCELLED status for superseded translation events
+-- Edits and forced re-translations used to cancel events by marking them FAILED, which left them
+-- claimable again while they still had attempts left. They now get their own CANCELLED status,
+-- which neither the claim query nor idx_translation_events_pending (PENDING/FAILED only) covers.
+
+UPDATE translation_events
+SET status = 'CANCELLED', locked_by = NULL, lease_expires_at = NULL
+WHERE status = 'FAILED'
+  AND last_error IN ('Cancelled due to content edit', 'Cancelled for re-translation');
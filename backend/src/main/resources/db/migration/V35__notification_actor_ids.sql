@@ -0,0 +1,11 @@
+-- V35: Distinct actors of coalesced notifications
+-- actor_count used to go up whenever the sender differed from the previous one, so A, B, A counted
+-- three people. The senders folded in are now kept so only a new one is counted. Existing rows
+-- only know their latest sender.
+
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS actor_ids JSONB NOT NULL DEFAULT '[]'::jsonb;
+
+UPDATE notifications SET actor_ids = jsonb_build_array(sender_id)
+WHERE sender_id IS NOT NULL AND group_key IS NOT NULL AND is_read = FALSE;
+
+COMMENT ON COLUMN notifications.actor_ids IS 'Distinct sender ids folded into this notification';
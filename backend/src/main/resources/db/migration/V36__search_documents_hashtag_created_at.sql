@@ -0,0 +1,10 @@
+-- V36: Hashtag search documents keep the hashtag's created_at
+-- SearchDocumentProjector used to index hashtags with created_at = NOW(), unlike the V22 backfill,
+-- so recency ordering put re-indexed hashtags first. Restore the hashtag's own timestamp.
+
+UPDATE search_documents sd
+SET created_at = h.created_at
+FROM hashtags h
+WHERE sd.entity_type = 'HASHTAG'
+  AND sd.entity_id = h.id
+  AND sd.created_at IS DISTINCT FROM h.created_at;
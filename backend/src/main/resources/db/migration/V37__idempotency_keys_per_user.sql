@@ -0,0 +1,8 @@
+-- V37: Idempotency keys are unique per user
+-- The key was globally UNIQUE, so a key already held by another user made IdempotencyStore's lock
+-- insert fail and the request wait for a response that belongs to someone else.
+
+ALTER TABLE idempotency_keys DROP CONSTRAINT IF EXISTS idempotency_keys_idempotency_key_key;
+
+ALTER TABLE idempotency_keys
+    ADD CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key);
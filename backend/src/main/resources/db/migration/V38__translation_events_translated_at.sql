@@ -0,0 +1,8 @@
+-- V38: When a translation event last recorded a translated locale
+-- The translator Lambda writes translations straight to the database, so the backend learns about
+-- them by polling this column (see TranslationCompletionWatcher) and drops cached recipe details.
+
+ALTER TABLE translation_events ADD COLUMN IF NOT EXISTS translated_at TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_translation_events_translated_at ON translation_events (translated_at)
+    WHERE translated_at IS NOT NULL;
@@ -0,0 +1,8 @@
+-- V39: Record which worker holds a claim on image_jobs and notification_outbox rows
+-- Completing or failing a row only applies while the worker still holds it, so a worker whose claim
+-- was released after the lock timeout can't delete or reschedule a row another worker has claimed
+-- since (see ClaimableQueue).
+
+ALTER TABLE image_jobs ADD COLUMN IF NOT EXISTS locked_by VARCHAR(100);         -- worker holding the claim
+
+ALTER TABLE notification_outbox ADD COLUMN IF NOT EXISTS locked_by VARCHAR(100); -- worker holding the claim
@@ -0,0 +1,97 @@
+package com.cookstemma.cookstemma.benchmark;
+
+import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteDto;
+import com.cookstemma.cookstemma.service.AutocompleteTrie;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Build time and per-keystroke lookup latency of AutocompleteTrie over synthetic Latin and Hangul
+ * names, with queries being every prefix (1-8 characters) of random names.
+ *
+ * Excluded from the regular test task. Run with:
+ *   ./gradlew benchmark --tests '*AutocompleteTrieBenchmarkTest'                         (100k names)
+ *   ./gradlew benchmark --tests '*AutocompleteTrieBenchmarkTest' -PbenchmarkRows=500000  (500k names)
+ */
+@Tag("benchmark")
+class AutocompleteTrieBenchmarkTest {
+
+    private static final int LOOKUPS = 1_000_000;
+    private static final String[] LATIN = {"chi", "cken", "cur", "ry", "bee", "f", "so", "up", "ri", "ce", "pas", "ta",
+            "sa", "lad", "to", "fu", "kim", "chee", "noo", "dle", " ", " "};
+    private static final String[] HANGUL = {"닭", "고", "기", "김", "치", "찌", "개", "된", "장", "국", "밥", "볶", "음", "비", "빔",
+            "떡", "볶", "이", " "};
+
+    @Test
+    void measureLookupLatency() {
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+        Random random = new Random(42);
+
+        for (String[] syllables : List.of(LATIN, HANGUL)) {
+            List<AutocompleteDto> items = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                items.add(AutocompleteDto.builder()
+                        .publicId(UUID.randomUUID())
+                        .name(name(random, syllables) + " " + i)
+                        .type("DISH")
+                        .score(random.nextDouble() * 100)
+                        .build());
+            }
+
+            long buildStart = System.nanoTime();
+            AutocompleteTrie trie = AutocompleteTrie.build(items, 10);
+            long buildNanos = System.nanoTime() - buildStart;
+
+            String[] queries = new String[10_000];
+            for (int i = 0; i < queries.length; i++) {
+                String name = items.get(random.nextInt(rows)).name();
+                queries[i] = name.substring(0, Math.min(name.length(), 1 + random.nextInt(8)));
+            }
+
+            // Warm up
+            for (int i = 0; i < LOOKUPS / 10; i++) {
+                trie.search(queries[i % queries.length], 10);
+            }
+            long[] samples = new long[LOOKUPS];
+            int found = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                long start = System.nanoTime();
+                found += trie.search(queries[i % queries.length], 10).size();
+                samples[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(samples);
+
+            System.out.printf("[benchmark] autocomplete trie %-6s names=%,d  build=%,dms  lookups=%,d  mean=%5.2fus  p50=%5.2fus  p99=%5.2fus  max=%8.1fus%n",
+                    syllables == LATIN ? "latin" : "hangul", rows, buildNanos / 1_000_000, LOOKUPS,
+                    Arrays.stream(samples).average().orElse(0) / 1_000.0,
+                    percentile(samples, 50) / 1_000.0,
+                    percentile(samples, 99) / 1_000.0,
+                    samples[samples.length - 1] / 1_000.0);
+
+            // Every query is a prefix of an indexed name
+            assertThat(found).isGreaterThanOrEqualTo(LOOKUPS);
+        }
+    }
+
+    private static String name(Random random, String[] syllables) {
+        StringBuilder name = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            name.append(syllables[random.nextInt(syllables.length)]);
+        }
+        return name.toString().strip();
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,165 @@
+package com.cookstemma.cookstemma.benchmark;
+
+import com.cookstemma.cookstemma.domain.enums.ImageVariant;
+import com.cookstemma.cookstemma.service.ImageVariantPipeline;
+import dev.matrixlab.webp4j.WebPCodec;
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and peak heap of variant generation for 12MP JPEG and PNG originals: the previous
+ * approach (full decode, every variant resized from the original, serial encode) against
+ * ImageVariantPipeline, both on 4 worker threads like the image processing executor.
+ * Uploads are discarded, so this measures decode / resize / encode only.
+ *
+ * Excluded from the regular test task. Run with:
+ *   ./gradlew benchmark --tests '*ImageVariantPipelineBenchmarkTest'                        (24 images per format)
+ *   ./gradlew benchmark --tests '*ImageVariantPipelineBenchmarkTest' -PbenchmarkImages=100  (100 images per format)
+ */
+@Tag("benchmark")
+class ImageVariantPipelineBenchmarkTest {
+
+    private static final int WIDTH = 4000;
+    private static final int HEIGHT = 3000;
+    private static final int WORKERS = 4;
+    private static final List<ImageVariant> TARGETS = Arrays.stream(ImageVariant.values())
+            .filter(ImageVariant::shouldResize)
+            .toList();
+
+    private static byte[] jpeg;
+    private static byte[] png;
+
+    @FunctionalInterface
+    private interface Job {
+        int run(byte[] source) throws Exception;
+    }
+
+    @BeforeAll
+    static void createFixtures() throws IOException {
+        // Smooth gradients with some noise, so the codecs see photo-like content
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int r = (x * 255 / WIDTH + random.nextInt(16)) & 0xFF;
+                int g = (y * 255 / HEIGHT + random.nextInt(16)) & 0xFF;
+                int b = ((x + y) * 255 / (WIDTH + HEIGHT) + random.nextInt(16)) & 0xFF;
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        jpeg = write(image, "jpg");
+        png = write(image, "png");
+    }
+
+    @Test
+    void compareLegacyAndPipeline() throws Exception {
+        int images = Integer.getInteger("benchmark.images", 24);
+        ImageVariantPipeline pipeline = new ImageVariantPipeline(64, 0);
+
+        for (String format : List.of("jpeg", "png")) {
+            byte[] source = format.equals("jpeg") ? jpeg : png;
+            report("legacy", format, source, images, measure(this::legacy, source, images));
+            report("pipeline", format, source, images, measure(src -> pipeline(pipeline, src), source, images));
+        }
+
+        assertThat(pipeline(pipeline, jpeg)).isEqualTo(TARGETS.size());
+    }
+
+    private int legacy(byte[] source) throws IOException {
+        BufferedImage original = ImageIO.read(new ByteArrayInputStream(source));
+        int generated = 0;
+        for (ImageVariant variant : TARGETS) {
+            double scale = Math.min((double) variant.getMaxDimension() / original.getWidth(),
+                    (double) variant.getMaxDimension() / original.getHeight());
+            BufferedImage resized = Thumbnails.of(original)
+                    .size((int) (original.getWidth() * scale), (int) (original.getHeight() * scale))
+                    .asBufferedImage();
+            if (encode(resized, variant.getQuality()).length > 0) {
+                generated++;
+            }
+        }
+        return generated;
+    }
+
+    private int pipeline(ImageVariantPipeline pipeline, byte[] source) throws Exception {
+        ImageVariantPipeline.Result result = pipeline.process(new ByteArrayInputStream(source), TARGETS, encoded -> { });
+        return result.variants().size();
+    }
+
+    private long[] measure(Job job, byte[] source, int images) throws Exception {
+        // Warm up, then measure from a settled heap
+        for (int i = 0; i < WORKERS; i++) {
+            job.run(source);
+        }
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        ExecutorService workers = Executors.newFixedThreadPool(WORKERS);
+        AtomicLong variants = new AtomicLong();
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < images; i++) {
+                futures.add(workers.submit(() -> {
+                    variants.addAndGet(job.run(source));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        assertThat(variants.get()).isEqualTo((long) images * TARGETS.size());
+        return new long[]{elapsed, peakHeap};
+    }
+
+    private void report(String label, String format, byte[] source, int images, long[] measured) {
+        double seconds = measured[0] / 1_000_000_000.0;
+        System.out.printf("[benchmark] image variants %-8s %-4s %dx%d (%,d KB) images=%d  throughput=%5.2f images/s  peakHeap=%,d MB%n",
+                label, format, WIDTH, HEIGHT, source.length / 1024, images,
+                images / seconds, measured[1] / (1024 * 1024));
+    }
+
+    private static byte[] encode(BufferedImage image, int quality) throws IOException {
+        try {
+            return WebPCodec.encodeImage(image, (float) quality);
+        } catch (UnsatisfiedLinkError e) {
+            return write(image, "jpg");
+        }
+    }
+
+    private static byte[] write(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,111 @@
+package com.cookstemma.cookstemma.benchmark;
+
+import com.cookstemma.cookstemma.filter.LocalRateLimitBucketStore;
+import com.cookstemma.cookstemma.filter.RateLimitBucketStore;
+import com.cookstemma.cookstemma.filter.RateLimitFilter;
+import com.cookstemma.cookstemma.filter.RedisRateLimitBucketStore;
+import com.cookstemma.cookstemma.security.JwtTokenProvider;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.lettuce.core.RedisClient;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-request overhead of RateLimitFilter on a rate-limited GET endpoint, with in-memory buckets
+ * and with Redis-backed buckets (against a Redis container), compared to no filter.
+ *
+ * Excluded from the regular test task. Run with:
+ *   ./gradlew benchmark --tests '*RateLimitFilterBenchmarkTest'                          (100k requests)
+ *   ./gradlew benchmark --tests '*RateLimitFilterBenchmarkTest' -PbenchmarkRows=1000000  (1M requests)
+ */
+@Tag("benchmark")
+class RateLimitFilterBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 10_000;
+    private static final int CLIENTS = 1_000;
+    private static final String PATH = "/api/v1/search";
+    private static final String SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1wYWlyaW5nLXBsYW5ldC1hcHBsaWNhdGlvbi10ZXN0aW5n";
+
+    private final Map<String, BucketConfiguration> configs = Map.of("GET " + PATH, BucketConfiguration.builder()
+            // High enough that no benchmark request is rejected
+            .addLimit(Bandwidth.builder().capacity(1_000_000).refillGreedy(1_000_000, Duration.ofMinutes(1)).build())
+            .build());
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET);
+    private final FilterChain noopChain = (request, response) -> { };
+
+    @Test
+    void measureFilterOverhead() throws Exception {
+        int requests = Integer.getInteger("benchmark.rows", 100_000);
+
+        long[] baseline = measure(null, requests);
+        long[] local = measure(new LocalRateLimitBucketStore(100_000), requests);
+        report("no filter", requests, baseline);
+        report("local buckets", requests, local);
+
+        try (GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379)) {
+            redis.start();
+            RedisClient client = RedisClient.create("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+            try (RedisRateLimitBucketStore store = new RedisRateLimitBucketStore(client, 100_000, 10, Duration.ofSeconds(1))) {
+                report("redis buckets", requests, measure(store, requests));
+            }
+        }
+
+        assertThat(local).isNotEmpty();
+    }
+
+    private long[] measure(RateLimitBucketStore store, int requests) throws Exception {
+        RateLimitFilter filter = store != null ? new RateLimitFilter(configs, true, jwtTokenProvider, store) : null;
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            run(filter, i);
+        }
+
+        long[] samples = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            int status = run(filter, i);
+            samples[i] = System.nanoTime() - start;
+            assertThat(status).isEqualTo(200);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private int run(RateLimitFilter filter, int iteration) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", PATH);
+        request.setRemoteAddr("10.0." + (iteration % CLIENTS) / 256 + "." + (iteration % CLIENTS) % 256);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (filter != null) {
+            filter.doFilter(request, response, noopChain);
+        } else {
+            noopChain.doFilter(request, response);
+        }
+        return response.getStatus();
+    }
+
+    private void report(String label, int requests, long[] sortedNanos) {
+        System.out.printf("[benchmark] rate limit %-14s requests=%,d  mean=%6.1fus  p50=%6.1fus  p99=%6.1fus  max=%8.1fus%n",
+                label, requests,
+                Arrays.stream(sortedNanos).average().orElse(0) / 1_000.0,
+                percentile(sortedNanos, 50) / 1_000.0,
+                percentile(sortedNanos, 99) / 1_000.0,
+                Arrays.stream(sortedNanos).max().orElse(0) / 1_000.0);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -0,0 +1,161 @@
+package com.cookstemma.cookstemma.benchmark;
+
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import com.cookstemma.cookstemma.util.LocaleUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency comparison of findPublicRecipesPage with the legacy jsonb_object_keys LIKE filter
+ * against the available_languages array filter.
+ *
+ * Excluded from the regular test task. Run with:
+ *   ./gradlew benchmark --tests '*TranslationFilterBenchmarkTest'                          (100k recipes)
+ *   ./gradlew benchmark --tests '*TranslationFilterBenchmarkTest' -PbenchmarkRows=500000   (500k recipes)
+ */
+@Tag("benchmark")
+class TranslationFilterBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 200;
+    private static final int PAGE_SIZE = 20;
+
+    // findPublicRecipesPage as it was before V24 (data query + count query)
+    private static final String LEGACY_FILTER = """
+        WHERE r.deleted_at IS NULL AND (r.is_private IS NULL OR r.is_private = false)
+        AND EXISTS (SELECT 1 FROM jsonb_object_keys(COALESCE(r.title_translations, '{}'::jsonb)) k WHERE k LIKE ?)
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    private int rows;
+    private List<String> languages;
+
+    @BeforeEach
+    void seed() {
+        rows = Integer.getInteger("benchmark.rows", 100_000);
+        languages = List.copyOf(LocaleUtils.supportedLanguageKeys());
+        User user = testUserFactory.createTestUser();
+
+        // Indexes that exist in prod via Flyway but not in the Hibernate-generated test schema
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_recipes_created_at ON recipes (created_at DESC)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_recipes_available_languages ON recipes USING GIN (available_languages) WHERE deleted_at IS NULL");
+
+        jdbcTemplate.update("""
+            INSERT INTO foods_master (public_id, created_at, updated_at, name, is_verified)
+            SELECT gen_random_uuid(), NOW(), NOW(), jsonb_build_object('en-US', 'Food ' || g), TRUE
+            FROM generate_series(1, 200) g
+            """);
+
+        // Each recipe has its source language plus a share of the other 19: a quarter are fully
+        // translated, the rest are spread over the languages. Keys mix "ko" and legacy "ko-KR" forms.
+        jdbcTemplate.update("""
+            INSERT INTO recipes (public_id, created_at, updated_at, title, cooking_style,
+                food_master_id, creator_id, is_private, saved_count, view_count, servings,
+                title_translations, description_translations, change_diff, change_reason_translations, change_categories)
+            SELECT gen_random_uuid(), NOW() - make_interval(secs => g), NOW(),
+                'Recipe ' || g, 'ko-KR',
+                (SELECT MIN(id) FROM foods_master) + g % 200,
+                ?, FALSE, 0, 0, 2,
+                (SELECT jsonb_object_agg(CASE WHEN g % 2 = 0 THEN l.key ELSE l.key || '-XX' END, 'Recipe ' || g)
+                 FROM unnest(CAST(? AS text[])) WITH ORDINALITY AS l(key, n)
+                 WHERE l.n = 1 + g % 20 OR g % 4 = 0 OR (g + l.n) % 7 = 0),
+                '{}'::jsonb, '{}'::jsonb, '{}'::jsonb, '[]'::jsonb
+            FROM generate_series(1, ?) g
+            """, user.getId(), "{" + String.join(",", languages) + "}", rows);
+
+        jdbcTemplate.execute("ANALYZE recipes");
+    }
+
+    @Test
+    void compareLegacyAndAvailableLanguages() {
+        long[] legacy = measure(this::runLegacy);
+        long[] indexed = measure(this::runIndexed);
+
+        report("jsonb_object_keys", legacy);
+        report("available_languages", indexed);
+
+        // Same rows either way ("xx-XX" keys fold into "xx")
+        for (String lang : List.of(languages.get(0), languages.get(7))) {
+            Long legacyTotal = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM recipes r " + LEGACY_FILTER, Long.class, lang + "%");
+            assertThat(recipeRepository.findPublicRecipesPage(lang, PageRequest.of(0, PAGE_SIZE)).getTotalElements())
+                    .isEqualTo(legacyTotal);
+        }
+    }
+
+    private Object runLegacy(int iteration) {
+        String pattern = language(iteration) + "%";
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT r.id FROM recipes r " + LEGACY_FILTER + " ORDER BY r.created_at DESC LIMIT ? OFFSET ?",
+                Long.class, pattern, PAGE_SIZE, page(iteration) * PAGE_SIZE);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM recipes r " + LEGACY_FILTER, Long.class, pattern);
+        return total + ids.size();
+    }
+
+    private Object runIndexed(int iteration) {
+        Page<Recipe> page = recipeRepository.findPublicRecipesPage(
+                language(iteration), PageRequest.of(page(iteration), PAGE_SIZE));
+        return page.getTotalElements() + page.getNumberOfElements();
+    }
+
+    private String language(int iteration) {
+        return languages.get(iteration % languages.size());
+    }
+
+    private static int page(int iteration) {
+        return iteration % 5;
+    }
+
+    private long[] measure(IntFunction<Object> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.apply(i);
+        }
+
+        List<Long> samples = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            Object result = query.apply(i);
+            samples.add(System.nanoTime() - start);
+            assertThat(result).isNotNull();
+        }
+
+        return samples.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private void report(String label, long[] sortedNanos) {
+        System.out.printf("[benchmark] findPublicRecipesPage %-20s rows=%,d langs=%d  p50=%6.1fms  p99=%6.1fms  max=%6.1fms%n",
+                label, rows, languages.size(),
+                percentile(sortedNanos, 50) / 1_000_000.0,
+                percentile(sortedNanos, 99) / 1_000_000.0,
+                Arrays.stream(sortedNanos).max().orElse(0) / 1_000_000.0);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
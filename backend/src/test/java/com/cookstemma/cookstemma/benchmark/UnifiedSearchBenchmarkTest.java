@@ -0,0 +1,170 @@
+package com.cookstemma.cookstemma.benchmark;
+
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.dto.search.UnifiedSearchResponse;
+import com.cookstemma.cookstemma.service.UnifiedSearchService;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency comparison of the legacy per-table unified search against the search_documents path.
+ *
+ * Excluded from the regular test task. Run with:
+ *   ./gradlew benchmark                          (100k recipes + 100k logs)
+ *   ./gradlew benchmark -PbenchmarkRows=1000000  (1M recipes + 1M logs)
+ */
+@Tag("benchmark")
+class UnifiedSearchBenchmarkTest extends BaseIntegrationTest {
+
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 200;
+    private static final List<String> KEYWORDS = List.of("kimchi", "taco", "noodle soup", "매운", "curry");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UnifiedSearchService unifiedSearchService;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    private int rows;
+
+    @BeforeEach
+    void seed() {
+        rows = Integer.getInteger("benchmark.rows", 100_000);
+        User user = testUserFactory.createTestUser();
+
+        // Indexes that exist in prod via Flyway but not in the Hibernate-generated test schema
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_recipes_title_trgm ON recipes USING GIN (title gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_recipes_title_tr_trgm ON recipes USING GIN (jsonb_values_text(title_translations) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_recipes_desc_tr_trgm ON recipes USING GIN (jsonb_values_text(description_translations) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_log_posts_title_tr_trgm ON log_posts USING GIN (jsonb_values_text(title_translations) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_log_posts_content_tr_trgm ON log_posts USING GIN (jsonb_values_text(content_translations) gin_trgm_ops)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS bench_search_documents_trgm ON search_documents USING GIN (search_text gin_trgm_ops) WHERE is_public = TRUE");
+
+        jdbcTemplate.update("""
+            INSERT INTO foods_master (public_id, created_at, updated_at, name, is_verified)
+            SELECT gen_random_uuid(), NOW(), NOW(),
+                jsonb_build_object('en-US', 'Food ' || g, 'ko-KR', '음식 ' || g), TRUE
+            FROM generate_series(1, 200) g
+            """);
+
+        jdbcTemplate.update("""
+            INSERT INTO recipes (public_id, created_at, updated_at, title, description, cooking_style,
+                food_master_id, creator_id, is_private, saved_count, view_count, servings,
+                title_translations, description_translations, change_diff, change_reason_translations, change_categories)
+            SELECT gen_random_uuid(), NOW() - make_interval(secs => g), NOW(),
+                (ARRAY['Kimchi', 'Taco', 'Noodle', 'Curry', 'Bibimbap', 'Ramen', 'Salad', 'Stew'])[1 + g % 8]
+                    || ' recipe ' || g,
+                (ARRAY['spicy', 'mild', 'noodle soup', 'crispy', 'sweet'])[1 + g % 5] || ' home cooking ' || md5(g::text),
+                'ko-KR',
+                (SELECT MIN(id) FROM foods_master) + g % 200,
+                ?, FALSE, 0, 0, 2,
+                jsonb_build_object('ko-KR', (ARRAY['김치', '타코', '국수', '카레', '매운 국'])[1 + g % 5] || ' ' || g),
+                '{}'::jsonb, '{}'::jsonb, '{}'::jsonb, '[]'::jsonb
+            FROM generate_series(1, ?) g
+            """, user.getId(), rows);
+
+        jdbcTemplate.update("""
+            INSERT INTO log_posts (public_id, created_at, updated_at, title, content, locale, creator_id,
+                is_private, title_translations, content_translations)
+            SELECT gen_random_uuid(), NOW() - make_interval(secs => g), NOW(),
+                'Cooking log ' || g,
+                (ARRAY['made kimchi again', 'taco night', 'curry was great', 'tried ramen'])[1 + g % 4] || ' ' || md5(g::text),
+                'ko-KR', ?, FALSE, '{}'::jsonb, '{}'::jsonb
+            FROM generate_series(1, ?) g
+            """, user.getId(), rows);
+
+        jdbcTemplate.update("""
+            INSERT INTO hashtags (public_id, name)
+            SELECT gen_random_uuid(), 'tag' || g || (ARRAY['kimchi', 'taco', 'curry'])[1 + g % 3]
+            FROM generate_series(1, ?) g
+            """, Math.max(1, rows / 100));
+
+        // Backfill exactly like V22
+        jdbcTemplate.update("""
+            INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+            SELECT 'RECIPE', r.id,
+                search_normalize(concat_ws(' ', r.title, r.description,
+                    jsonb_values_text(r.title_translations), jsonb_values_text(fm.name))),
+                TRUE, r.created_at, NOW()
+            FROM recipes r LEFT JOIN foods_master fm ON fm.id = r.food_master_id
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+            SELECT 'LOG_POST', lp.id, search_normalize(concat_ws(' ', lp.title, lp.content)), TRUE, lp.created_at, NOW()
+            FROM log_posts lp
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO search_documents (entity_type, entity_id, search_text, is_public, created_at, indexed_at)
+            SELECT 'HASHTAG', h.id, search_normalize(h.name), TRUE, NOW(), NOW()
+            FROM hashtags h
+            """);
+
+        jdbcTemplate.execute("ANALYZE recipes");
+        jdbcTemplate.execute("ANALYZE log_posts");
+        jdbcTemplate.execute("ANALYZE hashtags");
+        jdbcTemplate.execute("ANALYZE search_documents");
+    }
+
+    @Test
+    void compareLegacyAndDocumentIndex() {
+        long[] legacy = measure(false);
+        long[] document = measure(true);
+
+        report("legacy", legacy);
+        report("search_documents", document);
+
+        assertThat(document).isNotEmpty();
+    }
+
+    private long[] measure(boolean documentIndexEnabled) {
+        ReflectionTestUtils.setField(unifiedSearchService, "documentIndexEnabled", documentIndexEnabled);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runQuery(i);
+        }
+
+        List<Long> samples = new ArrayList<>(MEASURED_ITERATIONS);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            UnifiedSearchResponse response = runQuery(i);
+            samples.add(System.nanoTime() - start);
+            assertThat(response).isNotNull();
+        }
+
+        return samples.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private UnifiedSearchResponse runQuery(int iteration) {
+        String keyword = KEYWORDS.get(iteration % KEYWORDS.size());
+        return unifiedSearchService.search(keyword, "all", null, 20, "en-US");
+    }
+
+    private void report(String label, long[] sortedNanos) {
+        System.out.printf("[benchmark] unified search %-16s rows=%,d  p50=%6.1fms  p99=%6.1fms  max=%6.1fms%n",
+                label, rows,
+                percentile(sortedNanos, 50) / 1_000_000.0,
+                percentile(sortedNanos, 99) / 1_000_000.0,
+                Arrays.stream(sortedNanos).max().orElse(0) / 1_000_000.0);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}
@@ -18,8 +18,8 @@ import java.util.concurrent.Executor;
 @Profile("test")
 public class TestAsyncConfig {
 
-    @Bean(name = "imageProcessingExecutor")
-    public Executor imageProcessingExecutor() {
+    @Bean(name = "taskExecutor")
+    public Executor taskExecutor() {
         return new SyncTaskExecutor();
     }
 }
@@ -10,9 +10,11 @@ import com.cookstemma.cookstemma.dto.log_post.UpdateLogRequestDto;
 import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
 import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.service.ViewCountBuffer;
 import com.cookstemma.cookstemma.support.BaseIntegrationTest;
 import com.cookstemma.cookstemma.support.TestJwtTokenProvider;
 import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +36,12 @@ class LogPostControllerTest extends BaseIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -473,6 +481,9 @@ class LogPostControllerTest extends BaseIntegrationTest {
                             .header("Authorization", "Bearer " + testUserToken))
                     .andExpect(status().isOk());
 
+            viewCountBuffer.flush();
+            entityManager.clear();
+
             // Verify view count was incremented
             LogPost updated = logPostRepository.findByPublicId(testLogPost.getPublicId()).orElseThrow();
             assertThat(updated.getViewCount()).isEqualTo((initialViewCount != null ? initialViewCount : 0) + 1);
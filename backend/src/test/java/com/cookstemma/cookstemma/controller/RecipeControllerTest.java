@@ -15,9 +15,13 @@ import com.cookstemma.cookstemma.dto.recipe.StepDto;
 import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
 import com.cookstemma.cookstemma.repository.image.ImageRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.security.UserPrincipal;
+import com.cookstemma.cookstemma.service.RecipeService;
+import com.cookstemma.cookstemma.service.ViewCountBuffer;
 import com.cookstemma.cookstemma.support.BaseIntegrationTest;
 import com.cookstemma.cookstemma.support.TestJwtTokenProvider;
 import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -41,6 +45,12 @@ class RecipeControllerTest extends BaseIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -59,6 +69,9 @@ class RecipeControllerTest extends BaseIntegrationTest {
     @Autowired
     private ImageRepository imageRepository;
 
+    @Autowired
+    private RecipeService recipeService;
+
     private FoodMaster testFood;
     private User testUser;
     private Image testImage;
@@ -398,6 +411,46 @@ class RecipeControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/recipes/{publicId}/tree - Variant Tree")
+    class RecipeTree {
+
+        private CreateRecipeRequestDto request(String title, UUID parentPublicId) {
+            return new CreateRecipeRequestDto(
+                    title, "Description", "ko-KR", testFood.getPublicId(), null,
+                    List.of(new IngredientDto("Salt", 1.0, MeasurementUnit.TSP, IngredientType.SEASONING)),
+                    List.of(new StepDto(1, "Mix ingredients", null, null)),
+                    List.of(), null, parentPublicId, null, null, null, null, null, null, null);
+        }
+
+        @Test
+        @DisplayName("Should return created variants breadth-first with counts")
+        void getTree_AfterCreatingVariants_ReturnsSubtree() throws Exception {
+            String token = testJwtTokenProvider.createAccessToken(testUser.getPublicId(), "USER");
+            UserPrincipal principal = new UserPrincipal(testUser);
+            UUID root = recipeService.createRecipe(request("Original", null), principal).publicId();
+            UUID variant = recipeService.createRecipe(request("Variant", root), principal).publicId();
+            UUID nested = recipeService.createRecipe(request("Nested Variant", variant), principal).publicId();
+
+            mockMvc.perform(get("/api/v1/recipes/" + root + "/tree")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(3))
+                    .andExpect(jsonPath("$.content[0].publicId").value(root.toString()))
+                    .andExpect(jsonPath("$.content[0].childCount").value(1))
+                    .andExpect(jsonPath("$.content[1].publicId").value(variant.toString()))
+                    .andExpect(jsonPath("$.content[1].parentPublicId").value(root.toString()))
+                    .andExpect(jsonPath("$.content[2].publicId").value(nested.toString()))
+                    .andExpect(jsonPath("$.content[2].depth").value(2))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+
+            mockMvc.perform(get("/api/v1/recipes/" + variant + "/tree").param("maxDepth", "0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content.length()").value(1))
+                    .andExpect(jsonPath("$.content[0].depth").value(0));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/recipes - Sort Options")
     class RecipeSortTests {
@@ -471,6 +524,9 @@ class RecipeControllerTest extends BaseIntegrationTest {
                             .header("Authorization", "Bearer " + token))
                     .andExpect(status().isOk());
 
+            viewCountBuffer.flush();
+            entityManager.clear();
+
             // Verify view count was incremented
             Recipe updated = recipeRepository.findByPublicId(recipe.getPublicId()).orElseThrow();
             assertThat(updated.getViewCount()).isEqualTo(1);
@@ -500,6 +556,9 @@ class RecipeControllerTest extends BaseIntegrationTest {
                             .header("Authorization", "Bearer " + token))
                     .andExpect(status().isOk());
 
+            viewCountBuffer.flush();
+            entityManager.clear();
+
             // Verify view count was incremented twice
             Recipe updated = recipeRepository.findByPublicId(recipe.getPublicId()).orElseThrow();
             assertThat(updated.getViewCount()).isEqualTo(7);
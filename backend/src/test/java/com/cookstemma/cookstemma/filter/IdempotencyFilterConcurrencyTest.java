@@ -0,0 +1,154 @@
+package com.cookstemma.cookstemma.filter;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.image.Image;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.ImageStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageType;
+import com.cookstemma.cookstemma.domain.enums.IngredientType;
+import com.cookstemma.cookstemma.domain.enums.MeasurementUnit;
+import com.cookstemma.cookstemma.dto.recipe.CreateRecipeRequestDto;
+import com.cookstemma.cookstemma.dto.recipe.IngredientDto;
+import com.cookstemma.cookstemma.dto.recipe.StepDto;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.image.ImageRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestJwtTokenProvider;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Concurrent duplicates of one idempotent request. Runs without the test transaction: each
+ * request commits on its own thread, and the rows are removed afterwards.
+ */
+@DisplayName("IdempotencyFilter Concurrency Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyFilterConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private TestJwtTokenProvider testJwtTokenProvider;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+    private FoodMaster testFood;
+    private Image testImage;
+
+    @BeforeEach
+    void setUp() {
+        testUser = testUserFactory.createTestUser();
+        testFood = foodMasterRepository.save(FoodMaster.builder()
+                .name(Map.of("ko-KR", "테스트음식", "en-US", "Test Food"))
+                .isVerified(true)
+                .build());
+        testImage = imageRepository.save(Image.builder()
+                .storedFilename("idempotency-test.jpg")
+                .originalFilename("test.jpg")
+                .status(ImageStatus.ACTIVE)
+                .type(ImageType.COVER)
+                .uploaderId(testUser.getId())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        String recipeIds = "SELECT id FROM recipes WHERE creator_id = ?";
+        jdbcTemplate.update("DELETE FROM translation_events WHERE entity_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM search_documents WHERE entity_type = 'RECIPE' AND entity_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM recipe_stats WHERE recipe_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM recipe_image_map WHERE recipe_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM recipe_ingredients WHERE recipe_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM recipe_steps WHERE recipe_id IN (" + recipeIds + ")", testUser.getId());
+        jdbcTemplate.update("DELETE FROM images WHERE id = ?", testImage.getId());
+        jdbcTemplate.update("DELETE FROM recipes WHERE creator_id = ?", testUser.getId());
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ?", testUser.getId());
+        jdbcTemplate.update("DELETE FROM foods_master WHERE id = ?", testFood.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", testUser.getId());
+    }
+
+    @Test
+    @DisplayName("Should create one recipe for concurrent requests with the same Idempotency-Key")
+    void concurrentDuplicates_ExecuteOnce() throws Exception {
+        String token = testJwtTokenProvider.createAccessToken(testUser.getPublicId(), "USER");
+        String idempotencyKey = UUID.randomUUID().toString();
+        String body = objectMapper.writeValueAsString(new CreateRecipeRequestDto(
+                "Idempotent Recipe", "Created once", "ko-KR", testFood.getPublicId(), null,
+                List.of(new IngredientDto("Salt", 1.0, MeasurementUnit.TSP, IngredientType.SEASONING)),
+                List.of(new StepDto(1, "Mix ingredients", null, null)),
+                List.of(testImage.getPublicId()),
+                null, null, null, null, null, null, null, null, null));
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/v1/recipes")
+                                    .header("Authorization", "Bearer " + token)
+                                    .header("Idempotency-Key", idempotencyKey)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andReturn().getResponse();
+                }));
+            }
+            start.countDown();
+
+            List<String> publicIds = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get();
+                assertThat(response.getStatus()).isEqualTo(200);
+                publicIds.add(objectMapper.readTree(response.getContentAsString()).get("publicId").asText());
+            }
+
+            Integer inserted = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM recipes WHERE creator_id = ?", Integer.class, testUser.getId());
+            assertThat(inserted).isEqualTo(1);
+            assertThat(publicIds).hasSize(CONCURRENT_REQUESTS).containsOnly(publicIds.get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
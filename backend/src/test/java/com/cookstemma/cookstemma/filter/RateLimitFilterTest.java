@@ -79,6 +79,12 @@ class RateLimitFilterTest {
                 .addLimit(Bandwidth.simple(2, Duration.ofMinutes(1)))
                 .build();
         rateLimitConfigurations.put("/api/v1/images/upload", uploadConfig);
+
+        // Configure rate limit: 2 requests for search reads (lower for testing)
+        BucketConfiguration searchConfig = BucketConfiguration.builder()
+                .addLimit(Bandwidth.simple(2, Duration.ofMinutes(1)))
+                .build();
+        rateLimitConfigurations.put("GET /api/v1/search", searchConfig);
     }
 
     @Nested
@@ -87,7 +93,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, false, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, false, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
         }
 
         @Test
@@ -114,7 +120,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() throws Exception {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
             responseWriter = new StringWriter();
             lenient().when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         }
@@ -280,7 +286,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() throws Exception {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
             responseWriter = new StringWriter();
             when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         }
@@ -318,7 +324,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() throws Exception {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
             responseWriter = new StringWriter();
             lenient().when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         }
@@ -418,7 +424,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() throws Exception {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
             responseWriter = new StringWriter();
             lenient().when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         }
@@ -462,6 +468,63 @@ class RateLimitFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("Read Endpoint Rate Limiting")
+    class ReadEndpointRateLimitTests {
+
+        @BeforeEach
+        void setUp() throws Exception {
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
+            lenient().when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+        }
+
+        @Test
+        @DisplayName("Should rate limit configured GET endpoint")
+        void shouldRateLimit_SearchGet() throws Exception {
+            // Arrange
+            when(request.getMethod()).thenReturn("GET");
+            when(request.getRequestURI()).thenReturn("/api/v1/search");
+            when(request.getRemoteAddr()).thenReturn("192.168.30.1");
+
+            // Act - Exhaust 2-request limit
+            assertThat(rateLimitFilter.shouldNotFilter(request)).isFalse();
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+
+            reset(filterChain);
+            rateLimitFilter.doFilterInternal(request, response, filterChain);
+
+            // Assert
+            verify(response).setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("Should not apply GET limit to other methods on the same path")
+        void shouldSkip_PostToGetOnlyEndpoint() {
+            when(request.getMethod()).thenReturn("POST");
+            when(request.getRequestURI()).thenReturn("/api/v1/search");
+
+            assertThat(rateLimitFilter.shouldNotFilter(request)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should evict least recently used buckets beyond the cap")
+        void localStore_EvictsLeastRecentlyUsed() {
+            LocalRateLimitBucketStore store = new LocalRateLimitBucketStore(2);
+            BucketConfiguration config = rateLimitConfigurations.get("GET /api/v1/search");
+
+            store.resolve("a", config);
+            store.resolve("b", config);
+            store.resolve("a", config);
+            store.resolve("c", config);
+
+            assertThat(store.size()).isEqualTo(2);
+            // "b" was evicted, so it starts again with a full bucket
+            assertThat(store.resolve("b", config).getAvailableTokens()).isEqualTo(2);
+        }
+    }
+
     @Nested
     @DisplayName("Bot Exemption")
     class BotExemptionTests {
@@ -470,7 +533,7 @@ class RateLimitFilterTest {
 
         @BeforeEach
         void setUp() throws Exception {
-            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider);
+            rateLimitFilter = new RateLimitFilter(rateLimitConfigurations, true, jwtTokenProvider, new LocalRateLimitBucketStore(1000));
             responseWriter = new StringWriter();
             lenient().when(response.getWriter()).thenReturn(new PrintWriter(responseWriter));
         }
@@ -63,6 +63,20 @@ class IdempotencyKeyRepositoryTest extends BaseIntegrationTest {
             assertThat(found).isEmpty();
         }
 
+        @Test
+        @DisplayName("Should let different users hold the same key")
+        void save_SameKeyDifferentUsers_KeepsBoth() {
+            String key = UUID.randomUUID().toString();
+            User otherUser = testUserFactory.createTestUser();
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKey.create(key, testUser.getId(), "/api/v1/recipes", "hash123"));
+            idempotencyKeyRepository.saveAndFlush(IdempotencyKey.create(key, otherUser.getId(), "/api/v1/recipes", "hash456"));
+
+            assertThat(idempotencyKeyRepository.findByIdempotencyKeyAndUserId(key, testUser.getId()))
+                    .map(IdempotencyKey::getRequestHash).contains("hash123");
+            assertThat(idempotencyKeyRepository.findByIdempotencyKeyAndUserId(key, otherUser.getId()))
+                    .map(IdempotencyKey::getRequestHash).contains("hash456");
+        }
+
         @Test
         @DisplayName("Should not find non-existent key")
         void findByIdempotencyKeyAndUserId_NotExists_ReturnsEmpty() {
@@ -0,0 +1,155 @@
+package com.cookstemma.cookstemma.security;
+
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.AccountStatus;
+import com.cookstemma.cookstemma.domain.enums.Role;
+import com.cookstemma.cookstemma.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalResolverTest {
+
+    private static final String TEST_SECRET = "dGVzdC1zZWNyZXQta2V5LWZvci1wYWlyaW5nLXBsYW5ldC1hcHBsaWNhdGlvbi10ZXN0aW5n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtTokenProvider tokenProvider;
+    private UserPrincipalResolver resolver;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(TEST_SECRET);
+        resolver = new UserPrincipalResolver(tokenProvider, userRepository);
+        ReflectionTestUtils.setField(resolver, "maxEntries", 100);
+        ReflectionTestUtils.setField(resolver, "ttlMillis", 60_000L);
+        // Tokens carry whole seconds; treat the resolver as started long before them
+        ReflectionTestUtils.setField(resolver, "startedAt", Instant.EPOCH);
+
+        user = User.builder()
+                .username("cook")
+                .locale("ko-KR")
+                .role(Role.USER)
+                .status(AccountStatus.ACTIVE)
+                .build();
+        user.setId(42L);
+        user.setPublicId(UUID.randomUUID());
+    }
+
+    private void enablePrincipalClaims() {
+        ReflectionTestUtils.setField(tokenProvider, "principalClaimsEnabled", true);
+    }
+
+    @Nested
+    @DisplayName("Tokens without principal claims")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should load the user once and serve later requests from the cache")
+        void resolve_CachesUserLookup() {
+            when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+            String token = tokenProvider.createAccessToken(user);
+
+            UserPrincipal first = resolver.resolve(token).orElseThrow();
+            UserPrincipal second = resolver.resolve(token).orElseThrow();
+
+            assertThat(first.getId()).isEqualTo(42L);
+            assertThat(second.getUsername()).isEqualTo("cook");
+            verify(userRepository, times(1)).findByPublicId(user.getPublicId());
+        }
+
+        @Test
+        @DisplayName("Should reload the user after a principal change")
+        void resolve_AfterChange_ReloadsUser() {
+            when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+            String token = tokenProvider.createAccessToken(user);
+            resolver.resolve(token);
+
+            user.setRole(Role.ADMIN);
+            resolver.onUserPrincipalChanged(new UserPrincipalChangedEvent(user.getPublicId()));
+
+            assertThat(resolver.resolve(token).orElseThrow().getAuthorities())
+                    .extracting(Object::toString)
+                    .containsExactly("ROLE_ADMIN");
+            verify(userRepository, times(2)).findByPublicId(user.getPublicId());
+        }
+
+        @Test
+        @DisplayName("Should return empty for an invalid token")
+        void resolve_InvalidToken_ReturnsEmpty() {
+            assertThat(resolver.resolve("not.a.token")).isEmpty();
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Tokens with principal claims")
+    class ClaimsTests {
+
+        @Test
+        @DisplayName("Should build the principal from the token without a lookup")
+        void resolve_FromClaims_NoLookup() {
+            enablePrincipalClaims();
+            String token = tokenProvider.createAccessToken(user);
+
+            UserPrincipal principal = resolver.resolve(token).orElseThrow();
+
+            assertThat(principal.getId()).isEqualTo(42L);
+            assertThat(principal.getPublicId()).isEqualTo(user.getPublicId());
+            assertThat(principal.getStatus()).isEqualTo(AccountStatus.ACTIVE);
+            verifyNoInteractions(userRepository);
+        }
+
+        @Test
+        @DisplayName("Should not trust claims issued before a principal change")
+        void resolve_ClaimsBeforeChange_FallsBackToLookup() {
+            enablePrincipalClaims();
+            String token = tokenProvider.createAccessToken(user);
+            user.setStatus(AccountStatus.DELETED);
+            when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+
+            resolver.onUserPrincipalChanged(new UserPrincipalChangedEvent(user.getPublicId()));
+
+            assertThat(resolver.resolve(token).orElseThrow().getStatus()).isEqualTo(AccountStatus.DELETED);
+            verify(userRepository).findByPublicId(user.getPublicId());
+        }
+
+        @Test
+        @DisplayName("Should not trust claims issued before the node started")
+        void resolve_ClaimsBeforeStart_FallsBackToLookup() {
+            enablePrincipalClaims();
+            String token = tokenProvider.createAccessToken(user);
+            ReflectionTestUtils.setField(resolver, "startedAt", Instant.now().plusSeconds(1));
+            when(userRepository.findByPublicId(user.getPublicId())).thenReturn(Optional.of(user));
+
+            assertThat(resolver.resolve(token)).isPresent();
+            verify(userRepository).findByPublicId(user.getPublicId());
+        }
+
+        @Test
+        @DisplayName("Should refuse to start with principal claims but no Redis invalidation")
+        void subscribe_ClaimsWithoutRedisInvalidation_Fails() {
+            ReflectionTestUtils.setField(resolver, "principalClaimsEnabled", true);
+
+            assertThatThrownBy(() -> resolver.subscribe())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("auth.principal-cache.redis-invalidation.enabled");
+        }
+    }
+}
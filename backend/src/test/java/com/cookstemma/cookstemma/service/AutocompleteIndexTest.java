@@ -0,0 +1,100 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.autocomplete.AutocompleteItem;
+import com.cookstemma.cookstemma.domain.enums.AutocompleteType;
+import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteDto;
+import com.cookstemma.cookstemma.repository.autocomplete.AutocompleteItemRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AutocompleteIndex Tests")
+class AutocompleteIndexTest {
+
+    private final AutocompleteItemRepository repository = mock(AutocompleteItemRepository.class);
+    private final AutocompleteIndex index = new AutocompleteIndex(repository, true, 10, 3_600_000);
+
+    private static AutocompleteItem item(String enName, String koName, AutocompleteType type, double score) {
+        return AutocompleteItem.builder()
+                .name(Map.of("en-US", enName, "ko-KR", koName))
+                .type(type)
+                .score(score)
+                .build();
+    }
+
+    @Test
+    @DisplayName("should report no result until the first build so callers fall back")
+    void shouldReturnNullBeforeBuild() {
+        assertThat(index.search("Chi", "en-US", null, 10)).isNull();
+    }
+
+    @Test
+    @DisplayName("should search per locale and type, and across types without a type")
+    void shouldSearchBuiltSnapshot() {
+        when(repository.findAll()).thenReturn(List.of(
+                item("Chicken", "닭고기", AutocompleteType.MAIN_INGREDIENT, 80),
+                item("Chicken Curry", "치킨 카레", AutocompleteType.DISH, 90)));
+
+        index.rebuild(1);
+
+        assertThat(index.search("chi", "en-US", "DISH", 10)).extracting(AutocompleteDto::name)
+                .containsExactly("Chicken Curry");
+        assertThat(index.search("chi", "en-US", null, 10)).extracting(AutocompleteDto::name)
+                .containsExactly("Chicken Curry", "Chicken");
+        assertThat(index.search("닭", "ko-KR", "MAIN_INGREDIENT", 10)).extracting(AutocompleteDto::name)
+                .containsExactly("닭고기");
+        assertThat(index.search("chi", "fr-FR", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should replace the whole snapshot on rebuild")
+    void shouldSwapSnapshot() {
+        when(repository.findAll()).thenReturn(List.of(item("Beef", "소고기", AutocompleteType.MAIN_INGREDIENT, 75)));
+        index.rebuild(1);
+        when(repository.findAll()).thenReturn(List.of(item("Bacon", "베이컨", AutocompleteType.MAIN_INGREDIENT, 70)));
+        index.rebuild(2);
+
+        assertThat(index.search("b", "en-US", null, 10)).extracting(AutocompleteDto::name).containsExactly("Bacon");
+    }
+
+    @Test
+    @DisplayName("should rebuild again when a change arrives during a rebuild")
+    void shouldRebuildAgainAfterChangeDuringRebuild() throws Exception {
+        CountDownLatch firstBuildStarted = new CountDownLatch(1);
+        CountDownLatch changeRequested = new CountDownLatch(1);
+        when(repository.findAll())
+                .thenAnswer(invocation -> {
+                    firstBuildStarted.countDown();
+                    changeRequested.await(5, TimeUnit.SECONDS);
+                    return List.of(item("Beef", "소고기", AutocompleteType.MAIN_INGREDIENT, 75));
+                })
+                .thenReturn(List.of(item("Bacon", "베이컨", AutocompleteType.MAIN_INGREDIENT, 70)));
+
+        index.publishChange();
+        assertThat(firstBuildStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        index.publishChange();
+        changeRequested.countDown();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!isBuiltWith("Bacon") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(index.search("b", "en-US", null, 10)).extracting(AutocompleteDto::name).containsExactly("Bacon");
+        verify(repository, times(2)).findAll();
+    }
+
+    private boolean isBuiltWith(String name) {
+        List<AutocompleteDto> results = index.search("b", "en-US", null, 10);
+        return results != null && results.stream().anyMatch(dto -> dto.name().equals(name));
+    }
+}
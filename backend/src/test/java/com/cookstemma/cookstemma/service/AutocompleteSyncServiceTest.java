@@ -0,0 +1,166 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.autocomplete.AutocompleteItem;
+import com.cookstemma.cookstemma.domain.enums.AutocompleteType;
+import com.cookstemma.cookstemma.repository.autocomplete.AutocompleteItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AutocompleteSyncService Tests")
+class AutocompleteSyncServiceTest {
+
+    private final AutocompleteItemRepository repository = mock(AutocompleteItemRepository.class);
+    private final AutocompleteIndex autocompleteIndex = mock(AutocompleteIndex.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final HashOperations<String, Object, Object> hashes = mock(HashOperations.class);
+    private final RedisConnection connection = mock(RedisConnection.class);
+    private final RedisZSetCommands zSetCommands = mock(RedisZSetCommands.class);
+    private final RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+    private final RedisKeyCommands keyCommands = mock(RedisKeyCommands.class);
+
+    private MeterRegistry meterRegistry;
+    private AutocompleteSyncService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new AutocompleteSyncService(repository, autocompleteIndex, meterRegistry,
+                500, 120_000, 3_600_000, 60_000, 5_000);
+        service.registerMetrics();
+        ReflectionTestUtils.setField(service, "entityManager", mock(EntityManager.class));
+
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashes);
+        when(values.setIfAbsent(eq("autocomplete:sync:lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(connection.zSetCommands()).thenReturn(zSetCommands);
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+    }
+
+    private static AutocompleteItem item(String enName, String koName, AutocompleteType type, double score) {
+        return AutocompleteItem.builder()
+                .name(Map.of("en-US", enName, "ko-KR", koName))
+                .type(type)
+                .score(score)
+                .build();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> addedMembers(String key) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Set<Tuple>> tuples = ArgumentCaptor.forClass(Set.class);
+        verify(zSetCommands).zAdd(aryEq(bytes(key)), tuples.capture());
+        List<String> members = new ArrayList<>();
+        tuples.getValue().forEach(tuple -> members.add(new String(tuple.getValue(), StandardCharsets.UTF_8)));
+        return members;
+    }
+
+    @Test
+    @DisplayName("should do nothing without Redis")
+    void shouldSkipWithoutRedis() {
+        assertThat(service.fullSync()).isEqualTo(-1);
+        assertThat(service.deltaSync()).isEqualTo(-1);
+        assertThat(service.currentKey("en-US", "DISH")).isNull();
+        verifyNoInteractions(repository, autocompleteIndex);
+    }
+
+    @Test
+    @DisplayName("should write a new version, switch to it and retire the previous one")
+    void shouldWriteNewVersionAndFlipPointer() {
+        ReflectionTestUtils.setField(service, "redisTemplate", redisTemplate);
+        AutocompleteItem curry = item("Chicken Curry", "치킨 카레", AutocompleteType.DISH, 90);
+        when(repository.streamAll()).thenReturn(Stream.of(curry));
+        when(values.increment("autocomplete:version-seq")).thenReturn(3L);
+        when(values.getAndSet("autocomplete:current", "3")).thenReturn("2");
+
+        assertThat(service.fullSync()).isEqualTo(1);
+
+        assertThat(addedMembers("autocomplete:3:en-US:DISH"))
+                .containsExactly("chicken curry::Chicken Curry::DISH::" + curry.getPublicId() + "::90.0");
+        assertThat(addedMembers("autocomplete:3:ko-KR:DISH")).hasSize(1);
+        verify(keyCommands).persist(aryEq(bytes("autocomplete:3:en-US:DISH")));
+        verify(keyCommands).pExpire(aryEq(bytes("autocomplete:2:en-US:DISH")), eq(120_000L));
+        verify(keyCommands).pExpire(aryEq(bytes("autocomplete:2:members")), eq(120_000L));
+        verify(values).set(eq("autocomplete:synced-at"), anyString());
+        verify(autocompleteIndex).publishChange();
+        assertThat(meterRegistry.get("autocomplete.sync.items").tag("mode", "full").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("autocomplete.sync.duration").tag("mode", "full").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should replace a renamed item's member in the current version")
+    void shouldApplyDeltaInPlace() {
+        ReflectionTestUtils.setField(service, "redisTemplate", redisTemplate);
+        AutocompleteItem renamed = item("Chicken Stew", "닭고기", AutocompleteType.MAIN_INGREDIENT, 80);
+        String key = "autocomplete:3:en-US:MAIN_INGREDIENT";
+        String oldMember = AutocompleteSyncService.member("Chicken", "MAIN_INGREDIENT", renamed.getPublicId(), 80.0);
+        String koMember = AutocompleteSyncService.member("닭고기", "MAIN_INGREDIENT", renamed.getPublicId(), 80.0);
+        when(values.get("autocomplete:current")).thenReturn("3");
+        when(values.get("autocomplete:synced-at")).thenReturn("1000");
+        when(repository.streamUpdatedAfter(Instant.ofEpochMilli(1000))).thenReturn(Stream.of(renamed));
+        // Stored per supported locale: en-US had the old name, ko-KR is unchanged
+        List<Object> previous = new ArrayList<>(Collections.nCopies(AutocompleteSyncService.SUPPORTED_LOCALES.size(), null));
+        previous.set(0, key + "\n" + oldMember);
+        previous.set(1, "autocomplete:3:ko-KR:MAIN_INGREDIENT\n" + koMember);
+        when(hashes.multiGet(eq("autocomplete:3:members"), any())).thenReturn(previous);
+
+        assertThat(service.deltaSync()).isEqualTo(1);
+
+        verify(zSetCommands).zRem(aryEq(bytes(key)), aryEq(bytes(oldMember)));
+        verify(zSetCommands).zAdd(aryEq(bytes(key)), eq(0.0), aryEq(bytes(
+                AutocompleteSyncService.member("Chicken Stew", "MAIN_INGREDIENT", renamed.getPublicId(), 80.0))));
+        verify(zSetCommands, never()).zAdd(aryEq(bytes("autocomplete:3:ko-KR:MAIN_INGREDIENT")), anyDouble(), any(byte[].class));
+        verify(values, never()).increment("autocomplete:version-seq");
+        verify(autocompleteIndex).publishChange();
+        assertThat(meterRegistry.get("autocomplete.sync.items").tag("mode", "delta").counter().count()).isEqualTo(1.0);
+    }
+}
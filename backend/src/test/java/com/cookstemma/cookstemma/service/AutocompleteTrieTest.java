@@ -0,0 +1,126 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.autocomplete.AutocompleteDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AutocompleteTrie Tests")
+class AutocompleteTrieTest {
+
+    private static AutocompleteDto item(String name, double score) {
+        return AutocompleteDto.builder()
+                .publicId(UUID.randomUUID())
+                .name(name)
+                .type("DISH")
+                .score(score)
+                .build();
+    }
+
+    private static List<String> names(List<AutocompleteDto> results) {
+        return results.stream().map(AutocompleteDto::name).toList();
+    }
+
+    @Nested
+    @DisplayName("Prefix search")
+    class PrefixSearch {
+
+        private final AutocompleteTrie trie = AutocompleteTrie.build(List.of(
+                item("Chicken", 80), item("Chicken Curry", 90), item("Chili Powder", 60),
+                item("Cheese", 70), item("Beef", 75), item("Crème brûlée", 50)), 10);
+
+        @Test
+        @DisplayName("should return matches best score first")
+        void shouldReturnMatchesByScore() {
+            assertThat(names(trie.search("Chi", 10))).containsExactly("Chicken Curry", "Chicken", "Chili Powder");
+        }
+
+        @Test
+        @DisplayName("should ignore case in names and queries")
+        void shouldIgnoreCase() {
+            assertThat(names(trie.search("cHiCk", 10))).containsExactly("Chicken Curry", "Chicken");
+            assertThat(names(trie.search("BEEF", 10))).containsExactly("Beef");
+        }
+
+        @Test
+        @DisplayName("should match a query ending inside a merged edge")
+        void shouldMatchInsideEdge() {
+            assertThat(names(trie.search("Chicken C", 10))).containsExactly("Chicken Curry");
+        }
+
+        @Test
+        @DisplayName("should ignore Latin accents")
+        void shouldIgnoreAccents() {
+            assertThat(names(trie.search("creme b", 10))).containsExactly("Crème brûlée");
+            assertThat(names(trie.search("CRÈME", 10))).containsExactly("Crème brûlée");
+        }
+
+        @Test
+        @DisplayName("should return nothing for unknown prefixes")
+        void shouldReturnEmptyForUnknownPrefix() {
+            assertThat(trie.search("xyz", 10)).isEmpty();
+            assertThat(trie.search("Chickens", 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("should return everything best first for an empty prefix, up to the limit")
+        void shouldLimitResults() {
+            assertThat(names(trie.search("", 2))).containsExactly("Chicken Curry", "Chicken");
+        }
+    }
+
+    @Nested
+    @DisplayName("Top-K")
+    class TopK {
+
+        @Test
+        @DisplayName("should keep only the best K entries per prefix")
+        void shouldKeepBestK() {
+            List<AutocompleteDto> items = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                items.add(item("soup " + i, i));
+            }
+            AutocompleteTrie trie = AutocompleteTrie.build(items, 5);
+
+            assertThat(names(trie.search("soup", 10))).containsExactly("soup 99", "soup 98", "soup 97", "soup 96", "soup 95");
+            assertThat(names(trie.search("soup 1", 10))).containsExactly("soup 19", "soup 18", "soup 17", "soup 16", "soup 15");
+        }
+    }
+
+    @Nested
+    @DisplayName("CJK normalization")
+    class CjkNormalization {
+
+        private final AutocompleteTrie trie = AutocompleteTrie.build(List.of(
+                item("닭고기", 80), item("다시마", 60), item("과일", 50), item("カレー", 70), item("からあげ", 65)), 10);
+
+        @Test
+        @DisplayName("should match a Hangul syllable still being typed")
+        void shouldMatchPartialSyllable() {
+            // 달 is typed on the way to 닭 and to 다시마's 다 + 시
+            assertThat(names(trie.search("달", 10))).containsExactly("닭고기");
+            assertThat(names(trie.search("다", 10))).containsExactly("닭고기", "다시마");
+            assertThat(names(trie.search("닭ㄱ", 10))).containsExactly("닭고기");
+        }
+
+        @Test
+        @DisplayName("should match a compound vowel from its first part")
+        void shouldMatchCompoundVowel() {
+            assertThat(names(trie.search("고", 10))).containsExactly("과일");
+        }
+
+        @Test
+        @DisplayName("should match katakana and hiragana interchangeably")
+        void shouldFoldKana() {
+            assertThat(names(trie.search("か", 10))).containsExactly("カレー", "からあげ");
+            assertThat(names(trie.search("カラ", 10))).containsExactly("からあげ");
+            assertThat(names(trie.search("ｶﾚ", 10))).containsExactly("カレー");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.domain.entity.image.Image;
+import com.cookstemma.cookstemma.domain.entity.image.RecipeImage;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.ImageStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageType;
+import com.cookstemma.cookstemma.dto.recipe.HomeFeedResponseDto;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.hashtag.HashtagRepository;
+import com.cookstemma.cookstemma.repository.image.ImageRepository;
+import com.cookstemma.cookstemma.repository.image.RecipeImageRepository;
+import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.QueryCountInspector;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements issued by the home feed, so per-row lookups
+ * (creator, counts, cover image, food name, hashtags) can't creep back in.
+ */
+@DisplayName("Home feed query count")
+class HomeFeedQueryCountTest extends BaseIntegrationTest {
+
+    private static final int MAX_STATEMENTS = 8;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private LogPostRepository logPostRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private RecipeImageRepository recipeImageRepository;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private RecipeStatsService recipeStatsService;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Hashtag hashtag = hashtagRepository.save(Hashtag.builder().name("homefeed_" + UUID.randomUUID().toString().substring(0, 8)).build());
+
+        // Distinct creators and foods per row, so any per-row lookup shows up in the count
+        for (int i = 0; i < 5; i++) {
+            User creator = testUserFactory.createTestUser();
+            FoodMaster food = foodMasterRepository.save(FoodMaster.builder()
+                    .name(Map.of("ko-KR", "음식" + i))
+                    .isVerified(true)
+                    .build());
+
+            Recipe root = createRecipe("원본 레시피 " + i, food, creator, null);
+            root.getHashtags().add(hashtag);
+            recipeImageRepository.save(RecipeImage.of(root, createImage(ImageType.COVER, creator, null), 0));
+
+            Recipe variant = createRecipe("변형 레시피 " + i, food, creator, root);
+            createLog("요리 로그 " + i, variant, creator, hashtag);
+        }
+
+        entityManager.flush();
+        // Seeded through repositories, so create the recipe_stats rows the trending section reads
+        recipeStatsService.reconcile();
+        entityManager.clear();
+    }
+
+    private Recipe createRecipe(String title, FoodMaster food, User creator, Recipe parent) {
+        return recipeRepository.save(Recipe.builder()
+                .title(title)
+                .titleTranslations(Map.of("ko", title))
+                .cookingStyle("ko-KR")
+                .foodMaster(food)
+                .creatorId(creator.getId())
+                .parentRecipe(parent)
+                .rootRecipe(parent)
+                .build());
+    }
+
+    private void createLog(String title, Recipe recipe, User creator, Hashtag hashtag) {
+        LogPost log = LogPost.builder()
+                .title(title)
+                .titleTranslations(Map.of("ko", title))
+                .content("맛있어요")
+                .locale("ko-KR")
+                .originalLanguage("ko")
+                .creatorId(creator.getId())
+                .build();
+        log.getHashtags().add(hashtag);
+        log.setRecipeLog(RecipeLog.builder()
+                .logPost(log)
+                .recipe(recipe)
+                .rating(4)
+                .build());
+        logPostRepository.save(log);
+        createImage(ImageType.LOG_POST, creator, log);
+    }
+
+    private Image createImage(ImageType type, User uploader, LogPost logPost) {
+        return imageRepository.save(Image.builder()
+                .storedFilename(type.name().toLowerCase() + "/" + UUID.randomUUID() + ".webp")
+                .originalFilename("test.jpg")
+                .type(type)
+                .status(ImageStatus.ACTIVE)
+                .uploaderId(uploader.getId())
+                .logPost(logPost)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should build all home feed sections in a bounded number of statements")
+    void getHomeFeed_BoundedStatements() {
+        QueryCountInspector.reset();
+
+        HomeFeedResponseDto feed = recipeService.getHomeFeed("ko-KR");
+
+        assertThat(QueryCountInspector.count()).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(feed.recentActivity()).hasSize(5);
+        assertThat(feed.recentRecipes()).hasSize(5);
+        assertThat(feed.trendingTrees()).hasSize(5);
+
+        assertThat(feed.recentActivity()).allSatisfy(activity -> {
+            assertThat(activity.userName()).isNotNull();
+            assertThat(activity.thumbnailUrl()).isNotNull();
+            assertThat(activity.foodName()).startsWith("음식");
+            assertThat(activity.hashtags()).hasSize(1);
+        });
+        assertThat(feed.trendingTrees()).allSatisfy(tree -> {
+            assertThat(tree.variantCount()).isEqualTo(1L);
+            assertThat(tree.thumbnail()).isNotNull();
+            assertThat(tree.creatorPublicId()).isNotNull();
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.recipe.HomeFeedResponseDto;
+import com.cookstemma.cookstemma.dto.recipe.TrendingTreeDto;
+import com.cookstemma.cookstemma.util.LocaleUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HomeFeedSnapshotServiceTest {
+
+    @Mock
+    private RecipeService recipeService;
+
+    private HomeFeedSnapshotService homeFeedSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        homeFeedSnapshotService = new HomeFeedSnapshotService(recipeService, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(homeFeedSnapshotService, "maxAgeMillis", 60_000L);
+    }
+
+    private static HomeFeedResponseDto feedWithTitle(String title) {
+        TrendingTreeDto tree = TrendingTreeDto.builder()
+                .rootRecipeId(UUID.randomUUID())
+                .title(title)
+                .variantCount(1L)
+                .logCount(0L)
+                .build();
+        return new HomeFeedResponseDto(List.of(), List.of(), List.of(tree));
+    }
+
+    @Nested
+    @DisplayName("getSnapshot()")
+    class GetSnapshotTests {
+
+        @Test
+        @DisplayName("Should build once per language and serve later requests from the snapshot")
+        void getSnapshot_SameLanguage_BuiltOnce() {
+            when(recipeService.getHomeFeed("ko-KR")).thenReturn(feedWithTitle("김치찌개"));
+
+            HomeFeedSnapshotService.Snapshot first = homeFeedSnapshotService.getSnapshot("ko-KR");
+            HomeFeedSnapshotService.Snapshot second = homeFeedSnapshotService.getSnapshot("ko");
+
+            assertThat(second).isSameAs(first);
+            assertThat(new String(first.body(), StandardCharsets.UTF_8)).contains("김치찌개");
+            assertThat(first.etag()).startsWith("\"").endsWith("\"");
+            verify(recipeService, times(1)).getHomeFeed(anyString());
+        }
+
+        @Test
+        @DisplayName("Should not keep snapshots for unsupported languages")
+        void getSnapshot_UnsupportedLanguage_NotCached() {
+            when(recipeService.getHomeFeed("xx-YY")).thenReturn(feedWithTitle("x"));
+
+            homeFeedSnapshotService.getSnapshot("xx-YY");
+            homeFeedSnapshotService.getSnapshot("xx-YY");
+
+            verify(recipeService, times(2)).getHomeFeed("xx-YY");
+        }
+    }
+
+    @Nested
+    @DisplayName("refreshIfDue()")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should build every supported language on the first run")
+        void refreshIfDue_FirstRun_BuildsAllLanguages() {
+            when(recipeService.getHomeFeed(anyString())).thenReturn(feedWithTitle("t"));
+
+            homeFeedSnapshotService.refreshIfDue();
+
+            verify(recipeService, times(LocaleUtils.supportedLanguageKeys().size())).getHomeFeed(anyString());
+        }
+
+        @Test
+        @DisplayName("Should skip the rebuild while snapshots are fresh and unchanged")
+        void refreshIfDue_Fresh_Skips() {
+            when(recipeService.getHomeFeed(anyString())).thenReturn(feedWithTitle("t"));
+            homeFeedSnapshotService.refreshIfDue();
+            clearInvocations(recipeService);
+
+            homeFeedSnapshotService.refreshIfDue();
+
+            verifyNoInteractions(recipeService);
+        }
+
+        @Test
+        @DisplayName("Should rebuild after a content change and change the ETag")
+        void refreshIfDue_AfterChange_Rebuilds() {
+            when(recipeService.getHomeFeed(anyString())).thenReturn(feedWithTitle("before"));
+            homeFeedSnapshotService.refreshIfDue();
+            String etagBefore = homeFeedSnapshotService.getSnapshot("en-US").etag();
+
+            when(recipeService.getHomeFeed(anyString())).thenReturn(feedWithTitle("after"));
+            homeFeedSnapshotService.onHomeFeedChanged(new HomeFeedChangedEvent());
+            homeFeedSnapshotService.refreshIfDue();
+
+            HomeFeedSnapshotService.Snapshot after = homeFeedSnapshotService.getSnapshot("en-US");
+            assertThat(after.etag()).isNotEqualTo(etagBefore);
+            assertThat(new String(after.body(), StandardCharsets.UTF_8)).contains("after");
+        }
+
+        @Test
+        @DisplayName("Should keep the previous snapshot when a rebuild fails")
+        void refreshIfDue_BuildFails_KeepsPrevious() {
+            when(recipeService.getHomeFeed(anyString())).thenReturn(feedWithTitle("before"));
+            HomeFeedSnapshotService.Snapshot before = homeFeedSnapshotService.getSnapshot("en-US");
+
+            when(recipeService.getHomeFeed(anyString())).thenThrow(new RuntimeException("db down"));
+            homeFeedSnapshotService.refreshIfDue();
+
+            assertThat(homeFeedSnapshotService.getSnapshot("en-US")).isSameAs(before);
+        }
+    }
+}
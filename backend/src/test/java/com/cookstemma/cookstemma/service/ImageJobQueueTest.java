@@ -0,0 +1,153 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.image.Image;
+import com.cookstemma.cookstemma.domain.entity.image.ImageJob;
+import com.cookstemma.cookstemma.domain.enums.ImageJobStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageType;
+import com.cookstemma.cookstemma.repository.image.ImageJobRepository;
+import com.cookstemma.cookstemma.repository.image.ImageRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImageJobQueue Tests")
+class ImageJobQueueTest extends BaseIntegrationTest {
+
+    private static final String WORKER = "image-job-worker-1@test";
+
+    @Autowired
+    private ImageJobQueue imageJobQueue;
+
+    @Autowired
+    private ImageJobRepository imageJobRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Image createImage() {
+        return imageRepository.save(Image.builder()
+                .storedFilename("recipes/" + System.nanoTime() + ".jpg")
+                .originalFilename("test.jpg")
+                .status(ImageStatus.ACTIVE)
+                .type(ImageType.COVER)
+                .build());
+    }
+
+    private ImageJob reload(ImageJob job) {
+        entityManager.flush();
+        entityManager.clear();
+        return imageJobRepository.findById(job.getId()).orElse(null);
+    }
+
+    @Nested
+    @DisplayName("Claiming")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("Should claim queued jobs once and mark them processing")
+        void claim_MarksProcessing() {
+            Image first = createImage();
+            Image second = createImage();
+            assertThat(imageJobQueue.enqueue(List.of(first.getId(), second.getId()))).isEqualTo(2);
+
+            List<ImageJob> claimed = imageJobQueue.claim(WORKER, 10);
+
+            assertThat(claimed).extracting(ImageJob::getImageId).containsExactlyInAnyOrder(first.getId(), second.getId());
+            assertThat(imageJobQueue.claim(WORKER, 10)).isEmpty();
+            ImageJob reloaded = reload(claimed.get(0));
+            assertThat(reloaded.getStatus()).isEqualTo(ImageJobStatus.PROCESSING);
+            assertThat(reloaded.getAttempts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should claim no more than the batch size")
+        void claim_RespectsLimit() {
+            imageJobQueue.enqueue(List.of(createImage().getId(), createImage().getId(), createImage().getId()));
+
+            assertThat(imageJobQueue.claim(WORKER, 2)).hasSize(2);
+            assertThat(imageJobQueue.claim(WORKER, 2)).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Completion and retries")
+    class OutcomeTests {
+
+        @Test
+        @DisplayName("Should delete a completed job")
+        void complete_DeletesJob() {
+            imageJobQueue.enqueue(List.of(createImage().getId()));
+            ImageJob job = imageJobQueue.claim(WORKER, 1).get(0);
+
+            imageJobQueue.complete(job, Duration.ofMillis(5));
+
+            assertThat(reload(job)).isNull();
+        }
+
+        @Test
+        @DisplayName("Should leave a job alone once another worker has claimed it again")
+        void complete_ClaimLost_KeepsJob() {
+            imageJobQueue.enqueue(List.of(createImage().getId()));
+            ImageJob stale = imageJobQueue.claim(WORKER, 1).get(0);
+            // The claim ran past the lock timeout and another worker picked the job up
+            imageJobRepository.releaseStaleClaims(Instant.now().plusSeconds(1));
+            ImageJob current = imageJobQueue.claim("image-job-worker-2@test", 1).get(0);
+
+            imageJobQueue.complete(stale, Duration.ofMillis(5));
+            imageJobQueue.fail(stale, new IllegalStateException("late"));
+
+            ImageJob reloaded = reload(current);
+            assertThat(reloaded).isNotNull();
+            assertThat(reloaded.getStatus()).isEqualTo(ImageJobStatus.PROCESSING);
+            assertThat(reloaded.getLockedBy()).isEqualTo("image-job-worker-2@test");
+            assertThat(reloaded.getLastError()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should reschedule a failed attempt after a backoff")
+        void fail_Reschedules() {
+            imageJobQueue.enqueue(List.of(createImage().getId()));
+            ImageJob job = imageJobQueue.claim(WORKER, 1).get(0);
+
+            imageJobQueue.fail(job, new IllegalStateException("S3 unavailable"));
+
+            ImageJob reloaded = reload(job);
+            assertThat(reloaded.getStatus()).isEqualTo(ImageJobStatus.PENDING);
+            assertThat(reloaded.getLastError()).contains("S3 unavailable");
+            assertThat(imageJobQueue.claim(WORKER, 1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should mark a job failed once it has used its attempts")
+        void fail_LastAttempt_MarksFailed() {
+            Image image = createImage();
+            imageJobRepository.save(ImageJob.builder().imageId(image.getId()).attempts(4).build());
+            ImageJob job = imageJobQueue.claim(WORKER, 1).get(0);
+
+            imageJobQueue.fail(job, new IllegalStateException("corrupt"));
+
+            assertThat(reload(job).getStatus()).isEqualTo(ImageJobStatus.FAILED);
+        }
+
+        @Test
+        @DisplayName("Should double the backoff per attempt up to the cap")
+        void backoff_DoublesUpToCap() {
+            assertThat(imageJobQueue.backoff(1)).isEqualTo(Duration.ofSeconds(10));
+            assertThat(imageJobQueue.backoff(3)).isEqualTo(Duration.ofSeconds(40));
+            assertThat(imageJobQueue.backoff(30)).isEqualTo(Duration.ofHours(1));
+        }
+    }
+}
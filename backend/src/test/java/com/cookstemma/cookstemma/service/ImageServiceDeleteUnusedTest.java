@@ -45,6 +45,9 @@ class ImageServiceDeleteUnusedTest {
     @Mock
     private ImageProcessingService imageProcessingService;
 
+    @Mock
+    private ImageUploadPipeline imageUploadPipeline;
+
     private ImageService imageService;
 
     private static final String TEST_BUCKET = "test-bucket";
@@ -57,7 +60,8 @@ class ImageServiceDeleteUnusedTest {
             imageRepository,
             recipeImageRepository,
             userRepository,
-            imageProcessingService
+            imageProcessingService,
+            imageUploadPipeline
         );
 
         // Set private fields using reflection
@@ -220,5 +224,27 @@ class ImageServiceDeleteUnusedTest {
             verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
             // Note: In production, this would log a warning for manual cleanup
         }
+
+        @Test
+        @DisplayName("Should keep S3 objects another image still references")
+        void deleteUnusedImages_shouldKeepSharedObjects() {
+            // Given: Unused upload whose object is shared with an active duplicate
+            Image image = createTestImage(1L, "shared-image.jpg");
+
+            when(imageRepository.findByStatusAndCreatedAtBefore(
+                eq(ImageStatus.PROCESSING), any(Instant.class)))
+                .thenReturn(List.of(image));
+            when(imageRepository.deleteByIdAndStatus(1L, ImageStatus.PROCESSING))
+                .thenReturn(1);
+            when(imageRepository.countByStoredFilename("shared-image.jpg"))
+                .thenReturn(1L);
+
+            // When
+            imageService.deleteUnusedImages();
+
+            // Then: Row deleted, object kept
+            verify(imageRepository).deleteByIdAndStatus(1L, ImageStatus.PROCESSING);
+            verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        }
     }
 }
@@ -0,0 +1,164 @@
+package com.cookstemma.cookstemma.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageUploadPipelineTest {
+
+    @TempDir
+    Path stagingDir;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private StagedImageStore stagedImageStore;
+
+    @BeforeEach
+    void setUp() {
+        stagedImageStore = new StagedImageStore(stagingDir.toString(), 60_000, 1 << 30);
+    }
+
+    private ImageUploadPipeline pipeline(long multipartThreshold) {
+        return new ImageUploadPipeline(s3Client, stagedImageStore, "test-bucket", multipartThreshold, 1024, true);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Should read dimensions, format and hash while uploading, and keep the staged copy")
+    void upload_SmallFile_SniffsAndStages() throws Exception {
+        byte[] data = png(640, 480);
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", data);
+
+        ImageUploadPipeline pipeline = pipeline(Long.MAX_VALUE);
+        ImageUploadPipeline.StagedUpload staged = pipeline.stage(file);
+        pipeline.store(staged, "cover/photo.png", "image/png");
+
+        assertThat(staged.format()).isEqualTo("png");
+        assertThat(staged.width()).isEqualTo(640);
+        assertThat(staged.height()).isEqualTo(480);
+        assertThat(staged.size()).isEqualTo(data.length);
+        assertThat(staged.contentHash()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data)));
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        try (InputStream in = stagedImageStore.open("cover/photo.png")) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+    }
+
+    @Test
+    @DisplayName("Should upload files above the threshold in parts")
+    void upload_LargeFile_UsesMultipart() throws Exception {
+        byte[] data = png(300, 300);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        ImageUploadPipeline pipeline = pipeline(1);
+        pipeline.store(pipeline.stage(new MockMultipartFile("file", "big.png", "image/png", data)), "cover/big.png", "image/png");
+
+        verify(s3Client, times((data.length + 1023) / 1024)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("Should accept non-image data without dimensions")
+    void upload_NotAnImage_HasNoDimensions() throws Exception {
+        ImageUploadPipeline.StagedUpload staged = pipeline(Long.MAX_VALUE)
+                .stage(new MockMultipartFile("file", "notes.txt", "text/plain", "hello".getBytes()));
+
+        assertThat(staged.format()).isNull();
+        assertThat(staged.width()).isNull();
+        assertThat(staged.perceptualHash()).isNull();
+        assertThat(staged.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should delete the staged copy when the S3 upload fails")
+    void upload_S3Failure_DiscardsStagedCopy() throws Exception {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(new IllegalStateException("S3 unavailable"));
+
+        ImageUploadPipeline pipeline = pipeline(Long.MAX_VALUE);
+        ImageUploadPipeline.StagedUpload staged = pipeline.stage(new MockMultipartFile("file", "photo.png", "image/png", png(10, 10)));
+
+        assertThatThrownBy(() -> pipeline.store(staged, "cover/photo.png", "image/png"))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(stagedImageStore.open("cover/photo.png")).isNull();
+        assertThat(stagingDir).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("Should give a re-encoded copy the same perceptual hash but a different content hash")
+    void stage_ReencodedCopy_SamePerceptualHash() throws Exception {
+        // 9x8 cells whose horizontal neighbours differ clearly in brightness
+        BufferedImage picture = new BufferedImage(450, 400, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 450; x++) {
+            for (int y = 0; y < 400; y++) {
+                int grey = ((x / 50 * 7 + y / 50 * 3) % 9) * 28;
+                picture.setRGB(x, y, grey << 16 | grey << 8 | grey);
+            }
+        }
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(picture, "png", png);
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(picture, "jpg", jpeg);
+        ImageUploadPipeline pipeline = pipeline(Long.MAX_VALUE);
+
+        ImageUploadPipeline.StagedUpload fromPng = pipeline.stage(new MockMultipartFile("file", "a.png", "image/png", png.toByteArray()));
+        ImageUploadPipeline.StagedUpload fromJpeg = pipeline.stage(new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg.toByteArray()));
+
+        assertThat(fromJpeg.contentHash()).isNotEqualTo(fromPng.contentHash());
+        assertThat(fromJpeg.perceptualHash()).isNotNull().isNotZero().isEqualTo(fromPng.perceptualHash());
+        assertThat(fromJpeg.format()).isEqualTo("jpeg");
+    }
+
+    @Test
+    @DisplayName("Should keep other processes' recent staged files when a store starts on a shared directory")
+    void newStore_SharedDirectory_DeletesOnlyExpiredFiles() throws Exception {
+        Path recent = stagedImageStore.createFile();
+        Path expired = stagedImageStore.createFile();
+        Files.setLastModifiedTime(expired, FileTime.from(Instant.now().minusSeconds(120)));
+
+        new StagedImageStore(stagingDir.toString(), 60_000, 1 << 30);
+
+        assertThat(recent).exists();
+        assertThat(expired).doesNotExist();
+    }
+}
@@ -0,0 +1,89 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ImageVariantPipelineTest {
+
+    private final ImageVariantPipeline pipeline = new ImageVariantPipeline(64, 2);
+
+    private static ByteArrayInputStream jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Should subsample a large source and produce every variant at the original's aspect ratio")
+    void process_LargeSource_SubsamplesAndResizes() throws Exception {
+        List<ImageVariantPipeline.EncodedVariant> sunk = new CopyOnWriteArrayList<>();
+
+        ImageVariantPipeline.Result result = pipeline.process(jpeg(4000, 3000),
+                List.of(ImageVariant.THUMB_200, ImageVariant.LARGE_1200, ImageVariant.MEDIUM_800, ImageVariant.THUMB_400),
+                sunk::add);
+
+        assertThat(result.width()).isEqualTo(4000);
+        assertThat(result.height()).isEqualTo(3000);
+        assertThat(result.subsampling()).isEqualTo(ImageVariantPipeline.subsamplingFor(4000, 1200)).isGreaterThan(1);
+        assertThat(result.failures()).isEmpty();
+        assertThat(result.variants())
+                .extracting(ImageVariantPipeline.EncodedVariant::variant, ImageVariantPipeline.EncodedVariant::width,
+                        ImageVariantPipeline.EncodedVariant::height)
+                .containsExactly(
+                        tuple(ImageVariant.LARGE_1200, 1200, 900),
+                        tuple(ImageVariant.MEDIUM_800, 800, 600),
+                        tuple(ImageVariant.THUMB_400, 400, 300),
+                        tuple(ImageVariant.THUMB_200, 200, 150));
+        assertThat(sunk).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should skip variants larger than the source")
+    void process_SmallSource_SkipsLargerVariants() throws Exception {
+        ImageVariantPipeline.Result result = pipeline.process(jpeg(600, 300),
+                List.of(ImageVariant.LARGE_1200, ImageVariant.MEDIUM_800, ImageVariant.THUMB_400), variant -> { });
+
+        assertThat(result.subsampling()).isEqualTo(1);
+        assertThat(result.skipped()).containsExactly(ImageVariant.LARGE_1200, ImageVariant.MEDIUM_800);
+        assertThat(result.variants()).singleElement()
+                .satisfies(variant -> assertThat(variant.width()).isEqualTo(400));
+    }
+
+    @Test
+    @DisplayName("Should report variants the sink failed on and keep the others")
+    void process_SinkFails_ReportsFailure() throws Exception {
+        ImageVariantPipeline.Result result = pipeline.process(jpeg(1000, 500),
+                List.of(ImageVariant.MEDIUM_800, ImageVariant.THUMB_400), variant -> {
+                    if (variant.variant() == ImageVariant.THUMB_400) {
+                        throw new IOException("S3 unavailable");
+                    }
+                });
+
+        assertThat(result.variants()).extracting(ImageVariantPipeline.EncodedVariant::variant)
+                .containsExactly(ImageVariant.MEDIUM_800);
+        assertThat(result.failures()).singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.variant()).isEqualTo(ImageVariant.THUMB_400);
+                    assertThat(failure.message()).contains("S3 unavailable");
+                });
+    }
+
+    @Test
+    @DisplayName("Should return null for data that is not an image")
+    void process_NotAnImage_ReturnsNull() throws Exception {
+        assertThat(pipeline.process(new ByteArrayInputStream("not an image".getBytes()),
+                List.of(ImageVariant.THUMB_200), variant -> { })).isNull();
+    }
+}
@@ -0,0 +1,152 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.notification.Notification;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.NotificationType;
+import com.cookstemma.cookstemma.repository.notification.NotificationRepository;
+import com.cookstemma.cookstemma.repository.notification.UserFcmTokenRepository;
+import com.cookstemma.cookstemma.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Notification coalescing Tests")
+class NotificationCoalescingTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationOutbox notificationOutbox = mock(NotificationOutbox.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private NotificationService notificationService;
+
+    private final User owner = user(1L, "owner");
+    private Recipe recipe;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(notificationRepository, mock(UserFcmTokenRepository.class),
+                userRepository, notificationOutbox, mock(UnreadNotificationCounter.class), mock(UnreadCountStream.class),
+                eventPublisher);
+        ReflectionTestUtils.setField(notificationService, "coalesceEnabled", true);
+        ReflectionTestUtils.setField(notificationService, "coalesceWindowMillis", 3_600_000L);
+
+        recipe = Recipe.builder().title("Kimchi Stew").creatorId(owner.getId()).build();
+        recipe.setId(42L);
+        when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+    }
+
+    private static User user(long id, String username) {
+        User user = User.builder().username(username).build();
+        user.setId(id);
+        return user;
+    }
+
+    private Notification openNotification(User sender) {
+        Notification existing = Notification.builder()
+                .recipient(owner)
+                .sender(sender)
+                .type(NotificationType.RECIPE_SAVED)
+                .recipe(recipe)
+                .title("title")
+                .body("body")
+                .groupKey("recipe:42")
+                .build();
+        existing.setId(7L);
+        existing.setCreatedAt(Instant.now().minusSeconds(600));
+        when(notificationRepository.findCoalescable(eq(owner.getId()), eq(NotificationType.RECIPE_SAVED),
+                eq("recipe:42"), any(), any())).thenReturn(List.of(existing));
+        return existing;
+    }
+
+    @Test
+    @DisplayName("should insert a grouped notification when none is open")
+    void shouldInsertFirstEvent() {
+        notificationService.notifyRecipeSaved(recipe, user(2L, "alice"));
+
+        ArgumentCaptor<Notification> saved = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationRepository).save(saved.capture());
+        assertThat(saved.getValue().getGroupKey()).isEqualTo("recipe:42");
+        assertThat(saved.getValue().getActorCount()).isEqualTo(1);
+        assertThat(saved.getValue().getActorIds()).containsExactly(2L);
+        verify(notificationOutbox).enqueue(saved.getValue());
+        verify(eventPublisher).publishEvent(UnreadCountChangedEvent.added(owner.getId()));
+    }
+
+    @Test
+    @DisplayName("should fold another person's event into the open notification")
+    void shouldCoalesceIntoOpenNotification() {
+        Notification existing = openNotification(user(2L, "alice"));
+        Instant before = existing.getCreatedAt();
+
+        notificationService.notifyRecipeSaved(recipe, user(3L, "bob"));
+
+        verify(notificationRepository, never()).save(any());
+        assertThat(existing.getActorCount()).isEqualTo(2);
+        assertThat(existing.getSender().getUsername()).isEqualTo("bob");
+        assertThat(existing.getBody()).isEqualTo("bob님 외 1명이 'Kimchi Stew' 레시피를 저장했습니다.");
+        assertThat(existing.getData()).containsEntry("actorCount", 2);
+        assertThat(existing.getCreatedAt()).isAfter(before);
+        verify(notificationOutbox).enqueue(existing);
+        // Already unread, so the unread count doesn't change
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("should only refresh the notification when the same person repeats the action")
+    void shouldNotCountRepeatedActor() {
+        Notification existing = openNotification(user(2L, "alice"));
+
+        notificationService.notifyRecipeSaved(recipe, user(2L, "alice"));
+
+        assertThat(existing.getActorCount()).isEqualTo(1);
+        verify(notificationRepository, never()).save(any());
+        verify(notificationOutbox, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("should count each person once when they take turns acting")
+    void shouldCountDistinctActors() {
+        Notification existing = openNotification(user(2L, "alice"));
+
+        notificationService.notifyRecipeSaved(recipe, user(3L, "bob"));
+        notificationService.notifyRecipeSaved(recipe, user(2L, "alice"));
+        notificationService.notifyRecipeSaved(recipe, user(3L, "bob"));
+
+        assertThat(existing.getActorCount()).isEqualTo(2);
+        assertThat(existing.getActorIds()).containsExactly(2L, 3L);
+        verify(notificationOutbox).enqueue(existing);
+
+        notificationService.notifyRecipeSaved(recipe, user(4L, "carol"));
+
+        assertThat(existing.getActorCount()).isEqualTo(3);
+        assertThat(existing.getBody()).isEqualTo("carol님 외 2명이 'Kimchi Stew' 레시피를 저장했습니다.");
+    }
+
+    @Test
+    @DisplayName("should always insert when coalescing is disabled")
+    void shouldInsertWhenDisabled() {
+        ReflectionTestUtils.setField(notificationService, "coalesceEnabled", false);
+
+        notificationService.notifyRecipeSaved(recipe, user(2L, "alice"));
+
+        verify(notificationRepository, never()).findCoalescable(anyLong(), any(), any(), any(), any());
+        verify(notificationRepository).save(any(Notification.class));
+    }
+}
@@ -0,0 +1,211 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.notification.Notification;
+import com.cookstemma.cookstemma.domain.entity.notification.NotificationOutboxEntry;
+import com.cookstemma.cookstemma.domain.entity.notification.UserFcmToken;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.NotificationType;
+import com.cookstemma.cookstemma.filter.LocalRateLimitBucketStore;
+import com.cookstemma.cookstemma.repository.notification.NotificationRepository;
+import com.cookstemma.cookstemma.repository.notification.UserFcmTokenRepository;
+import com.google.firebase.messaging.Message;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PushNotificationService Tests")
+class PushNotificationServiceTest {
+
+    /**
+     * Records each call and answers with a result per message chosen by the test.
+     */
+    private static class StubPushSender implements PushSender {
+        boolean available = true;
+        Function<Integer, Result> results = index -> Result.SENT;
+        RuntimeException failure;
+        final List<Integer> callSizes = new ArrayList<>();
+
+        @Override
+        public boolean isAvailable() {
+            return available;
+        }
+
+        @Override
+        public List<Result> send(List<Message> messages) {
+            callSizes.add(messages.size());
+            if (failure != null) {
+                throw failure;
+            }
+            List<Result> out = new ArrayList<>();
+            for (int i = 0; i < messages.size(); i++) {
+                out.add(results.apply(i));
+            }
+            return out;
+        }
+    }
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final UserFcmTokenRepository tokenRepository = mock(UserFcmTokenRepository.class);
+    private final StubPushSender sender = new StubPushSender();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PushNotificationService service;
+
+    private final User follower = user(100L);
+    private final List<Notification> notifications = new ArrayList<>();
+    private final List<UserFcmToken> tokens = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new PushNotificationService(notificationRepository, tokenRepository, sender,
+                new PushRateLimiter(new LocalRateLimitBucketStore(1000), 2, Duration.ofHours(1)), meterRegistry);
+        ReflectionTestUtils.setField(service, "dedupeWindowMillis", 60_000L);
+        service.registerMetrics();
+        when(notificationRepository.findAllForPushByIdIn(any())).thenReturn(notifications);
+        when(tokenRepository.findActiveByUserIdIn(any())).thenReturn(tokens);
+    }
+
+    private static User user(long id) {
+        User user = User.builder().username("user" + id).build();
+        user.setId(id);
+        return user;
+    }
+
+    // A NEW_FOLLOWER notification from follower to recipientId, queued as outbox entry id
+    private NotificationOutboxEntry entry(long id, long recipientId) {
+        Notification notification = Notification.builder()
+                .recipient(user(recipientId))
+                .sender(follower)
+                .type(NotificationType.NEW_FOLLOWER)
+                .title("title")
+                .body("body")
+                .data(Map.of())
+                .build();
+        notification.setId(id);
+        notifications.add(notification);
+        return NotificationOutboxEntry.builder().id(id).notificationId(id).recipientId(recipientId).build();
+    }
+
+    private void devices(long userId, int count) {
+        for (int i = 0; i < count; i++) {
+            tokens.add(UserFcmToken.builder().user(user(userId)).fcmToken("token-" + userId + "-" + i).build());
+        }
+    }
+
+    @Test
+    @DisplayName("should send one message per device in calls of at most 500")
+    void shouldBatchMessagesAcrossRecipients() {
+        List<NotificationOutboxEntry> entries = new ArrayList<>();
+        for (long recipient = 1; recipient <= 3; recipient++) {
+            devices(recipient, 250);
+            entries.add(entry(recipient, recipient));
+        }
+
+        PushNotificationService.Delivery delivery = service.deliver(entries);
+
+        assertThat(sender.callSizes).containsExactly(500, 250);
+        assertThat(delivery.delivered()).containsExactlyInAnyOrderElementsOf(entries);
+        assertThat(delivery.retry()).isEmpty();
+        assertThat(meterRegistry.get("notification.push.messages").tag("result", "sent").counter().count())
+                .isEqualTo(750.0);
+    }
+
+    @Test
+    @DisplayName("should collect invalid tokens and retry only entries that reached no device")
+    void shouldClassifyResults() {
+        devices(1, 1);
+        devices(2, 1);
+        devices(3, 2);
+        NotificationOutboxEntry invalidOnly = entry(1, 1);
+        NotificationOutboxEntry unavailable = entry(2, 2);
+        NotificationOutboxEntry partlySent = entry(3, 3);
+        List<PushSender.Result> answers = List.of(PushSender.Result.INVALID_TOKEN, PushSender.Result.RETRYABLE,
+                PushSender.Result.RETRYABLE, PushSender.Result.SENT);
+        sender.results = answers::get;
+
+        PushNotificationService.Delivery delivery = service.deliver(List.of(invalidOnly, unavailable, partlySent));
+
+        assertThat(delivery.delivered()).containsExactlyInAnyOrder(invalidOnly, partlySent);
+        assertThat(delivery.retry()).containsExactly(unavailable);
+        assertThat(delivery.invalidTokens()).containsExactly("token-1-0");
+    }
+
+    @Test
+    @DisplayName("should retry the whole call when the sender throws")
+    void shouldRetryFailedCall() {
+        devices(1, 2);
+        NotificationOutboxEntry entry = entry(1, 1);
+        sender.failure = new IllegalStateException("FCM down");
+
+        PushNotificationService.Delivery delivery = service.deliver(List.of(entry));
+
+        assertThat(delivery.retry()).containsExactly(entry);
+        assertThat(delivery.delivered()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should send a repeated event to the same recipient once within the window")
+    void shouldDeduplicatePerRecipient() {
+        devices(1, 1);
+        NotificationOutboxEntry first = entry(1, 1);
+        NotificationOutboxEntry repeat = entry(2, 1);
+
+        PushNotificationService.Delivery delivery = service.deliver(List.of(first, repeat));
+        assertThat(sender.callSizes).containsExactly(1);
+        assertThat(delivery.delivered()).containsExactlyInAnyOrder(first, repeat);
+
+        notifications.clear();
+        NotificationOutboxEntry later = entry(3, 1);
+        service.deliver(List.of(later));
+        assertThat(sender.callSizes).containsExactly(1);
+        assertThat(meterRegistry.get("notification.push.deduplicated").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("should cap pushes per recipient")
+    void shouldRateLimitPerRecipient() {
+        devices(1, 1);
+        devices(2, 1);
+        List<NotificationOutboxEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            NotificationOutboxEntry entry = entry(id, 1);
+            notifications.get(notifications.size() - 1).setSender(user(200 + id));
+            entries.add(entry);
+        }
+        entries.add(entry(4, 2));
+
+        PushNotificationService.Delivery delivery = service.deliver(entries);
+
+        assertThat(sender.callSizes).containsExactly(3);
+        assertThat(delivery.delivered()).hasSize(4);
+        assertThat(meterRegistry.get("notification.push.rate_limited").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should drop pushes without touching the database when the sender is unavailable")
+    void shouldDropWhenUnavailable() {
+        sender.available = false;
+        NotificationOutboxEntry entry = NotificationOutboxEntry.builder().id(1L).notificationId(1L).recipientId(1L).build();
+
+        PushNotificationService.Delivery delivery = service.deliver(List.of(entry));
+
+        assertThat(delivery.delivered()).containsExactly(entry);
+        assertThat(delivery.retry()).isEmpty();
+        assertThat(sender.callSizes).isEmpty();
+        verifyNoInteractions(notificationRepository, tokenRepository);
+    }
+}
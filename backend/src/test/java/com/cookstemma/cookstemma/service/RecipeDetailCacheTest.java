@@ -0,0 +1,193 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import com.cookstemma.cookstemma.dto.recipe.RecipeDetailResponseDto;
+import com.cookstemma.cookstemma.dto.recipe.StepDto;
+import com.cookstemma.cookstemma.repository.recipe.RecipeIngredientRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeLogRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeStepRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RecipeDetailCache Tests")
+class RecipeDetailCacheTest {
+
+    private static final String LOCALE = "ko-KR";
+
+    private final RecipeRepository recipeRepository = mock(RecipeRepository.class);
+    private final RecipeLogRepository recipeLogRepository = mock(RecipeLogRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RecipeDetailCache cache;
+
+    private final UUID publicId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecipeDetailCache(recipeRepository, recipeLogRepository, mock(RecipeStepRepository.class),
+                mock(RecipeIngredientRepository.class), objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "nearTtlMillis", 60_000L);
+        ReflectionTestUtils.setField(cache, "redisTtlMillis", 600_000L);
+        cache.subscribe();
+    }
+
+    private static RecipeDetailCache.Entry entry(UUID publicId) {
+        RecipeDetailResponseDto detail = RecipeDetailResponseDto.builder()
+                .publicId(publicId)
+                .title("김치찌개")
+                .steps(List.of(new StepDto(1, "끓인다", null, null)))
+                .changeDiff(Map.of("ingredients", Map.of("added", List.of("두부"))))
+                .isPrivate(false)
+                .build();
+        return new RecipeDetailCache.Entry(1L, 2L, detail);
+    }
+
+    private RecipeDetailCache.Entry get(UUID id) {
+        return cache.get(id, LOCALE, () -> {
+            loads.incrementAndGet();
+            return entry(id);
+        });
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("recipe.detail.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("should load a detail once and serve it from the near cache")
+    void shouldServeFromNearCache() {
+        RecipeDetailCache.Entry first = get(publicId);
+        RecipeDetailCache.Entry second = get(publicId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+        assertThat(lookups("near_hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should reload a recipe after its detail changed")
+    void shouldEvictChangedRecipe() {
+        UUID other = UUID.randomUUID();
+        get(publicId);
+        get(other);
+
+        cache.onRecipeDetailChanged(RecipeDetailChangedEvent.recipe(publicId));
+        get(publicId);
+        get(other);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should evict the whole family when a recipe is created, edited or deleted")
+    void shouldEvictFamily() {
+        UUID root = UUID.randomUUID();
+        UUID sibling = UUID.randomUUID();
+        when(recipeRepository.findFamilyPublicIds(publicId)).thenReturn(List.of(root, publicId, sibling));
+        get(root);
+        get(sibling);
+
+        cache.onRecipeDetailChanged(RecipeDetailChangedEvent.family(publicId));
+        get(root);
+        get(sibling);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("should evict the log's recipe when a log translation completes")
+    void shouldEvictOnTranslationCompleted() {
+        when(recipeLogRepository.findRecipePublicIdByLogPostId(7L)).thenReturn(Optional.of(publicId));
+        get(publicId);
+
+        cache.onTranslationCompleted(new TranslationCompletedEvent(TranslatableEntity.LOG_POST, 7L));
+        cache.onTranslationCompleted(new TranslationCompletedEvent(TranslatableEntity.USER, 2L));
+        get(publicId);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should not keep a detail loaded while the recipe was evicted")
+    void shouldNotCacheLoadRacingEviction() {
+        cache.get(publicId, LOCALE, () -> {
+            loads.incrementAndGet();
+            cache.onRecipeDetailChanged(RecipeDetailChangedEvent.recipe(publicId));
+            return entry(publicId);
+        });
+        get(publicId);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should load every time when disabled")
+    void shouldBypassWhenDisabled() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        get(publicId);
+        get(publicId);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("should share details through Redis under the recipe's content version")
+    @SuppressWarnings("unchecked")
+    void shouldShareThroughRedis() throws Exception {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        ReflectionTestUtils.setField(cache, "redisEnabled", true);
+        ReflectionTestUtils.setField(cache, "redisTemplate", redisTemplate);
+        String detailKey = "recipe:detail:" + publicId + ":" + LOCALE + ":5";
+        when(values.get(RecipeDetailCache.VERSION_KEY_PREFIX + publicId)).thenReturn("5");
+
+        // Miss: built by the loader and written under the current version
+        RecipeDetailCache.Entry loaded = get(publicId);
+        verify(values).set(eq(detailKey), anyString(), eq(Duration.ofMillis(600_000L)));
+
+        // Another node reads it back without loading
+        when(values.get(detailKey)).thenReturn(objectMapper.writeValueAsString(loaded));
+        ReflectionTestUtils.setField(cache, "nearTtlMillis", 0L);
+        RecipeDetailCache.Entry shared = get(publicId);
+
+        assertThat(shared).isEqualTo(loaded);
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("redis_hit")).isEqualTo(1.0);
+
+        // Changes move the recipe to a new version and tell the other nodes
+        cache.onRecipeDetailChanged(RecipeDetailChangedEvent.recipe(publicId));
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("recipe:detail:version-seq", "recipe:detail:version:" + publicId)), eq("1200000"));
+        verify(redisTemplate).convertAndSend(RecipeDetailCache.INVALIDATION_CHANNEL, publicId.toString());
+    }
+}
@@ -0,0 +1,221 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.domain.entity.image.Image;
+import com.cookstemma.cookstemma.domain.entity.image.RecipeImage;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.ImageStatus;
+import com.cookstemma.cookstemma.domain.enums.ImageType;
+import com.cookstemma.cookstemma.dto.log_post.LogPostSummaryDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeDetailResponseDto;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.hashtag.HashtagRepository;
+import com.cookstemma.cookstemma.repository.image.ImageRepository;
+import com.cookstemma.cookstemma.repository.image.RecipeImageRepository;
+import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.QueryCountInspector;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the work the recipe detail page does for a very large recipe tree: variant and log previews
+ * are read as top-N rows, so neither the statement count nor the number of loaded entities grows
+ * with the number of variants or logs.
+ */
+@DisplayName("Recipe detail previews")
+class RecipeDetailPreviewQueryTest extends BaseIntegrationTest {
+
+    private static final int VARIANTS = 5_000;
+    private static final int LOGS = 8;
+    private static final int MAX_STATEMENTS = 12;
+    private static final int MAX_LOADED_ENTITIES = 30;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private LogPostRepository logPostRepository;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private RecipeImageRepository recipeImageRepository;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User creator;
+    private Recipe root;
+    private LogPost deletedLog;
+
+    @BeforeEach
+    void setUp() {
+        creator = testUserFactory.createTestUser();
+        FoodMaster food = foodMasterRepository.save(FoodMaster.builder()
+                .name(Map.of("ko-KR", "김치찌개", "en-US", "Kimchi stew"))
+                .isVerified(true)
+                .build());
+        Hashtag hashtag = hashtagRepository.save(Hashtag.builder()
+                .name("preview_" + UUID.randomUUID().toString().substring(0, 8))
+                .build());
+
+        root = recipeRepository.save(Recipe.builder()
+                .title("원본 김치찌개")
+                .titleTranslations(Map.of("ko-KR", "원본 김치찌개", "en-US", "Original kimchi stew"))
+                .cookingStyle("ko-KR")
+                .foodMaster(food)
+                .creatorId(creator.getId())
+                .build());
+
+        List<Recipe> batch = new ArrayList<>();
+        for (int i = 0; i < VARIANTS; i++) {
+            Recipe variant = Recipe.builder()
+                    .title("변형 " + i)
+                    .titleTranslations(Map.of("ko-KR", "변형 " + i, "en-US", "Variant " + i))
+                    .cookingStyle("ko-KR")
+                    .foodMaster(food)
+                    .creatorId(creator.getId())
+                    .parentRecipe(root)
+                    .rootRecipe(root)
+                    .build();
+            variant.getHashtags().add(hashtag);
+            batch.add(variant);
+            if (batch.size() == 500) {
+                saveBatch(batch);
+            }
+        }
+        saveBatch(batch);
+        Recipe coveredVariant = recipeRepository.findByRootRecipeIdAndDeletedAtIsNull(root.getId()).get(0);
+        recipeImageRepository.save(RecipeImage.of(coveredVariant, createImage(ImageType.COVER, null), 0));
+
+        for (int i = 0; i < LOGS; i++) {
+            LogPost log = createLog("로그 " + i, hashtag);
+            if (i == LOGS - 1) {
+                deletedLog = log;
+            }
+        }
+        deletedLog.softDelete();
+        logPostRepository.save(deletedLog);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void saveBatch(List<Recipe> batch) {
+        recipeRepository.saveAll(batch);
+        entityManager.flush();
+        batch.clear();
+    }
+
+    private LogPost createLog(String title, Hashtag hashtag) {
+        LogPost log = LogPost.builder()
+                .title(title)
+                .titleTranslations(Map.of("ko-KR", title, "en-US", "Log " + title))
+                .content("맛있어요")
+                .locale("ko-KR")
+                .originalLanguage("ko")
+                .creatorId(creator.getId())
+                .build();
+        log.getHashtags().add(hashtag);
+        log.setRecipeLog(RecipeLog.builder()
+                .logPost(log)
+                .recipe(root)
+                .rating(5)
+                .build());
+        log = logPostRepository.save(log);
+        createImage(ImageType.LOG_POST, log);
+        return log;
+    }
+
+    private Image createImage(ImageType type, LogPost logPost) {
+        return imageRepository.save(Image.builder()
+                .storedFilename(type.name().toLowerCase() + "/" + UUID.randomUUID() + ".webp")
+                .originalFilename("test.jpg")
+                .type(type)
+                .status(ImageStatus.ACTIVE)
+                .uploaderId(creator.getId())
+                .logPost(logPost)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should build the detail of a root with 5,000 variants from top-N previews")
+    void getRecipeDetail_LargeTree_BoundedWork() {
+        QueryCountInspector.reset();
+
+        RecipeDetailResponseDto detail = recipeService.getRecipeDetail(root.getPublicId(), creator.getId(), "en-US");
+
+        assertThat(QueryCountInspector.count()).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount())
+                .isLessThanOrEqualTo(MAX_LOADED_ENTITIES);
+
+        assertThat(detail.variants()).hasSize(6);
+        assertThat(detail.variants()).allSatisfy(variant -> {
+            assertThat(variant.publicId()).isNotEqualTo(root.getPublicId());
+            assertThat(variant.title()).startsWith("Variant ");
+            assertThat(variant.foodName()).isEqualTo("Kimchi stew");
+            assertThat(variant.userName()).isEqualTo(creator.getUsername());
+            assertThat(variant.rootPublicId()).isEqualTo(root.getPublicId());
+            assertThat(variant.rootTitle()).isEqualTo("Original kimchi stew");
+            assertThat(variant.hashtags()).hasSize(1);
+        });
+
+        assertThat(detail.logs()).hasSize(6);
+        assertThat(detail.logs()).extracting(LogPostSummaryDto::publicId).doesNotContain(deletedLog.getPublicId());
+        assertThat(detail.logs()).allSatisfy(log -> {
+            assertThat(log.title()).startsWith("Log ");
+            assertThat(log.thumbnailUrl()).isNotNull();
+            assertThat(log.creatorPublicId()).isEqualTo(creator.getPublicId());
+            assertThat(log.rating()).isEqualTo(5);
+            assertThat(log.recipeTitle()).isEqualTo("Original kimchi stew");
+            assertThat(log.isVariant()).isFalse();
+            assertThat(log.hashtags()).hasSize(1);
+        });
+        // Newest first: the last live log leads
+        assertThat(detail.logs().get(0).title()).isEqualTo("Log 로그 " + (LOGS - 2));
+    }
+
+    @Test
+    @DisplayName("Should join the cover image and counts into variant previews")
+    void findVariantPreviews_IncludesCoverAndCounts() {
+        var previews = recipeRepository.findVariantPreviews(root.getId(), root.getId(), VARIANTS);
+
+        assertThat(previews).hasSize(VARIANTS);
+        assertThat(previews).filteredOn(preview -> preview.getCoverFilename() != null).hasSize(1);
+        assertThat(previews).allSatisfy(preview -> {
+            assertThat(preview.getVariantCount()).isZero();
+            assertThat(preview.getLogCount()).isZero();
+        });
+    }
+}
@@ -0,0 +1,193 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.dto.common.CursorPageResponse;
+import com.cookstemma.cookstemma.dto.recipe.RecipeTreeNodeDto;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecipeLineageServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RecipeLineageService recipeLineageService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    private User creator;
+    private FoodMaster food;
+
+    // root ─┬─ a ─┬─ a1 ── a1x
+    //       │     └─ a2
+    //       └─ b
+    private Recipe root;
+    private Recipe a;
+    private Recipe b;
+    private Recipe a1;
+    private Recipe a2;
+    private Recipe a1x;
+
+    @BeforeEach
+    void setUp() {
+        creator = testUserFactory.createTestUser();
+        food = foodMasterRepository.save(FoodMaster.builder()
+                .name(Map.of("ko-KR", "김치찌개", "en-US", "Kimchi stew"))
+                .isVerified(true)
+                .build());
+
+        root = recipe("root", null, false);
+        a = recipe("a", root, false);
+        b = recipe("b", root, false);
+        a1 = recipe("a1", a, false);
+        a2 = recipe("a2", a, false);
+        a1x = recipe("a1x", a1, false);
+    }
+
+    private Recipe recipe(String title, Recipe parent, boolean isPrivate) {
+        Recipe recipe = recipeRepository.save(Recipe.builder()
+                .title(title)
+                .titleTranslations(Map.of("ko-KR", title, "en-US", title + " (en)"))
+                .cookingStyle("ko-KR")
+                .foodMaster(food)
+                .creatorId(creator.getId())
+                .parentRecipe(parent)
+                .rootRecipe(parent == null ? null : parent.getRootRecipe() != null ? parent.getRootRecipe() : parent)
+                .isPrivate(isPrivate)
+                .build());
+        recipeLineageService.recipeCreated(recipe);
+        return recipe;
+    }
+
+    private List<UUID> publicIds(List<RecipeTreeNodeDto> nodes) {
+        return nodes.stream().map(RecipeTreeNodeDto::publicId).toList();
+    }
+
+    private RecipeTreeNodeDto node(List<RecipeTreeNodeDto> nodes, Recipe recipe) {
+        return nodes.stream().filter(n -> n.publicId().equals(recipe.getPublicId())).findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should return the subtree breadth-first with parents, depths and counts")
+    void getTree_ReturnsSubtreeBreadthFirst() {
+        List<RecipeTreeNodeDto> nodes = recipeLineageService.getTree(root.getPublicId(), null, null, null, 50, "en-US").content();
+
+        assertThat(publicIds(nodes)).containsExactly(
+                root.getPublicId(), a.getPublicId(), b.getPublicId(),
+                a1.getPublicId(), a2.getPublicId(), a1x.getPublicId());
+        assertThat(nodes).extracting(RecipeTreeNodeDto::depth).containsExactly(0, 1, 1, 2, 2, 3);
+
+        RecipeTreeNodeDto rootNode = node(nodes, root);
+        assertThat(rootNode.parentPublicId()).isNull();
+        assertThat(rootNode.childCount()).isEqualTo(2);
+        assertThat(rootNode.title()).isEqualTo("root (en)");
+        assertThat(rootNode.userName()).isEqualTo(creator.getUsername());
+
+        RecipeTreeNodeDto aNode = node(nodes, a);
+        assertThat(aNode.parentPublicId()).isEqualTo(root.getPublicId());
+        assertThat(aNode.childCount()).isEqualTo(2);
+        assertThat(node(nodes, a1x).parentPublicId()).isEqualTo(a1.getPublicId());
+    }
+
+    @Test
+    @DisplayName("Should return subtrees of inner recipes with depths relative to them")
+    void getTree_InnerRecipe_RelativeDepths() {
+        List<RecipeTreeNodeDto> nodes = recipeLineageService.getTree(a.getPublicId(), null, 1, null, 50, "ko-KR").content();
+
+        assertThat(publicIds(nodes)).containsExactly(a.getPublicId(), a1.getPublicId(), a2.getPublicId());
+        assertThat(nodes).extracting(RecipeTreeNodeDto::depth).containsExactly(0, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Should page through the tree with cursors")
+    void getTree_PagesWithCursor() {
+        List<RecipeTreeNodeDto> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageResponse<RecipeTreeNodeDto> page =
+                    recipeLineageService.getTree(root.getPublicId(), null, null, cursor, 4, "ko-KR");
+            all.addAll(page.content());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(2);
+        assertThat(publicIds(all)).containsExactly(
+                root.getPublicId(), a.getPublicId(), b.getPublicId(),
+                a1.getPublicId(), a2.getPublicId(), a1x.getPublicId());
+    }
+
+    @Test
+    @DisplayName("Should drop deleted recipes from the tree and the counts")
+    void recipesDeleted_RemovesFromTree() {
+        a1x.softDelete();
+        recipeRepository.save(a1x);
+        recipeLineageService.recipesDeleted(List.of(a1x.getId()));
+
+        List<RecipeTreeNodeDto> nodes = recipeLineageService.getTree(root.getPublicId(), null, null, null, 50, "ko-KR").content();
+
+        assertThat(publicIds(nodes)).doesNotContain(a1x.getPublicId());
+        assertThat(nodes).hasSize(5);
+        assertThat(node(nodes, a1).childCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should show private recipes only to their creator")
+    void getTree_PrivateRecipes() {
+        Recipe hidden = recipe("hidden", b, true);
+        User other = testUserFactory.createTestUser();
+
+        assertThat(publicIds(recipeLineageService.getTree(root.getPublicId(), other.getId(), null, null, 50, "ko-KR").content()))
+                .doesNotContain(hidden.getPublicId());
+        assertThat(publicIds(recipeLineageService.getTree(root.getPublicId(), creator.getId(), null, null, 50, "ko-KR").content()))
+                .contains(hidden.getPublicId());
+        assertThatThrownBy(() -> recipeLineageService.getTree(hidden.getPublicId(), null, null, null, 50, "ko-KR"))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("Should hide the variants below a private recipe and leave them out of the counts")
+    void getTree_PrivateRecipe_HidesSubtree() {
+        // a2 becomes private; a2x and a2xx below it stay public
+        a2.setIsPrivate(true);
+        recipeRepository.save(a2);
+        Recipe a2x = recipe("a2x", a2, false);
+        Recipe a2xx = recipe("a2xx", a2x, false);
+        User other = testUserFactory.createTestUser();
+
+        List<RecipeTreeNodeDto> nodes = recipeLineageService.getTree(root.getPublicId(), other.getId(), null, null, 50, "ko-KR").content();
+
+        assertThat(publicIds(nodes)).doesNotContain(a2.getPublicId(), a2x.getPublicId(), a2xx.getPublicId());
+        assertThat(nodes).hasSize(5);
+        assertThat(node(nodes, a).childCount()).isEqualTo(1);
+
+        List<RecipeTreeNodeDto> own = recipeLineageService.getTree(root.getPublicId(), creator.getId(), null, null, 50, "ko-KR").content();
+
+        assertThat(publicIds(own)).contains(a2.getPublicId(), a2x.getPublicId(), a2xx.getPublicId());
+        assertThat(own).hasSize(8);
+        assertThat(node(own, a).childCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,259 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeStats;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.dto.common.UnifiedPageResponse;
+import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryDto;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeStatsRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("RecipeStatsService Tests")
+class RecipeStatsServiceTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RecipeStatsService recipeStatsService;
+
+    @Autowired
+    private RecipeStatsRepository recipeStatsRepository;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private LogPostRepository logPostRepository;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private FoodMaster testFood;
+
+    @BeforeEach
+    void setUp() {
+        testUser = testUserFactory.createTestUser();
+        testFood = foodMasterRepository.save(FoodMaster.builder()
+                .name(Map.of("ko-KR", "테스트음식"))
+                .isVerified(true)
+                .build());
+    }
+
+    private Recipe createRecipe(String title, Recipe root) {
+        Recipe recipe = recipeRepository.save(Recipe.builder()
+                .title(title)
+                .titleTranslations(Map.of("ko", title))
+                .cookingStyle("ko-KR")
+                .foodMaster(testFood)
+                .creatorId(testUser.getId())
+                .parentRecipe(root)
+                .rootRecipe(root)
+                .servings(2)
+                .build());
+        recipeStatsService.recipeCreated(recipe);
+        return recipe;
+    }
+
+    private LogPost createLog(Recipe recipe) {
+        LogPost logPost = LogPost.builder()
+                .title("로그")
+                .content("맛있어요")
+                .locale("ko-KR")
+                .creatorId(testUser.getId())
+                .build();
+        logPost.setRecipeLog(RecipeLog.builder()
+                .logPost(logPost)
+                .recipe(recipe)
+                .rating(5)
+                .build());
+        logPostRepository.save(logPost);
+        recipeStatsService.logCreated(logPost);
+        return logPost;
+    }
+
+    private RecipeStats stats(Recipe recipe) {
+        entityManager.flush();
+        entityManager.clear();
+        return recipeStatsRepository.findById(recipe.getId()).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Incremental updates")
+    class IncrementalTests {
+
+        @Test
+        @DisplayName("Should count a new variant and its trending activity on the root")
+        void recipeCreated_Variant_UpdatesRoot() {
+            Recipe root = createRecipe("원본", null);
+            createRecipe("변형", root);
+
+            RecipeStats rootStats = stats(root);
+            assertThat(rootStats.getVariantCount()).isEqualTo(1);
+            assertThat(rootStats.getTrendingScore()).isEqualTo(1.0);
+            assertThat(rootStats.getPopularityScore()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("Should uncount a deleted variant but never go below zero")
+        void recipeDeleted_Variant_Decrements() {
+            Recipe root = createRecipe("원본", null);
+            Recipe variant = createRecipe("변형", root);
+
+            recipeStatsService.recipeDeleted(variant);
+            recipeStatsService.recipeDeleted(variant);
+
+            assertThat(stats(root).getVariantCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count logs and saves into the popularity score")
+        void logsAndSaves_UpdatePopularity() {
+            Recipe recipe = createRecipe("원본", null);
+            createLog(recipe);
+            LogPost deleted = createLog(recipe);
+            recipeStatsService.logDeleted(deleted);
+            recipeStatsService.recipeSaved(recipe.getId());
+
+            RecipeStats recipeStats = stats(recipe);
+            assertThat(recipeStats.getLogCount()).isEqualTo(1);
+            assertThat(recipeStats.getSavedCount()).isEqualTo(1);
+            assertThat(recipeStats.getPopularityScore()).isEqualTo(1L * 2 + 1L * 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Periodic maintenance")
+    class MaintenanceTests {
+
+        @Test
+        @DisplayName("Should halve trending scores after one half-life")
+        void refreshScores_DecaysTrending() {
+            Recipe root = createRecipe("원본", null);
+            createRecipe("변형", root);
+            entityManager.flush();
+            entityManager.createNativeQuery(
+                    "UPDATE recipe_stats SET trending_decayed_at = NOW() - INTERVAL '48 hours' WHERE recipe_id = :id")
+                    .setParameter("id", root.getId())
+                    .executeUpdate();
+
+            recipeStatsService.refreshScores();
+
+            assertThat(stats(root).getTrendingScore()).isCloseTo(0.5, within(0.01));
+        }
+
+        @Test
+        @DisplayName("Should not decay new activity on a long idle recipe over the idle gap")
+        void logCreated_IdleZeroScore_Trends() {
+            Recipe root = createRecipe("원본", null);
+            entityManager.flush();
+            // Idle for weeks: the score decayed to 0 and the refresh has skipped the row since
+            entityManager.createNativeQuery(
+                    "UPDATE recipe_stats SET trending_score = 0, trending_decayed_at = NOW() - INTERVAL '30 days' "
+                            + "WHERE recipe_id = :id")
+                    .setParameter("id", root.getId())
+                    .executeUpdate();
+
+            createLog(root);
+            recipeStatsService.refreshScores();
+
+            RecipeStats rootStats = stats(root);
+            assertThat(rootStats.getTrendingScore()).isCloseTo(1.0, within(0.01));
+        }
+
+        @Test
+        @DisplayName("Should create missing rows and recount from the source tables")
+        void reconcile_FixesDrift() {
+            Recipe root = recipeRepository.save(Recipe.builder()
+                    .title("원본")
+                    .cookingStyle("ko-KR")
+                    .foodMaster(testFood)
+                    .creatorId(testUser.getId())
+                    .viewCount(7)
+                    .build());
+            recipeRepository.save(Recipe.builder()
+                    .title("변형")
+                    .cookingStyle("ko-KR")
+                    .foodMaster(testFood)
+                    .creatorId(testUser.getId())
+                    .parentRecipe(root)
+                    .rootRecipe(root)
+                    .build());
+            entityManager.flush();
+
+            recipeStatsService.reconcile();
+
+            RecipeStats rootStats = stats(root);
+            assertThat(rootStats.getVariantCount()).isEqualTo(1);
+            assertThat(rootStats.getViewCount()).isEqualTo(7);
+            assertThat(rootStats.getPopularityScore()).isEqualTo(7L + 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sorted recipe lists")
+    class SortTests {
+
+        @Test
+        @DisplayName("Should order popular and mostForked lists by recipe_stats")
+        void sortedQueries_UseStats() {
+            Recipe quiet = createRecipe("조용한 레시피", null);
+            Recipe forked = createRecipe("인기 레시피", null);
+            createRecipe("변형 1", forked);
+            createRecipe("변형 2", forked);
+            entityManager.flush();
+
+            List<Long> popular = recipeRepository.findRecipesOrderByPopular("ko", PageRequest.of(0, 10))
+                    .map(Recipe::getId).getContent();
+            List<Long> mostForked = recipeRepository.findRecipesOrderByVariantCount("ko", PageRequest.of(0, 10))
+                    .map(Recipe::getId).getContent();
+
+            assertThat(popular).containsSubsequence(forked.getId(), quiet.getId());
+            assertThat(mostForked).containsSubsequence(forked.getId(), quiet.getId());
+        }
+
+        @Test
+        @DisplayName("Should honour mostForked when advanced filters use the specification path")
+        void findRecipesUnified_WithFilters_SortsByStats() {
+            Recipe quiet = createRecipe("조용한 레시피", null);
+            Recipe forked = createRecipe("인기 레시피", null);
+            createRecipe("변형 1", forked);
+            entityManager.flush();
+            entityManager.clear();
+
+            UnifiedPageResponse<RecipeSummaryDto> result = recipeService.findRecipesUnified(
+                    null, "original", "mostForked", null, 1, 10, null, 0, 10, "ko-KR");
+
+            List<String> titles = result.content().stream().map(RecipeSummaryDto::title).toList();
+            assertThat(titles).containsSubsequence("인기 레시피", "조용한 레시피");
+            assertThat(result.totalElements()).isGreaterThanOrEqualTo(2L);
+        }
+    }
+}
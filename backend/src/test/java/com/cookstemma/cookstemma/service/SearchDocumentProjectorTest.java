@@ -0,0 +1,282 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.food.FoodMaster;
+import com.cookstemma.cookstemma.domain.entity.hashtag.Hashtag;
+import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
+import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
+import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
+import com.cookstemma.cookstemma.domain.entity.search.SearchDocument;
+import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.domain.enums.SearchDocumentType;
+import com.cookstemma.cookstemma.dto.search.SearchResultItem;
+import com.cookstemma.cookstemma.dto.search.UnifiedSearchResponse;
+import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
+import com.cookstemma.cookstemma.repository.hashtag.HashtagRepository;
+import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
+import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
+import com.cookstemma.cookstemma.repository.search.SearchDocumentRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import com.cookstemma.cookstemma.support.TestUserFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "search.document-index.enabled=true")
+class SearchDocumentProjectorTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SearchDocumentProjector searchDocumentProjector;
+
+    @Autowired
+    private SearchDocumentRepository searchDocumentRepository;
+
+    @Autowired
+    private UnifiedSearchService unifiedSearchService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private LogPostRepository logPostRepository;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private FoodMasterRepository foodMasterRepository;
+
+    @Autowired
+    private TestUserFactory testUserFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User testUser;
+    private FoodMaster testFood;
+
+    @BeforeEach
+    void setUp() {
+        testUser = testUserFactory.createTestUser();
+
+        testFood = FoodMaster.builder()
+                .name(Map.of("ko-KR", "김치찌개", "en-US", "Kimchi Stew"))
+                .isVerified(true)
+                .build();
+        foodMasterRepository.save(testFood);
+    }
+
+    private Recipe createRecipe(String title, String description) {
+        Recipe recipe = Recipe.builder()
+                .title(title)
+                .description(description)
+                .cookingStyle("ko-KR")
+                .foodMaster(testFood)
+                .creatorId(testUser.getId())
+                .build();
+        return recipeRepository.save(recipe);
+    }
+
+    @Nested
+    @DisplayName("normalize()")
+    class NormalizeTests {
+
+        @Test
+        @DisplayName("Should trim, collapse whitespace and lowercase")
+        void normalize_TrimsCollapsesAndLowercases() {
+            assertThat(SearchDocumentProjector.normalize("  Spicy   Taco\tNight ")).isEqualTo("spicy taco night");
+        }
+
+        @Test
+        @DisplayName("Should return empty string for null")
+        void normalize_Null_ReturnsEmpty() {
+            assertThat(SearchDocumentProjector.normalize(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Projection")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("Should index hashtags with their own creation time")
+        void projectHashtags_KeepsHashtagCreatedAt() {
+            Hashtag hashtag = hashtagRepository.saveAndFlush(Hashtag.builder().name("kimbap").build());
+            Instant createdAt = Instant.now().minus(30, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+            entityManager.createNativeQuery("UPDATE hashtags SET created_at = :createdAt WHERE id = :id")
+                    .setParameter("createdAt", createdAt)
+                    .setParameter("id", hashtag.getId())
+                    .executeUpdate();
+
+            searchDocumentProjector.projectHashtags(List.of(hashtag));
+
+            SearchDocument document = searchDocumentRepository.findAll().stream()
+                    .filter(d -> d.getEntityType() == SearchDocumentType.HASHTAG && d.getEntityId().equals(hashtag.getId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertThat(document.getCreatedAt()).isEqualTo(createdAt);
+        }
+
+        @Test
+        @DisplayName("Should index recipe title, description and food name translations")
+        void projectRecipe_IndexesAllTextFields() {
+            Recipe recipe = createRecipe("Grandma's Stew", "Slow cooked");
+
+            searchDocumentProjector.projectRecipe(recipe);
+
+            assertThat(unifiedSearchService.search("grandma", "recipes", null, 20, "en-US").counts().recipes())
+                    .isEqualTo(1);
+            assertThat(unifiedSearchService.search("SLOW COOKED", "recipes", null, 20, "en-US").counts().recipes())
+                    .isEqualTo(1);
+            assertThat(unifiedSearchService.search("김치찌개", "recipes", null, 20, "en-US").counts().recipes())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should exclude private recipes")
+        void projectRecipe_Private_NotSearchable() {
+            Recipe recipe = createRecipe("Secret Bibimbap", "Hidden");
+            recipe.setIsPrivate(true);
+            recipeRepository.save(recipe);
+
+            searchDocumentProjector.projectRecipe(recipe);
+
+            UnifiedSearchResponse result = unifiedSearchService.search("bibimbap", "all", null, 20, "en-US");
+            assertThat(result.counts().total()).isZero();
+            assertThat(result.content()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should hide recipe after soft delete is re-projected")
+        void projectRecipe_SoftDeleted_RemovedFromResults() {
+            Recipe recipe = createRecipe("Bulgogi Bowl", "Sweet beef");
+            searchDocumentProjector.projectRecipe(recipe);
+            assertThat(unifiedSearchService.search("bulgogi", "all", null, 20, "en-US").counts().recipes())
+                    .isEqualTo(1);
+
+            recipe.softDelete();
+            recipeRepository.save(recipe);
+            searchDocumentProjector.projectRecipe(recipe);
+
+            assertThat(unifiedSearchService.search("bulgogi", "all", null, 20, "en-US").counts().recipes())
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("Should index log post with linked recipe title")
+        void projectLogPost_IncludesLinkedRecipeTitle() {
+            Recipe recipe = createRecipe("Japchae Classic", "Glass noodles");
+
+            LogPost logPost = LogPost.builder()
+                    .title("Dinner tonight")
+                    .content("Turned out great")
+                    .locale("ko-KR")
+                    .creatorId(testUser.getId())
+                    .build();
+            RecipeLog recipeLog = RecipeLog.builder()
+                    .logPost(logPost)
+                    .recipe(recipe)
+                    .rating(5)
+                    .build();
+            logPost.setRecipeLog(recipeLog);
+            logPostRepository.save(logPost);
+
+            searchDocumentProjector.projectLogPost(logPost);
+
+            UnifiedSearchResponse result = unifiedSearchService.search("japchae", "logs", null, 20, "en-US");
+            assertThat(result.counts().logs()).isEqualTo(1);
+            assertThat(result.content()).allMatch(item -> item.type().equals(SearchResultItem.TYPE_LOG));
+        }
+    }
+
+    @Nested
+    @DisplayName("Unified search via search_documents")
+    class UnifiedSearchTests {
+
+        @Test
+        @DisplayName("Should return counts per type and interleave results by relevance")
+        void search_All_ReturnsCountsAndRankedItems() {
+            Recipe recipe = createRecipe("Taco Tuesday", "Weekly taco recipe");
+            searchDocumentProjector.projectRecipe(recipe);
+
+            Hashtag hashtag = hashtagRepository.save(Hashtag.builder().name("taco").build());
+            searchDocumentProjector.projectHashtags(List.of(hashtag));
+
+            UnifiedSearchResponse result = unifiedSearchService.search("taco", "all", null, 20, "en-US");
+
+            assertThat(result.counts().recipes()).isEqualTo(1);
+            assertThat(result.counts().hashtags()).isEqualTo(1);
+            assertThat(result.counts().total()).isEqualTo(2);
+            assertThat(result.content()).hasSize(2);
+            // Exact match on the hashtag outranks the substring match on the recipe
+            assertThat(result.content().get(0).type()).isEqualTo(SearchResultItem.TYPE_HASHTAG);
+            assertThat(result.content().get(0).relevanceScore())
+                    .isGreaterThanOrEqualTo(result.content().get(1).relevanceScore());
+        }
+
+        @Test
+        @DisplayName("Should paginate with stable ordering across pages")
+        void search_Paginates() {
+            for (int i = 0; i < 5; i++) {
+                searchDocumentProjector.projectRecipe(createRecipe("Ramen variation " + i, "Noodles"));
+            }
+
+            UnifiedSearchResponse first = unifiedSearchService.search("ramen", "recipes", null, 2, "en-US");
+            assertThat(first.content()).hasSize(2);
+            assertThat(first.hasNext()).isTrue();
+
+            UnifiedSearchResponse second = unifiedSearchService.search("ramen", "recipes", first.nextCursor(), 2, "en-US");
+            assertThat(second.content()).hasSize(2);
+            assertThat(second.content()).doesNotContainAnyElementsOf(first.content());
+
+            UnifiedSearchResponse last = unifiedSearchService.search("ramen", "recipes", second.nextCursor(), 2, "en-US");
+            assertThat(last.content()).hasSize(1);
+            assertThat(last.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile()")
+    class ReconcileTests {
+
+        @Test
+        @DisplayName("Should pick up rows written without going through the projector")
+        void reconcile_ProjectsChangedRows() {
+            Instant before = Instant.now().minus(1, ChronoUnit.MINUTES);
+            createRecipe("Tteokbokki Night", "Rice cakes");
+            hashtagRepository.save(Hashtag.builder().name("tteokbokki").build());
+            recipeRepository.flush();
+
+            assertThat(unifiedSearchService.search("tteokbokki", "all", null, 20, "en-US").counts().total())
+                    .isZero();
+
+            int upserted = searchDocumentProjector.reconcile(before);
+
+            assertThat(upserted).isGreaterThanOrEqualTo(2);
+            assertThat(unifiedSearchService.search("tteokbokki", "all", null, 20, "en-US").counts().total())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should purge documents whose source row is gone")
+        void purgeOrphans_RemovesMissingRows() {
+            Hashtag hashtag = hashtagRepository.save(Hashtag.builder().name("orphaned").build());
+            searchDocumentProjector.projectHashtags(List.of(hashtag));
+            hashtagRepository.delete(hashtag);
+            hashtagRepository.flush();
+
+            assertThat(searchDocumentProjector.purgeOrphans()).isEqualTo(1);
+            assertThat(searchDocumentRepository.count()).isZero();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.dto.search.SearchCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SearchFacetCountService (no Redis: exercises the in-process cache).
+ */
+class SearchFacetCountServiceTest {
+
+    private SearchFacetCountService searchFacetCountService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        searchFacetCountService = new SearchFacetCountService();
+        ReflectionTestUtils.setField(searchFacetCountService, "ttlSeconds", 60L);
+        loads = new AtomicInteger();
+    }
+
+    private SearchCounts countingLoader() {
+        loads.incrementAndGet();
+        return SearchCounts.of(3, 2, 1);
+    }
+
+    @Nested
+    @DisplayName("fromCapped()")
+    class FromCappedTests {
+
+        @Test
+        @DisplayName("Should be exact when every count is within the cap")
+        void fromCapped_WithinCap_Exact() {
+            SearchCounts counts = SearchFacetCountService.fromCapped(1000, 5, 0);
+
+            assertThat(counts.exact()).isTrue();
+            assertThat(counts.total()).isEqualTo(1005);
+        }
+
+        @Test
+        @DisplayName("Should clamp to the cap and mark approximate when a probe overflows")
+        void fromCapped_OverCap_Approximate() {
+            SearchCounts counts = SearchFacetCountService.fromCapped(SearchFacetCountService.PROBE_LIMIT, 5, 0);
+
+            assertThat(counts.exact()).isFalse();
+            assertThat(counts.recipes()).isEqualTo(SearchFacetCountService.COUNT_CAP);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCounts()")
+    class GetCountsTests {
+
+        @Test
+        @DisplayName("Should load once per normalized keyword while cached")
+        void getCounts_CachesByNormalizedKeyword() {
+            searchFacetCountService.getCounts("tables", "Kimchi", SearchFacetCountServiceTest.this::countingLoader);
+            SearchCounts second = searchFacetCountService.getCounts("tables", "  kimchi ",
+                    SearchFacetCountServiceTest.this::countingLoader);
+
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(second.recipes()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should keep sources separate")
+        void getCounts_SeparatesSources() {
+            searchFacetCountService.getCounts("tables", "kimchi", SearchFacetCountServiceTest.this::countingLoader);
+            searchFacetCountService.getCounts("documents", "kimchi", SearchFacetCountServiceTest.this::countingLoader);
+
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should load every time when caching is disabled")
+        void getCounts_TtlZero_NoCaching() {
+            ReflectionTestUtils.setField(searchFacetCountService, "ttlSeconds", 0L);
+
+            searchFacetCountService.getCounts("tables", "kimchi", SearchFacetCountServiceTest.this::countingLoader);
+            searchFacetCountService.getCounts("tables", "kimchi", SearchFacetCountServiceTest.this::countingLoader);
+
+            assertThat(loads.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should share a single load between concurrent misses")
+        void getCounts_ConcurrentMisses_SingleFlight() throws Exception {
+            int threads = 8;
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            try {
+                List<Future<SearchCounts>> results = new ArrayList<>();
+                results.add(executor.submit(() -> searchFacetCountService.getCounts("tables", "ramen", () -> {
+                    loaderStarted.countDown();
+                    await(releaseLoader);
+                    return countingLoader();
+                })));
+                assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                for (int i = 1; i < threads; i++) {
+                    results.add(executor.submit(() -> searchFacetCountService.getCounts("tables", "ramen",
+                            SearchFacetCountServiceTest.this::countingLoader)));
+                }
+                // Give the followers time to find the in-flight load before it completes
+                Thread.sleep(100);
+                releaseLoader.countDown();
+
+                for (Future<SearchCounts> result : results) {
+                    assertThat(result.get(5, TimeUnit.SECONDS).total()).isEqualTo(6);
+                }
+                assertThat(loads.get()).isEqualTo(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
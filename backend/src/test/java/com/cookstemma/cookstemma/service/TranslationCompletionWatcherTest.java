@@ -0,0 +1,86 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class TranslationCompletionWatcherTest {
+
+    private final TranslationEventRepository translationEventRepository = mock(TranslationEventRepository.class);
+    private final List<Object> published = new ArrayList<>();
+
+    private TranslationCompletionWatcher watcher;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationEventPublisher publisher = published::add;
+        watcher = new TranslationCompletionWatcher(translationEventRepository, publisher, true, 30_000, 500);
+        now = System.currentTimeMillis();
+    }
+
+    private static Object[] row(long eventId, String entityType, long entityId, long translatedAt) {
+        return new Object[]{eventId, entityType, entityId, translatedAt};
+    }
+
+    private void returns(Object[]... rows) {
+        when(translationEventRepository.findTranslatedSince(any(Instant.class), anyInt())).thenReturn(List.of(rows));
+    }
+
+    @Test
+    @DisplayName("should publish each recorded translation once")
+    void shouldPublishEachTranslationOnce() {
+        returns(row(1L, "RECIPE_FULL", 10L, now + 1), row(2L, "LOG_POST", 20L, now + 2));
+
+        assertThat(watcher.poll()).isEqualTo(2);
+        // The overlap reads the same stamps again
+        assertThat(watcher.poll()).isZero();
+
+        assertThat(published).containsExactly(
+                new TranslationCompletedEvent(TranslatableEntity.RECIPE_FULL, 10L),
+                new TranslationCompletedEvent(TranslatableEntity.LOG_POST, 20L));
+    }
+
+    @Test
+    @DisplayName("should publish again when an event records another locale")
+    void shouldPublishNewStampOfSameEvent() {
+        returns(row(1L, "RECIPE_FULL", 10L, now + 1));
+        watcher.poll();
+
+        returns(row(1L, "RECIPE_FULL", 10L, now + 5));
+        watcher.poll();
+
+        assertThat(published).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should look back by the overlap from the newest stamp seen")
+    void shouldLookBackByOverlap() {
+        returns(row(1L, "RECIPE_FULL", 10L, now + 60_000));
+        watcher.poll();
+        watcher.poll();
+
+        verify(translationEventRepository).findTranslatedSince(Instant.ofEpochMilli(now + 30_000), 500);
+    }
+
+    @Test
+    @DisplayName("should skip entity types this version doesn't know")
+    void shouldSkipUnknownEntityTypes() {
+        returns(row(1L, "SOMETHING_NEW", 10L, now + 1));
+
+        assertThat(watcher.poll()).isZero();
+        assertThat(published).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TranslationEventProducer Tests")
+class TranslationEventProducerTest {
+
+    /**
+     * In-memory queue: records each batch and rejects the events listed in rejected.
+     */
+    private static class InMemoryTranslationQueue implements TranslationQueueSender {
+        final List<List<TranslationEventQueuedEvent>> batches = new ArrayList<>();
+        Set<Long> rejected = Set.of();
+        RuntimeException failure;
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public Set<Long> send(List<TranslationEventQueuedEvent> events) {
+            if (failure != null) {
+                throw failure;
+            }
+            batches.add(List.copyOf(events));
+            return events.stream().map(TranslationEventQueuedEvent::eventId)
+                    .filter(rejected::contains)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private final InMemoryTranslationQueue queue = new InMemoryTranslationQueue();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TranslationEventProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new TranslationEventProducer(queue, meterRegistry);
+        ReflectionTestUtils.setField(producer, "bufferCapacity", 25);
+        ReflectionTestUtils.setField(producer, "running", true);
+        producer.registerMetrics();
+    }
+
+    private static TranslationEventQueuedEvent event(long eventId, long entityId) {
+        return new TranslationEventQueuedEvent(eventId, TranslatableEntity.RECIPE_FULL, entityId);
+    }
+
+    private double messages(String result) {
+        return meterRegistry.get("translation.producer.messages").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("should send buffered events in batches of at most 10")
+    void shouldSendInBatches() {
+        for (long id = 1; id <= 23; id++) {
+            producer.onTranslationEventQueued(event(id, id));
+        }
+
+        while (producer.buffered() > 0) {
+            producer.flush();
+        }
+
+        assertThat(queue.batches).extracting(List::size).containsExactly(10, 10, 3);
+        assertThat(messages("sent")).isEqualTo(23.0);
+        assertThat(meterRegistry.get("translation.producer.batch.size").summary().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("translation.producer.send.latency").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("should keep only the latest event per entity")
+    void shouldCoalescePerEntity() {
+        producer.onTranslationEventQueued(event(1, 100));
+        producer.onTranslationEventQueued(event(2, 200));
+        producer.onTranslationEventQueued(event(3, 100));
+
+        producer.flush();
+
+        assertThat(queue.batches).hasSize(1);
+        assertThat(queue.batches.get(0)).containsExactly(event(3, 100), event(2, 200));
+        assertThat(messages("coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("should count rejected events and failed calls")
+    void shouldCountFailures() {
+        queue.rejected = Set.of(2L);
+        producer.onTranslationEventQueued(event(1, 1));
+        producer.onTranslationEventQueued(event(2, 2));
+        producer.flush();
+
+        queue.failure = new IllegalStateException("SQS down");
+        producer.onTranslationEventQueued(event(3, 3));
+        producer.flush();
+
+        assertThat(messages("sent")).isEqualTo(1.0);
+        assertThat(messages("failed")).isEqualTo(2.0);
+        assertThat(producer.buffered()).isZero();
+    }
+
+    @Test
+    @DisplayName("should drop events when the buffer is full or the producer isn't running")
+    void shouldDropWhenFullOrStopped() {
+        for (long id = 1; id <= 30; id++) {
+            producer.onTranslationEventQueued(event(id, id));
+        }
+        assertThat(producer.buffered()).isEqualTo(25);
+        assertThat(messages("dropped")).isEqualTo(5.0);
+
+        ReflectionTestUtils.setField(producer, "running", false);
+        producer.onTranslationEventQueued(event(31, 31));
+        assertThat(producer.buffered()).isEqualTo(25);
+    }
+}
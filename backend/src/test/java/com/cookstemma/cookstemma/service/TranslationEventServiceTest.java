@@ -293,9 +293,9 @@ class TranslationEventServiceTest extends BaseIntegrationTest {
             // Force re-translation with different source
             translationEventService.forceRecipeTranslation(testRecipe, "en");
 
-            // Check initial event is now FAILED
+            // Check initial event is now CANCELLED
             TranslationEvent initialEvent = translationEventRepository.findById(initialEventId).orElseThrow();
-            assertThat(initialEvent.getStatus()).isEqualTo(TranslationStatus.FAILED);
+            assertThat(initialEvent.getStatus()).isEqualTo(TranslationStatus.CANCELLED);
             assertThat(initialEvent.getLastError()).contains("Cancelled for re-translation");
 
             // Check new event is PENDING with new source in BCP47 format
@@ -428,7 +428,7 @@ class TranslationEventServiceTest extends BaseIntegrationTest {
             translationEventService.queueRecipeTranslation(testRecipe);
 
             // After the change to support edit re-translation, the first PENDING event
-            // is cancelled (marked as FAILED) and a new PENDING event is created.
+            // is cancelled (marked as CANCELLED) and a new PENDING event is created.
             // So there will be 2 events total, but only 1 should be PENDING.
             long pendingCount = translationEventRepository.findAll().stream()
                     .filter(e -> e.getEntityType() == TranslatableEntity.RECIPE_FULL)
@@ -436,14 +436,14 @@ class TranslationEventServiceTest extends BaseIntegrationTest {
                     .filter(e -> e.getStatus() == TranslationStatus.PENDING)
                     .count();
 
-            long failedCount = translationEventRepository.findAll().stream()
+            long cancelledCount = translationEventRepository.findAll().stream()
                     .filter(e -> e.getEntityType() == TranslatableEntity.RECIPE_FULL)
                     .filter(e -> e.getEntityId().equals(testRecipe.getId()))
-                    .filter(e -> e.getStatus() == TranslationStatus.FAILED)
+                    .filter(e -> e.getStatus() == TranslationStatus.CANCELLED)
                     .count();
 
             assertThat(pendingCount).isEqualTo(1);
-            assertThat(failedCount).isEqualTo(1);
+            assertThat(cancelledCount).isEqualTo(1);
         }
     }
 
@@ -581,7 +581,7 @@ class TranslationEventServiceTest extends BaseIntegrationTest {
             translationEventService.queueCommentTranslation(testComment);
 
             // After the change to support edit re-translation, the first PENDING event
-            // is cancelled (marked as FAILED) and a new PENDING event is created.
+            // is cancelled (marked as CANCELLED) and a new PENDING event is created.
             // So there will be 2 events total, but only 1 should be PENDING.
             long pendingCount = translationEventRepository.findAll().stream()
                     .filter(e -> e.getEntityType() == TranslatableEntity.COMMENT)
@@ -589,14 +589,14 @@ class TranslationEventServiceTest extends BaseIntegrationTest {
                     .filter(e -> e.getStatus() == TranslationStatus.PENDING)
                     .count();
 
-            long failedCount = translationEventRepository.findAll().stream()
+            long cancelledCount = translationEventRepository.findAll().stream()
                     .filter(e -> e.getEntityType() == TranslatableEntity.COMMENT)
                     .filter(e -> e.getEntityId().equals(testComment.getId()))
-                    .filter(e -> e.getStatus() == TranslationStatus.FAILED)
+                    .filter(e -> e.getStatus() == TranslationStatus.CANCELLED)
                     .count();
 
             assertThat(pendingCount).isEqualTo(1);
-            assertThat(failedCount).isEqualTo(1);
+            assertThat(cancelledCount).isEqualTo(1);
         }
 
         @Test
@@ -0,0 +1,131 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.translation.TranslationEvent;
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import com.cookstemma.cookstemma.domain.enums.TranslationStatus;
+import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two workers claiming at once, each in its own transaction. Runs without the test transaction so
+ * the claims really overlap; the events are removed afterwards.
+ */
+@DisplayName("TranslationWorkQueue Concurrency Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TranslationWorkQueueConcurrencyTest extends BaseIntegrationTest {
+
+    private static final int EVENTS = 6;
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    private TranslationWorkQueue translationWorkQueue;
+
+    @Autowired
+    private TranslationEventRepository translationEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Older than anything else in the table, so they are the first claimed
+        Instant createdAt = Instant.parse("2000-01-01T00:00:00Z");
+        for (int i = 0; i < EVENTS; i++) {
+            eventIds.add(translationEventRepository.save(TranslationEvent.builder()
+                    .entityType(TranslatableEntity.RECIPE_FULL)
+                    .entityId(900_000L + i)
+                    .sourceLocale("ko-KR")
+                    .targetLocales(new ArrayList<>(List.of("en-US")))
+                    .status(TranslationStatus.PENDING)
+                    .retryCount(0)
+                    .createdAt(createdAt.plusSeconds(i))
+                    .build()).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        translationEventRepository.deleteAllById(eventIds);
+    }
+
+    @Test
+    @DisplayName("Should give concurrent workers disjoint batches without waiting on each other")
+    void claimBatch_Concurrent_DisjointBatches() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch secondClaimed = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Long>> first = executor.submit(() -> transaction.execute(status -> {
+                List<Long> ids = ours(translationWorkQueue.claimBatch("worker-1", EVENTS / 2, LEASE));
+                firstClaimed.countDown();
+                // Hold the row locks until the second worker has claimed
+                await(secondClaimed);
+                return ids;
+            }));
+            assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<List<Long>> second = executor.submit(() -> transaction.execute(status -> {
+                List<Long> ids = ours(translationWorkQueue.claimBatch("worker-2", EVENTS, LEASE));
+                secondClaimed.countDown();
+                return ids;
+            }));
+
+            // The second claim skips the first worker's locked rows instead of blocking on them
+            List<Long> secondIds = second.get(10, TimeUnit.SECONDS);
+            List<Long> firstIds = first.get(10, TimeUnit.SECONDS);
+
+            assertThat(firstIds).hasSize(EVENTS / 2);
+            assertThat(secondIds).hasSize(EVENTS - EVENTS / 2).doesNotContainAnyElementsOf(firstIds);
+            List<Long> all = new ArrayList<>(firstIds);
+            all.addAll(secondIds);
+            assertThat(all).containsExactlyInAnyOrderElementsOf(eventIds);
+
+            assertThat(translationEventRepository.findAllById(firstIds))
+                    .allSatisfy(event -> assertThat(event.getLockedBy()).isEqualTo("worker-1"));
+            assertThat(translationEventRepository.findAllById(secondIds))
+                    .allSatisfy(event -> assertThat(event.getLockedBy()).isEqualTo("worker-2"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> ours(List<TranslationEvent> claimed) {
+        return claimed.stream().map(TranslationEvent::getId).filter(eventIds::contains).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the other worker");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
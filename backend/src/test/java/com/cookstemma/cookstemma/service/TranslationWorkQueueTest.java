@@ -0,0 +1,143 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.domain.entity.translation.TranslationEvent;
+import com.cookstemma.cookstemma.domain.enums.TranslatableEntity;
+import com.cookstemma.cookstemma.domain.enums.TranslationStatus;
+import com.cookstemma.cookstemma.repository.translation.TranslationEventRepository;
+import com.cookstemma.cookstemma.support.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranslationWorkQueueTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TranslationWorkQueue translationWorkQueue;
+
+    @Autowired
+    private TranslationEventRepository translationEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TranslationEvent event(long entityId, TranslationStatus status, int retryCount, Instant createdAt) {
+        return translationEventRepository.saveAndFlush(TranslationEvent.builder()
+                .entityType(TranslatableEntity.RECIPE_FULL)
+                .entityId(entityId)
+                .sourceLocale("ko-KR")
+                .targetLocales(new ArrayList<>(List.of("en-US", "ja-JP")))
+                .status(status)
+                .retryCount(retryCount)
+                .createdAt(createdAt)
+                .build());
+    }
+
+    private TranslationEvent reload(TranslationEvent event) {
+        entityManager.clear();
+        return translationEventRepository.findById(event.getId()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Should claim the oldest claimable events and lease them to the worker")
+    void claimBatch_ClaimsOldestClaimable() {
+        Instant now = Instant.now();
+        TranslationEvent oldest = event(1L, TranslationStatus.PENDING, 0, now.minusSeconds(30));
+        TranslationEvent retry = event(2L, TranslationStatus.FAILED, 1, now.minusSeconds(20));
+        event(3L, TranslationStatus.FAILED, 3, now.minusSeconds(25));
+        event(4L, TranslationStatus.COMPLETED, 0, now.minusSeconds(40));
+        TranslationEvent newest = event(5L, TranslationStatus.PENDING, 0, now.minusSeconds(10));
+
+        List<TranslationEvent> claimed = translationWorkQueue.claimBatch("worker-1", 2, Duration.ofMinutes(5));
+
+        assertThat(claimed).extracting(TranslationEvent::getId).containsExactly(oldest.getId(), retry.getId());
+        assertThat(claimed).allSatisfy(e -> {
+            assertThat(e.getStatus()).isEqualTo(TranslationStatus.PROCESSING);
+            assertThat(e.getLockedBy()).isEqualTo("worker-1");
+        });
+        TranslationEvent stored = reload(oldest);
+        assertThat(stored.getStatus()).isEqualTo(TranslationStatus.PROCESSING);
+        assertThat(stored.getLockedBy()).isEqualTo("worker-1");
+        assertThat(stored.getLeaseExpiresAt()).isAfter(now);
+
+        // Claimed events are not handed out again
+        assertThat(translationWorkQueue.claimBatch("worker-2", 10, Duration.ofMinutes(5)))
+                .extracting(TranslationEvent::getId).containsExactly(newest.getId());
+    }
+
+    @Test
+    @DisplayName("Should append completed locales and complete the event with the last one")
+    void completeLocale_CompletesWhenAllLocalesDone() {
+        TranslationEvent event = event(1L, TranslationStatus.PENDING, 0, Instant.now());
+        translationWorkQueue.claimBatch("worker-1", 1, Duration.ofMinutes(5));
+
+        assertThat(translationWorkQueue.completeLocale("worker-1", event.getId(), "en-US")).isTrue();
+        assertThat(translationWorkQueue.completeLocale("worker-1", event.getId(), "en-US")).isTrue();
+        TranslationEvent partial = reload(event);
+        assertThat(partial.getCompletedLocales()).containsExactly("en-US");
+        assertThat(partial.getStatus()).isEqualTo(TranslationStatus.PROCESSING);
+
+        assertThat(translationWorkQueue.completeLocale("worker-1", event.getId(), "ja-JP")).isTrue();
+        TranslationEvent done = reload(event);
+        assertThat(done.getCompletedLocales()).containsExactly("en-US", "ja-JP");
+        assertThat(done.getStatus()).isEqualTo(TranslationStatus.COMPLETED);
+        assertThat(done.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore writes from a worker that doesn't hold the lease")
+    void writes_RequireLease() {
+        TranslationEvent event = event(1L, TranslationStatus.PENDING, 0, Instant.now());
+        translationWorkQueue.claimBatch("worker-1", 1, Duration.ofMinutes(5));
+
+        assertThat(translationWorkQueue.completeLocale("worker-2", event.getId(), "en-US")).isFalse();
+        assertThat(translationWorkQueue.complete("worker-2", event.getId())).isFalse();
+        assertThat(translationWorkQueue.fail("worker-2", event.getId(), "error")).isFalse();
+        assertThat(reload(event).getStatus()).isEqualTo(TranslationStatus.PROCESSING);
+
+        assertThat(translationWorkQueue.fail("worker-1", event.getId(), "Gemini timeout")).isTrue();
+        TranslationEvent failed = reload(event);
+        assertThat(failed.getStatus()).isEqualTo(TranslationStatus.FAILED);
+        assertThat(failed.getRetryCount()).isEqualTo(1);
+        assertThat(failed.getLockedBy()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should re-queue events whose lease expired as a failed attempt")
+    void releaseExpiredLeases_RequeuesEvent() {
+        TranslationEvent event = event(1L, TranslationStatus.PENDING, 0, Instant.now());
+        translationWorkQueue.claimBatch("worker-1", 1, Duration.ofMillis(-1));
+
+        assertThat(translationWorkQueue.releaseExpiredLeases()).isEqualTo(1);
+
+        TranslationEvent released = reload(event);
+        assertThat(released.getStatus()).isEqualTo(TranslationStatus.FAILED);
+        assertThat(released.getRetryCount()).isEqualTo(1);
+        assertThat(released.getLastError()).isEqualTo("Lease expired");
+        assertThat(translationWorkQueue.complete("worker-1", event.getId())).isFalse();
+        assertThat(translationWorkQueue.claimBatch("worker-2", 1, Duration.ofMinutes(5)))
+                .extracting(TranslationEvent::getId).containsExactly(event.getId());
+    }
+
+    @Test
+    @DisplayName("Should not claim events cancelled by a newer translation request")
+    void claimBatch_SkipsCancelled() {
+        TranslationEvent cancelled = event(1L, TranslationStatus.PENDING, 0, Instant.now().minusSeconds(10));
+        translationEventRepository.cancelByEntityTypeAndEntityIdAndStatusIn(TranslatableEntity.RECIPE_FULL, 1L,
+                List.of(TranslationStatus.PENDING), "Cancelled for re-translation");
+        TranslationEvent replacement = event(1L, TranslationStatus.PENDING, 0, Instant.now());
+
+        TranslationEvent stored = reload(cancelled);
+        assertThat(stored.getStatus()).isEqualTo(TranslationStatus.CANCELLED);
+        assertThat(stored.getRetryCount()).isZero();
+        assertThat(translationWorkQueue.claimBatch("worker-1", 10, Duration.ofMinutes(5)))
+                .extracting(TranslationEvent::getId).containsExactly(replacement.getId());
+    }
+}
@@ -6,6 +6,9 @@ import com.cookstemma.cookstemma.domain.entity.log_post.LogPost;
 import com.cookstemma.cookstemma.domain.entity.recipe.Recipe;
 import com.cookstemma.cookstemma.domain.entity.recipe.RecipeLog;
 import com.cookstemma.cookstemma.domain.entity.user.User;
+import com.cookstemma.cookstemma.dto.log_post.LogPostSummaryDto;
+import com.cookstemma.cookstemma.dto.recipe.RecipeSummaryDto;
+import com.cookstemma.cookstemma.dto.search.HashtagSearchDto;
 import com.cookstemma.cookstemma.dto.search.SearchResultItem;
 import com.cookstemma.cookstemma.dto.search.UnifiedSearchResponse;
 import com.cookstemma.cookstemma.repository.food.FoodMasterRepository;
@@ -19,7 +22,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -46,6 +52,9 @@ class UnifiedSearchServiceTest extends BaseIntegrationTest {
     @Autowired
     private TestUserFactory testUserFactory;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private User testUser;
     private FoodMaster testFood;
 
@@ -370,6 +379,79 @@ class UnifiedSearchServiceTest extends BaseIntegrationTest {
             assertThat(result.totalPages()).isEqualTo(3); // 7 items / 3 per page = 3 pages
             assertThat(result.totalElements()).isEqualTo(7);
         }
+
+        @Test
+        @DisplayName("Should return every match exactly once when paging through 50+ pages")
+        void search_KeysetCursor_CompleteAcrossManyPages() {
+            for (int i = 0; i < 60; i++) {
+                recipeRepository.save(Recipe.builder()
+                        .title("Pasta Night")
+                        .description("Weeknight pasta")
+                        .cookingStyle("ko-KR")
+                        .foodMaster(testFood)
+                        .creatorId(testUser.getId())
+                        .build());
+            }
+            for (int i = 0; i < 30; i++) {
+                logPostRepository.save(LogPost.builder()
+                        .title("Pasta Night")
+                        .content("Made pasta again")
+                        .locale("ko-KR")
+                        .creatorId(testUser.getId())
+                        .build());
+            }
+            for (int i = 0; i < 15; i++) {
+                hashtagRepository.save(Hashtag.builder().name("pasta" + i).build());
+            }
+            recipeRepository.flush();
+
+            // Identical relevance and created_at within each source: only the id tie-breaker orders them
+            Timestamp sameInstant = Timestamp.from(Instant.parse("2026-01-01T00:00:00Z"));
+            jdbcTemplate.update("UPDATE recipes SET created_at = ? WHERE title = 'Pasta Night'", sameInstant);
+            jdbcTemplate.update("UPDATE log_posts SET created_at = ? WHERE title = 'Pasta Night'", sameInstant);
+
+            Set<String> seen = new HashSet<>();
+            String cursor = null;
+            int pages = 0;
+            int expectedPage = 0;
+            do {
+                UnifiedSearchResponse result = unifiedSearchService.search("pasta", "all", cursor, 2, "en-US");
+                assertThat(result.page()).isEqualTo(expectedPage++);
+                assertThat(result.content()).isNotEmpty();
+                for (SearchResultItem item : result.content()) {
+                    assertThat(seen.add(item.type() + ":" + itemPublicId(item)))
+                            .as("duplicate item on page %d", pages)
+                            .isTrue();
+                }
+                cursor = result.nextCursor();
+                pages++;
+            } while (cursor != null && pages < 100);
+
+            assertThat(pages).isGreaterThanOrEqualTo(50);
+            assertThat(seen).hasSize(105);
+        }
+
+        @Test
+        @DisplayName("Should keep filter-chip counts from the first page on later pages")
+        void search_KeysetCursor_CarriesCounts() {
+            for (int i = 0; i < 4; i++) {
+                recipeRepository.save(Recipe.builder()
+                        .title("Gnocchi Recipe " + i)
+                        .description("Potato gnocchi")
+                        .cookingStyle("ko-KR")
+                        .foodMaster(testFood)
+                        .creatorId(testUser.getId())
+                        .build());
+            }
+
+            UnifiedSearchResponse first = unifiedSearchService.search("gnocchi", "recipes", null, 2, "en-US");
+            UnifiedSearchResponse second = unifiedSearchService.search("gnocchi", "recipes", first.nextCursor(), 2, "en-US");
+
+            assertThat(second.page()).isEqualTo(1);
+            assertThat(second.counts()).isEqualTo(first.counts());
+            assertThat(second.content()).hasSize(2);
+            assertThat(second.hasNext()).isFalse();
+        }
     }
 
     @Nested
@@ -466,6 +548,14 @@ class UnifiedSearchServiceTest extends BaseIntegrationTest {
         }
     }
 
+    private static Object itemPublicId(SearchResultItem item) {
+        return switch (item.type()) {
+            case SearchResultItem.TYPE_RECIPE -> ((RecipeSummaryDto) item.data()).publicId();
+            case SearchResultItem.TYPE_LOG -> ((LogPostSummaryDto) item.data()).publicId();
+            default -> ((HashtagSearchDto) item.data()).publicId();
+        };
+    }
+
     @Nested
     @DisplayName("search() - Relevance Scoring")
     class RelevanceScoringTests {
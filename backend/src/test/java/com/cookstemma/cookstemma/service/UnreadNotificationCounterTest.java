@@ -0,0 +1,156 @@
+package com.cookstemma.cookstemma.service;
+
+import com.cookstemma.cookstemma.repository.notification.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UnreadNotificationCounter Tests")
+class UnreadNotificationCounterTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final UnreadCountStream unreadCountStream = mock(UnreadCountStream.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSets = mock(ZSetOperations.class);
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UnreadNotificationCounter(notificationRepository, unreadCountStream, new SimpleMeterRegistry());
+        counter.registerMetrics();
+        ReflectionTestUtils.setField(counter, "enabled", true);
+        ReflectionTestUtils.setField(counter, "ttlMillis", 86_400_000L);
+        ReflectionTestUtils.setField(counter, "loadTtlMillis", 10_000L);
+        ReflectionTestUtils.setField(counter, "reconcileBatchSize", 500);
+        ReflectionTestUtils.setField(counter, "redisTemplate", redisTemplate);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.opsForZSet()).thenReturn(zSets);
+    }
+
+    @Test
+    @DisplayName("should count the inbox when the counter is disabled")
+    void shouldCountWithoutRedis() {
+        ReflectionTestUtils.setField(counter, "enabled", false);
+        when(notificationRepository.countUnreadByRecipientId(1L)).thenReturn(4L);
+
+        assertThat(counter.get(1L)).isEqualTo(4);
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("should serve a cached counter without counting")
+    void shouldServeCachedCount() {
+        when(values.get("notification:unread:1")).thenReturn("7");
+
+        assertThat(counter.get(1L)).isEqualTo(7);
+        verify(notificationRepository, never()).countUnreadByRecipientId(anyLong());
+    }
+
+    @Test
+    @DisplayName("should load and cache a missing counter")
+    @SuppressWarnings("unchecked")
+    void shouldLoadMissingCount() {
+        when(notificationRepository.countUnreadByRecipientId(1L)).thenReturn(3L);
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread-pending:1")), eq("3"), eq("86400000")))
+                .thenReturn(3L);
+
+        assertThat(counter.get(1L)).isEqualTo(3);
+        verify(values).setIfAbsent("notification:unread-pending:1", "0", Duration.ofMillis(10_000L));
+        verify(zSets).add(eq(UnreadNotificationCounter.CACHED_USERS_KEY), eq("1"), any(Double.class));
+    }
+
+    @Test
+    @DisplayName("should return the loaded counter with changes made during the count folded in")
+    @SuppressWarnings("unchecked")
+    void shouldReturnFoldedLoad() {
+        when(notificationRepository.countUnreadByRecipientId(1L)).thenReturn(3L);
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread-pending:1")), eq("3"), eq("86400000")))
+                .thenReturn(4L);
+
+        assertThat(counter.get(1L)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should adjust the counter and publish the new count")
+    @SuppressWarnings("unchecked")
+    void shouldAdjustAndPublish() {
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread-pending:1")), eq("1")))
+                .thenReturn(5L);
+
+        counter.onUnreadCountChanged(UnreadCountChangedEvent.added(1L));
+
+        verify(unreadCountStream).publish(1L, 5L);
+        verify(notificationRepository, never()).countUnreadByRecipientId(anyLong());
+    }
+
+    @Test
+    @DisplayName("should publish a direct count without loading when there is no counter")
+    @SuppressWarnings("unchecked")
+    void shouldNotLoadOnAdjustMiss() {
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread-pending:1")), eq("1")))
+                .thenReturn(-1L);
+        when(notificationRepository.countUnreadByRecipientId(1L)).thenReturn(2L);
+
+        counter.onUnreadCountChanged(UnreadCountChangedEvent.added(1L));
+
+        verify(unreadCountStream).publish(1L, 2L);
+        verify(values, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("should zero the counter when all notifications are cleared")
+    void shouldClear() {
+        counter.onUnreadCountChanged(UnreadCountChangedEvent.cleared(1L));
+
+        verify(values).set("notification:unread:1", "0", Duration.ofMillis(86_400_000L));
+        verify(unreadCountStream).publish(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("should recount cached counters and forget expired ones")
+    @SuppressWarnings("unchecked")
+    void shouldReconcile() {
+        when(zSets.range(UnreadNotificationCounter.CACHED_USERS_KEY, 0, 499))
+                .thenReturn(new LinkedHashSet<>(List.of("1", "2", "3")));
+        when(notificationRepository.countUnreadByRecipientIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 6L}));
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq("6"))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notification:unread:2")), eq("0"))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notification:unread:3")), eq("0"))).thenReturn(0L);
+
+        assertThat(counter.reconcile()).isEqualTo(2);
+
+        verify(zSets).remove(UnreadNotificationCounter.CACHED_USERS_KEY, "3");
+        verify(zSets, never()).remove(eq(UnreadNotificationCounter.CACHED_USERS_KEY), eq("1"));
+        verify(zSets).add(eq(UnreadNotificationCounter.CACHED_USERS_KEY), eq("2"), any(Double.class));
+        verify(values, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+}
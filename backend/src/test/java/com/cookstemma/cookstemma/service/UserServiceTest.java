@@ -12,6 +12,7 @@ import com.cookstemma.cookstemma.repository.log_post.LogPostRepository;
 import com.cookstemma.cookstemma.repository.recipe.RecipeRepository;
 import com.cookstemma.cookstemma.repository.user.UserRepository;
 import com.cookstemma.cookstemma.security.UserPrincipal;
+import com.cookstemma.cookstemma.security.UserPrincipalChangedEvent;
 import com.cookstemma.cookstemma.support.BaseIntegrationTest;
 import com.cookstemma.cookstemma.support.TestUserFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +20,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+@RecordApplicationEvents
 class UserServiceTest extends BaseIntegrationTest {
 
     @Autowired
@@ -44,6 +49,9 @@ class UserServiceTest extends BaseIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private User testUser;
     private FoodMaster testFood;
 
@@ -277,4 +285,35 @@ class UserServiceTest extends BaseIntegrationTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Username")
+    class UsernameTests {
+
+        private UpdateProfileRequestDto usernameRequest(String username) {
+            return new UpdateProfileRequestDto(
+                    username, null, null, null, null, null, null, null, null, null, null, null
+            );
+        }
+
+        @Test
+        @DisplayName("Should drop cached principals when the username changes")
+        void updateProfile_NewUsername_PublishesPrincipalChanged() {
+            String newUsername = "renamed_" + UUID.randomUUID().toString().substring(0, 8);
+
+            userService.updateProfile(new UserPrincipal(testUser), usernameRequest(newUsername));
+
+            assertThat(userRepository.findById(testUser.getId()).orElseThrow().getUsername()).isEqualTo(newUsername);
+            assertThat(applicationEvents.stream(UserPrincipalChangedEvent.class))
+                    .containsExactly(new UserPrincipalChangedEvent(testUser.getPublicId()));
+        }
+
+        @Test
+        @DisplayName("Should keep cached principals when the username is unchanged")
+        void updateProfile_SameUsername_NoEvent() {
+            userService.updateProfile(new UserPrincipal(testUser), usernameRequest(testUser.getUsername()));
+
+            assertThat(applicationEvents.stream(UserPrincipalChangedEvent.class)).isEmpty();
+        }
+    }
 }
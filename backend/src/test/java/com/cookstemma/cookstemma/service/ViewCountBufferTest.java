@@ -0,0 +1,316 @@
+package com.cookstemma.cookstemma.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private MeterRegistry meterRegistry;
+    private ViewCountBuffer viewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCountBuffer = new ViewCountBuffer(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(viewCountBuffer, "maxEntries", 100);
+        viewCountBuffer.registerMetrics();
+    }
+
+    /**
+     * Sum the (id, delta) bind parameters of every UPDATE against the given table.
+     */
+    private Map<Long, Long> writtenDeltas(String table) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, atLeast(0)).update(sql.capture(), params.capture());
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int call = 0; call < sql.getAllValues().size(); call++) {
+            if (!sql.getAllValues().get(call).startsWith("UPDATE " + table + " ")) {
+                continue;
+            }
+            Object[] values = params.getAllValues().get(call);
+            for (int i = 0; i < values.length; i += 2) {
+                deltas.merge((Long) values[i], (Long) values[i + 1], Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class FlushTests {
+
+        @Test
+        @DisplayName("Should write summed views per id in one statement per table")
+        void flush_WritesSummedDeltas() {
+            viewCountBuffer.recordRecipeView(1L);
+            viewCountBuffer.recordRecipeView(1L);
+            viewCountBuffer.recordRecipeView(2L);
+            viewCountBuffer.recordLogPostView(7L);
+
+            viewCountBuffer.flush();
+
+            assertThat(writtenDeltas("recipes")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+            assertThat(writtenDeltas("log_posts")).containsExactlyInAnyOrderEntriesOf(Map.of(7L, 1L));
+            verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+            assertThat(meterRegistry.get("views.buffer.flushed").tag("type", "recipe").counter().count())
+                    .isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Should not touch the database when nothing was viewed")
+        void flush_Empty_NoStatements() {
+            viewCountBuffer.flush();
+
+            verifyNoInteractions(jdbcTemplate);
+        }
+
+        @Test
+        @DisplayName("Should not write the same views twice")
+        void flush_Twice_WritesOnce() {
+            viewCountBuffer.recordRecipeView(1L);
+
+            viewCountBuffer.flush();
+            viewCountBuffer.flush();
+
+            verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+            assertThat(viewCountBuffer.getFlushLagSeconds()).isLessThan(5.0);
+        }
+
+        @Test
+        @DisplayName("Should split large batches into chunks")
+        void flush_ManyIds_Chunks() {
+            ReflectionTestUtils.setField(viewCountBuffer, "maxEntries", 10_000);
+            int ids = ViewCountBuffer.FLUSH_CHUNK_SIZE * 2 + 1;
+            for (long id = 1; id <= ids; id++) {
+                viewCountBuffer.recordRecipeView(id);
+            }
+
+            viewCountBuffer.flush();
+
+            verify(jdbcTemplate, times(3)).update(startsWith("UPDATE recipes "), any(Object[].class));
+            assertThat(writtenDeltas("recipes")).hasSize(ids);
+        }
+
+        @Test
+        @DisplayName("Should write ids in ascending order across chunks")
+        void flush_ManyIds_WritesInIdOrder() {
+            ReflectionTestUtils.setField(viewCountBuffer, "maxEntries", 10_000);
+            Random random = new Random(42);
+            for (int i = 0; i < ViewCountBuffer.FLUSH_CHUNK_SIZE * 2 + 1; i++) {
+                viewCountBuffer.recordRecipeView(random.nextLong(1, Long.MAX_VALUE));
+            }
+
+            viewCountBuffer.flush();
+
+            ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+            verify(jdbcTemplate, times(3)).update(anyString(), params.capture());
+            List<Long> written = new ArrayList<>();
+            for (Object[] values : params.getAllValues()) {
+                for (int i = 0; i < values.length; i += 2) {
+                    written.add((Long) values[i]);
+                }
+            }
+            assertThat(written).isSorted();
+        }
+
+        @Test
+        @DisplayName("Should keep views buffered when the write fails")
+        void flush_WriteFails_Rebuffers() {
+            viewCountBuffer.recordRecipeView(1L);
+            doThrow(new RuntimeException("db down"))
+                    .doReturn(1)
+                    .when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+            viewCountBuffer.flush();
+            viewCountBuffer.recordRecipeView(1L);
+            viewCountBuffer.flush();
+
+            ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+            verify(jdbcTemplate, times(2)).update(anyString(), params.capture());
+            assertThat(params.getAllValues().get(1)).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush() after a partial failure")
+    class PartialFailureTests {
+
+        @Test
+        @DisplayName("Should keep only the chunks that weren't written")
+        void flush_LaterChunkFails_RebuffersOnlyThatChunk() {
+            ReflectionTestUtils.setField(viewCountBuffer, "maxEntries", 10_000);
+            for (long id = 1; id <= ViewCountBuffer.FLUSH_CHUNK_SIZE + 1; id++) {
+                viewCountBuffer.recordRecipeView(id);
+            }
+            doReturn(1)
+                    .doThrow(new RuntimeException("db down"))
+                    .doReturn(1)
+                    .when(jdbcTemplate).update(anyString(), any(Object[].class));
+
+            viewCountBuffer.flush();
+            viewCountBuffer.flush();
+
+            ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+            verify(jdbcTemplate, times(3)).update(anyString(), params.capture());
+            // The retry writes exactly the failed chunk, not the committed one again
+            assertThat(params.getAllValues().get(2)).containsExactly(params.getAllValues().get(1));
+            assertThat(params.getAllValues().get(2)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush() with Redis aggregation")
+    class RedisAggregationTests {
+
+        private static final String DRAINING_PREFIX = "views:draining:recipe:";
+
+        private RedisTemplate<String, String> redisTemplate;
+        private HashOperations<String, Object, Object> hashOperations;
+        private Cursor<String> drainingKeys;
+
+        @BeforeEach
+        @SuppressWarnings("unchecked")
+        void setUpRedis() {
+            redisTemplate = mock(RedisTemplate.class);
+            hashOperations = mock(HashOperations.class);
+            drainingKeys = mock(Cursor.class);
+            lenient().when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+            lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+            lenient().when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(drainingKeys);
+            lenient().doCallRealMethod().when(drainingKeys).forEachRemaining(any());
+            ReflectionTestUtils.setField(viewCountBuffer, "redisTemplate", redisTemplate);
+            ReflectionTestUtils.setField(viewCountBuffer, "redisAggregationEnabled", true);
+        }
+
+        private String ownDrainingKey() {
+            return DRAINING_PREFIX + ReflectionTestUtils.getField(viewCountBuffer, "nodeId");
+        }
+
+        @Test
+        @DisplayName("Should remove written ids from the draining hash as each chunk commits")
+        void flush_RemovesWrittenIdsFromDrainingHash() {
+            String drainingKey = ownDrainingKey();
+            when(redisTemplate.hasKey(drainingKey)).thenReturn(true);
+            when(hashOperations.entries(drainingKey)).thenReturn(Map.of("1", "3", "2", "1"));
+
+            viewCountBuffer.flush();
+
+            assertThat(writtenDeltas("recipes")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, 1L));
+            ArgumentCaptor<Object[]> fields = ArgumentCaptor.forClass(Object[].class);
+            verify(hashOperations).delete(eq(drainingKey), fields.capture());
+            assertThat(fields.getValue()).containsExactlyInAnyOrder("1", "2");
+            verify(redisTemplate).delete(drainingKey);
+        }
+
+        @Test
+        @DisplayName("Should merge draining hashes of dead nodes back into the shared hash")
+        void flush_ReclaimsOrphanedDrainingHash() {
+            String orphan = DRAINING_PREFIX + "dead-node";
+            when(drainingKeys.hasNext()).thenReturn(true, true, false);
+            when(drainingKeys.next()).thenReturn(orphan, ownDrainingKey());
+
+            viewCountBuffer.flush();
+
+            verify(redisTemplate).execute(any(RedisScript.class),
+                    eq(List.of(orphan, "views:pending:recipe", "views:node:dead-node")));
+            verify(redisTemplate, never()).execute(any(RedisScript.class),
+                    eq(List.of(ownDrainingKey(), "views:pending:recipe", "views:node:" +
+                            ReflectionTestUtils.getField(viewCountBuffer, "nodeId"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("record*View()")
+    class RecordTests {
+
+        @Test
+        @DisplayName("Should drop and count views once the buffer is full")
+        void record_BufferFull_Drops() {
+            ReflectionTestUtils.setField(viewCountBuffer, "maxEntries", 2);
+
+            viewCountBuffer.recordRecipeView(1L);
+            viewCountBuffer.recordRecipeView(2L);
+            viewCountBuffer.recordRecipeView(3L);
+            // Already buffered ids keep counting
+            viewCountBuffer.recordRecipeView(1L);
+
+            assertThat(meterRegistry.get("views.buffer.dropped").tag("type", "recipe").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(meterRegistry.get("views.buffer.size").tag("type", "recipe").gauge().value())
+                    .isEqualTo(2.0);
+
+            viewCountBuffer.flush();
+            assertThat(writtenDeltas("recipes")).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L, 2L, 1L));
+        }
+
+        @Test
+        @DisplayName("Should not lose views recorded concurrently with flushes")
+        void record_ConcurrentWithFlush_NoLostViews() throws Exception {
+            int threads = 4;
+            int viewsPerThread = 5_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+            try {
+                List<Future<?>> results = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        for (int i = 0; i < viewsPerThread; i++) {
+                            viewCountBuffer.recordRecipeView((long) (i % 3));
+                        }
+                    }));
+                }
+                while (results.stream().anyMatch(result -> !result.isDone())) {
+                    viewCountBuffer.flush();
+                }
+                for (Future<?> result : results) {
+                    result.get(5, TimeUnit.SECONDS);
+                }
+                viewCountBuffer.flush();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            long written = writtenDeltas("recipes").values().stream().mapToLong(Long::longValue).sum();
+            assertThat(written).isEqualTo((long) threads * viewsPerThread);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cookstemma.cookstemma.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("Should evict only the least recently used entry when full")
+    void put_OverCapacity_EvictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(() -> 2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should read the bound on each put")
+    void put_BoundChanged_UsesNewBound() {
+        int[] max = {1};
+        LruCache<String, Integer> cache = new LruCache<>(() -> max[0]);
+        max[0] = 3;
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should remove by value only when the entry is unchanged")
+    void remove_WithStaleValue_KeepsEntry() {
+        LruCache<String, Integer> cache = new LruCache<>(() -> 10);
+        cache.put("a", 2);
+
+        cache.remove("a", 1);
+        assertThat(cache.get("a")).isEqualTo(2);
+
+        cache.remove("a", 2);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should remove the entries matching a filter")
+    void removeIf_RemovesMatchingEntries() {
+        LruCache<String, Integer> cache = new LruCache<>(() -> 10);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+
+        cache.removeIf((key, value) -> value % 2 == 1);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("b")).isEqualTo(2);
+    }
+}
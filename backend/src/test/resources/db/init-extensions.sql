@@ -6,3 +6,20 @@ CREATE OR REPLACE FUNCTION jsonb_values_text(j jsonb) RETURNS text AS $$
     SELECT COALESCE(string_agg(value, ' '), '')
     FROM jsonb_each_text(j);
 $$ LANGUAGE SQL IMMUTABLE STRICT;
+
+-- Search document normalization (mirrors V22__search_documents.sql)
+CREATE OR REPLACE FUNCTION search_normalize(t text) RETURNS text AS $$
+    SELECT lower(regexp_replace(btrim(t), '\s+', ' ', 'g'));
+$$ LANGUAGE SQL IMMUTABLE STRICT;
+
+-- Translation availability keys (mirrors V24__available_languages.sql)
+CREATE OR REPLACE FUNCTION translation_languages(translations jsonb, original_language text) RETURNS text[] AS $$
+    SELECT COALESCE(array_agg(DISTINCT lang ORDER BY lang), '{}')
+    FROM (
+        SELECT lower(split_part(replace(k, '_', '-'), '-', 1)) AS lang
+        FROM jsonb_object_keys(CASE WHEN jsonb_typeof(translations) = 'object' THEN translations ELSE '{}'::jsonb END) k
+        UNION
+        SELECT lower(split_part(replace(original_language, '_', '-'), '-', 1))
+        WHERE original_language IS NOT NULL AND original_language <> ''
+    ) langs
+$$ LANGUAGE SQL IMMUTABLE;